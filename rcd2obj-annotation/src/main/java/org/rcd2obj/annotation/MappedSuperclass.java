@@ -0,0 +1,53 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotation to indicate that the columns of the marked class are inherited by the entities.
+ * The columns of the entity are declared by the entity and its superclasses marked by {@link Table}
+ * or by this annotation, the search stops at the first unmarked superclass. The marked class isn't
+ * mapped by itself.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   @MappedSuperclass
+ *   public abstract class Record {
+ *     @Id
+ *     private long id;
+ *   }
+ *
+ *   @Table
+ *   public class Note extends Record {
+ *     private String text;
+ *   }
+ *   }
+ * </pre>
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MappedSuperclass {
+}
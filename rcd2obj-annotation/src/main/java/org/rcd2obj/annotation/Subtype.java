@@ -0,0 +1,65 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation;
+
+import org.rcd2obj.annotation.Subtype.Subtypes;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotation to map the value of the discriminator to the subclass of the marked entity, see
+ * {@link Table#discriminator()}. The subclass is stored in the same table, its columns are
+ * extracted from the whole hierarchy.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+@Documented
+@Repeatable(Subtypes.class)
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Subtype {
+  /**
+   * The value of the discriminator.
+   */
+  String value();
+
+  /**
+   * The subclass of the marked entity.
+   */
+  Class<?> type();
+
+  /**
+   * Container of {@link Subtype} annotations.
+   *
+   * @author Andrey_Yurzanov
+   * @since 1.0
+   */
+  @Documented
+  @Target(ElementType.TYPE)
+  @Retention(RetentionPolicy.RUNTIME)
+  @interface Subtypes {
+    /**
+     * Set of {@link Subtype} annotations.
+     */
+    Subtype[] value();
+  }
+}
@@ -53,6 +53,12 @@ public @interface Table {
    */
   Class<? extends NamingStrategy> combining() default PointCombineStrategy.class;
 
+  /**
+   * The name of the column which contains type of the row. The values of the column are mapped to
+   * the subclasses by {@link Subtype}. By default the table doesn't have the types.
+   */
+  String discriminator() default "";
+
   /**
    * Container of {@link Table} annotations.
    *
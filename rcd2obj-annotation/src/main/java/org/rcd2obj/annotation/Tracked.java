@@ -0,0 +1,38 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotation to indicate that changes of the marked entity should be tracked. The code
+ * generator creates the {@link org.rcd2obj.annotation.mapping.Tracker} for the marked entity, the
+ * entity must have the identifiers, see {@link Id}. The state of the mapped entity is saved during
+ * mapping, see {@link org.rcd2obj.annotation.mapping.TrackingMapper}.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Tracked {
+}
@@ -0,0 +1,181 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation.mapping;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Asynchronous facade of the mappers. The query, the conversion of the rows and the collecting of
+ * the entities are executed by the executor, the result is returned as {@link CompletableFuture}.
+ * By default, the virtual threads are used when they are available (Java 21+), otherwise the
+ * cached pool of the daemon threads is used. The cancelled future cancels the running statement,
+ * see {@link Statement#cancel()}, and stops the conversion at the next row.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   AsyncMapper async = new AsyncMapper();
+ *   CompletableFuture<List<TestEntity>> entities = async.mapAll(connection, new TestEntityStubMapper());
+ *   }
+ * </pre>
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class AsyncMapper {
+  private static final String VIRTUAL_EXECUTOR = "newVirtualThreadPerTaskExecutor";
+  private static final Executor DEFAULT_EXECUTOR = createDefaultExecutor();
+
+  private final Executor executor;
+
+  /**
+   * Constructs new instance of the facade with the default executor.
+   */
+  public AsyncMapper() {
+    this(DEFAULT_EXECUTOR);
+  }
+
+  /**
+   * Constructs new instance of the facade.
+   *
+   * @param executor executor of the queries
+   */
+  public AsyncMapper(Executor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Executes the select statement of the mapper, see {@link RowMapper#getSelectQuery()}, and
+   * converts all the rows.
+   *
+   * @param <T>        type of the entities
+   * @param connection connection of the query, it must not be used until the future is completed
+   * @param mapper     mapper of the entities
+   * @return the entities in order of the rows
+   */
+  public <T> CompletableFuture<List<T>> mapAll(Connection connection, RowMapper mapper) {
+    CompletableFuture<List<T>> future = new CompletableFuture<>();
+    executor.execute(() -> {
+      if (future.isDone()) {
+        return;
+      }
+
+      try (Statement statement = connection.createStatement()) {
+        cancelOnComplete(future, statement);
+        try (ResultSet resultSet = statement.executeQuery(mapper.getSelectQuery())) {
+          convert(future, resultSet, mapper);
+        }
+      } catch (Throwable exception) {
+        future.completeExceptionally(exception);
+      }
+    });
+    return future;
+  }
+
+  /**
+   * Executes the query and converts all the rows, the result and its statement are closed after
+   * the conversion.
+   *
+   * @param <T>    type of the entities
+   * @param query  the query, it is executed by the executor
+   * @param mapper mapper of the entities
+   * @return the entities in order of the rows, the future is completed exceptionally when the query
+   *     or the conversion are failed
+   */
+  public <T> CompletableFuture<List<T>> mapAll(Query query, RowMapper mapper) {
+    CompletableFuture<List<T>> future = new CompletableFuture<>();
+    executor.execute(() -> {
+      if (future.isDone()) {
+        return;
+      }
+
+      try (ResultSet resultSet = query.execute(); Statement statement = resultSet.getStatement()) {
+        if (statement != null) {
+          cancelOnComplete(future, statement);
+        }
+        convert(future, resultSet, mapper);
+      } catch (Throwable exception) {
+        future.completeExceptionally(exception);
+      }
+    });
+    return future;
+  }
+
+  // Converts the rows until the end of the result or the cancellation of the future
+  @SuppressWarnings("unchecked")
+  private static <T> void convert(
+      CompletableFuture<List<T>> future,
+      ResultSet resultSet,
+      RowMapper mapper
+  ) throws SQLException {
+    List<T> entities = new ArrayList<>();
+    while (!future.isDone() && resultSet.next()) {
+      entities.add((T) mapper.mapRow(resultSet, 0));
+    }
+    future.complete(entities);
+  }
+
+  // Cancels the statement when the future is cancelled, the database stops the query
+  private static void cancelOnComplete(CompletableFuture<?> future, Statement statement) {
+    future.whenComplete((result, exception) -> {
+      if (future.isCancelled()) {
+        try {
+          statement.cancel();
+        } catch (SQLException cancelException) {
+          // the statement is already closed or doesn't support the cancellation
+        }
+      }
+    });
+  }
+
+  // Creates the executor of the virtual threads or the cached pool of the daemon threads
+  private static Executor createDefaultExecutor() {
+    try {
+      return (Executor) Executors.class.getMethod(VIRTUAL_EXECUTOR).invoke(null);
+    } catch (ReflectiveOperationException exception) {
+      return Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "rcd2obj-async");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+  }
+
+  /**
+   * The query of the facade.
+   *
+   * @author Andrey_Yurzanov
+   * @since 1.0
+   */
+  @FunctionalInterface
+  public interface Query {
+    /**
+     * Executes the query.
+     *
+     * @return the result of the query
+     * @throws SQLException when the query can't be executed
+     */
+    ResultSet execute() throws SQLException;
+  }
+}
@@ -0,0 +1,212 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation.mapping;
+
+import org.rcd2obj.annotation.meta.QueryBuilder;
+import org.rcd2obj.annotation.meta.TableMetaInfo;
+import org.rcd2obj.annotation.meta.alias.TableNameAlias;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Writer of the entities by batches. The entities are bound by the {@link Binder} and are sent by
+ * {@link PreparedStatement#addBatch()} and {@link PreparedStatement#executeBatch()}. When the
+ * meta-information of the table is given, several entities are written by one multi-row insert
+ * statement, count of the rows is limited by the driver's limit of the parameters. The writer
+ * doesn't manage the transactions: the batches, the multi-row statements and the statement of the
+ * rest of the entities are not atomic, the caller commits or rolls back the connection.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   BatchWriter writer = new BatchWriter(new TestEntityStubBinder(), 500);
+ *   writer.insert(connection, entities);
+ *   }
+ * </pre>
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class BatchWriter {
+  /**
+   * Default count of the entities sent by one batch.
+   */
+  public static final int DEFAULT_BATCH_SIZE = 1000;
+
+  private final Binder binder;
+  private final int batchSize;
+  private final int rowsPerStatement;
+  private final int columnsCount;
+  private final QueryBuilder builder;
+  private final TableNameAlias table;
+
+  /**
+   * Constructs new instance of {@link BatchWriter} with the default size of the batch.
+   *
+   * @param binder binder of the entities
+   */
+  public BatchWriter(Binder binder) {
+    this(binder, DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Constructs new instance of {@link BatchWriter}, every entity is written by own row of the
+   * batch.
+   *
+   * @param binder    binder of the entities
+   * @param batchSize count of the entities sent by one batch
+   */
+  public BatchWriter(Binder binder, int batchSize) {
+    this(binder, batchSize, null, 0);
+  }
+
+  /**
+   * Constructs new instance of {@link BatchWriter}, the entities are written by the multi-row
+   * insert statements. The statements are built for the first name of the table, like the
+   * generated binders do.
+   *
+   * @param binder         binder of the entities
+   * @param batchSize      count of the entities sent by one batch
+   * @param table          meta-information of the binder's table, can be null then the multi-row
+   *                       statements are not used
+   * @param parameterLimit maximal count of the statement's parameters supported by the driver
+   */
+  public BatchWriter(Binder binder, int batchSize, TableMetaInfo table, int parameterLimit) {
+    if (binder == null) {
+      throw new IllegalArgumentException("Binder has incorrect value: [null]");
+    }
+
+    if (batchSize < 1) {
+      throw new IllegalArgumentException(
+          String.join("", "Batch size has incorrect value: [", String.valueOf(batchSize), "]")
+      );
+    }
+
+    this.binder = binder;
+    this.batchSize = batchSize;
+    if (table == null || table.getColumns().isEmpty()) {
+      this.builder = null;
+      this.table = null;
+      this.columnsCount = 0;
+      this.rowsPerStatement = 1;
+    } else {
+      if (parameterLimit < 1) {
+        throw new IllegalArgumentException(
+            String.join("", "Parameter limit has incorrect value: [", String.valueOf(parameterLimit), "]")
+        );
+      }
+
+      this.builder = new QueryBuilder(table);
+      this.table = table.getAliases().iterator().next();
+      this.columnsCount = builder.getInsertColumns().size();
+      this.rowsPerStatement = Math.max(1, Math.min(batchSize, parameterLimit / columnsCount));
+    }
+  }
+
+  /**
+   * Returns count of the entities written by one statement.
+   *
+   * @return count of the entities written by one statement
+   */
+  public int getRowsPerStatement() {
+    return rowsPerStatement;
+  }
+
+  /**
+   * Inserts the entities, the stream is closed after the writing. The statements are not executed
+   * in the transaction, see {@link BatchWriter}.
+   *
+   * @param <S>        source type
+   * @param connection connection to the database
+   * @param sources    the inserted entities
+   * @return count of the inserted entities
+   * @throws SQLException when the entities can't be inserted
+   */
+  public <S> long insert(Connection connection, Stream<S> sources) throws SQLException {
+    try (Stream<S> stream = sources) {
+      return insert(connection, (Iterable<S>) stream::iterator);
+    }
+  }
+
+  /**
+   * Inserts the entities. The statements are not executed in the transaction, see {@link
+   * BatchWriter}.
+   *
+   * @param <S>        source type
+   * @param connection connection to the database
+   * @param sources    the inserted entities
+   * @return count of the inserted entities
+   * @throws SQLException when the entities can't be inserted
+   */
+  public <S> long insert(Connection connection, Iterable<S> sources) throws SQLException {
+    long count = 0;
+    List<S> rows = new ArrayList<>(rowsPerStatement);
+    try (PreparedStatement statement = connection.prepareStatement(getInsertQuery(rowsPerStatement))) {
+      int batched = 0;
+      for (S source : sources) {
+        rows.add(source);
+        if (rows.size() == rowsPerStatement) {
+          bindInsert(statement, rows);
+          statement.addBatch();
+
+          count += rows.size();
+          batched += rows.size();
+          rows.clear();
+          if (batched >= batchSize) {
+            statement.executeBatch();
+            batched = 0;
+          }
+        }
+      }
+
+      if (batched > 0) {
+        statement.executeBatch();
+      }
+    }
+
+    // The rest of the entities doesn't fill the multi-row statement
+    if (!rows.isEmpty()) {
+      try (PreparedStatement statement = connection.prepareStatement(getInsertQuery(rows.size()))) {
+        bindInsert(statement, rows);
+        statement.executeUpdate();
+        count += rows.size();
+      }
+    }
+    return count;
+  }
+
+  // Returns the insert statement for the rows
+  private String getInsertQuery(int rows) {
+    if (rows == 1) {
+      return binder.getInsertQuery();
+    }
+    return builder.buildInsert(table, rows);
+  }
+
+  // Binds parameters of the rows
+  private <S> void bindInsert(PreparedStatement statement, List<S> rows) throws SQLException {
+    int offset = 0;
+    for (S row : rows) {
+      binder.bindInsert(statement, offset, row);
+      offset += columnsCount;
+    }
+  }
+}
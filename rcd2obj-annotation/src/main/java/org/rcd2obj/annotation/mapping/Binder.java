@@ -0,0 +1,85 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation.mapping;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Common abstraction for converting data of an object to parameters of a statement. It's the
+ * reverse of {@link Mapper}.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public interface Binder {
+  /**
+   * Returns the insert statement, parameters of the statement are placed in order of the columns.
+   *
+   * @return the insert statement
+   */
+  String getInsertQuery();
+
+  /**
+   * Returns the update statement, parameters of the statement are placed in order of the columns,
+   * the identifiers are placed at the end. The entities without identifiers or with identifiers
+   * only don't have the update statement.
+   *
+   * @return the update statement
+   * @throws UnsupportedOperationException when the entity doesn't have the update statement
+   */
+  default String getUpdateQuery() {
+    throw new UnsupportedOperationException("Update statement is not supported");
+  }
+
+  /**
+   * Sets parameters of the insert statement.
+   *
+   * @param <S>       source type
+   * @param statement the insert statement
+   * @param source    source of the parameters
+   * @throws SQLException when the parameter can't be set
+   */
+  default <S> void bindInsert(PreparedStatement statement, S source) throws SQLException {
+    bindInsert(statement, 0, source);
+  }
+
+  /**
+   * Sets parameters of the insert statement starting after the offset, it's used to bind a row of
+   * the multi-row insert statement.
+   *
+   * @param <S>       source type
+   * @param statement the insert statement
+   * @param offset    count of the parameters before the first parameter of the source
+   * @param source    source of the parameters
+   * @throws SQLException when the parameter can't be set
+   */
+  <S> void bindInsert(PreparedStatement statement, int offset, S source) throws SQLException;
+
+  /**
+   * Sets parameters of the update statement.
+   *
+   * @param <S>       source type
+   * @param statement the update statement
+   * @param source    source of the parameters
+   * @throws SQLException                  when the parameter can't be set
+   * @throws UnsupportedOperationException when the entity doesn't have the update statement
+   */
+  default <S> void bindUpdate(PreparedStatement statement, S source) throws SQLException {
+    throw new UnsupportedOperationException("Update statement is not supported");
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation.mapping;
+
+import org.rcd2obj.annotation.meta.ColumnMetaInfo;
+import org.rcd2obj.annotation.meta.QueryBuilder;
+import org.rcd2obj.annotation.meta.TableMetaInfo;
+import org.rcd2obj.annotation.meta.alias.TableNameAlias;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracker of the entity's changes. The state of the entity is saved by {@link
+ * ChangeTracker#snapshot(Object)}, later the changed columns are found by comparison with the
+ * current state and only they are written by the update statement. The statements are built for
+ * the first name of the table and are cached by the changed columns.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   ChangeTracker tracker = new ChangeTracker(new TestEntityStubTracker(), table);
+ *   Snapshot snapshot = tracker.snapshot(entity);
+ *   entity.setAge(age);
+ *   tracker.update(connection, snapshot, entity); // UPDATE test_entity SET age = ? WHERE id = ?
+ *   }
+ * </pre>
+ * The snapshots of the mapped entities are taken during mapping by {@link TrackingMapper}. The
+ * identifiers are not tracked, they are always used as the conditions.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class ChangeTracker {
+  /**
+   * Default count of the cached statements.
+   */
+  public static final int DEFAULT_CACHE_SIZE = 64;
+
+  private final Tracker tracker;
+  private final QueryBuilder builder;
+  private final TableNameAlias table;
+  private final BitSet ids;
+  private final int cacheSize;
+  private final Map<BitSet, Optional<String>> queries;
+
+  /**
+   * Constructs new instance of {@link ChangeTracker} with the default size of the cache.
+   *
+   * @param tracker tracker of the entity
+   * @param table   meta-information of the tracker's table
+   */
+  public ChangeTracker(Tracker tracker, TableMetaInfo table) {
+    this(tracker, table, DEFAULT_CACHE_SIZE);
+  }
+
+  /**
+   * Constructs new instance of {@link ChangeTracker}.
+   *
+   * @param tracker   tracker of the entity
+   * @param table     meta-information of the tracker's table
+   * @param cacheSize maximal count of the cached statements
+   */
+  public ChangeTracker(Tracker tracker, TableMetaInfo table, int cacheSize) {
+    if (tracker == null) {
+      throw new IllegalArgumentException("Tracker has incorrect value: [null]");
+    }
+
+    this.tracker = tracker;
+    this.builder = new QueryBuilder(table);
+    this.table = table.getAliases().iterator().next();
+    this.ids = new BitSet();
+    this.cacheSize = cacheSize;
+    this.queries = new ConcurrentHashMap<>();
+
+    int index = 0;
+    for (ColumnMetaInfo column : table.getColumns()) {
+      if (column.isId()) {
+        ids.set(index);
+      }
+      index++;
+    }
+  }
+
+  /**
+   * Saves the current state of the entity, the state is compared with the entity's state on the
+   * update.
+   *
+   * @param <S>    source type
+   * @param source the entity
+   * @return the state of the entity
+   */
+  public <S> Snapshot snapshot(S source) {
+    return tracker.snapshot(source);
+  }
+
+  /**
+   * Returns the changed columns of the entity.
+   *
+   * @param <S>      source type
+   * @param snapshot the saved state of the entity
+   * @param source   the entity
+   * @return positions of the changed columns
+   */
+  public <S> BitSet getDirty(Snapshot snapshot, S source) {
+    return tracker.getDirty(snapshot, source);
+  }
+
+  /**
+   * Returns the update statement of the changed columns.
+   *
+   * @param dirty positions of the changed columns
+   * @return the update statement, or empty when nothing is changed
+   */
+  public Optional<String> getUpdateQuery(BitSet dirty) {
+    Optional<String> query = queries.get(dirty);
+    if (query == null) {
+      query = builder.buildUpdate(table, dirty);
+      if (queries.size() < cacheSize) {
+        queries.putIfAbsent((BitSet) dirty.clone(), query);
+      }
+    }
+    return query;
+  }
+
+  /**
+   * Sets parameters of the update statement of the changed columns.
+   *
+   * @param <S>       source type
+   * @param statement the update statement
+   * @param dirty     positions of the changed columns
+   * @param source    the entity
+   * @throws SQLException when the parameter can't be set
+   */
+  public <S> void bindUpdate(PreparedStatement statement, BitSet dirty, S source) throws SQLException {
+    int index = 1;
+    for (int column = dirty.nextSetBit(0); column >= 0; column = dirty.nextSetBit(column + 1)) {
+      if (!ids.get(column)) {
+        tracker.bindColumn(statement, index++, column, source);
+      }
+    }
+    for (int column = ids.nextSetBit(0); column >= 0; column = ids.nextSetBit(column + 1)) {
+      tracker.bindColumn(statement, index++, column, source);
+    }
+  }
+
+  /**
+   * Writes the changed columns of the entity.
+   *
+   * @param <S>        source type
+   * @param connection connection to the database
+   * @param snapshot   the saved state of the entity
+   * @param source     the entity
+   * @return count of the updated rows, 0 when nothing is changed
+   * @throws SQLException when the entity can't be updated
+   */
+  public <S> int update(Connection connection, Snapshot snapshot, S source) throws SQLException {
+    BitSet dirty = getDirty(snapshot, source);
+    Optional<String> query = getUpdateQuery(dirty);
+    if (!query.isPresent()) {
+      return 0;
+    }
+
+    try (PreparedStatement statement = connection.prepareStatement(query.get())) {
+      bindUpdate(statement, dirty, source);
+      return statement.executeUpdate();
+    }
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation.mapping;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Mapper of the one-to-many joins. Every row of {@link ResultSet} contains the parent and the
+ * child, the rows of one parent are merged by identifier of the parent, see
+ * {@link RowMapper#getIdColumn()}, and the children are linked to the parent by the linker.
+ * The parent is converted once, the next rows only read its identifier. The rows with the NULL
+ * identifier of the parent, for example the rows of the right outer joins, are skipped.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   GraphMapper<Group, User> mapper = new GraphMapper<>(
+ *     new GroupStubMapper(),
+ *     new UserStubMapper(),
+ *     (group, user) -> group.getUsers().add(user)
+ *   );
+ *   ResultSet result = statement.executeQuery(
+ *     "SELECT " + mapper.getProjection() + " FROM group LEFT JOIN user ON user.group_id = group.id"
+ *   );
+ *   List<Group> groups = mapper.mapAll(result);
+ *   }
+ * </pre>
+ *
+ * @param <P> type of the parents
+ * @param <C> type of the children
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class GraphMapper<P, C> {
+  private final RowMapper parent;
+  private final RowMapper child;
+  private final BiConsumer<P, C> linker;
+  private final TupleMapper tuple;
+
+  /**
+   * Constructs new instance of the mapper.
+   *
+   * @param parent mapper of the parents, the parents must have the identifier
+   * @param child  mapper of the children, the children without identifier are linked for every row
+   * @param linker links the child to the parent
+   * @throws IllegalArgumentException when the parents don't have the identifier
+   */
+  public GraphMapper(RowMapper parent, RowMapper child, BiConsumer<P, C> linker) {
+    if (parent.getIdColumn() < 1) {
+      throw new IllegalArgumentException("Parent doesn't have identifier");
+    }
+
+    this.parent = parent;
+    this.child = child;
+    this.linker = linker;
+    this.tuple = new TupleMapper(parent, child);
+  }
+
+  /**
+   * Returns the columns of the parent and the child.
+   *
+   * @return the columns of the parent and the child
+   */
+  public String getProjection() {
+    return tuple.getProjection();
+  }
+
+  /**
+   * Converts all the remaining rows of {@link ResultSet}. The rows can be in any order, the
+   * parents are deduplicated by the identity map and are returned in order of the first rows.
+   *
+   * @param resultSet the result of the select statement
+   * @return the parents with the linked children
+   * @throws SQLException when the result can't be read
+   */
+  @SuppressWarnings("unchecked")
+  public List<P> mapAll(ResultSet resultSet) throws SQLException {
+    int[] offsets = tuple.resolve(resultSet);
+    int parentId = offsets[0] + parent.getIdColumn();
+
+    LongIdentityMap<P> identities = new LongIdentityMap<>();
+    List<P> parents = new ArrayList<>();
+    while (resultSet.next()) {
+      long id = resultSet.getLong(parentId);
+      if (resultSet.wasNull()) {
+        continue;
+      }
+
+      P current = identities.get(id);
+      if (current == null) {
+        current = (P) parent.mapRow(resultSet, offsets[0]);
+        identities.put(id, current);
+        parents.add(current);
+      }
+      link(resultSet, offsets[1], current);
+    }
+    return parents;
+  }
+
+  /**
+   * Converts all the remaining rows of {@link ResultSet} ordered by identifier of the parent.
+   * Every parent is passed to the consumer as soon as the identifier is changed, so the parents
+   * are not kept in memory.
+   *
+   * @param resultSet the result of the select statement, the rows of one parent must be adjacent
+   * @param consumer  the consumer of the parents with the linked children
+   * @throws SQLException when the result can't be read
+   */
+  @SuppressWarnings("unchecked")
+  public void stream(ResultSet resultSet, Consumer<? super P> consumer) throws SQLException {
+    int[] offsets = tuple.resolve(resultSet);
+    int parentId = offsets[0] + parent.getIdColumn();
+
+    P current = null;
+    long currentId = 0;
+    while (resultSet.next()) {
+      long id = resultSet.getLong(parentId);
+      if (resultSet.wasNull()) {
+        continue;
+      }
+
+      if (current == null || id != currentId) {
+        if (current != null) {
+          consumer.accept(current);
+        }
+        current = (P) parent.mapRow(resultSet, offsets[0]);
+        currentId = id;
+      }
+      link(resultSet, offsets[1], current);
+    }
+
+    if (current != null) {
+      consumer.accept(current);
+    }
+  }
+
+  // Links the child of the row, the absent children of the outer joins are skipped
+  @SuppressWarnings("unchecked")
+  private void link(ResultSet resultSet, int offset, P current) throws SQLException {
+    int childId = child.getIdColumn();
+    if (childId > 0) {
+      resultSet.getLong(offset + childId);
+      if (resultSet.wasNull()) {
+        return;
+      }
+    }
+    linker.accept(current, (C) child.mapRow(resultSet, offset));
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation.mapping;
+
+import java.util.Arrays;
+
+/**
+ * Identity map of the entities by the primitive identifiers. The entries are placed to the
+ * open-addressing table with the linear probing, the identifiers are not boxed.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   LongIdentityMap<TestEntity> entities = new LongIdentityMap<>();
+ *   entities.put(entity.getId(), entity);
+ *   TestEntity same = entities.get(entity.getId());
+ *   }
+ * </pre>
+ *
+ * @param <V> type of the entities
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class LongIdentityMap<V> {
+  /**
+   * Default count of the entities which can be placed without resizing.
+   */
+  public static final int DEFAULT_CAPACITY = 16;
+
+  private static final long PHI = 0x9E3779B97F4A7C15L;
+
+  private long[] keys;
+  private Object[] values;
+  private int shift;
+  private int size;
+
+  /**
+   * Constructs new instance of the map with the default capacity.
+   */
+  public LongIdentityMap() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Constructs new instance of the map.
+   *
+   * @param capacity count of the entities which can be placed without resizing
+   * @throws IllegalArgumentException when the capacity is negative
+   */
+  public LongIdentityMap(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Capacity can't be negative: " + capacity);
+    }
+
+    // the table is kept at most half full
+    int length = Integer.highestOneBit(Math.max(capacity, 1) * 2 - 1) << 1;
+    allocate(Math.max(length, 2));
+  }
+
+  /**
+   * Returns the entity by the identifier.
+   *
+   * @param key the identifier
+   * @return the entity or null when it is absent
+   */
+  @SuppressWarnings("unchecked")
+  public V get(long key) {
+    int mask = keys.length - 1;
+    for (int index = indexOf(key); values[index] != null; index = (index + 1) & mask) {
+      if (keys[index] == key) {
+        return (V) values[index];
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Places the entity by the identifier.
+   *
+   * @param key   the identifier
+   * @param value the entity, must not be null
+   * @return the previous entity or null when it is absent
+   * @throws NullPointerException when the entity is null
+   */
+  @SuppressWarnings("unchecked")
+  public V put(long key, V value) {
+    if (value == null) {
+      throw new NullPointerException("Value can't be null");
+    }
+
+    int mask = keys.length - 1;
+    int index = indexOf(key);
+    for (; values[index] != null; index = (index + 1) & mask) {
+      if (keys[index] == key) {
+        V previous = (V) values[index];
+        values[index] = value;
+        return previous;
+      }
+    }
+
+    keys[index] = key;
+    values[index] = value;
+    if (++size * 2 > keys.length) {
+      resize();
+    }
+    return null;
+  }
+
+  /**
+   * Returns count of the entities.
+   *
+   * @return count of the entities
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Removes all the entities, the capacity is not changed.
+   */
+  public void clear() {
+    Arrays.fill(values, null);
+    size = 0;
+  }
+
+  // Returns the first position of the identifier, the bits are mixed by Fibonacci hashing
+  private int indexOf(long key) {
+    return (int) ((key * PHI) >>> shift);
+  }
+
+  private void allocate(int length) {
+    keys = new long[length];
+    values = new Object[length];
+    shift = Long.numberOfLeadingZeros(length - 1);
+  }
+
+  private void resize() {
+    long[] oldKeys = keys;
+    Object[] oldValues = values;
+    allocate(keys.length * 2);
+
+    int mask = keys.length - 1;
+    for (int i = 0; i < oldValues.length; i++) {
+      if (oldValues[i] != null) {
+        int index = indexOf(oldKeys[i]);
+        while (values[index] != null) {
+          index = (index + 1) & mask;
+        }
+        keys[index] = oldKeys[i];
+        values[index] = oldValues[i];
+      }
+    }
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation.mapping;
+
+/**
+ * The exception is thrown when the data can't be converted.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class MappingException extends RuntimeException {
+  /**
+   * Constructs new instance of {@link MappingException}.
+   *
+   * @param message description of the problem
+   */
+  public MappingException(String message) {
+    super(message);
+  }
+
+  /**
+   * Constructs new instance of {@link MappingException}.
+   *
+   * @param message description of the problem
+   * @param cause   cause of the problem
+   */
+  public MappingException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,1397 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation.mapping;
+
+import javax.sql.rowset.serial.SerialBlob;
+import javax.sql.rowset.serial.SerialClob;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.util.Calendar;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * View of one buffered row as {@link ResultSet}, the mappers read the row as the current row of
+ * the result. Only the getters by positions of the columns are supported. The rows are read by
+ * {@link ResultSet#getObject(int)}, the large objects, XML and arrays are read into memory while
+ * the row is current, because the driver can release them after moving to the next row. The
+ * values are converted to the types of the getters as the drivers do, the date and time values
+ * without the zone are in the default zone.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+class PageResultSet implements ResultSet {
+  private static final Integer ZERO = 0;
+  private static final LocalDate EPOCH = LocalDate.of(1970, 1, 1);
+  private static final Class<?>[] PRIMITIVES = {
+      boolean.class, byte.class, short.class, int.class, long.class, float.class, double.class
+  };
+  private static final Class<?>[] WRAPPERS = {
+      Boolean.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class
+  };
+
+  private final int columnCount;
+  private Object[] values;
+  private int first;
+  private boolean wasNull;
+
+  /**
+   * Constructs new instance of the view.
+   *
+   * @param columnCount count of the columns of every row
+   */
+  PageResultSet(int columnCount) {
+    this.columnCount = columnCount;
+  }
+
+  /**
+   * Reads the next rows of the result into the page as the raw values.
+   *
+   * @param resultSet   the result of the select statement
+   * @param values      the values of the page, the rows follow one by one
+   * @param columnCount count of the columns of every row
+   * @param pageSize    maximal count of the rows of the page
+   * @return count of the read rows, it is less than the page's size at the end of the result
+   * @throws SQLException when the result can't be read
+   */
+  static int read(ResultSet resultSet, Object[] values, int columnCount, int pageSize) throws SQLException {
+    int size = 0;
+    while (size < pageSize && resultSet.next()) {
+      int first = size * columnCount - 1;
+      for (int column = 1; column <= columnCount; column++) {
+        values[first + column] = readValue(resultSet, column);
+      }
+      size++;
+    }
+    return size;
+  }
+
+  /**
+   * Moves the view to the row of the page.
+   *
+   * @param values the values of the page, the rows follow one by one
+   * @param row    number of the row in the page, from 0
+   * @return the view of the row
+   */
+  ResultSet moveTo(Object[] values, int row) {
+    return moveAt(values, row * columnCount);
+  }
+
+  /**
+   * Moves the view to the row which starts at the position of the values.
+   *
+   * @param values   the raw values
+   * @param position index of the first column of the row in the values
+   * @return the view of the row
+   */
+  ResultSet moveAt(Object[] values, int position) {
+    this.values = values;
+    this.first = position - 1;
+    return this;
+  }
+
+  @Override
+  public boolean wasNull() {
+    return wasNull;
+  }
+
+  @Override
+  public boolean isClosed() {
+    return false;
+  }
+
+  @Override
+  public String getString(int columnIndex) throws SQLException {
+    return (String) convert(read(columnIndex), String.class);
+  }
+
+  @Override
+  public String getNString(int columnIndex) throws SQLException {
+    return getString(columnIndex);
+  }
+
+  @Override
+  public boolean getBoolean(int columnIndex) throws SQLException {
+    Object value = read(columnIndex);
+    if (value instanceof Boolean) {
+      return (Boolean) value;
+    }
+    return value != null && toNumber(value).intValue() != 0;
+  }
+
+  @Override
+  public byte getByte(int columnIndex) throws SQLException {
+    return readNumber(columnIndex).byteValue();
+  }
+
+  @Override
+  public short getShort(int columnIndex) throws SQLException {
+    return readNumber(columnIndex).shortValue();
+  }
+
+  @Override
+  public int getInt(int columnIndex) throws SQLException {
+    return readNumber(columnIndex).intValue();
+  }
+
+  @Override
+  public long getLong(int columnIndex) throws SQLException {
+    return readNumber(columnIndex).longValue();
+  }
+
+  @Override
+  public float getFloat(int columnIndex) throws SQLException {
+    return readNumber(columnIndex).floatValue();
+  }
+
+  @Override
+  public double getDouble(int columnIndex) throws SQLException {
+    return readNumber(columnIndex).doubleValue();
+  }
+
+  @Override
+  public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+    return (BigDecimal) convert(read(columnIndex), BigDecimal.class);
+  }
+
+  @Override
+  public byte[] getBytes(int columnIndex) throws SQLException {
+    return (byte[]) convert(read(columnIndex), byte[].class);
+  }
+
+  @Override
+  public Date getDate(int columnIndex) throws SQLException {
+    return (Date) convert(read(columnIndex), Date.class);
+  }
+
+  @Override
+  public Time getTime(int columnIndex) throws SQLException {
+    return (Time) convert(read(columnIndex), Time.class);
+  }
+
+  @Override
+  public Timestamp getTimestamp(int columnIndex) throws SQLException {
+    return (Timestamp) convert(read(columnIndex), Timestamp.class);
+  }
+
+  @Override
+  public Clob getClob(int columnIndex) throws SQLException {
+    return (Clob) convert(read(columnIndex), Clob.class);
+  }
+
+  @Override
+  public Blob getBlob(int columnIndex) throws SQLException {
+    return (Blob) convert(read(columnIndex), Blob.class);
+  }
+
+  @Override
+  public Object getObject(int columnIndex) throws SQLException {
+    return read(columnIndex);
+  }
+
+  @Override
+  public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+    if (type == null) {
+      throw new SQLException("Type of the column is required");
+    }
+    return RawValues.getObject(read(columnIndex), type);
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> type) throws SQLException {
+    if (type.isInstance(this)) {
+      return type.cast(this);
+    }
+    throw new SQLException("Result isn't a wrapper of " + type.getName());
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> type) {
+    return type.isInstance(this);
+  }
+
+  @Override
+  public String toString() {
+    return PageResultSet.class.getSimpleName();
+  }
+
+@Override
+  public boolean absolute(int row) throws SQLException {
+    throw unsupported("absolute");
+  }
+
+  @Override
+  public void afterLast() throws SQLException {
+    throw unsupported("afterLast");
+  }
+
+  @Override
+  public void beforeFirst() throws SQLException {
+    throw unsupported("beforeFirst");
+  }
+
+  @Override
+  public void cancelRowUpdates() throws SQLException {
+    throw unsupported("cancelRowUpdates");
+  }
+
+  @Override
+  public void clearWarnings() throws SQLException {
+    throw unsupported("clearWarnings");
+  }
+
+  @Override
+  public void close() throws SQLException {
+    throw unsupported("close");
+  }
+
+  @Override
+  public void deleteRow() throws SQLException {
+    throw unsupported("deleteRow");
+  }
+
+  @Override
+  public int findColumn(String columnLabel) throws SQLException {
+    throw unsupported("findColumn");
+  }
+
+  @Override
+  public boolean first() throws SQLException {
+    throw unsupported("first");
+  }
+
+  @Override
+  public Array getArray(String columnLabel) throws SQLException {
+    throw unsupported("getArray");
+  }
+
+  @Override
+  public Array getArray(int columnIndex) throws SQLException {
+    throw unsupported("getArray");
+  }
+
+  @Override
+  public InputStream getAsciiStream(String columnLabel) throws SQLException {
+    throw unsupported("getAsciiStream");
+  }
+
+  @Override
+  public InputStream getAsciiStream(int columnIndex) throws SQLException {
+    throw unsupported("getAsciiStream");
+  }
+
+  @Override
+  public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+    throw unsupported("getBigDecimal");
+  }
+
+  @Deprecated
+  @Override
+  public BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException {
+    throw unsupported("getBigDecimal");
+  }
+
+  @Deprecated
+  @Override
+  public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
+    throw unsupported("getBigDecimal");
+  }
+
+  @Override
+  public InputStream getBinaryStream(String columnLabel) throws SQLException {
+    throw unsupported("getBinaryStream");
+  }
+
+  @Override
+  public InputStream getBinaryStream(int columnIndex) throws SQLException {
+    throw unsupported("getBinaryStream");
+  }
+
+  @Override
+  public Blob getBlob(String columnLabel) throws SQLException {
+    throw unsupported("getBlob");
+  }
+
+  @Override
+  public boolean getBoolean(String columnLabel) throws SQLException {
+    throw unsupported("getBoolean");
+  }
+
+  @Override
+  public byte getByte(String columnLabel) throws SQLException {
+    throw unsupported("getByte");
+  }
+
+  @Override
+  public byte[] getBytes(String columnLabel) throws SQLException {
+    throw unsupported("getBytes");
+  }
+
+  @Override
+  public Reader getCharacterStream(String columnLabel) throws SQLException {
+    throw unsupported("getCharacterStream");
+  }
+
+  @Override
+  public Reader getCharacterStream(int columnIndex) throws SQLException {
+    throw unsupported("getCharacterStream");
+  }
+
+  @Override
+  public Clob getClob(String columnLabel) throws SQLException {
+    throw unsupported("getClob");
+  }
+
+  @Override
+  public int getConcurrency() throws SQLException {
+    throw unsupported("getConcurrency");
+  }
+
+  @Override
+  public String getCursorName() throws SQLException {
+    throw unsupported("getCursorName");
+  }
+
+  @Override
+  public Date getDate(String columnLabel) throws SQLException {
+    throw unsupported("getDate");
+  }
+
+  @Override
+  public Date getDate(String columnLabel, Calendar cal) throws SQLException {
+    throw unsupported("getDate");
+  }
+
+  @Override
+  public Date getDate(int columnIndex, Calendar cal) throws SQLException {
+    throw unsupported("getDate");
+  }
+
+  @Override
+  public double getDouble(String columnLabel) throws SQLException {
+    throw unsupported("getDouble");
+  }
+
+  @Override
+  public int getFetchDirection() throws SQLException {
+    throw unsupported("getFetchDirection");
+  }
+
+  @Override
+  public int getFetchSize() throws SQLException {
+    throw unsupported("getFetchSize");
+  }
+
+  @Override
+  public float getFloat(String columnLabel) throws SQLException {
+    throw unsupported("getFloat");
+  }
+
+  @Override
+  public int getHoldability() throws SQLException {
+    throw unsupported("getHoldability");
+  }
+
+  @Override
+  public int getInt(String columnLabel) throws SQLException {
+    throw unsupported("getInt");
+  }
+
+  @Override
+  public long getLong(String columnLabel) throws SQLException {
+    throw unsupported("getLong");
+  }
+
+  @Override
+  public ResultSetMetaData getMetaData() throws SQLException {
+    throw unsupported("getMetaData");
+  }
+
+  @Override
+  public Reader getNCharacterStream(String columnLabel) throws SQLException {
+    throw unsupported("getNCharacterStream");
+  }
+
+  @Override
+  public Reader getNCharacterStream(int columnIndex) throws SQLException {
+    throw unsupported("getNCharacterStream");
+  }
+
+  @Override
+  public NClob getNClob(String columnLabel) throws SQLException {
+    throw unsupported("getNClob");
+  }
+
+  @Override
+  public NClob getNClob(int columnIndex) throws SQLException {
+    throw unsupported("getNClob");
+  }
+
+  @Override
+  public String getNString(String columnLabel) throws SQLException {
+    throw unsupported("getNString");
+  }
+
+  @Override
+  public Object getObject(String columnLabel) throws SQLException {
+    throw unsupported("getObject");
+  }
+
+@Override
+  public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
+    throw unsupported("getObject");
+  }
+
+  @Override
+  public Object getObject(String columnLabel, Map<String, Class<?>> map) throws SQLException {
+    throw unsupported("getObject");
+  }
+
+  @Override
+  public Object getObject(int columnIndex, Map<String, Class<?>> map) throws SQLException {
+    throw unsupported("getObject");
+  }
+
+  @Override
+  public Ref getRef(String columnLabel) throws SQLException {
+    throw unsupported("getRef");
+  }
+
+  @Override
+  public Ref getRef(int columnIndex) throws SQLException {
+    throw unsupported("getRef");
+  }
+
+  @Override
+  public int getRow() throws SQLException {
+    throw unsupported("getRow");
+  }
+
+  @Override
+  public RowId getRowId(String columnLabel) throws SQLException {
+    throw unsupported("getRowId");
+  }
+
+  @Override
+  public RowId getRowId(int columnIndex) throws SQLException {
+    throw unsupported("getRowId");
+  }
+
+  @Override
+  public SQLXML getSQLXML(String columnLabel) throws SQLException {
+    throw unsupported("getSQLXML");
+  }
+
+  @Override
+  public SQLXML getSQLXML(int columnIndex) throws SQLException {
+    throw unsupported("getSQLXML");
+  }
+
+  @Override
+  public short getShort(String columnLabel) throws SQLException {
+    throw unsupported("getShort");
+  }
+
+  @Override
+  public Statement getStatement() throws SQLException {
+    throw unsupported("getStatement");
+  }
+
+  @Override
+  public String getString(String columnLabel) throws SQLException {
+    throw unsupported("getString");
+  }
+
+  @Override
+  public Time getTime(String columnLabel) throws SQLException {
+    throw unsupported("getTime");
+  }
+
+  @Override
+  public Time getTime(String columnLabel, Calendar cal) throws SQLException {
+    throw unsupported("getTime");
+  }
+
+  @Override
+  public Time getTime(int columnIndex, Calendar cal) throws SQLException {
+    throw unsupported("getTime");
+  }
+
+  @Override
+  public Timestamp getTimestamp(String columnLabel) throws SQLException {
+    throw unsupported("getTimestamp");
+  }
+
+  @Override
+  public Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException {
+    throw unsupported("getTimestamp");
+  }
+
+  @Override
+  public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
+    throw unsupported("getTimestamp");
+  }
+
+  @Override
+  public int getType() throws SQLException {
+    throw unsupported("getType");
+  }
+
+  @Override
+  public URL getURL(String columnLabel) throws SQLException {
+    throw unsupported("getURL");
+  }
+
+  @Override
+  public URL getURL(int columnIndex) throws SQLException {
+    throw unsupported("getURL");
+  }
+
+  @Deprecated
+  @Override
+  public InputStream getUnicodeStream(String columnLabel) throws SQLException {
+    throw unsupported("getUnicodeStream");
+  }
+
+  @Deprecated
+  @Override
+  public InputStream getUnicodeStream(int columnIndex) throws SQLException {
+    throw unsupported("getUnicodeStream");
+  }
+
+  @Override
+  public SQLWarning getWarnings() throws SQLException {
+    throw unsupported("getWarnings");
+  }
+
+  @Override
+  public void insertRow() throws SQLException {
+    throw unsupported("insertRow");
+  }
+
+  @Override
+  public boolean isAfterLast() throws SQLException {
+    throw unsupported("isAfterLast");
+  }
+
+  @Override
+  public boolean isBeforeFirst() throws SQLException {
+    throw unsupported("isBeforeFirst");
+  }
+
+  @Override
+  public boolean isFirst() throws SQLException {
+    throw unsupported("isFirst");
+  }
+
+  @Override
+  public boolean isLast() throws SQLException {
+    throw unsupported("isLast");
+  }
+
+  @Override
+  public boolean last() throws SQLException {
+    throw unsupported("last");
+  }
+
+  @Override
+  public void moveToCurrentRow() throws SQLException {
+    throw unsupported("moveToCurrentRow");
+  }
+
+  @Override
+  public void moveToInsertRow() throws SQLException {
+    throw unsupported("moveToInsertRow");
+  }
+
+  @Override
+  public boolean next() throws SQLException {
+    throw unsupported("next");
+  }
+
+  @Override
+  public boolean previous() throws SQLException {
+    throw unsupported("previous");
+  }
+
+  @Override
+  public void refreshRow() throws SQLException {
+    throw unsupported("refreshRow");
+  }
+
+  @Override
+  public boolean relative(int rows) throws SQLException {
+    throw unsupported("relative");
+  }
+
+  @Override
+  public boolean rowDeleted() throws SQLException {
+    throw unsupported("rowDeleted");
+  }
+
+  @Override
+  public boolean rowInserted() throws SQLException {
+    throw unsupported("rowInserted");
+  }
+
+  @Override
+  public boolean rowUpdated() throws SQLException {
+    throw unsupported("rowUpdated");
+  }
+
+  @Override
+  public void setFetchDirection(int direction) throws SQLException {
+    throw unsupported("setFetchDirection");
+  }
+
+  @Override
+  public void setFetchSize(int rows) throws SQLException {
+    throw unsupported("setFetchSize");
+  }
+
+  @Override
+  public void updateArray(String columnLabel, Array x) throws SQLException {
+    throw unsupported("updateArray");
+  }
+
+  @Override
+  public void updateArray(int columnIndex, Array x) throws SQLException {
+    throw unsupported("updateArray");
+  }
+
+  @Override
+  public void updateAsciiStream(String columnLabel, InputStream x) throws SQLException {
+    throw unsupported("updateAsciiStream");
+  }
+
+  @Override
+  public void updateAsciiStream(String columnLabel, InputStream x, int length) throws SQLException {
+    throw unsupported("updateAsciiStream");
+  }
+
+  @Override
+  public void updateAsciiStream(String columnLabel, InputStream x, long length) throws SQLException {
+    throw unsupported("updateAsciiStream");
+  }
+
+  @Override
+  public void updateAsciiStream(int columnIndex, InputStream x) throws SQLException {
+    throw unsupported("updateAsciiStream");
+  }
+
+  @Override
+  public void updateAsciiStream(int columnIndex, InputStream x, int length) throws SQLException {
+    throw unsupported("updateAsciiStream");
+  }
+
+  @Override
+  public void updateAsciiStream(int columnIndex, InputStream x, long length) throws SQLException {
+    throw unsupported("updateAsciiStream");
+  }
+
+  @Override
+  public void updateBigDecimal(String columnLabel, BigDecimal x) throws SQLException {
+    throw unsupported("updateBigDecimal");
+  }
+
+  @Override
+  public void updateBigDecimal(int columnIndex, BigDecimal x) throws SQLException {
+    throw unsupported("updateBigDecimal");
+  }
+
+  @Override
+  public void updateBinaryStream(String columnLabel, InputStream x) throws SQLException {
+    throw unsupported("updateBinaryStream");
+  }
+
+  @Override
+  public void updateBinaryStream(String columnLabel, InputStream x, int length) throws SQLException {
+    throw unsupported("updateBinaryStream");
+  }
+
+  @Override
+  public void updateBinaryStream(String columnLabel, InputStream x, long length) throws SQLException {
+    throw unsupported("updateBinaryStream");
+  }
+
+  @Override
+  public void updateBinaryStream(int columnIndex, InputStream x) throws SQLException {
+    throw unsupported("updateBinaryStream");
+  }
+
+  @Override
+  public void updateBinaryStream(int columnIndex, InputStream x, int length) throws SQLException {
+    throw unsupported("updateBinaryStream");
+  }
+
+  @Override
+  public void updateBinaryStream(int columnIndex, InputStream x, long length) throws SQLException {
+    throw unsupported("updateBinaryStream");
+  }
+
+  @Override
+  public void updateBlob(String columnLabel, Blob x) throws SQLException {
+    throw unsupported("updateBlob");
+  }
+
+  @Override
+  public void updateBlob(String columnLabel, InputStream x) throws SQLException {
+    throw unsupported("updateBlob");
+  }
+
+  @Override
+  public void updateBlob(String columnLabel, InputStream x, long length) throws SQLException {
+    throw unsupported("updateBlob");
+  }
+
+  @Override
+  public void updateBlob(int columnIndex, Blob x) throws SQLException {
+    throw unsupported("updateBlob");
+  }
+
+  @Override
+  public void updateBlob(int columnIndex, InputStream x) throws SQLException {
+    throw unsupported("updateBlob");
+  }
+
+  @Override
+  public void updateBlob(int columnIndex, InputStream x, long length) throws SQLException {
+    throw unsupported("updateBlob");
+  }
+
+  @Override
+  public void updateBoolean(String columnLabel, boolean x) throws SQLException {
+    throw unsupported("updateBoolean");
+  }
+
+  @Override
+  public void updateBoolean(int columnIndex, boolean x) throws SQLException {
+    throw unsupported("updateBoolean");
+  }
+
+  @Override
+  public void updateByte(String columnLabel, byte x) throws SQLException {
+    throw unsupported("updateByte");
+  }
+
+  @Override
+  public void updateByte(int columnIndex, byte x) throws SQLException {
+    throw unsupported("updateByte");
+  }
+
+  @Override
+  public void updateBytes(String columnLabel, byte[] x) throws SQLException {
+    throw unsupported("updateBytes");
+  }
+
+  @Override
+  public void updateBytes(int columnIndex, byte[] x) throws SQLException {
+    throw unsupported("updateBytes");
+  }
+
+  @Override
+  public void updateCharacterStream(String columnLabel, Reader x) throws SQLException {
+    throw unsupported("updateCharacterStream");
+  }
+
+  @Override
+  public void updateCharacterStream(String columnLabel, Reader x, int length) throws SQLException {
+    throw unsupported("updateCharacterStream");
+  }
+
+  @Override
+  public void updateCharacterStream(String columnLabel, Reader x, long length) throws SQLException {
+    throw unsupported("updateCharacterStream");
+  }
+
+  @Override
+  public void updateCharacterStream(int columnIndex, Reader x) throws SQLException {
+    throw unsupported("updateCharacterStream");
+  }
+
+  @Override
+  public void updateCharacterStream(int columnIndex, Reader x, int length) throws SQLException {
+    throw unsupported("updateCharacterStream");
+  }
+
+  @Override
+  public void updateCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+    throw unsupported("updateCharacterStream");
+  }
+
+  @Override
+  public void updateClob(String columnLabel, Clob x) throws SQLException {
+    throw unsupported("updateClob");
+  }
+
+  @Override
+  public void updateClob(String columnLabel, Reader x) throws SQLException {
+    throw unsupported("updateClob");
+  }
+
+  @Override
+  public void updateClob(String columnLabel, Reader x, long length) throws SQLException {
+    throw unsupported("updateClob");
+  }
+
+  @Override
+  public void updateClob(int columnIndex, Clob x) throws SQLException {
+    throw unsupported("updateClob");
+  }
+
+  @Override
+  public void updateClob(int columnIndex, Reader x) throws SQLException {
+    throw unsupported("updateClob");
+  }
+
+  @Override
+  public void updateClob(int columnIndex, Reader x, long length) throws SQLException {
+    throw unsupported("updateClob");
+  }
+
+  @Override
+  public void updateDate(String columnLabel, Date x) throws SQLException {
+    throw unsupported("updateDate");
+  }
+
+  @Override
+  public void updateDate(int columnIndex, Date x) throws SQLException {
+    throw unsupported("updateDate");
+  }
+
+  @Override
+  public void updateDouble(String columnLabel, double x) throws SQLException {
+    throw unsupported("updateDouble");
+  }
+
+  @Override
+  public void updateDouble(int columnIndex, double x) throws SQLException {
+    throw unsupported("updateDouble");
+  }
+
+  @Override
+  public void updateFloat(String columnLabel, float x) throws SQLException {
+    throw unsupported("updateFloat");
+  }
+
+  @Override
+  public void updateFloat(int columnIndex, float x) throws SQLException {
+    throw unsupported("updateFloat");
+  }
+
+  @Override
+  public void updateInt(String columnLabel, int x) throws SQLException {
+    throw unsupported("updateInt");
+  }
+
+  @Override
+  public void updateInt(int columnIndex, int x) throws SQLException {
+    throw unsupported("updateInt");
+  }
+
+  @Override
+  public void updateLong(String columnLabel, long x) throws SQLException {
+    throw unsupported("updateLong");
+  }
+
+  @Override
+  public void updateLong(int columnIndex, long x) throws SQLException {
+    throw unsupported("updateLong");
+  }
+
+  @Override
+  public void updateNCharacterStream(String columnLabel, Reader x) throws SQLException {
+    throw unsupported("updateNCharacterStream");
+  }
+
+  @Override
+  public void updateNCharacterStream(String columnLabel, Reader x, long length) throws SQLException {
+    throw unsupported("updateNCharacterStream");
+  }
+
+  @Override
+  public void updateNCharacterStream(int columnIndex, Reader x) throws SQLException {
+    throw unsupported("updateNCharacterStream");
+  }
+
+  @Override
+  public void updateNCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+    throw unsupported("updateNCharacterStream");
+  }
+
+  @Override
+  public void updateNClob(String columnLabel, NClob x) throws SQLException {
+    throw unsupported("updateNClob");
+  }
+
+  @Override
+  public void updateNClob(String columnLabel, Reader x) throws SQLException {
+    throw unsupported("updateNClob");
+  }
+
+  @Override
+  public void updateNClob(String columnLabel, Reader x, long length) throws SQLException {
+    throw unsupported("updateNClob");
+  }
+
+  @Override
+  public void updateNClob(int columnIndex, NClob x) throws SQLException {
+    throw unsupported("updateNClob");
+  }
+
+  @Override
+  public void updateNClob(int columnIndex, Reader x) throws SQLException {
+    throw unsupported("updateNClob");
+  }
+
+  @Override
+  public void updateNClob(int columnIndex, Reader x, long length) throws SQLException {
+    throw unsupported("updateNClob");
+  }
+
+  @Override
+  public void updateNString(String columnLabel, String x) throws SQLException {
+    throw unsupported("updateNString");
+  }
+
+  @Override
+  public void updateNString(int columnIndex, String x) throws SQLException {
+    throw unsupported("updateNString");
+  }
+
+  @Override
+  public void updateNull(String columnLabel) throws SQLException {
+    throw unsupported("updateNull");
+  }
+
+  @Override
+  public void updateNull(int columnIndex) throws SQLException {
+    throw unsupported("updateNull");
+  }
+
+  @Override
+  public void updateObject(String columnLabel, Object x) throws SQLException {
+    throw unsupported("updateObject");
+  }
+
+  @Override
+  public void updateObject(String columnLabel, Object x, int length) throws SQLException {
+    throw unsupported("updateObject");
+  }
+
+  @Override
+  public void updateObject(int columnIndex, Object x) throws SQLException {
+    throw unsupported("updateObject");
+  }
+
+  @Override
+  public void updateObject(int columnIndex, Object x, int length) throws SQLException {
+    throw unsupported("updateObject");
+  }
+
+  @Override
+  public void updateRef(String columnLabel, Ref x) throws SQLException {
+    throw unsupported("updateRef");
+  }
+
+  @Override
+  public void updateRef(int columnIndex, Ref x) throws SQLException {
+    throw unsupported("updateRef");
+  }
+
+  @Override
+  public void updateRow() throws SQLException {
+    throw unsupported("updateRow");
+  }
+
+  @Override
+  public void updateRowId(String columnLabel, RowId x) throws SQLException {
+    throw unsupported("updateRowId");
+  }
+
+  @Override
+  public void updateRowId(int columnIndex, RowId x) throws SQLException {
+    throw unsupported("updateRowId");
+  }
+
+  @Override
+  public void updateSQLXML(String columnLabel, SQLXML x) throws SQLException {
+    throw unsupported("updateSQLXML");
+  }
+
+  @Override
+  public void updateSQLXML(int columnIndex, SQLXML x) throws SQLException {
+    throw unsupported("updateSQLXML");
+  }
+
+  @Override
+  public void updateShort(String columnLabel, short x) throws SQLException {
+    throw unsupported("updateShort");
+  }
+
+  @Override
+  public void updateShort(int columnIndex, short x) throws SQLException {
+    throw unsupported("updateShort");
+  }
+
+  @Override
+  public void updateString(String columnLabel, String x) throws SQLException {
+    throw unsupported("updateString");
+  }
+
+  @Override
+  public void updateString(int columnIndex, String x) throws SQLException {
+    throw unsupported("updateString");
+  }
+
+  @Override
+  public void updateTime(String columnLabel, Time x) throws SQLException {
+    throw unsupported("updateTime");
+  }
+
+  @Override
+  public void updateTime(int columnIndex, Time x) throws SQLException {
+    throw unsupported("updateTime");
+  }
+
+  @Override
+  public void updateTimestamp(String columnLabel, Timestamp x) throws SQLException {
+    throw unsupported("updateTimestamp");
+  }
+
+  @Override
+  public void updateTimestamp(int columnIndex, Timestamp x) throws SQLException {
+    throw unsupported("updateTimestamp");
+  }
+
+  // Reads the value of the column, the values which depend on the current row are read into memory
+  static Object readValue(ResultSet resultSet, int column) throws SQLException {
+    Object value = resultSet.getObject(column);
+    if (value instanceof Clob) {
+      Clob clob = (Clob) value;
+      try {
+        return clob.getSubString(1, (int) clob.length());
+      } finally {
+        clob.free();
+      }
+    } else if (value instanceof Blob) {
+      Blob blob = (Blob) value;
+      try {
+        return blob.getBytes(1, (int) blob.length());
+      } finally {
+        blob.free();
+      }
+    } else if (value instanceof SQLXML) {
+      SQLXML xml = (SQLXML) value;
+      try {
+        return xml.getString();
+      } finally {
+        xml.free();
+      }
+    } else if (value instanceof Array) {
+      Array array = (Array) value;
+      try {
+        return array.getArray();
+      } finally {
+        array.free();
+      }
+    }
+    return value;
+  }
+
+  // Returns value of the column, the columns are read by positions
+  private Object read(int column) throws SQLException {
+    if (column < 1 || column > columnCount) {
+      throw new SQLException("Column is out of range: " + column);
+    }
+
+    Object value = values[first + column];
+    wasNull = value == null;
+    return value;
+  }
+
+  // Returns value of the column as the number, null is read as zero
+  private Number readNumber(int column) throws SQLException {
+    return toNumberOrZero(read(column));
+  }
+
+  // Returns the value as the number, null is read as zero
+  static Number toNumberOrZero(Object value) throws SQLException {
+    if (value instanceof Number) {
+      return (Number) value;
+    }
+    return value == null ? ZERO : toNumber(value);
+  }
+
+  // Converts the value to the type of the getter
+  static Object convert(Object value, Class<?> type) throws SQLException {
+    if (value == null || type.isInstance(value)) {
+      return value;
+    }
+
+    Object converted;
+    Class<?> primitive = getPrimitive(type);
+    if (type == String.class) {
+      converted = toText(value);
+    } else if (type == BigDecimal.class) {
+      converted = toBigDecimal(value);
+    } else if (type == BigInteger.class) {
+      converted = toBigDecimal(value).toBigInteger();
+    } else if (primitive != null) {
+      converted = convertPrimitive(value, primitive);
+    } else if (type == Clob.class && value instanceof String) {
+      converted = new SerialClob(((String) value).toCharArray());
+    } else if (type == Blob.class && value instanceof byte[]) {
+      converted = new SerialBlob((byte[]) value);
+    } else if (type == UUID.class && value instanceof String) {
+      converted = toUuid((String) value);
+    } else if (type.isEnum() && value instanceof String) {
+      converted = toEnum(type, (String) value);
+    } else {
+      converted = convertTemporal(value, type);
+    }
+
+    if (converted == null) {
+      throw new SQLException(
+          String.join("", "Value of ", value.getClass().getName(), " can't be converted to ", type.getName())
+      );
+    }
+    return converted;
+  }
+
+  // Converts the value to the primitive type, null is converted to zero
+  static Object convertPrimitive(Object value, Class<?> type) throws SQLException {
+    if (type == boolean.class) {
+      if (value == null) {
+        return false;
+      } else if (value instanceof Boolean) {
+        return value;
+      }
+      return toNumber(value).intValue() != 0;
+    }
+
+    Number number = value == null ? ZERO : toNumber(value);
+    if (type == int.class) {
+      return number.intValue();
+    } else if (type == long.class) {
+      return number.longValue();
+    } else if (type == double.class) {
+      return number.doubleValue();
+    } else if (type == float.class) {
+      return number.floatValue();
+    } else if (type == short.class) {
+      return number.shortValue();
+    } else if (type == byte.class) {
+      return number.byteValue();
+    }
+    throw new SQLException("Type is not supported: " + type.getName());
+  }
+
+  // Converts the date and time values, returns null when the value can't be converted
+  private static Object convertTemporal(Object value, Class<?> type) {
+    Instant instant = toInstant(value);
+    LocalDateTime local = instant == null
+        ? toLocalDateTime(value)
+        : LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    if (local == null) {
+      return null;
+    }
+    if (instant == null) {
+      instant = local.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    if (type == LocalDate.class) {
+      return local.toLocalDate();
+    } else if (type == LocalTime.class) {
+      return local.toLocalTime();
+    } else if (type == LocalDateTime.class) {
+      return local;
+    } else if (type == Date.class) {
+      return Date.valueOf(local.toLocalDate());
+    } else if (type == Time.class) {
+      return Time.valueOf(local.toLocalTime());
+    } else if (type == Timestamp.class) {
+      return Timestamp.valueOf(local);
+    } else if (type == Instant.class) {
+      return instant;
+    } else if (type == OffsetDateTime.class) {
+      return instant.atZone(ZoneId.systemDefault()).toOffsetDateTime();
+    } else if (type == ZonedDateTime.class) {
+      return instant.atZone(ZoneId.systemDefault());
+    } else if (type == java.util.Date.class) {
+      return new java.util.Date(instant.toEpochMilli());
+    }
+    return null;
+  }
+
+  // Returns the instant of the value with the zone or null
+  private static Instant toInstant(Object value) {
+    if (value instanceof Instant) {
+      return (Instant) value;
+    } else if (value instanceof OffsetDateTime) {
+      return ((OffsetDateTime) value).toInstant();
+    } else if (value instanceof ZonedDateTime) {
+      return ((ZonedDateTime) value).toInstant();
+    }
+    return null;
+  }
+
+  // Returns the date and time of the value without the zone or null
+  private static LocalDateTime toLocalDateTime(Object value) {
+    if (value instanceof LocalDateTime) {
+      return (LocalDateTime) value;
+    } else if (value instanceof LocalDate) {
+      return ((LocalDate) value).atStartOfDay();
+    } else if (value instanceof LocalTime) {
+      return ((LocalTime) value).atDate(EPOCH);
+    } else if (value instanceof Timestamp) {
+      return ((Timestamp) value).toLocalDateTime();
+    } else if (value instanceof Date) {
+      return ((Date) value).toLocalDate().atStartOfDay();
+    } else if (value instanceof Time) {
+      return ((Time) value).toLocalTime().atDate(EPOCH);
+    } else if (value instanceof java.util.Date) {
+      return LocalDateTime.ofInstant(((java.util.Date) value).toInstant(), ZoneId.systemDefault());
+    } else if (value instanceof String) {
+      return parseLocalDateTime(((String) value).trim());
+    }
+    return null;
+  }
+
+  // Parses the date, the time or the date and time in ISO format or null
+  private static LocalDateTime parseLocalDateTime(String value) {
+    try {
+      if (value.indexOf(':') < 0) {
+        return LocalDate.parse(value).atStartOfDay();
+      } else if (value.indexOf('-') < 0) {
+        return LocalTime.parse(value).atDate(EPOCH);
+      }
+      return LocalDateTime.parse(value.replace(' ', 'T'));
+    } catch (DateTimeParseException exception) {
+      return null;
+    }
+  }
+
+  // Returns the value as the text, the binary values and the arrays can't be converted
+  private static String toText(Object value) {
+    if (
+        value instanceof CharSequence
+            || value instanceof Number
+            || value instanceof Boolean
+            || value instanceof Character
+            || value instanceof UUID
+            || value instanceof java.util.Date
+            || value instanceof TemporalAccessor
+    ) {
+      return value.toString();
+    }
+    return null;
+  }
+
+  // Returns the value as the decimal
+  private static BigDecimal toBigDecimal(Object value) throws SQLException {
+    if (value instanceof BigInteger) {
+      return new BigDecimal((BigInteger) value);
+    } else if (value instanceof Double || value instanceof Float) {
+      return BigDecimal.valueOf(((Number) value).doubleValue());
+    } else if (value instanceof Number) {
+      return BigDecimal.valueOf(((Number) value).longValue());
+    }
+
+    Number number = toNumber(value);
+    return number instanceof BigDecimal ? (BigDecimal) number : BigDecimal.valueOf(number.longValue());
+  }
+
+  // Returns the value as the number
+  private static Number toNumber(Object value) throws SQLException {
+    if (value instanceof Number) {
+      return (Number) value;
+    } else if (value instanceof Boolean) {
+      return (Boolean) value ? 1 : 0;
+    } else if (value instanceof CharSequence) {
+      try {
+        return new BigDecimal(value.toString().trim());
+      } catch (NumberFormatException exception) {
+        throw new SQLException("Value is not a number: " + value, exception);
+      }
+    }
+    throw new SQLException("Value of " + value.getClass().getName() + " is not a number");
+  }
+
+  // Returns the identifier by the text or null
+  private static UUID toUuid(String value) {
+    try {
+      return UUID.fromString(value.trim());
+    } catch (IllegalArgumentException exception) {
+      return null;
+    }
+  }
+
+  // Returns the constant of the enumeration by the name or null
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Object toEnum(Class<?> type, String value) {
+    try {
+      return Enum.valueOf((Class<? extends Enum>) type, value.trim());
+    } catch (IllegalArgumentException exception) {
+      return null;
+    }
+  }
+
+  // Returns the primitive type of the wrapper or null
+  private static Class<?> getPrimitive(Class<?> type) {
+    for (int i = 0; i < WRAPPERS.length; i++) {
+      if (WRAPPERS[i] == type) {
+        return PRIMITIVES[i];
+      }
+    }
+    return null;
+  }
+
+  // Returns the exception of the method which is not supported by the view
+  private static SQLFeatureNotSupportedException unsupported(String name) {
+    return new SQLFeatureNotSupportedException("Method is not supported: " + name);
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation.mapping;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Mapper with the parallel conversion of the rows, for the entities with the expensive conversion
+ * of the columns. The rows are extracted from {@link ResultSet} sequentially into the chunks of the
+ * raw values by {@link RowMapper#extract(ResultSet, int, Object[], int)}, then the chunks are
+ * converted by {@link RowMapper#convert(Object[], int)} in parallel on {@link ForkJoinPool}. The
+ * entities are returned in order of the rows. The mapper must be stateless, as the generated mappers
+ * are.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   ParallelMapper mapper = new ParallelMapper(new TestEntityStubMapper());
+ *   ResultSet result = statement.executeQuery(TestEntityStubMapper.SELECT_TEST_ENTITY);
+ *   List<TestEntity> entities = mapper.mapAll(result);
+ *   }
+ * </pre>
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class ParallelMapper {
+  /**
+   * Default count of the rows of the chunk.
+   */
+  public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+  private final RowMapper mapper;
+  private final ForkJoinPool pool;
+  private final int chunkSize;
+
+  /**
+   * Constructs new instance of the mapper, the common pool and the default size of the chunks
+   * are used.
+   *
+   * @param mapper mapper of the entities
+   */
+  public ParallelMapper(RowMapper mapper) {
+    this(mapper, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Constructs new instance of the mapper.
+   *
+   * @param mapper    mapper of the entities
+   * @param pool      pool of the conversion
+   * @param chunkSize count of the rows converted by one task
+   * @throws IllegalArgumentException when size of the chunks is not positive
+   */
+  public ParallelMapper(RowMapper mapper, ForkJoinPool pool, int chunkSize) {
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("Size of the chunks must be positive");
+    }
+
+    this.mapper = mapper;
+    this.pool = pool;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Converts all the remaining rows of {@link ResultSet}.
+   *
+   * @param <T>       type of the entities
+   * @param resultSet the result of the select statement
+   * @return the entities in order of the rows
+   * @throws SQLException     when the result can't be read
+   * @throws MappingException when the row can't be converted
+   */
+  @SuppressWarnings("unchecked")
+  public <T> List<T> mapAll(ResultSet resultSet) throws SQLException {
+    int columnCount = mapper.getColumnCount();
+
+    List<Object[]> chunks = new ArrayList<>();
+    int count = 0;
+    int size;
+    do {
+      Object[] chunk = new Object[chunkSize * columnCount];
+      size = 0;
+      while (size < chunkSize && resultSet.next()) {
+        mapper.extract(resultSet, 0, chunk, size * columnCount);
+        size++;
+      }
+      if (size > 0) {
+        chunks.add(chunk);
+        count += size;
+      }
+    } while (size == chunkSize);
+
+    Object[] entities = new Object[count];
+    if (count > 0) {
+      pool.invoke(new ConvertTask(chunks, columnCount, count, entities, 0, chunks.size()));
+    }
+    return (List<T>) new ArrayList<>(Arrays.asList(entities));
+  }
+
+  /**
+   * Task of the conversion of the chunks, the chunks are split in halves until one chunk is left.
+   *
+   * @author Andrey_Yurzanov
+   * @since 1.0
+   */
+  private final class ConvertTask extends RecursiveAction {
+    private final List<Object[]> chunks;
+    private final int columnCount;
+    private final int count;
+    private final Object[] entities;
+    private final int from;
+    private final int to;
+
+    /**
+     * Constructs new instance of the task.
+     *
+     * @param chunks      the chunks of the raw values
+     * @param columnCount count of the columns of every row
+     * @param count       count of all the rows
+     * @param entities    the result of the conversion
+     * @param from        the first chunk of the task, inclusive
+     * @param to          the last chunk of the task, exclusive
+     */
+    ConvertTask(List<Object[]> chunks, int columnCount, int count, Object[] entities, int from, int to) {
+      this.chunks = chunks;
+      this.columnCount = columnCount;
+      this.count = count;
+      this.entities = entities;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > 1) {
+        int middle = (from + to) >>> 1;
+        invokeAll(
+            new ConvertTask(chunks, columnCount, count, entities, from, middle),
+            new ConvertTask(chunks, columnCount, count, entities, middle, to)
+        );
+        return;
+      }
+
+      Object[] chunk = chunks.get(from);
+      int first = from * chunkSize;
+      int size = Math.min(chunkSize, count - first);
+      try {
+        for (int row = 0; row < size; row++) {
+          entities[first + row] = mapper.convert(chunk, row * columnCount);
+        }
+      } catch (SQLException exception) {
+        throw new MappingException("Row can't be converted", exception);
+      }
+    }
+  }
+}
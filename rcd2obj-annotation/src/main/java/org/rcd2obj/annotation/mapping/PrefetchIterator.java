@@ -0,0 +1,483 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation.mapping;
+
+import java.lang.ref.WeakReference;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Iterator of the entities with prefetching of the rows. The rows are read from {@link ResultSet}
+ * by the separate task into the pages of the raw values, the pages are passed to the consumer
+ * through the bounded ring and the consumer converts them by {@link RowMapper}. So waiting for the
+ * next rows of the driver and converting of the previous rows are overlapped. The pages are reused,
+ * count and size of the pages limit the memory. The iterator must be closed before the result.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   try (
+ *     ResultSet result = statement.executeQuery(TestEntityStubMapper.SELECT_TEST_ENTITY);
+ *     PrefetchIterator<TestEntity> entities = new PrefetchIterator<>(new TestEntityStubMapper(), result)
+ *   ) {
+ *     while (entities.hasNext()) {
+ *       process(entities.next());
+ *     }
+ *   }
+ *   }
+ * </pre>
+ * The waiting threads are parked until the other side passes the page or the iterator is closed.
+ * The reading task holds the iterator by the weak reference, so the task is stopped when the
+ * iterator is abandoned without closing and is collected, the result is left open in this case.
+ *
+ * @param <T> type of the entities
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class PrefetchIterator<T> implements Iterator<T>, AutoCloseable {
+  /**
+   * Default count of the pages.
+   */
+  public static final int DEFAULT_PAGE_COUNT = 4;
+  /**
+   * Default count of the rows of the page.
+   */
+  public static final int DEFAULT_PAGE_SIZE = 256;
+
+  private static final long OWNER_CHECK_NANOS = TimeUnit.SECONDS.toNanos(1);
+  private static final Executor DEFAULT_EXECUTOR = command -> {
+    Thread thread = new Thread(command, "rcd2obj-prefetch");
+    thread.setDaemon(true);
+    thread.start();
+  };
+
+  private final RowMapper mapper;
+  private final Exchange exchange;
+  private final PageResultSet view;
+  private long consumerStall;
+  private Page current;
+  private int row;
+
+  /**
+   * Constructs new instance of the iterator with the default count and size of the pages.
+   *
+   * @param mapper    mapper of the entities
+   * @param resultSet the result of the select statement, it is read by the separate thread
+   * @throws SQLException when meta-information of the result can't be read
+   */
+  public PrefetchIterator(RowMapper mapper, ResultSet resultSet) throws SQLException {
+    this(mapper, resultSet, DEFAULT_PAGE_COUNT, DEFAULT_PAGE_SIZE);
+  }
+
+  /**
+   * Constructs new instance of the iterator, the rows are read by the new daemon thread.
+   *
+   * @param mapper    mapper of the entities
+   * @param resultSet the result of the select statement, it is read by the separate thread
+   * @param pageCount count of the pages, at least 2 pages are needed for overlapping
+   * @param pageSize  count of the rows of the page
+   * @throws SQLException             when meta-information of the result can't be read
+   * @throws IllegalArgumentException when count or size of the pages is not positive
+   */
+  public PrefetchIterator(RowMapper mapper, ResultSet resultSet, int pageCount, int pageSize) throws SQLException {
+    this(mapper, resultSet, pageCount, pageSize, DEFAULT_EXECUTOR);
+  }
+
+  /**
+   * Constructs new instance of the iterator, the reading of the rows is submitted to the executor.
+   *
+   * @param mapper    mapper of the entities
+   * @param resultSet the result of the select statement, it is read by the task of the executor
+   * @param pageCount count of the pages, at least 2 pages are needed for overlapping
+   * @param pageSize  count of the rows of the page
+   * @param executor  executor of the reading task, the task occupies the thread until the end of
+   *                  the result or closing of the iterator
+   * @throws SQLException             when meta-information of the result can't be read
+   * @throws IllegalArgumentException when count or size of the pages is not positive or the
+   *                                  executor is null
+   */
+  public PrefetchIterator(
+      RowMapper mapper,
+      ResultSet resultSet,
+      int pageCount,
+      int pageSize,
+      Executor executor
+  ) throws SQLException {
+    if (pageCount < 1 || pageSize < 1) {
+      throw new IllegalArgumentException("Count and size of the pages must be positive");
+    }
+
+    if (executor == null) {
+      throw new IllegalArgumentException("Executor has incorrect value: [null]");
+    }
+
+    int columnCount = resultSet.getMetaData().getColumnCount();
+    this.mapper = mapper;
+    this.view = new PageResultSet(columnCount);
+    this.exchange = new Exchange(pageCount);
+    for (int i = 0; i < pageCount; i++) {
+      exchange.free.offer(new Page(new Object[pageSize * columnCount]));
+    }
+    executor.execute(new Producer(this, exchange, resultSet, columnCount, pageSize));
+  }
+
+  /**
+   * Checks that the result has the next row, waits for the next page when it is needed.
+   *
+   * @return true when the result has the next row
+   * @throws MappingException when the result can't be read
+   */
+  @Override
+  public boolean hasNext() {
+    while (current == null || row >= current.size) {
+      if (current != null) {
+        if (current.last) {
+          return false;
+        }
+        exchange.free.offer(current);
+      }
+
+      long start = System.nanoTime();
+      current = (Page) exchange.filled.take(0);
+      consumerStall += System.nanoTime() - start;
+      row = 0;
+
+      if (current == null) {
+        current = Page.EMPTY;
+        return false;
+      }
+
+      if (current.failure != null) {
+        Throwable failure = current.failure;
+        current = Page.EMPTY;
+        throw new MappingException("Row can't be read", failure);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Converts the next row to the entity.
+   *
+   * @return the entity
+   * @throws NoSuchElementException when the result doesn't have the next row
+   * @throws MappingException       when the row can't be converted
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    try {
+      return (T) mapper.mapRow(view.moveTo(current.values, row++), 0);
+    } catch (SQLException exception) {
+      throw new MappingException("Row can't be converted", exception);
+    }
+  }
+
+  /**
+   * Returns time of waiting of the reading thread for the free pages, the consumer is slower
+   * than the database while the time grows.
+   *
+   * @return time of waiting in nanoseconds
+   */
+  public long getProducerStallTime() {
+    return exchange.producerStall;
+  }
+
+  /**
+   * Returns time of waiting of the consumer for the read pages, the database is slower than the
+   * consumer while the time grows.
+   *
+   * @return time of waiting in nanoseconds
+   */
+  public long getConsumerStallTime() {
+    return consumerStall;
+  }
+
+  /**
+   * Stops the reading of the rows and waits for the reading task, the result isn't used by the
+   * iterator after closing. The task which isn't started yet is cancelled.
+   */
+  @Override
+  public void close() {
+    exchange.close();
+  }
+
+  /**
+   * The task which reads the rows into the pages until the end of the result, closing of the
+   * iterator or collecting of the abandoned iterator.
+   *
+   * @author Andrey_Yurzanov
+   * @since 1.0
+   */
+  private static final class Producer implements Runnable {
+    private final WeakReference<PrefetchIterator<?>> owner;
+    private final Exchange exchange;
+    private final ResultSet resultSet;
+    private final int columnCount;
+    private final int pageSize;
+
+    /**
+     * Constructs new instance of the task.
+     *
+     * @param owner       the iterator
+     * @param exchange    the pages of the iterator
+     * @param resultSet   the result of the select statement
+     * @param columnCount count of the columns of the result
+     * @param pageSize    count of the rows of the page
+     */
+    Producer(PrefetchIterator<?> owner, Exchange exchange, ResultSet resultSet, int columnCount, int pageSize) {
+      this.owner = new WeakReference<>(owner);
+      this.exchange = exchange;
+      this.resultSet = resultSet;
+      this.columnCount = columnCount;
+      this.pageSize = pageSize;
+    }
+
+    @Override
+    public void run() {
+      if (!exchange.start()) {
+        return;
+      }
+
+      try {
+        produce();
+      } catch (Throwable exception) {
+        exchange.filled.offer(new Page(exception));
+      } finally {
+        exchange.finish();
+      }
+    }
+
+    // Reads the rows into the pages, waiting for the free page is stopped when the iterator is collected
+    private void produce() throws SQLException {
+      boolean last = false;
+      while (!last) {
+        long start = System.nanoTime();
+        Page page = (Page) exchange.free.take(OWNER_CHECK_NANOS);
+        exchange.producerStall += System.nanoTime() - start;
+        if (page == null) {
+          if (exchange.free.isClosed() || owner.get() == null) {
+            return;
+          }
+          continue;
+        }
+
+        page.size = PageResultSet.read(resultSet, page.values, columnCount, pageSize);
+        page.last = last = page.size < pageSize;
+        exchange.filled.offer(page);
+      }
+    }
+  }
+
+  /**
+   * The pages shared by the iterator and the reading task, the reading task doesn't hold the
+   * iterator.
+   *
+   * @author Andrey_Yurzanov
+   * @since 1.0
+   */
+  private static final class Exchange {
+    private static final int NEW = 0;
+    private static final int RUNNING = 1;
+    private static final int DONE = 2;
+
+    private final Ring free;
+    private final Ring filled;
+    private final AtomicInteger state = new AtomicInteger(NEW);
+    private final CountDownLatch finished = new CountDownLatch(1);
+    private volatile long producerStall;
+
+    /**
+     * Constructs new instance of the exchange.
+     *
+     * @param pageCount count of the pages
+     */
+    Exchange(int pageCount) {
+      this.free = new Ring(pageCount);
+      this.filled = new Ring(pageCount + 1);
+    }
+
+    /**
+     * Marks the reading task as started.
+     *
+     * @return false when the iterator is closed before the start
+     */
+    boolean start() {
+      return state.compareAndSet(NEW, RUNNING);
+    }
+
+    /**
+     * Marks the reading task as finished.
+     */
+    void finish() {
+      state.set(DONE);
+      finished.countDown();
+    }
+
+    /**
+     * Wakes up the waiting threads and waits for the started reading task.
+     */
+    void close() {
+      free.close();
+      filled.close();
+      if (!state.compareAndSet(NEW, DONE)) {
+        try {
+          finished.await();
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+  }
+
+  /**
+   * The page of the raw values of the rows.
+   *
+   * @author Andrey_Yurzanov
+   * @since 1.0
+   */
+  private static final class Page {
+    private static final Page EMPTY = new Page(new Object[0]);
+
+    private final Object[] values;
+    private final Throwable failure;
+    private int size;
+    private boolean last;
+
+    /**
+     * Constructs new instance of the page.
+     *
+     * @param values the values of the rows
+     */
+    Page(Object[] values) {
+      this.values = values;
+      this.failure = null;
+      this.last = true;
+    }
+
+    /**
+     * Constructs new instance of the page with the failure of reading.
+     *
+     * @param failure the failure of reading
+     */
+    Page(Throwable failure) {
+      this.values = new Object[0];
+      this.failure = failure;
+      this.last = true;
+    }
+  }
+
+  /**
+   * Bounded ring of the single producer and the single consumer. The waiting thread is parked until
+   * the element is added or the ring is closed, the adding thread unparks it.
+   *
+   * @author Andrey_Yurzanov
+   * @since 1.0
+   */
+  private static final class Ring {
+    private final Object[] elements;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private volatile Thread waiter;
+    private volatile boolean closed;
+
+    /**
+     * Constructs new instance of the ring.
+     *
+     * @param capacity minimal capacity of the ring
+     */
+    Ring(int capacity) {
+      int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+      this.elements = new Object[size];
+      this.mask = size - 1;
+    }
+
+    /**
+     * Adds the element and wakes up the waiting thread, the capacity is enough for all the pages.
+     *
+     * @param element the element
+     */
+    void offer(Object element) {
+      long index = tail.get();
+      elements[(int) index & mask] = element;
+      tail.set(index + 1);
+      LockSupport.unpark(waiter);
+    }
+
+    /**
+     * Takes the element, waits until the element is added, the ring is closed or the time is out.
+     *
+     * @param nanos maximal time of waiting, 0 to wait without the limit
+     * @return the element or null when the ring is closed or the time is out
+     */
+    Object take(long nanos) {
+      long index = head.get();
+      boolean timeout = false;
+      while (index == tail.get()) {
+        if (closed || timeout) {
+          return null;
+        }
+
+        waiter = Thread.currentThread();
+        if (index == tail.get() && !closed) {
+          if (nanos > 0) {
+            LockSupport.parkNanos(this, nanos);
+            timeout = true;
+          } else {
+            LockSupport.park(this);
+          }
+        }
+        waiter = null;
+      }
+
+      int position = (int) index & mask;
+      Object element = elements[position];
+      elements[position] = null;
+      head.lazySet(index + 1);
+      return element;
+    }
+
+    /**
+     * Checks that the ring is closed.
+     *
+     * @return true when the ring is closed
+     */
+    boolean isClosed() {
+      return closed;
+    }
+
+    /**
+     * Closes the ring and wakes up the waiting thread.
+     */
+    void close() {
+      closed = true;
+      LockSupport.unpark(waiter);
+    }
+  }
+}
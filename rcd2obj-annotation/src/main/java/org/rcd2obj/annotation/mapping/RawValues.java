@@ -0,0 +1,211 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation.mapping;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+
+/**
+ * Raw values of the columns, the values are read by {@link RowMapper#extract(ResultSet, int, Object[], int)}
+ * and converted by {@link RowMapper#convert(Object[], int)}. The large objects, XML and arrays are read into
+ * memory, because the driver can release them after moving to the next row. The getters convert the values
+ * as the getters of {@link ResultSet} with the same names do, NULL is converted to zero or false for the
+ * primitive types.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public final class RawValues {
+  private RawValues() {
+  }
+
+  /**
+   * Reads the raw value of the column of the current row.
+   *
+   * @param resultSet the result of the select statement
+   * @param column    position of the column, from 1
+   * @return the raw value
+   * @throws SQLException when the column can't be read
+   */
+  public static Object read(ResultSet resultSet, int column) throws SQLException {
+    return PageResultSet.readValue(resultSet, column);
+  }
+
+  /**
+   * Converts the raw value to boolean.
+   *
+   * @param value the raw value
+   * @return the converted value
+   * @throws SQLException when the value can't be converted
+   */
+  public static boolean getBoolean(Object value) throws SQLException {
+    return (Boolean) PageResultSet.convertPrimitive(value, boolean.class);
+  }
+
+  /**
+   * Converts the raw value to byte.
+   *
+   * @param value the raw value
+   * @return the converted value
+   * @throws SQLException when the value can't be converted
+   */
+  public static byte getByte(Object value) throws SQLException {
+    return PageResultSet.toNumberOrZero(value).byteValue();
+  }
+
+  /**
+   * Converts the raw value to short.
+   *
+   * @param value the raw value
+   * @return the converted value
+   * @throws SQLException when the value can't be converted
+   */
+  public static short getShort(Object value) throws SQLException {
+    return PageResultSet.toNumberOrZero(value).shortValue();
+  }
+
+  /**
+   * Converts the raw value to int.
+   *
+   * @param value the raw value
+   * @return the converted value
+   * @throws SQLException when the value can't be converted
+   */
+  public static int getInt(Object value) throws SQLException {
+    return PageResultSet.toNumberOrZero(value).intValue();
+  }
+
+  /**
+   * Converts the raw value to long.
+   *
+   * @param value the raw value
+   * @return the converted value
+   * @throws SQLException when the value can't be converted
+   */
+  public static long getLong(Object value) throws SQLException {
+    return PageResultSet.toNumberOrZero(value).longValue();
+  }
+
+  /**
+   * Converts the raw value to float.
+   *
+   * @param value the raw value
+   * @return the converted value
+   * @throws SQLException when the value can't be converted
+   */
+  public static float getFloat(Object value) throws SQLException {
+    return PageResultSet.toNumberOrZero(value).floatValue();
+  }
+
+  /**
+   * Converts the raw value to double.
+   *
+   * @param value the raw value
+   * @return the converted value
+   * @throws SQLException when the value can't be converted
+   */
+  public static double getDouble(Object value) throws SQLException {
+    return PageResultSet.toNumberOrZero(value).doubleValue();
+  }
+
+  /**
+   * Converts the raw value to {@link String}.
+   *
+   * @param value the raw value
+   * @return the converted value or null
+   * @throws SQLException when the value can't be converted
+   */
+  public static String getString(Object value) throws SQLException {
+    return (String) PageResultSet.convert(value, String.class);
+  }
+
+  /**
+   * Converts the raw value to {@link BigDecimal}.
+   *
+   * @param value the raw value
+   * @return the converted value or null
+   * @throws SQLException when the value can't be converted
+   */
+  public static BigDecimal getBigDecimal(Object value) throws SQLException {
+    return (BigDecimal) PageResultSet.convert(value, BigDecimal.class);
+  }
+
+  /**
+   * Converts the raw value to the array of bytes.
+   *
+   * @param value the raw value
+   * @return the converted value or null
+   * @throws SQLException when the value can't be converted
+   */
+  public static byte[] getBytes(Object value) throws SQLException {
+    return (byte[]) PageResultSet.convert(value, byte[].class);
+  }
+
+  /**
+   * Converts the raw value to {@link Date}.
+   *
+   * @param value the raw value
+   * @return the converted value or null
+   * @throws SQLException when the value can't be converted
+   */
+  public static Date getDate(Object value) throws SQLException {
+    return (Date) PageResultSet.convert(value, Date.class);
+  }
+
+  /**
+   * Converts the raw value to {@link Time}.
+   *
+   * @param value the raw value
+   * @return the converted value or null
+   * @throws SQLException when the value can't be converted
+   */
+  public static Time getTime(Object value) throws SQLException {
+    return (Time) PageResultSet.convert(value, Time.class);
+  }
+
+  /**
+   * Converts the raw value to {@link Timestamp}.
+   *
+   * @param value the raw value
+   * @return the converted value or null
+   * @throws SQLException when the value can't be converted
+   */
+  public static Timestamp getTimestamp(Object value) throws SQLException {
+    return (Timestamp) PageResultSet.convert(value, Timestamp.class);
+  }
+
+  /**
+   * Converts the raw value to the type.
+   *
+   * @param <T>   the type
+   * @param value the raw value
+   * @param type  the type, the primitive types are converted to their wrappers
+   * @return the converted value or null
+   * @throws SQLException when the value can't be converted
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> T getObject(Object value, Class<T> type) throws SQLException {
+    if (type.isPrimitive()) {
+      return (T) PageResultSet.convertPrimitive(value, type);
+    }
+    return (T) PageResultSet.convert(value, type);
+  }
+}
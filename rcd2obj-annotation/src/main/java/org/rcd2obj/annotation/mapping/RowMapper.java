@@ -0,0 +1,125 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation.mapping;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Mapper of the rows of {@link ResultSet}. The columns are read by positions in order of the
+ * select statement, see {@link RowMapper#getSelectQuery()}, the names of the columns are not
+ * resolved.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public interface RowMapper extends Mapper {
+  /**
+   * Returns the select statement, the columns of the statement are placed in order of reading.
+   *
+   * @return the select statement
+   */
+  String getSelectQuery();
+
+  /**
+   * Returns the columns of the select statement qualified by name of the table, for example:
+   * {@code test_entity.id, test_entity.name}. The projection can be used to build the joins.
+   *
+   * @return the columns of the select statement
+   */
+  String getProjection();
+
+  /**
+   * Returns count of the read columns.
+   *
+   * @return count of the read columns
+   */
+  int getColumnCount();
+
+  /**
+   * Returns position of the identifier's column in the projection, the identifier is the only
+   * integral column marked by {@link org.rcd2obj.annotation.Id}. The positions start from 1.
+   *
+   * @return position of the identifier's column or 0 when the entity doesn't have it
+   */
+  int getIdColumn();
+
+  /**
+   * Converts the current row of {@link ResultSet}.
+   *
+   * @param <S>    source type, must be {@link ResultSet}
+   * @param <R>    result type
+   * @param source the result of the select statement
+   * @return result of conversion
+   * @throws MappingException when the row can't be read
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  default <S, R> R map(S source) {
+    try {
+      return (R) mapRow((ResultSet) source, 0);
+    } catch (SQLException exception) {
+      throw new MappingException("Row can't be read", exception);
+    }
+  }
+
+  /**
+   * Converts the current row of {@link ResultSet}, the columns are read starting after the offset.
+   * The result isn't typed, so the implementations override the method without the unchecked
+   * conversion.
+   *
+   * @param resultSet the result of the select statement
+   * @param offset    count of the columns before the first read column
+   * @return result of conversion
+   * @throws SQLException when the column can't be read
+   */
+  Object mapRow(ResultSet resultSet, int offset) throws SQLException;
+
+  /**
+   * Extracts the columns of the current row into the buffer as the raw values, it is the first step
+   * of the mapping split into two steps, see {@link RowMapper#convert(Object[], int)}. The columns
+   * are copied without the conversion, so the extraction is cheap and the result can be moved to the
+   * next row while the extracted rows are converted. The generated mappers override both steps.
+   *
+   * @param resultSet the result of the select statement
+   * @param offset    count of the columns before the first read column
+   * @param buffer    the raw values, {@link RowMapper#getColumnCount()} values are written
+   * @param position  index of the first written value in the buffer
+   * @throws SQLException when the column can't be read
+   */
+  default void extract(ResultSet resultSet, int offset, Object[] buffer, int position) throws SQLException {
+    int columnCount = getColumnCount();
+    for (int column = 1; column <= columnCount; column++) {
+      buffer[position + column - 1] = RawValues.read(resultSet, offset + column);
+    }
+  }
+
+  /**
+   * Converts the row extracted by {@link RowMapper#extract(ResultSet, int, Object[], int)}, it is the
+   * second step of the mapping. The step doesn't use {@link ResultSet}, so the rows can be converted
+   * by several threads. The values are converted as {@link RowMapper#mapRow(ResultSet, int)} converts
+   * the columns, see {@link RawValues}.
+   *
+   * @param buffer   the raw values
+   * @param position index of the first value of the row in the buffer
+   * @return result of conversion
+   * @throws SQLException when the value can't be converted
+   */
+  default Object convert(Object[] buffer, int position) throws SQLException {
+    return mapRow(new PageResultSet(getColumnCount()).moveAt(buffer, position), 0);
+  }
+}
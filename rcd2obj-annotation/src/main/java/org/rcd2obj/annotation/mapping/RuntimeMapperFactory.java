@@ -0,0 +1,297 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation.mapping;
+
+import org.rcd2obj.annotation.mapping.RuntimeRowMapper.ColumnReader;
+import org.rcd2obj.annotation.meta.ColumnMetaInfo;
+import org.rcd2obj.annotation.meta.ColumnType;
+import org.rcd2obj.annotation.meta.MetaInfoContext;
+import org.rcd2obj.annotation.meta.QueryBuilder;
+import org.rcd2obj.annotation.meta.TableMetaInfo;
+import org.rcd2obj.annotation.meta.alias.TableNameAlias;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Factory of {@link RowMapper} for the entities which are not processed by the code generator, for
+ * example, the entities of the third-party libraries. The mapper reads the columns in the same
+ * order as the generated one, the entity is created and filled by the accessors built by
+ * {@link LambdaMetafactory}, so the columns are assigned without reflection. When the accessors
+ * can't be built, for example, the entity is not visible from the class loader of the factory,
+ * the accessors are bound {@link MethodHandle}s. The mappers are cached per class.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   RuntimeMapperFactory factory = new RuntimeMapperFactory();
+ *   RowMapper mapper = factory.get(TestEntity.class);
+ *   TestEntity entity = mapper.map(resultSet);
+ *   }
+ * </pre>
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class RuntimeMapperFactory {
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final MethodType SUPPLIER = MethodType.methodType(Supplier.class);
+  private static final MethodType SUPPLIER_GET = MethodType.methodType(Object.class);
+
+  private final TableMetaInfo.Factory metaFactory = new TableMetaInfo.Factory(new MetaInfoContext());
+  private final ClassValue<RowMapper> mappers = new ClassValue<RowMapper>() {
+    @Override
+    protected RowMapper computeValue(Class<?> type) {
+      TableMetaInfo info = metaFactory
+          .build(type)
+          .orElseThrow(() -> new IllegalArgumentException("Type is not a table: " + type.getName()));
+      return create(info);
+    }
+  };
+
+  /**
+   * Returns the mapper of the annotated entity, the mapper is created once per class.
+   *
+   * @param type the annotated entity
+   * @return the mapper of the entity
+   * @throws IllegalArgumentException when the entity is not annotated or can't be mapped
+   */
+  public RowMapper get(Class<?> type) {
+    return mappers.get(type);
+  }
+
+  /**
+   * Creates the mapper of the entity. The entity must have the public default constructor and the
+   * public setters of the columns, the subclasses are not supported.
+   *
+   * @param info information about annotated entity
+   * @return the mapper of the entity
+   * @throws IllegalArgumentException when the entity can't be mapped
+   */
+  public RowMapper create(TableMetaInfo info) {
+    if (!info.getSubtypes().isEmpty()) {
+      throw new IllegalArgumentException("Subtypes are not supported: " + info.getType().getName());
+    }
+
+    QueryBuilder builder = new QueryBuilder(info);
+    List<ColumnMetaInfo> columns = builder.getSelectColumns();
+    ColumnReader[] readers = new ColumnReader[columns.size()];
+    for (int i = 0; i < readers.length; i++) {
+      readers[i] = createReader(columns.get(i));
+    }
+
+    TableNameAlias alias = info
+        .getAliases()
+        .iterator()
+        .next();
+    return new RuntimeRowMapper(
+        builder.buildSelect(alias),
+        builder.buildProjection(alias),
+        builder.getSelectColumnCount(),
+        builder.getIdColumn(),
+        builder.getSelectOffset(),
+        createConstructor(info.getType()),
+        readers
+    );
+  }
+
+  // Creates accessor of the default constructor
+  @SuppressWarnings("unchecked")
+  private static Supplier<Object> createConstructor(Class<?> type) {
+    int modifiers = type.getModifiers();
+    if (!Modifier.isPublic(modifiers) || Modifier.isAbstract(modifiers)) {
+      throw new IllegalArgumentException("Type can't be created: " + type.getName());
+    }
+
+    MethodHandle constructor;
+    try {
+      constructor = LOOKUP.findConstructor(type, MethodType.methodType(void.class));
+    } catch (ReflectiveOperationException exception) {
+      throw new IllegalArgumentException("Type doesn't have public default constructor: " + type.getName(), exception);
+    }
+
+    if (isVisible(type)) {
+      try {
+        CallSite site = LambdaMetafactory.metafactory(
+            LOOKUP,
+            "get",
+            SUPPLIER,
+            SUPPLIER_GET,
+            constructor,
+            MethodType.methodType(type)
+        );
+        return (Supplier<Object>) site.getTarget().invoke();
+      } catch (Throwable exception) {
+        // the bound handle is used below
+      }
+    }
+
+    MethodHandle generic = constructor.asType(SUPPLIER_GET);
+    return () -> {
+      try {
+        return generic.invokeExact();
+      } catch (Throwable exception) {
+        throw rethrow(exception);
+      }
+    };
+  }
+
+  // Creates reader of the column, the primitive values are not boxed for long, int and double
+  @SuppressWarnings("unchecked")
+  private static ColumnReader createReader(ColumnMetaInfo column) {
+    Method setter = column
+        .getSetter()
+        .orElseThrow(() -> new IllegalArgumentException("Column doesn't have setter: " + column.getField()));
+    ColumnType type = column.getType();
+    Class<?> valueType = column.getField().getType();
+
+    MethodHandle handle;
+    try {
+      handle = LOOKUP.unreflect(setter);
+    } catch (IllegalAccessException exception) {
+      throw new IllegalArgumentException("Setter is not accessible: " + setter, exception);
+    }
+
+    switch (type) {
+      case LONG: {
+        ObjLongConsumer<Object> consumer = createSetter(ObjLongConsumer.class, handle, long.class);
+        return (entity, resultSet, index) -> consumer.accept(entity, resultSet.getLong(index));
+      }
+      case INT: {
+        ObjIntConsumer<Object> consumer = createSetter(ObjIntConsumer.class, handle, int.class);
+        return (entity, resultSet, index) -> consumer.accept(entity, resultSet.getInt(index));
+      }
+      case DOUBLE: {
+        ObjDoubleConsumer<Object> consumer = createSetter(ObjDoubleConsumer.class, handle, double.class);
+        return (entity, resultSet, index) -> consumer.accept(entity, resultSet.getDouble(index));
+      }
+      default: {
+        BiConsumer<Object, Object> consumer = createSetter(BiConsumer.class, handle, Object.class);
+        switch (type) {
+          case BOOLEAN:
+            return (entity, resultSet, index) -> consumer.accept(entity, resultSet.getBoolean(index));
+          case BYTE:
+            return (entity, resultSet, index) -> consumer.accept(entity, resultSet.getByte(index));
+          case SHORT:
+            return (entity, resultSet, index) -> consumer.accept(entity, resultSet.getShort(index));
+          case FLOAT:
+            return (entity, resultSet, index) -> consumer.accept(entity, resultSet.getFloat(index));
+          case STRING:
+            return (entity, resultSet, index) -> consumer.accept(entity, resultSet.getString(index));
+          case BIG_DECIMAL:
+            return (entity, resultSet, index) -> consumer.accept(entity, resultSet.getBigDecimal(index));
+          case BYTES:
+            return (entity, resultSet, index) -> consumer.accept(entity, resultSet.getBytes(index));
+          case DATE:
+            return (entity, resultSet, index) -> consumer.accept(entity, resultSet.getDate(index));
+          case TIME:
+            return (entity, resultSet, index) -> consumer.accept(entity, resultSet.getTime(index));
+          case TIMESTAMP:
+            return (entity, resultSet, index) -> consumer.accept(entity, resultSet.getTimestamp(index));
+          default:
+            return (entity, resultSet, index) -> consumer.accept(entity, resultSet.getObject(index, valueType));
+        }
+      }
+    }
+  }
+
+  // Creates the functional setter, the value's type is the primitive type or Object for the boxed values
+  @SuppressWarnings("unchecked")
+  private static <T> T createSetter(Class<?> functional, MethodHandle setter, Class<?> valueType) {
+    MethodType erased = MethodType.methodType(void.class, Object.class, valueType);
+    Class<?> owner = setter.type().parameterType(0);
+    if (isVisible(owner)) {
+      try {
+        MethodType instantiated = setter.type();
+        if (!valueType.isPrimitive()) {
+          instantiated = instantiated.wrap().changeParameterType(0, owner).changeReturnType(void.class);
+        }
+        CallSite site = LambdaMetafactory.metafactory(
+            LOOKUP,
+            "accept",
+            MethodType.methodType(functional),
+            erased,
+            setter,
+            instantiated
+        );
+        return (T) site.getTarget().invoke();
+      } catch (Throwable exception) {
+        // the bound handle is used below
+      }
+    }
+    return (T) bindSetter(functional, setter.asType(erased));
+  }
+
+  // Creates the functional setter which invokes the handle
+  private static Object bindSetter(Class<?> functional, MethodHandle setter) {
+    if (functional == ObjLongConsumer.class) {
+      return (ObjLongConsumer<Object>) (entity, value) -> invoke(() -> setter.invokeExact(entity, value));
+    }
+    if (functional == ObjIntConsumer.class) {
+      return (ObjIntConsumer<Object>) (entity, value) -> invoke(() -> setter.invokeExact(entity, value));
+    }
+    if (functional == ObjDoubleConsumer.class) {
+      return (ObjDoubleConsumer<Object>) (entity, value) -> invoke(() -> setter.invokeExact(entity, value));
+    }
+    return (BiConsumer<Object, Object>) (entity, value) -> invoke(() -> setter.invokeExact(entity, value));
+  }
+
+  // Invokes the handle, the checked exceptions are wrapped
+  private static void invoke(Invocation invocation) {
+    try {
+      invocation.invoke();
+    } catch (Throwable exception) {
+      throw rethrow(exception);
+    }
+  }
+
+  // Returns the unchecked exception to throw
+  private static RuntimeException rethrow(Throwable exception) {
+    if (exception instanceof RuntimeException) {
+      return (RuntimeException) exception;
+    }
+    if (exception instanceof Error) {
+      throw (Error) exception;
+    }
+    return new MappingException("Column can't be assigned", exception);
+  }
+
+  // Checks that the type is resolved by the class loader of the factory, the generated accessors refer to it
+  private static boolean isVisible(Class<?> type) {
+    try {
+      return Class.forName(type.getName(), false, RuntimeMapperFactory.class.getClassLoader()) == type;
+    } catch (ClassNotFoundException exception) {
+      return false;
+    }
+  }
+
+  // Invocation of the handle
+  @FunctionalInterface
+  private interface Invocation {
+    void invoke() throws Throwable;
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation.mapping;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of {@link RowMapper} created at runtime by {@link RuntimeMapperFactory}. The entity
+ * is created by the constructor's accessor and the columns are read by the typed readers in order
+ * of the select statement.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+class RuntimeRowMapper implements RowMapper {
+  private final String selectQuery;
+  private final String projection;
+  private final int columnCount;
+  private final int idColumn;
+  private final int firstColumn;
+  private final Supplier<Object> constructor;
+  private final ColumnReader[] readers;
+
+  /**
+   * Constructs new instance of the mapper.
+   *
+   * @param selectQuery the select statement
+   * @param projection  the columns of the select statement
+   * @param columnCount count of the columns of the select statement
+   * @param idColumn    position of the identifier's column or 0
+   * @param firstColumn count of the columns before the columns of the entity
+   * @param constructor creates the entity
+   * @param readers     readers of the entity's columns
+   */
+  RuntimeRowMapper(
+      String selectQuery,
+      String projection,
+      int columnCount,
+      int idColumn,
+      int firstColumn,
+      Supplier<Object> constructor,
+      ColumnReader[] readers
+  ) {
+    this.selectQuery = selectQuery;
+    this.projection = projection;
+    this.columnCount = columnCount;
+    this.idColumn = idColumn;
+    this.firstColumn = firstColumn;
+    this.constructor = constructor;
+    this.readers = readers;
+  }
+
+  @Override
+  public String getSelectQuery() {
+    return selectQuery;
+  }
+
+  @Override
+  public String getProjection() {
+    return projection;
+  }
+
+  @Override
+  public int getColumnCount() {
+    return columnCount;
+  }
+
+  @Override
+  public int getIdColumn() {
+    return idColumn;
+  }
+
+  @Override
+  public Object mapRow(ResultSet resultSet, int offset) throws SQLException {
+    Object entity = constructor.get();
+    int index = offset + firstColumn;
+    for (ColumnReader reader : readers) {
+      reader.read(entity, resultSet, ++index);
+    }
+    return entity;
+  }
+
+  /**
+   * Reader of the column, it reads the value by the typed getter of {@link ResultSet} and
+   * assigns it to the entity.
+   *
+   * @author Andrey_Yurzanov
+   * @since 1.0
+   */
+  @FunctionalInterface
+  interface ColumnReader {
+    /**
+     * Reads the column and assigns its value to the entity.
+     *
+     * @param entity    the entity
+     * @param resultSet the result of the select statement
+     * @param index     position of the column
+     * @throws SQLException when the column can't be read
+     */
+    void read(Object entity, ResultSet resultSet, int index) throws SQLException;
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation.mapping;
+
+import java.util.Objects;
+
+/**
+ * The saved state of the tracked entity's columns. The primitive columns are kept in the array of
+ * the longs without boxing, the floating-point values are kept by their bits. The other columns are
+ * kept in the array of the references. The slots of the columns are assigned by the generated
+ * {@link Tracker}, the primitive and the reference columns are numbered separately. The references
+ * are kept as is, so the changes inside the mutable values, like the arrays, are not found.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   Snapshot snapshot = new Snapshot(1, 1);
+ *   snapshot.set(0, entity.getAge());
+ *   snapshot.set(0, entity.getName());
+ *   boolean changed = snapshot.isChanged(0, entity.getAge());
+ *   }
+ * </pre>
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public final class Snapshot {
+  private final long[] values;
+  private final Object[] references;
+
+  /**
+   * Constructs new instance of the snapshot.
+   *
+   * @param values     count of the primitive columns
+   * @param references count of the other columns
+   */
+  public Snapshot(int values, int references) {
+    this.values = new long[values];
+    this.references = new Object[references];
+  }
+
+  /**
+   * Saves value of the integral or the character column.
+   *
+   * @param slot  slot of the primitive column
+   * @param value value of the column
+   */
+  public void set(int slot, long value) {
+    values[slot] = value;
+  }
+
+  /**
+   * Saves value of the floating-point column.
+   *
+   * @param slot  slot of the primitive column
+   * @param value value of the column
+   */
+  public void set(int slot, double value) {
+    values[slot] = Double.doubleToLongBits(value);
+  }
+
+  /**
+   * Saves value of the boolean column.
+   *
+   * @param slot  slot of the primitive column
+   * @param value value of the column
+   */
+  public void set(int slot, boolean value) {
+    values[slot] = value ? 1 : 0;
+  }
+
+  /**
+   * Saves value of the reference column.
+   *
+   * @param slot  slot of the reference column
+   * @param value value of the column
+   */
+  public void set(int slot, Object value) {
+    references[slot] = value;
+  }
+
+  /**
+   * Checks that value of the integral or the character column is changed.
+   *
+   * @param slot  slot of the primitive column
+   * @param value current value of the column
+   * @return true when the value is changed
+   */
+  public boolean isChanged(int slot, long value) {
+    return values[slot] != value;
+  }
+
+  /**
+   * Checks that value of the floating-point column is changed.
+   *
+   * @param slot  slot of the primitive column
+   * @param value current value of the column
+   * @return true when the value is changed
+   */
+  public boolean isChanged(int slot, double value) {
+    return values[slot] != Double.doubleToLongBits(value);
+  }
+
+  /**
+   * Checks that value of the boolean column is changed.
+   *
+   * @param slot  slot of the primitive column
+   * @param value current value of the column
+   * @return true when the value is changed
+   */
+  public boolean isChanged(int slot, boolean value) {
+    return values[slot] != (value ? 1 : 0);
+  }
+
+  /**
+   * Checks that value of the reference column is changed, the arrays are compared by the content.
+   *
+   * @param slot  slot of the reference column
+   * @param value current value of the column
+   * @return true when the value is changed
+   */
+  public boolean isChanged(int slot, Object value) {
+    return !Objects.deepEquals(references[slot], value);
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation.mapping;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.BitSet;
+
+/**
+ * Common abstraction for tracking changes of an object. The columns are identified by the positions
+ * in order of {@link org.rcd2obj.annotation.meta.TableMetaInfo#getColumns()}. The state of the
+ * columns is saved to {@link Snapshot}, the identifiers are not saved and are never changed.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ * @see ChangeTracker
+ */
+public interface Tracker {
+  /**
+   * Saves values of the columns.
+   *
+   * @param <S>    source type
+   * @param source source of the values
+   * @return the saved values
+   */
+  <S> Snapshot snapshot(S source);
+
+  /**
+   * Returns the changed columns of the source.
+   *
+   * @param <S>      source type
+   * @param snapshot the saved values
+   * @param source   source of the current values
+   * @return positions of the changed columns
+   */
+  <S> BitSet getDirty(Snapshot snapshot, S source);
+
+  /**
+   * Sets parameter of the statement by value of the column.
+   *
+   * @param <S>       source type
+   * @param statement the statement
+   * @param index     index of the statement's parameter
+   * @param column    position of the column
+   * @param source    source of the value
+   * @throws SQLException when the parameter can't be set
+   */
+  <S> void bindColumn(PreparedStatement statement, int index, int column, S source) throws SQLException;
+}
@@ -0,0 +1,165 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation.mapping;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Mapper which saves the state of every mapped entity, the snapshot is taken by {@link
+ * ChangeTracker} in {@link TrackingMapper#mapRow(ResultSet, int)} right after the entity is
+ * created. Later only the changed columns of the entity are written, and the snapshot is refreshed
+ * after the successful update.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   TrackingMapper mapper = new TrackingMapper(new TestEntityStubMapper(), tracker);
+ *   TestEntity entity = mapper.map(resultSet);
+ *   entity.setAge(age);
+ *   mapper.update(connection, entity); // UPDATE test_entity SET age = ? WHERE id = ?
+ *   }
+ * </pre>
+ * The snapshots are kept by identity of the entities until they are released by {@link
+ * TrackingMapper#release(Object)} or {@link TrackingMapper#clear()}, so the mapper is used as the
+ * unit of work. The mapper isn't thread-safe.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class TrackingMapper implements RowMapper {
+  private final RowMapper mapper;
+  private final ChangeTracker tracker;
+  private final Map<Object, Snapshot> snapshots;
+
+  /**
+   * Constructs new instance of {@link TrackingMapper}.
+   *
+   * @param mapper  mapper of the entities
+   * @param tracker tracker of the entities
+   */
+  public TrackingMapper(RowMapper mapper, ChangeTracker tracker) {
+    if (mapper == null) {
+      throw new IllegalArgumentException("Mapper has incorrect value: [null]");
+    }
+
+    if (tracker == null) {
+      throw new IllegalArgumentException("Tracker has incorrect value: [null]");
+    }
+
+    this.mapper = mapper;
+    this.tracker = tracker;
+    this.snapshots = new IdentityHashMap<>();
+  }
+
+  @Override
+  public String getSelectQuery() {
+    return mapper.getSelectQuery();
+  }
+
+  @Override
+  public String getProjection() {
+    return mapper.getProjection();
+  }
+
+  @Override
+  public int getColumnCount() {
+    return mapper.getColumnCount();
+  }
+
+  @Override
+  public int getIdColumn() {
+    return mapper.getIdColumn();
+  }
+
+  @Override
+  public Object mapRow(ResultSet resultSet, int offset) throws SQLException {
+    Object entity = mapper.mapRow(resultSet, offset);
+    snapshots.put(entity, tracker.snapshot(entity));
+    return entity;
+  }
+
+  /**
+   * Checks that the state of the entity is saved.
+   *
+   * @param <S>    source type
+   * @param source the entity
+   * @return true when the entity is mapped by this mapper and isn't released
+   */
+  public <S> boolean isTracked(S source) {
+    return snapshots.containsKey(source);
+  }
+
+  /**
+   * Returns the changed columns of the entity.
+   *
+   * @param <S>    source type
+   * @param source the mapped entity
+   * @return positions of the changed columns
+   * @throws IllegalArgumentException when the entity isn't tracked
+   */
+  public <S> BitSet getDirty(S source) {
+    return tracker.getDirty(getSnapshot(source), source);
+  }
+
+  /**
+   * Writes the changed columns of the entity and saves its new state.
+   *
+   * @param <S>        source type
+   * @param connection connection to the database
+   * @param source     the mapped entity
+   * @return count of the updated rows, 0 when nothing is changed
+   * @throws SQLException             when the entity can't be updated
+   * @throws IllegalArgumentException when the entity isn't tracked
+   */
+  public <S> int update(Connection connection, S source) throws SQLException {
+    int count = tracker.update(connection, getSnapshot(source), source);
+    if (count > 0) {
+      snapshots.put(source, tracker.snapshot(source));
+    }
+    return count;
+  }
+
+  /**
+   * Releases the saved state of the entity.
+   *
+   * @param <S>    source type
+   * @param source the entity
+   */
+  public <S> void release(S source) {
+    snapshots.remove(source);
+  }
+
+  /**
+   * Releases the saved states of all the entities.
+   */
+  public void clear() {
+    snapshots.clear();
+  }
+
+  // Returns the saved state of the entity
+  private Snapshot getSnapshot(Object source) {
+    Snapshot snapshot = snapshots.get(source);
+    if (snapshot == null) {
+      throw new IllegalArgumentException("Entity isn't tracked: " + source);
+    }
+    return snapshot;
+  }
+}
@@ -0,0 +1,284 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation.mapping;
+
+import java.lang.ref.WeakReference;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mapper of the joined rows. One row of {@link ResultSet} is converted to several entities in one
+ * pass, every entity is read by its {@link RowMapper} starting from the position of its columns.
+ * The positions are resolved by prefixes of the projections, see {@link RowMapper#getProjection()},
+ * and are kept while the layout of the columns stays the same, so the repeated queries with the same
+ * projection only compare the names of the columns. The result of conversion is an array of the entities in order
+ * of the mappers.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   TupleMapper mapper = new TupleMapper(new UserStubMapper(), new GroupStubMapper());
+ *   ResultSet result = statement.executeQuery(
+ *     "SELECT " + mapper.getProjection() + " FROM user JOIN group ON user.group_id = group.id"
+ *   );
+ *   List<Object[]> rows = mapper.mapAll(result);
+ *   }
+ * </pre>
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class TupleMapper implements Mapper {
+  private static final String SEPARATOR = ", ";
+  private static final char PREFIX_SEPARATOR = '.';
+
+  private final RowMapper[] mappers;
+  private volatile Layout layout;
+
+  /**
+   * Constructs new instance of the mapper.
+   *
+   * @param mappers mappers of the entities, in order of the columns
+   * @throws IllegalArgumentException when the mappers are not given
+   */
+  public TupleMapper(RowMapper... mappers) {
+    if (mappers == null || mappers.length == 0) {
+      throw new IllegalArgumentException("Mappers are not given");
+    }
+    this.mappers = mappers.clone();
+  }
+
+  /**
+   * Returns the columns of all the entities in order of the mappers.
+   *
+   * @return the columns of all the entities
+   */
+  public String getProjection() {
+    StringBuilder projection = new StringBuilder();
+    for (RowMapper mapper : mappers) {
+      if (projection.length() > 0) {
+        projection.append(SEPARATOR);
+      }
+      projection.append(mapper.getProjection());
+    }
+    return projection.toString();
+  }
+
+  /**
+   * Returns count of the columns of all the entities.
+   *
+   * @return count of the columns
+   */
+  public int getColumnCount() {
+    int count = 0;
+    for (RowMapper mapper : mappers) {
+      count += mapper.getColumnCount();
+    }
+    return count;
+  }
+
+  /**
+   * Resolves the positions of the entities. The columns of every entity are searched by prefix
+   * of its projection after the columns of the previous entity. When the driver doesn't provide
+   * names of the tables, the entities are expected to follow one by one as in
+   * {@link TupleMapper#getProjection()}. The positions of the previous result are reused when its
+   * columns are the same.
+   *
+   * @param resultSet the result of the select statement
+   * @return count of the columns before every entity
+   * @throws SQLException     when meta-information of the result can't be read
+   * @throws MappingException when the driver provides names of the tables and the first column of
+   *                          the entity isn't found
+   */
+  public int[] resolve(ResultSet resultSet) throws SQLException {
+    return getLayout(resultSet).offsets.clone();
+  }
+
+  /**
+   * Converts the current row of {@link ResultSet} to the entities.
+   *
+   * @param resultSet the result of the select statement
+   * @param offsets   the positions of the entities, see {@link TupleMapper#resolve(ResultSet)}
+   * @return the entities in order of the mappers
+   * @throws SQLException when the column can't be read
+   */
+  public Object[] mapRow(ResultSet resultSet, int[] offsets) throws SQLException {
+    Object[] tuple = new Object[mappers.length];
+    for (int i = 0; i < mappers.length; i++) {
+      tuple[i] = mappers[i].mapRow(resultSet, offsets[i]);
+    }
+    return tuple;
+  }
+
+  /**
+   * Converts all the remaining rows of {@link ResultSet}, the positions are resolved once.
+   *
+   * @param resultSet the result of the select statement
+   * @return the entities of every row
+   * @throws SQLException when the result can't be read
+   */
+  public List<Object[]> mapAll(ResultSet resultSet) throws SQLException {
+    int[] offsets = getLayout(resultSet).offsets;
+
+    List<Object[]> rows = new ArrayList<>();
+    while (resultSet.next()) {
+      rows.add(mapRow(resultSet, offsets));
+    }
+    return rows;
+  }
+
+  /**
+   * Converts the current row of {@link ResultSet} to the entities, the layout of the columns is
+   * checked for every call. Use {@link TupleMapper#mapAll(ResultSet)} or
+   * {@link TupleMapper#mapRow(ResultSet, int[])} for several rows.
+   *
+   * @param <S>    source type, must be {@link ResultSet}
+   * @param <R>    result type, the array of the entities
+   * @param source the result of the select statement
+   * @return the entities in order of the mappers
+   * @throws MappingException when the row can't be read
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <S, R> R map(S source) {
+    try {
+      ResultSet resultSet = (ResultSet) source;
+      return (R) mapRow(resultSet, getLayout(resultSet).offsets);
+    } catch (SQLException exception) {
+      throw new MappingException("Row can't be read", exception);
+    }
+  }
+
+  // Returns the layout of the result, the previous layout is kept while the columns are the same
+  private Layout getLayout(ResultSet resultSet) throws SQLException {
+    Layout current = layout;
+    if (current == null || !current.matches(resultSet)) {
+      current = new Layout(resultSet, mappers);
+      layout = current;
+    }
+    return current;
+  }
+
+  // Returns name of the table and name of the first column of the projection
+  private static String[] getFirstColumn(RowMapper mapper) {
+    String projection = mapper.getProjection();
+    int end = projection.indexOf(SEPARATOR.charAt(0));
+    String column = (end < 0 ? projection : projection.substring(0, end)).trim();
+
+    int separator = column.lastIndexOf(PREFIX_SEPARATOR);
+    String table = separator < 0 ? "" : column.substring(0, separator);
+    return new String[] {
+      table.substring(table.lastIndexOf(PREFIX_SEPARATOR) + 1),
+      column.substring(separator + 1)
+    };
+  }
+
+  /**
+   * Layout of the columns of the result and the positions of the entities.
+   *
+   * @author Andrey_Yurzanov
+   * @since 1.0
+   */
+  private static final class Layout {
+    private final WeakReference<ResultSet> source;
+    private final String[] tables;
+    private final String[] columns;
+    private final int[] offsets;
+
+    /**
+     * Constructs new instance of the layout, the positions of the entities are resolved.
+     *
+     * @param resultSet the result of the select statement
+     * @param mappers   mappers of the entities
+     * @throws SQLException when meta-information of the result can't be read
+     */
+    Layout(ResultSet resultSet, RowMapper[] mappers) throws SQLException {
+      ResultSetMetaData metaData = resultSet.getMetaData();
+      int count = metaData.getColumnCount();
+
+      source = new WeakReference<>(resultSet);
+      tables = new String[count];
+      columns = new String[count];
+      for (int column = 1; column <= count; column++) {
+        tables[column - 1] = getName(metaData.getTableName(column));
+        columns[column - 1] = getName(metaData.getColumnName(column));
+      }
+
+      boolean named = false;
+      for (String table : tables) {
+        named |= !table.isEmpty();
+      }
+
+      offsets = new int[mappers.length];
+      int offset = 0;
+      for (int i = 0; i < mappers.length; i++) {
+        String[] first = getFirstColumn(mappers[i]);
+        int found = -1;
+        for (int column = offset; column < count && found < 0; column++) {
+          if (first[0].equalsIgnoreCase(tables[column]) && first[1].equalsIgnoreCase(columns[column])) {
+            found = column;
+          }
+        }
+
+        // without names of the tables the entities are expected to follow one by one
+        if (found >= 0) {
+          offset = found;
+        } else if (named && !first[0].isEmpty()) {
+          throw new MappingException(
+              String.join("", "Column [", first[0], ".", first[1], "] isn't found in the result")
+          );
+        }
+        offsets[i] = offset;
+        offset += mappers[i].getColumnCount();
+      }
+    }
+
+    /**
+     * Checks that the result has the same columns, the same result is checked once.
+     *
+     * @param resultSet the result of the select statement
+     * @return true when the columns are the same
+     * @throws SQLException when meta-information of the result can't be read
+     */
+    boolean matches(ResultSet resultSet) throws SQLException {
+      if (source.get() == resultSet) {
+        return true;
+      }
+
+      ResultSetMetaData metaData = resultSet.getMetaData();
+      if (metaData.getColumnCount() != columns.length) {
+        return false;
+      }
+      for (int column = 1; column <= columns.length; column++) {
+        if (
+          !columns[column - 1].equalsIgnoreCase(getName(metaData.getColumnName(column)))
+            || !tables[column - 1].equalsIgnoreCase(getName(metaData.getTableName(column)))
+        ) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    // Returns the name or empty string, when the driver doesn't provide the name
+    private static String getName(String name) {
+      return name == null ? "" : name;
+    }
+  }
+}
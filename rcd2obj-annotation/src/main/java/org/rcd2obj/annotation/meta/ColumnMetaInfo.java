@@ -17,13 +17,15 @@
 package org.rcd2obj.annotation.meta;
 
 import org.rcd2obj.annotation.Column;
+import org.rcd2obj.annotation.Id;
 import org.rcd2obj.annotation.meta.alias.ColumnNameAlias;
 import org.rcd2obj.annotation.meta.alias.TableNameAlias;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Set;
 
@@ -37,6 +39,9 @@ import java.util.Set;
 public class ColumnMetaInfo {
   private final Field field;
   private final Collection<ColumnNameAlias> aliases;
+  private final boolean id;
+  private final Method getter;
+  private final Method setter;
 
   /**
    * Constructs of new instance column's meta-information.
@@ -45,8 +50,30 @@ public class ColumnMetaInfo {
    * @param aliases a list of the column names
    */
   public ColumnMetaInfo(Field field, Collection<ColumnNameAlias> aliases) {
+    this(field, aliases, false, null, null);
+  }
+
+  /**
+   * Constructs of new instance column's meta-information.
+   *
+   * @param field   a marked attribute
+   * @param aliases a list of the column names
+   * @param id      true, when the column is an identifier of the row
+   * @param getter  a public getter of the attribute, can be null
+   * @param setter  a public setter of the attribute, can be null
+   */
+  public ColumnMetaInfo(
+      Field field,
+      Collection<ColumnNameAlias> aliases,
+      boolean id,
+      Method getter,
+      Method setter
+  ) {
     this.field = field;
     this.aliases = aliases;
+    this.id = id;
+    this.getter = getter;
+    this.setter = setter;
   }
 
   /**
@@ -67,6 +94,57 @@ public class ColumnMetaInfo {
     return aliases;
   }
 
+  /**
+   * Returns the column's name for the table.
+   *
+   * @param table the name of the table
+   * @return the column's name, or empty when the column is not related to the table
+   */
+  public Optional<ColumnNameAlias> getAlias(TableNameAlias table) {
+    for (ColumnNameAlias alias : aliases) {
+      if (alias.getTableAlias().equals(table)) {
+        return Optional.of(alias);
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Returns true, when the column is an identifier of the row.
+   *
+   * @return true, when the column is an identifier of the row
+   */
+  public boolean isId() {
+    return id;
+  }
+
+  /**
+   * Returns the type of the column.
+   *
+   * @return the type of the column
+   */
+  public ColumnType getType() {
+    return ColumnType.of(field.getType());
+  }
+
+  /**
+   * Returns the public getter of the marked attribute.
+   *
+   * @return the getter, or empty when the attribute doesn't have it
+   */
+  public Optional<Method> getGetter() {
+    return Optional.ofNullable(getter);
+  }
+
+  /**
+   * Returns the public setter of the marked attribute.
+   *
+   * @return the setter, or empty when the attribute doesn't have it
+   */
+  public Optional<Method> getSetter() {
+    return Optional.ofNullable(setter);
+  }
+
   /**
    * Implementation of {@link MetaInfoFactory} for {@link ColumnMetaInfo} creating.
    *
@@ -74,6 +152,10 @@ public class ColumnMetaInfo {
    * @since 1.0
    */
   public static class Factory implements MetaInfoFactory<Field, ColumnMetaInfo> {
+    private static final String GETTER_PREFIX = "get";
+    private static final String BOOLEAN_GETTER_PREFIX = "is";
+    private static final String SETTER_PREFIX = "set";
+
     private final TableMetaInfo table;
 
     /**
@@ -88,29 +170,64 @@ public class ColumnMetaInfo {
     @Override
     public Optional<ColumnMetaInfo> build(Field source) {
       int modifiers = source.getModifiers();
-      if (!Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers)) {
+      if (MappingRules.isColumn(Modifier.isStatic(modifiers), Modifier.isFinal(modifiers))) {
         Column[] annotations = source.getAnnotationsByType(Column.class);
         Collection<TableNameAlias> tableAliases = table.getAliases();
 
         String fieldName = source.getName();
-        Set<ColumnNameAlias> aliases = new HashSet<>();
+        Set<ColumnNameAlias> aliases = new LinkedHashSet<>();
         for (TableNameAlias tableAlias : tableAliases) {
           if (annotations.length == 0) {
             aliases.add(new ColumnNameAlias(fieldName, tableAlias));
           } else {
             for (Column annotation : annotations) {
-              String name = annotation.value();
-              if (name.isEmpty()) {
-                name = fieldName;
-              }
-
-              aliases.add(new ColumnNameAlias(name, tableAlias));
+              aliases.add(new ColumnNameAlias(MappingRules.getColumnName(annotation, fieldName), tableAlias));
             }
           }
         }
-        return Optional.of(new ColumnMetaInfo(source, aliases));
+        return Optional.of(
+            new ColumnMetaInfo(
+                source,
+                aliases,
+                source.isAnnotationPresent(Id.class),
+                findGetter(source),
+                findSetter(source)
+            )
+        );
       }
       return Optional.empty();
     }
+
+    // Returns the public getter of the field or null
+    private Method findGetter(Field field) {
+      Class<?> type = field.getType();
+      Method getter = findMethod(field, GETTER_PREFIX);
+      if (getter == null && (boolean.class.equals(type) || Boolean.class.equals(type))) {
+        getter = findMethod(field, BOOLEAN_GETTER_PREFIX);
+      }
+
+      if (getter != null && type.equals(getter.getReturnType())) {
+        return getter;
+      }
+      return null;
+    }
+
+    // Returns the public setter of the field or null
+    private Method findSetter(Field field) {
+      return findMethod(field, SETTER_PREFIX, field.getType());
+    }
+
+    // Returns the public method of the field's owner or null
+    private Method findMethod(Field field, String prefix, Class<?>... parameters) {
+      String name = field.getName();
+      try {
+        return field.getDeclaringClass().getMethod(
+            String.join("", prefix, name.substring(0, 1).toUpperCase(), name.substring(1)),
+            parameters
+        );
+      } catch (NoSuchMethodException exception) {
+        return null;
+      }
+    }
   }
 }
@@ -0,0 +1,143 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation.meta;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Time;
+import java.sql.Timestamp;
+
+/**
+ * The type of the column. Describes typed methods of {@link ResultSet} and {@link
+ * PreparedStatement} for the column's data.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public enum ColumnType {
+  /**
+   * The boolean column.
+   */
+  BOOLEAN(boolean.class, "getBoolean", "setBoolean"),
+  /**
+   * The byte column.
+   */
+  BYTE(byte.class, "getByte", "setByte"),
+  /**
+   * The short column.
+   */
+  SHORT(short.class, "getShort", "setShort"),
+  /**
+   * The int column.
+   */
+  INT(int.class, "getInt", "setInt"),
+  /**
+   * The long column.
+   */
+  LONG(long.class, "getLong", "setLong"),
+  /**
+   * The float column.
+   */
+  FLOAT(float.class, "getFloat", "setFloat"),
+  /**
+   * The double column.
+   */
+  DOUBLE(double.class, "getDouble", "setDouble"),
+  /**
+   * The string column.
+   */
+  STRING(String.class, "getString", "setString"),
+  /**
+   * The decimal column.
+   */
+  BIG_DECIMAL(BigDecimal.class, "getBigDecimal", "setBigDecimal"),
+  /**
+   * The binary column.
+   */
+  BYTES(byte[].class, "getBytes", "setBytes"),
+  /**
+   * The date column.
+   */
+  DATE(Date.class, "getDate", "setDate"),
+  /**
+   * The time column.
+   */
+  TIME(Time.class, "getTime", "setTime"),
+  /**
+   * The timestamp column.
+   */
+  TIMESTAMP(Timestamp.class, "getTimestamp", "setTimestamp"),
+  /**
+   * Any other types, including wrappers of the primitives.
+   */
+  OBJECT(Object.class, "getObject", "setObject");
+
+  private final Class<?> type;
+  private final String getterName;
+  private final String setterName;
+
+  ColumnType(Class<?> type, String getterName, String setterName) {
+    this.type = type;
+    this.getterName = getterName;
+    this.setterName = setterName;
+  }
+
+  /**
+   * Returns the Java's type of the column.
+   *
+   * @return the Java's type of the column
+   */
+  public Class<?> getType() {
+    return type;
+  }
+
+  /**
+   * Returns name of the {@link ResultSet}'s method for the value reading.
+   *
+   * @return name of the method for the value reading
+   */
+  public String getGetterName() {
+    return getterName;
+  }
+
+  /**
+   * Returns name of the {@link PreparedStatement}'s method for the value writing.
+   *
+   * @return name of the method for the value writing
+   */
+  public String getSetterName() {
+    return setterName;
+  }
+
+  /**
+   * Returns the column's type by the Java's type, {@link ColumnType#OBJECT} when the type is
+   * unknown.
+   *
+   * @param type the Java's type
+   * @return the column's type
+   */
+  public static ColumnType of(Class<?> type) {
+    for (ColumnType value : values()) {
+      if (value.type.equals(type)) {
+        return value;
+      }
+    }
+    return OBJECT;
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation.meta;
+
+import org.rcd2obj.annotation.Column;
+import org.rcd2obj.annotation.MappedSuperclass;
+import org.rcd2obj.annotation.Table;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The rules of mapping which are shared by the meta-information of the loaded classes, see {@link
+ * TableMetaInfo}, and the annotation processor which reads the elements of the compiled sources.
+ * The rules accept the accessors of the type's model, so both models select the same columns, the
+ * same names and the same identifier.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public final class MappingRules {
+  private static final Set<String> INTEGRAL_TYPES = new HashSet<>(
+      Arrays.asList(
+          byte.class.getName(),
+          short.class.getName(),
+          int.class.getName(),
+          long.class.getName(),
+          Byte.class.getName(),
+          Short.class.getName(),
+          Integer.class.getName(),
+          Long.class.getName()
+      )
+  );
+
+  private MappingRules() {
+  }
+
+  /**
+   * Checks that the columns of the superclass are inherited by the entities, the superclass must
+   * be marked by {@link Table} or {@link MappedSuperclass}.
+   *
+   * @param annotated checks that the annotation is declared by the superclass
+   * @return true when the columns of the superclass are inherited
+   */
+  public static boolean isMapped(Predicate<Class<? extends Annotation>> annotated) {
+    return annotated.test(MappedSuperclass.class) || annotated.test(Table.class) || annotated.test(Table.Tables.class);
+  }
+
+  /**
+   * Returns the types which declare the columns of the entity starting from the base class. The
+   * entity is always included, the superclasses are included until the first unmapped one, see
+   * {@link MappingRules#isMapped(Predicate)}.
+   *
+   * @param <T>        type of the type's model
+   * @param type       the entity
+   * @param superclass returns the superclass or null
+   * @param mapped     checks that the columns of the superclass are inherited
+   * @return the types which declare the columns
+   */
+  public static <T> Deque<T> getHierarchy(T type, Function<T, T> superclass, Predicate<T> mapped) {
+    Deque<T> hierarchy = new ArrayDeque<>();
+    T current = type;
+    while (current != null && (hierarchy.isEmpty() || mapped.test(current))) {
+      hierarchy.push(current);
+      current = superclass.apply(current);
+    }
+    return hierarchy;
+  }
+
+  /**
+   * Checks that the field is the column, the static and the final fields are skipped.
+   *
+   * @param isStatic the field is static
+   * @param isFinal  the field is final
+   * @return true when the field is the column
+   */
+  public static boolean isColumn(boolean isStatic, boolean isFinal) {
+    return !isStatic && !isFinal;
+  }
+
+  /**
+   * Returns name of the table, the name of the type is used by default.
+   *
+   * @param table    the annotation of the table
+   * @param typeName simple name of the type
+   * @return name of the table
+   */
+  public static String getTableName(Table table, String typeName) {
+    return table.value().isEmpty() ? typeName : table.value();
+  }
+
+  /**
+   * Returns name of the column, the name of the field is used by default.
+   *
+   * @param column    the annotation of the column or null
+   * @param fieldName name of the field
+   * @return name of the column
+   */
+  public static String getColumnName(Column column, String fieldName) {
+    return column == null || column.value().isEmpty() ? fieldName : column.value();
+  }
+
+  /**
+   * Returns position of the identifier's column, the identifier must be the only column marked by
+   * {@link org.rcd2obj.annotation.Id} and must have an integral type. The positions start from 1.
+   *
+   * @param <C>      type of the columns
+   * @param columns  the columns in order of selection
+   * @param id       checks that the column is marked as the identifier
+   * @param typeName returns name of the column's type, the names of {@link Class#getName()}
+   * @return position of the identifier's column or 0 when the columns don't have such column
+   */
+  public static <C> int getIdColumn(List<C> columns, Predicate<C> id, Function<C, String> typeName) {
+    int position = 0;
+    for (int i = 0; i < columns.size(); i++) {
+      C column = columns.get(i);
+      if (id.test(column)) {
+        if (position > 0 || !INTEGRAL_TYPES.contains(typeName.apply(column))) {
+          return 0;
+        }
+        position = i + 1;
+      }
+    }
+    return position;
+  }
+}
@@ -16,17 +16,18 @@
 
 package org.rcd2obj.annotation.meta;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * The context of meta-information extracting.
+ * The context of meta-information extracting. The context is thread-safe, the variables are
+ * created once per type.
  *
  * @author Andrey_Yurzanov
  * @since 1.0
  */
 public class MetaInfoContext {
-  private final Map<Object, Object> variables = new HashMap<>();
+  private final Map<Object, Object> variables = new ConcurrentHashMap<>();
 
   /**
    * Returns a variable by type. If the variable does not exist, it will be created using the
@@ -39,12 +40,13 @@ public class MetaInfoContext {
   public <T> T get(Class<T> type) {
     Object value = variables.get(type);
     if (value == null) {
-      try {
-        value = type.newInstance();
-        variables.put(type, value);
-      } catch (Exception exception) {
-        throw new RuntimeException(exception);
-      }
+      value = variables.computeIfAbsent(type, key -> {
+        try {
+          return type.newInstance();
+        } catch (Exception exception) {
+          throw new RuntimeException(exception);
+        }
+      });
     }
     return type.cast(value);
   }
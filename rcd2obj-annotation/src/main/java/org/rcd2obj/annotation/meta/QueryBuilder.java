@@ -0,0 +1,307 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation.meta;
+
+import org.rcd2obj.annotation.meta.alias.ColumnNameAlias;
+import org.rcd2obj.annotation.meta.alias.TableNameAlias;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Builder of SQL statements by the meta-information of the table. Parameters of the statements are
+ * placed in order of the columns, see {@link QueryBuilder#getInsertColumns()} and {@link
+ * QueryBuilder#getUpdateColumns()}.
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class QueryBuilder {
+  private static final String PARAMETER = "?";
+  private static final String SEPARATOR = ", ";
+  private static final String CONDITION_SEPARATOR = " AND ";
+  private static final String ASSIGNMENT = " = ?";
+
+  private final TableMetaInfo table;
+
+  /**
+   * Constructs new instance of {@link QueryBuilder}.
+   *
+   * @param table the meta-information of the table
+   */
+  public QueryBuilder(TableMetaInfo table) {
+    this.table = table;
+  }
+
+  /**
+   * Returns the columns of the insert statement in order of the parameters.
+   *
+   * @return the columns of the insert statement
+   */
+  public List<ColumnMetaInfo> getInsertColumns() {
+    return new ArrayList<>(table.getColumns());
+  }
+
+  /**
+   * Returns the columns of the update statement in order of the parameters. The identifiers are
+   * placed at the end.
+   *
+   * @return the columns of the update statement
+   */
+  public List<ColumnMetaInfo> getUpdateColumns() {
+    List<ColumnMetaInfo> columns = new ArrayList<>();
+    List<ColumnMetaInfo> ids = new ArrayList<>();
+    for (ColumnMetaInfo column : table.getColumns()) {
+      if (column.isId()) {
+        ids.add(column);
+      } else {
+        columns.add(column);
+      }
+    }
+    columns.addAll(ids);
+    return columns;
+  }
+
+  /**
+   * Returns the columns of the select statement in order of reading. The columns of the subclasses
+   * follow the columns of the table, see {@link TableMetaInfo#getSubtypes()}.
+   *
+   * @return the columns of the select statement
+   */
+  public List<ColumnMetaInfo> getSelectColumns() {
+    List<ColumnMetaInfo> columns = new ArrayList<>(table.getColumns());
+    Set<Field> fields = new HashSet<>();
+    for (ColumnMetaInfo column : columns) {
+      fields.add(column.getField());
+    }
+
+    for (TableMetaInfo subtype : table.getSubtypes().values()) {
+      for (ColumnMetaInfo column : subtype.getColumns()) {
+        if (fields.add(column.getField())) {
+          columns.add(column);
+        }
+      }
+    }
+    return columns;
+  }
+
+  /**
+   * Returns count of the columns of the select statement including the type's column.
+   *
+   * @return count of the selected columns
+   */
+  public int getSelectColumnCount() {
+    return getSelectOffset() + getSelectColumns().size();
+  }
+
+  /**
+   * Returns count of the columns which precede the columns of the entity in the select statement,
+   * the type's column precedes them when the table has the subclasses.
+   *
+   * @return count of the preceding columns
+   */
+  public int getSelectOffset() {
+    return table.getDiscriminator().isPresent() ? 1 : 0;
+  }
+
+  /**
+   * Returns position of the identifier's column in the select statement, the identifier must be the
+   * only column marked by {@link org.rcd2obj.annotation.Id} and must have an integral type. The
+   * positions start from 1.
+   *
+   * @return position of the identifier's column or 0 when the table doesn't have such column
+   */
+  public int getIdColumn() {
+    int position = MappingRules.getIdColumn(
+        getSelectColumns(),
+        ColumnMetaInfo::isId,
+        column -> column.getField().getType().getName()
+    );
+    return position > 0 ? getSelectOffset() + position : 0;
+  }
+
+  /**
+   * Builds the list of the selected columns, the names are combined with the table's name. The
+   * type's column is the first one when the table has the subclasses.
+   * <pre>
+   *   Example:
+   *   {@code
+   *   test_entity.name, test_entity.age
+   *   }
+   * </pre>
+   *
+   * @param alias the name of the table
+   * @return the list of the selected columns
+   */
+  public String buildProjection(TableNameAlias alias) {
+    StringJoiner names = new StringJoiner(SEPARATOR);
+    table
+        .getDiscriminator()
+        .ifPresent(discriminator -> names.add(new ColumnNameAlias(discriminator, alias).getName()));
+    for (ColumnMetaInfo column : getSelectColumns()) {
+      names.add(getColumn(column, alias).getName());
+    }
+    return names.toString();
+  }
+
+  /**
+   * Builds the select statement.
+   * <pre>
+   *   Example:
+   *   {@code
+   *   SELECT test_entity.name, test_entity.age FROM test_entity
+   *   }
+   * </pre>
+   *
+   * @param alias the name of the table
+   * @return the select statement
+   */
+  public String buildSelect(TableNameAlias alias) {
+    return String.join("", "SELECT ", buildProjection(alias), " FROM ", alias.getName());
+  }
+
+  /**
+   * Builds the insert statement.
+   * <pre>
+   *   Example:
+   *   {@code
+   *   INSERT INTO test_entity (name, age) VALUES (?, ?)
+   *   }
+   * </pre>
+   *
+   * @param alias the name of the table
+   * @return the insert statement
+   */
+  public String buildInsert(TableNameAlias alias) {
+    return buildInsert(alias, 1);
+  }
+
+  /**
+   * Builds the multi-row insert statement.
+   * <pre>
+   *   Example:
+   *   {@code
+   *   INSERT INTO test_entity (name, age) VALUES (?, ?), (?, ?)
+   *   }
+   * </pre>
+   *
+   * @param alias the name of the table
+   * @param rows  count of the inserted rows
+   * @return the insert statement
+   */
+  public String buildInsert(TableNameAlias alias, int rows) {
+    if (rows < 1) {
+      throw new IllegalArgumentException(
+          String.join("", "Count of rows has incorrect value: [", String.valueOf(rows), "]")
+      );
+    }
+
+    StringJoiner names = new StringJoiner(SEPARATOR, "(", ")");
+    StringJoiner row = new StringJoiner(SEPARATOR, "(", ")");
+    for (ColumnMetaInfo column : getInsertColumns()) {
+      names.add(getColumnName(column, alias));
+      row.add(PARAMETER);
+    }
+
+    StringJoiner values = new StringJoiner(SEPARATOR);
+    for (int i = 0; i < rows; i++) {
+      values.add(row.toString());
+    }
+    return String.join("", "INSERT INTO ", alias.getName(), " ", names.toString(), " VALUES ", values.toString());
+  }
+
+  /**
+   * Builds the update statement, the identifiers of the table are used as the conditions.
+   * <pre>
+   *   Example:
+   *   {@code
+   *   UPDATE test_entity SET name = ?, age = ? WHERE id = ?
+   *   }
+   * </pre>
+   *
+   * @param alias the name of the table
+   * @return the update statement, or empty when the table doesn't have identifiers or the other
+   *     columns
+   */
+  public Optional<String> buildUpdate(TableNameAlias alias) {
+    BitSet columns = new BitSet();
+    columns.set(0, table.getColumns().size());
+    return buildUpdate(alias, columns);
+  }
+
+  /**
+   * Builds the update statement of the selected columns, the identifiers of the table are used as
+   * the conditions. Parameters of the statement are placed in order of the columns, the
+   * identifiers are placed at the end.
+   * <pre>
+   *   Example:
+   *   {@code
+   *   UPDATE test_entity SET age = ? WHERE id = ?
+   *   }
+   * </pre>
+   *
+   * @param alias   the name of the table
+   * @param columns positions of the updated columns in order of {@link TableMetaInfo#getColumns()},
+   *                positions of the identifiers are ignored
+   * @return the update statement, or empty when the table doesn't have identifiers or the selected
+   *     columns
+   */
+  public Optional<String> buildUpdate(TableNameAlias alias, BitSet columns) {
+    StringJoiner assignments = new StringJoiner(SEPARATOR);
+    StringJoiner conditions = new StringJoiner(CONDITION_SEPARATOR);
+
+    int index = 0;
+    for (ColumnMetaInfo column : table.getColumns()) {
+      String name = getColumnName(column, alias).concat(ASSIGNMENT);
+      if (column.isId()) {
+        conditions.add(name);
+      } else if (columns.get(index)) {
+        assignments.add(name);
+      }
+      index++;
+    }
+
+    if (assignments.length() == 0 || conditions.length() == 0) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        String.join("", "UPDATE ", alias.getName(), " SET ", assignments.toString(), " WHERE ", conditions.toString())
+    );
+  }
+
+  // Returns the column's name for the table
+  private String getColumnName(ColumnMetaInfo column, TableNameAlias alias) {
+    return getColumn(column, alias).getColumnName();
+  }
+
+  // Returns the column's alias for the table
+  private ColumnNameAlias getColumn(ColumnMetaInfo column, TableNameAlias alias) {
+    return column
+        .getAlias(alias)
+        .orElseThrow(
+            () -> new IllegalArgumentException(
+                String.join("", "Column [", column.getField().getName(), "] is not related to [", alias.getName(), "]")
+            )
+        );
+  }
+}
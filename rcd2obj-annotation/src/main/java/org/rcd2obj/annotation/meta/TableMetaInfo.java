@@ -16,18 +16,27 @@
 
 package org.rcd2obj.annotation.meta;
 
+import org.rcd2obj.annotation.MappedSuperclass;
+import org.rcd2obj.annotation.Subtype;
 import org.rcd2obj.annotation.Table;
 import org.rcd2obj.annotation.meta.alias.TableNameAlias;
 import org.rcd2obj.annotation.naming.NamingStrategy;
 
 import java.lang.reflect.Field;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 /**
- * The meta-information of the table. Contains information from {@link Table} and marked type.
+ * The meta-information of the table. Contains information from {@link Table} and marked type. The
+ * columns are declared by the marked type and its superclasses marked by {@link Table} or {@link
+ * MappedSuperclass}, the search stops at the first unmarked superclass. The columns of the
+ * superclasses are placed first.
  *
  * @author Andrey_Yurzanov
  * @since 1.0
@@ -36,6 +45,8 @@ public class TableMetaInfo {
   private final Class<?> type;
   private final Collection<TableNameAlias> aliases;
   private final Collection<ColumnMetaInfo> columns;
+  private final String discriminator;
+  private final Map<String, TableMetaInfo> subtypes;
 
   /**
    * Constructs of new instance {@link TableMetaInfo}.
@@ -48,10 +59,31 @@ public class TableMetaInfo {
       Class<?> type,
       Collection<TableNameAlias> aliases,
       Collection<ColumnMetaInfo> columns
+  ) {
+    this(type, aliases, columns, null, Collections.emptyMap());
+  }
+
+  /**
+   * Constructs of new instance {@link TableMetaInfo}.
+   *
+   * @param type          the marked type
+   * @param aliases       the list of a table's names
+   * @param columns       the list of a table's columns
+   * @param discriminator the name of the type's column, can be null
+   * @param subtypes      the subclasses by values of the type's column
+   */
+  public TableMetaInfo(
+      Class<?> type,
+      Collection<TableNameAlias> aliases,
+      Collection<ColumnMetaInfo> columns,
+      String discriminator,
+      Map<String, TableMetaInfo> subtypes
   ) {
     this.type = type;
     this.aliases = aliases;
     this.columns = columns;
+    this.discriminator = discriminator;
+    this.subtypes = subtypes;
   }
 
   /**
@@ -81,6 +113,26 @@ public class TableMetaInfo {
     return columns;
   }
 
+  /**
+   * Returns the name of the column which contains type of the row.
+   *
+   * @return the name of the type's column or empty when the table doesn't have the types
+   */
+  public Optional<String> getDiscriminator() {
+    return Optional.ofNullable(discriminator);
+  }
+
+  /**
+   * Returns the meta-information of the subclasses by values of the type's column, see
+   * {@link Subtype}. The subclasses have the same names of the table and the columns of the whole
+   * hierarchy.
+   *
+   * @return the subclasses by values of the type's column
+   */
+  public Map<String, TableMetaInfo> getSubtypes() {
+    return Collections.unmodifiableMap(subtypes);
+  }
+
   /**
    * Implementation of {@link MetaInfoFactory} for {@link TableMetaInfo} creating.
    *
@@ -105,33 +157,65 @@ public class TableMetaInfo {
       if (annotations.length > 0) {
         String typeName = source.getSimpleName();
 
-        Set<TableNameAlias> aliases = new HashSet<>();
+        Set<TableNameAlias> aliases = new LinkedHashSet<>();
         for (Table annotation : annotations) {
           NamingStrategy naming = context.get(annotation.naming());
           NamingStrategy combining = context.get(annotation.combining());
 
-          String name = annotation.value();
-          if (name.isEmpty()) {
-            name = typeName;
+          aliases.add(new TableNameAlias(MappingRules.getTableName(annotation, typeName), naming, combining));
+        }
+
+        String discriminator = null;
+        for (Table annotation : annotations) {
+          if (discriminator == null && !annotation.discriminator().isEmpty()) {
+            discriminator = annotation.discriminator();
           }
-          aliases.add(new TableNameAlias(name, naming, combining));
         }
 
-        Set<ColumnMetaInfo> columns = new HashSet<>();
-        TableMetaInfo table = new TableMetaInfo(source, aliases, columns);
+        Map<String, TableMetaInfo> subtypes = new LinkedHashMap<>();
+        TableMetaInfo table = build(source, aliases, discriminator, subtypes);
+        if (discriminator != null) {
+          for (Subtype subtype : source.getAnnotationsByType(Subtype.class)) {
+            Class<?> type = subtype.type();
+            if (type.equals(source) || !source.isAssignableFrom(type)) {
+              throw new IllegalArgumentException(
+                  String.join("", "Type [", type.getName(), "] is not subclass of [", source.getName(), "]")
+              );
+            }
+            subtypes.put(subtype.value(), build(type, aliases, null, Collections.emptyMap()));
+          }
+        }
+        return Optional.of(table);
+      }
+      return Optional.empty();
+    }
 
-        ColumnMetaInfo.Factory factory = new ColumnMetaInfo.Factory(table);
-        Field[] fields = source.getDeclaredFields();
-        for (Field field : fields) {
+    // Builds the table, the columns are extracted from the marked hierarchy starting from the base class
+    private TableMetaInfo build(
+        Class<?> type,
+        Collection<TableNameAlias> aliases,
+        String discriminator,
+        Map<String, TableMetaInfo> subtypes
+    ) {
+      Set<ColumnMetaInfo> columns = new LinkedHashSet<>();
+      TableMetaInfo table = new TableMetaInfo(type, aliases, columns, discriminator, subtypes);
+
+      Deque<Class<?>> hierarchy = MappingRules.getHierarchy(
+          type,
+          Class::getSuperclass,
+          current -> MappingRules.isMapped(annotation -> current.getDeclaredAnnotation(annotation) != null)
+      );
+
+      ColumnMetaInfo.Factory factory = new ColumnMetaInfo.Factory(table);
+      for (Class<?> declaring : hierarchy) {
+        for (Field field : declaring.getDeclaredFields()) {
           Optional<ColumnMetaInfo> built = factory.build(field);
           if (built.isPresent()) {
             columns.add(built.get());
           }
         }
-
-        return Optional.of(table);
       }
-      return Optional.empty();
+      return table;
     }
   }
 }
@@ -27,6 +27,7 @@ import java.util.Objects;
  */
 public class ColumnNameAlias {
   private final String name;
+  private final String columnName;
   private final String originalName;
   private final TableNameAlias tableAlias;
 
@@ -42,10 +43,8 @@ public class ColumnNameAlias {
 
     this.originalName = originalName;
     this.tableAlias = tableAlias;
-    this.name = combining.resolve(
-        tableAlias.getName(),
-        naming.resolve(originalName)
-    );
+    this.columnName = naming.resolve(originalName);
+    this.name = combining.resolve(tableAlias.getName(), columnName);
   }
 
   /**
@@ -57,6 +56,15 @@ public class ColumnNameAlias {
     return name;
   }
 
+  /**
+   * Returns the modified name of this column without the table's name.
+   *
+   * @return the modified name of this column without the table's name
+   */
+  public String getColumnName() {
+    return columnName;
+  }
+
   /**
    * Returns the original name of this column.
    *
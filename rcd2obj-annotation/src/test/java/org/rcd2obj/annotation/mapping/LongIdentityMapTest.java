@@ -0,0 +1,65 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation.mapping;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link LongIdentityMap}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class LongIdentityMapTest {
+  private static final int COUNT = 10_000;
+
+  @Test
+  void putTest() {
+    LongIdentityMap<String> map = new LongIdentityMap<>(1);
+    for (long key = -COUNT; key < COUNT; key++) {
+      Assertions.assertNull(map.put(key * 31, String.valueOf(key)));
+    }
+    Assertions.assertEquals(COUNT * 2, map.size());
+
+    for (long key = -COUNT; key < COUNT; key++) {
+      Assertions.assertEquals(String.valueOf(key), map.get(key * 31));
+    }
+    Assertions.assertNull(map.get(1));
+    Assertions.assertEquals("0", map.put(0, "zero"));
+    Assertions.assertEquals("zero", map.get(0));
+    Assertions.assertEquals(COUNT * 2, map.size());
+  }
+
+  @Test
+  void clearTest() {
+    LongIdentityMap<String> map = new LongIdentityMap<>();
+    map.put(Long.MIN_VALUE, "min");
+    map.put(Long.MAX_VALUE, "max");
+    Assertions.assertEquals("min", map.get(Long.MIN_VALUE));
+    Assertions.assertEquals("max", map.get(Long.MAX_VALUE));
+
+    map.clear();
+    Assertions.assertEquals(0, map.size());
+    Assertions.assertNull(map.get(Long.MIN_VALUE));
+  }
+
+  @Test
+  void putExceptionTest() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new LongIdentityMap<>(-1));
+    Assertions.assertThrows(NullPointerException.class, () -> new LongIdentityMap<>().put(1, null));
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation.mapping;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.rowset.serial.SerialBlob;
+import javax.sql.rowset.serial.SerialClob;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests of {@link PageResultSet}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class PageResultSetTest {
+  private static final LocalDate DATE = LocalDate.of(2024, 2, 29);
+  private static final LocalTime TIME = LocalTime.of(10, 30, 15);
+  private static final LocalDateTime DATE_TIME = LocalDateTime.of(DATE, TIME);
+
+  @Test
+  void readLobTest() throws SQLException {
+    Object[] page = new Object[2];
+    ResultSet source = createResultSet(new SerialClob("hello".toCharArray()), new SerialBlob(new byte[] {1, 2}));
+    Assertions.assertEquals(1, PageResultSet.read(source, page, 2, 10));
+    Assertions.assertEquals("hello", page[0]);
+    Assertions.assertArrayEquals(new byte[] {1, 2}, (byte[]) page[1]);
+
+    ResultSet view = new PageResultSet(2).moveTo(page, 0);
+    Assertions.assertEquals("hello", view.getString(1));
+    Assertions.assertEquals("hello", view.getObject(1, String.class));
+    Assertions.assertArrayEquals(new byte[] {1, 2}, view.getBytes(2));
+
+    Clob clob = view.getObject(1, Clob.class);
+    Assertions.assertEquals("hello", clob.getSubString(1, (int) clob.length()));
+    Blob blob = view.getBlob(2);
+    Assertions.assertArrayEquals(new byte[] {1, 2}, blob.getBytes(1, (int) blob.length()));
+  }
+
+  @Test
+  void readTemporalTest() throws SQLException {
+    Object[] page = new Object[5];
+    ResultSet source = createResultSet(
+        Date.valueOf(DATE),
+        Timestamp.valueOf(DATE_TIME),
+        Time.valueOf(TIME),
+        "2024-02-29 10:30:15",
+        OffsetDateTime.of(DATE_TIME, ZoneOffset.UTC)
+    );
+    PageResultSet.read(source, page, 5, 1);
+
+    ResultSet view = new PageResultSet(5).moveTo(page, 0);
+    Assertions.assertEquals(DATE, view.getObject(1, LocalDate.class));
+    Assertions.assertEquals(DATE.atStartOfDay(), view.getObject(1, LocalDateTime.class));
+    Assertions.assertEquals(Date.valueOf(DATE), view.getDate(1));
+    Assertions.assertEquals(DATE_TIME, view.getObject(2, LocalDateTime.class));
+    Assertions.assertEquals(DATE, view.getObject(2, LocalDate.class));
+    Assertions.assertEquals(TIME, view.getObject(2, LocalTime.class));
+    Assertions.assertEquals(Date.valueOf(DATE), view.getDate(2));
+    Assertions.assertEquals(Time.valueOf(TIME), view.getTime(2));
+    Assertions.assertEquals(TIME, view.getObject(3, LocalTime.class));
+    Assertions.assertEquals(DATE_TIME, view.getObject(4, LocalDateTime.class));
+    Assertions.assertEquals(Timestamp.valueOf(DATE_TIME), view.getTimestamp(4));
+    Assertions.assertEquals(DATE_TIME.toInstant(ZoneOffset.UTC), view.getObject(5, Instant.class));
+    Assertions.assertEquals(Timestamp.from(DATE_TIME.toInstant(ZoneOffset.UTC)), view.getTimestamp(5));
+  }
+
+  @Test
+  void readConvertTest() throws SQLException {
+    Object[] page = new Object[5];
+    ResultSet source = createResultSet(new BigDecimal("12.50"), " 42 ", true, null, new byte[] {1});
+    PageResultSet.read(source, page, 5, 1);
+
+    ResultSet view = new PageResultSet(5).moveTo(page, 0);
+    Assertions.assertEquals("12.50", view.getString(1));
+    Assertions.assertEquals(12, view.getInt(1));
+    Assertions.assertEquals(12.5, view.getDouble(1));
+    Assertions.assertEquals(42L, view.getLong(2));
+    Assertions.assertEquals(Integer.valueOf(42), view.getObject(2, Integer.class));
+    Assertions.assertEquals(new BigDecimal("42"), view.getBigDecimal(2));
+    Assertions.assertEquals(1, view.getInt(3));
+    Assertions.assertTrue(view.getBoolean(3));
+    Assertions.assertFalse(view.wasNull());
+
+    Assertions.assertEquals(0, view.getInt(4));
+    Assertions.assertTrue(view.wasNull());
+    Assertions.assertNull(view.getObject(4, LocalDate.class));
+    Assertions.assertFalse(view.getObject(4, boolean.class));
+
+    Assertions.assertThrows(SQLException.class, () -> view.getString(5));
+    Assertions.assertThrows(SQLException.class, () -> view.getObject(5, LocalDate.class));
+    Assertions.assertThrows(SQLException.class, () -> view.getInt(6));
+    Assertions.assertThrows(SQLFeatureNotSupportedException.class, () -> view.getInt("id"));
+  }
+
+  // Creates the result of one row, the large objects are valid while the row is current
+  private static ResultSet createResultSet(Object... values) {
+    AtomicInteger rows = new AtomicInteger();
+    return (ResultSet) Proxy.newProxyInstance(
+        ResultSet.class.getClassLoader(),
+        new Class<?>[] {ResultSet.class},
+        (proxy, method, args) -> {
+          switch (method.getName()) {
+            case "next":
+              return rows.incrementAndGet() == 1;
+            case "getObject":
+              Assertions.assertEquals(1, rows.get());
+              return values[(Integer) args[0] - 1];
+            default:
+              throw new UnsupportedOperationException(method.getName());
+          }
+        }
+    );
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation.mapping;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.DayOfWeek;
+
+/**
+ * Tests of {@link RawValues}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class RawValuesTest {
+  @Test
+  void getNumberTest() throws SQLException {
+    Assertions.assertEquals(7L, RawValues.getLong(7));
+    Assertions.assertEquals(7, RawValues.getInt(" 7 "));
+    Assertions.assertEquals((short) 1, RawValues.getShort(true));
+    Assertions.assertEquals(1.5, RawValues.getDouble(new BigDecimal("1.5")));
+    Assertions.assertEquals(0L, RawValues.getLong(null));
+    Assertions.assertFalse(RawValues.getBoolean(null));
+    Assertions.assertTrue(RawValues.getBoolean(1));
+  }
+
+  @Test
+  void getObjectTest() throws SQLException {
+    Assertions.assertEquals("7", RawValues.getString(7));
+    Assertions.assertEquals(new BigDecimal("7"), RawValues.getBigDecimal("7"));
+    Assertions.assertEquals(7L, RawValues.getObject(7, Long.class));
+    Assertions.assertEquals(7L, RawValues.getObject(7, long.class));
+    Assertions.assertEquals(DayOfWeek.MONDAY, RawValues.getObject("MONDAY", DayOfWeek.class));
+    Assertions.assertNull(RawValues.getObject(null, Long.class));
+    Assertions.assertNull(RawValues.getString(null));
+  }
+
+  @Test
+  void getExceptionTest() {
+    Assertions.assertThrows(SQLException.class, () -> RawValues.getLong("text"));
+    Assertions.assertThrows(SQLException.class, () -> RawValues.getObject("text", Long.class));
+  }
+}
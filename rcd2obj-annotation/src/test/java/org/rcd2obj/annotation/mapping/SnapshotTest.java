@@ -0,0 +1,66 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.annotation.mapping;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link Snapshot}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class SnapshotTest {
+  @Test
+  void isChangedTest() {
+    Snapshot snapshot = new Snapshot(3, 2);
+    snapshot.set(0, 18L);
+    snapshot.set(1, 0.5D);
+    snapshot.set(2, true);
+    snapshot.set(0, "name");
+    snapshot.set(1, new byte[]{1, 2});
+
+    Assertions.assertFalse(snapshot.isChanged(0, 18L));
+    Assertions.assertFalse(snapshot.isChanged(1, 0.5D));
+    Assertions.assertFalse(snapshot.isChanged(2, true));
+    Assertions.assertFalse(snapshot.isChanged(0, "name"));
+    Assertions.assertFalse(snapshot.isChanged(1, new byte[]{1, 2}));
+
+    Assertions.assertTrue(snapshot.isChanged(0, 19L));
+    Assertions.assertTrue(snapshot.isChanged(1, 0.25D));
+    Assertions.assertTrue(snapshot.isChanged(2, false));
+    Assertions.assertTrue(snapshot.isChanged(0, "changed"));
+    Assertions.assertTrue(snapshot.isChanged(1, new byte[]{2, 1}));
+  }
+
+  @Test
+  void isChangedNullTest() {
+    Snapshot snapshot = new Snapshot(0, 1);
+    Assertions.assertFalse(snapshot.isChanged(0, null));
+    Assertions.assertTrue(snapshot.isChanged(0, "name"));
+
+    snapshot.set(0, "name");
+    Assertions.assertTrue(snapshot.isChanged(0, null));
+  }
+
+  @Test
+  void isChangedNaNTest() {
+    Snapshot snapshot = new Snapshot(1, 0);
+    snapshot.set(0, Double.NaN);
+    Assertions.assertFalse(snapshot.isChanged(0, Double.NaN));
+  }
+}
@@ -16,13 +16,18 @@
 
 package org.rcd2obj.annotation.meta;
 
+import org.rcd2obj.annotation.MappedSuperclass;
 import org.rcd2obj.annotation.Table;
 import org.rcd2obj.annotation.meta.TableMetaInfo.Factory;
 import org.rcd2obj.annotation.meta.alias.ColumnNameAlias;
 import org.rcd2obj.annotation.meta.alias.TableNameAlias;
+import org.rcd2obj.annotation.naming.NamingStrategy;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -38,6 +43,8 @@ class MetaInfoTest {
   private static final String TEST_TABLE = "test_table";
   private static final String FLAG = "flag";
   private static final String NUM = "num";
+  private static final String TEXT = "text";
+  private static final String ENTITY_WITH_INHERITED_FIELDS = "entity_with_inherited_fields";
 
   @Test
   void buildEntityWithoutAnnotationTest() {
@@ -115,6 +122,49 @@ class MetaInfoTest {
     Assertions.assertTrue(columns.isEmpty());
   }
 
+  @Test
+  void buildEntityWithInheritedFieldsTest() {
+    Factory factory = new Factory(new MetaInfoContext());
+    TableMetaInfo metaInfo = factory.build(EntityWithInheritedFields.class).get();
+
+    ColumnMetaInfo[] columns = metaInfo.getColumns().toArray(new ColumnMetaInfo[]{});
+    Assertions.assertEquals(3, columns.length);
+    Assertions.assertEquals(FLAG, columns[0].getField().getName());
+    Assertions.assertEquals(NUM, columns[1].getField().getName());
+    Assertions.assertEquals(TEXT, columns[2].getField().getName());
+    Assertions.assertEquals(
+        ENTITY_WITH_INHERITED_FIELDS + "." + FLAG,
+        columns[0].getAliases().iterator().next().getName()
+    );
+  }
+
+  @Test
+  void buildEntityWithMappedSuperclassTest() {
+    Factory factory = new Factory(new MetaInfoContext());
+    TableMetaInfo metaInfo = factory.build(EntityWithMappedSuperclass.class).get();
+
+    ColumnMetaInfo[] columns = metaInfo.getColumns().toArray(new ColumnMetaInfo[]{});
+    Assertions.assertEquals(2, columns.length);
+    Assertions.assertEquals(NUM, columns[0].getField().getName());
+    Assertions.assertEquals(TEXT, columns[1].getField().getName());
+  }
+
+  @Test
+  void buildParallelTest() {
+    Factory factory = new Factory(new MetaInfoContext());
+    List<TableMetaInfo> built = IntStream
+        .range(0, 64)
+        .parallel()
+        .mapToObj(i -> factory.build(EntityWithFields.class).get())
+        .collect(Collectors.toList());
+
+    NamingStrategy naming = built.get(0).getAliases().iterator().next().getNaming();
+    for (TableMetaInfo metaInfo : built) {
+      Assertions.assertEquals(2, metaInfo.getColumns().size());
+      Assertions.assertSame(naming, metaInfo.getAliases().iterator().next().getNaming());
+    }
+  }
+
   static class Entity {
   }
 
@@ -133,4 +183,23 @@ class MetaInfoTest {
   @Table("test_table")
   static class EntityWithoutFields {
   }
+
+  @Table
+  static class EntityWithInheritedFields extends EntityWithFields {
+    private String text;
+  }
+
+  static class UnmappedBase {
+    private boolean flag;
+  }
+
+  @MappedSuperclass
+  static class MappedBase extends UnmappedBase {
+    private double num;
+  }
+
+  @Table
+  static class EntityWithMappedSuperclass extends MappedBase {
+    private String text;
+  }
 }
@@ -0,0 +1,144 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.rcd2obj.annotation.meta;
+
+import org.rcd2obj.annotation.Id;
+import org.rcd2obj.annotation.Subtype;
+import org.rcd2obj.annotation.Table;
+import org.rcd2obj.annotation.meta.alias.TableNameAlias;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link QueryBuilder}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class QueryBuilderTest {
+  private static final String INSERT = "INSERT INTO entity (id, name, age) VALUES (?, ?, ?)";
+  private static final String INSERT_TEST_TABLE = "INSERT INTO test_table (id, name, age) VALUES (?, ?, ?)";
+  private static final String INSERT_ROWS =
+      "INSERT INTO entity (id, name, age) VALUES (?, ?, ?), (?, ?, ?), (?, ?, ?)";
+  private static final String UPDATE = "UPDATE entity SET name = ?, age = ? WHERE id = ?";
+  private static final String UPDATE_AGE = "UPDATE entity SET age = ? WHERE id = ?";
+  private static final String PROJECTION = "entity.id, entity.name, entity.age";
+  private static final String SELECT_SHAPE = "SELECT shape.kind, shape.id, shape.radius, shape.side FROM shape";
+  private static final String SELECT_TEST_TABLE =
+      "SELECT test_table.id, test_table.name, test_table.age FROM test_table";
+
+  @Test
+  void buildInsertTest() {
+    TableMetaInfo info = new TableMetaInfo.Factory(new MetaInfoContext()).build(Entity.class).get();
+    Iterator<TableNameAlias> aliases = info.getAliases().iterator();
+
+    QueryBuilder builder = new QueryBuilder(info);
+    Assertions.assertEquals(INSERT, builder.buildInsert(aliases.next()));
+    Assertions.assertEquals(INSERT_TEST_TABLE, builder.buildInsert(aliases.next()));
+  }
+
+  @Test
+  void buildInsertRowsTest() {
+    TableMetaInfo info = new TableMetaInfo.Factory(new MetaInfoContext()).build(Entity.class).get();
+    TableNameAlias alias = info.getAliases().iterator().next();
+
+    QueryBuilder builder = new QueryBuilder(info);
+    Assertions.assertEquals(INSERT_ROWS, builder.buildInsert(alias, 3));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> builder.buildInsert(alias, 0));
+  }
+
+  @Test
+  void buildSelectTest() {
+    TableMetaInfo info = new TableMetaInfo.Factory(new MetaInfoContext()).build(Entity.class).get();
+    Iterator<TableNameAlias> aliases = info.getAliases().iterator();
+
+    QueryBuilder builder = new QueryBuilder(info);
+    Assertions.assertEquals(PROJECTION, builder.buildProjection(aliases.next()));
+    Assertions.assertEquals(SELECT_TEST_TABLE, builder.buildSelect(aliases.next()));
+  }
+
+  @Test
+  void buildSelectSubtypesTest() {
+    TableMetaInfo info = new TableMetaInfo.Factory(new MetaInfoContext()).build(Shape.class).get();
+    Assertions.assertEquals("kind", info.getDiscriminator().orElse(null));
+    Assertions.assertEquals(Circle.class, info.getSubtypes().get("circle").getType());
+    Assertions.assertEquals(2, info.getSubtypes().get("square").getColumns().size());
+
+    Assertions.assertEquals(SELECT_SHAPE, new QueryBuilder(info).buildSelect(info.getAliases().iterator().next()));
+  }
+
+  @Test
+  void buildUpdateTest() {
+    TableMetaInfo info = new TableMetaInfo.Factory(new MetaInfoContext()).build(Entity.class).get();
+
+    Optional<String> update = new QueryBuilder(info).buildUpdate(info.getAliases().iterator().next());
+    Assertions.assertTrue(update.isPresent());
+    Assertions.assertEquals(UPDATE, update.get());
+  }
+
+  @Test
+  void buildUpdateColumnsTest() {
+    TableMetaInfo info = new TableMetaInfo.Factory(new MetaInfoContext()).build(Entity.class).get();
+    TableNameAlias alias = info.getAliases().iterator().next();
+    QueryBuilder builder = new QueryBuilder(info);
+
+    BitSet columns = new BitSet();
+    columns.set(0);
+    Assertions.assertFalse(builder.buildUpdate(alias, columns).isPresent());
+
+    columns.set(2);
+    Assertions.assertEquals(UPDATE_AGE, builder.buildUpdate(alias, columns).orElse(null));
+  }
+
+  @Test
+  void buildUpdateWithoutIdTest() {
+    TableMetaInfo info = new TableMetaInfo.Factory(new MetaInfoContext()).build(EntityWithoutId.class).get();
+    Assertions.assertFalse(new QueryBuilder(info).buildUpdate(info.getAliases().iterator().next()).isPresent());
+  }
+
+  @Table
+  @Table("test_table")
+  static class Entity {
+    @Id
+    private long id;
+    private String name;
+    private int age;
+  }
+
+  @Table
+  static class EntityWithoutId {
+    private String name;
+  }
+
+  @Table(discriminator = "kind")
+  @Subtype(value = "circle", type = Circle.class)
+  @Subtype(value = "square", type = Square.class)
+  abstract static class Shape {
+    @Id
+    private long id;
+  }
+
+  static class Circle extends Shape {
+    private double radius;
+  }
+
+  static class Square extends Shape {
+    private double side;
+  }
+}
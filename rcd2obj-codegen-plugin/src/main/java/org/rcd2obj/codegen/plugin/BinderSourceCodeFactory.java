@@ -0,0 +1,190 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.codegen.plugin;
+
+import org.rcd2obj.annotation.mapping.Binder;
+import org.rcd2obj.annotation.meta.ColumnMetaInfo;
+import org.rcd2obj.annotation.meta.QueryBuilder;
+import org.rcd2obj.annotation.meta.TableMetaInfo;
+import org.rcd2obj.annotation.meta.alias.TableNameAlias;
+import org.rcd2obj.codegen.JavaClass;
+import org.rcd2obj.codegen.JavaElement;
+import org.rcd2obj.codegen.field.JavaFieldDefinition;
+import org.rcd2obj.codegen.inherited.JavaInheritableElement;
+import org.rcd2obj.codegen.method.JavaMethodBlockImpl;
+import org.rcd2obj.codegen.method.JavaMethodDefinition;
+import org.rcd2obj.codegen.modifier.JavaPublicModifier;
+import org.rcd2obj.codegen.operator.JavaArgument;
+import org.rcd2obj.codegen.operator.JavaLiteralArgument;
+import org.rcd2obj.codegen.operator.JavaPlusOperator;
+import org.rcd2obj.codegen.operator.JavaReturnOperator;
+import org.rcd2obj.codegen.parameter.JavaParameter;
+import org.rcd2obj.codegen.type.JavaExplicitType;
+import org.rcd2obj.codegen.variable.JavaVariableDefinition;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Factory of the {@link Binder}'s implementations. The statements are precomputed for every name of the table
+ * and are placed to the constants, the parameters are bound by the typed setters without any reflection.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   public class TestEntityStubBinder implements Binder {
+ *     public static final String INSERT_TEST_ENTITY = "INSERT INTO test_entity (name, age) VALUES (?, ?)";
+ *
+ *     public void bindInsert(PreparedStatement statement, int offset, Object source) throws SQLException {
+ *       TestEntity entity = (TestEntity) source;
+ *       statement.setString(offset + 1, entity.getName());
+ *       statement.setShort(offset + 2, entity.getAge());
+ *     }
+ *     ...
+ *   }
+ *   }
+ * </pre>
+ * The entities without public getters of the columns are not supported. The binders of the polymorphic
+ * entities are not generated, the discriminator and the columns of the subclasses aren't known by the base entity.
+ *
+ * @author Andrey_Yurzanov
+ */
+public class BinderSourceCodeFactory extends EntitySourceCodeFactory {
+  private static final String CLASS_NAME_SUFFIX = "StubBinder";
+  private static final String INSERT_PREFIX = "INSERT_";
+  private static final String UPDATE_PREFIX = "UPDATE_";
+  private static final String OFFSET = "offset";
+
+  @Override
+  public Optional<JavaSourceCode> build(TableMetaInfo info) {
+    if (!info.getSubtypes().isEmpty() || !hasGetters(info)) {
+      return Optional.empty();
+    }
+
+    QueryBuilder builder = new QueryBuilder(info);
+    Map<String, String> inserts = new LinkedHashMap<>();
+    Map<String, String> updates = new LinkedHashMap<>();
+    for (TableNameAlias alias : info.getAliases()) {
+      inserts.putIfAbsent(getConstantName(INSERT_PREFIX, alias), builder.buildInsert(alias));
+      builder
+        .buildUpdate(alias)
+        .ifPresent(update -> updates.putIfAbsent(getConstantName(UPDATE_PREFIX, alias), update));
+    }
+
+    List<JavaFieldDefinition> fields = new ArrayList<>();
+    List<JavaMethodDefinition> methods = new ArrayList<>();
+    List<JavaMethodDefinition> helpers = new ArrayList<>();
+    if (!inserts.isEmpty()) {
+      methods.add(buildQueryGetter("getInsertQuery", addConstants(fields, inserts)));
+      methods.add(buildBind("bindInsert", info, builder.getInsertColumns(), true, helpers));
+    }
+    if (!updates.isEmpty()) {
+      methods.add(buildQueryGetter("getUpdateQuery", addConstants(fields, updates)));
+      methods.add(buildBind("bindUpdate", info, builder.getUpdateColumns(), false, helpers));
+    }
+    methods.addAll(helpers);
+
+    return Optional.of(
+      new JavaSourceCode(
+        new JavaClass(
+          info.getType().getSimpleName().concat(CLASS_NAME_SUFFIX),
+          getPackage(info),
+          new JavaPublicModifier(),
+          Collections.singletonList(new JavaInheritableElement(Binder.class)),
+          fields,
+          null,
+          methods
+        )
+      )
+    );
+  }
+
+  // Creates getter of the statement
+  private JavaMethodDefinition buildQueryGetter(String name, JavaFieldDefinition field) {
+    return new JavaMethodDefinition(
+      name,
+      new JavaPublicModifier(),
+      new JavaExplicitType(String.class),
+      null,
+      new JavaMethodBlockImpl(new JavaReturnOperator(field.reference()))
+    );
+  }
+
+  // Creates method of the parameters binding, a parameter is bound by the typed setter of the statement
+  private JavaMethodDefinition buildBind(
+    String name,
+    TableMetaInfo info,
+    List<ColumnMetaInfo> columns,
+    boolean hasOffset,
+    List<JavaMethodDefinition> helpers
+  ) {
+    JavaVariableDefinition statement = new JavaVariableDefinition(
+      new JavaExplicitType(PreparedStatement.class),
+      STATEMENT
+    );
+    JavaVariableDefinition offset = new JavaVariableDefinition(new JavaExplicitType(int.class), OFFSET);
+    JavaVariableDefinition source = new JavaVariableDefinition(new JavaExplicitType(Object.class), SOURCE);
+    JavaVariableDefinition entity = buildEntity(info, source);
+
+    List<JavaVariableDefinition> variables = new ArrayList<>();
+    variables.add(statement);
+    if (hasOffset) {
+      variables.add(offset);
+    }
+    variables.add(entity);
+
+    Collection<JavaElement> statements = new ArrayList<>();
+    statements.add(entity);
+    statements.addAll(
+      buildColumns(
+        name,
+        variables,
+        columns,
+        (column, index) -> {
+          JavaArgument parameterIndex = new JavaLiteralArgument(index + 1);
+          if (hasOffset) {
+            parameterIndex = new JavaPlusOperator(offset.reference(), parameterIndex);
+          }
+          return statement.invoke(buildSetterInvoke(column, parameterIndex, buildGetterInvoke(entity, column)));
+        },
+        helpers
+      )
+    );
+
+    List<JavaParameter> parameters = new ArrayList<>();
+    parameters.add(new JavaParameter(parameters.size() + 1, STATEMENT, statement.getVariableType()));
+    if (hasOffset) {
+      parameters.add(new JavaParameter(parameters.size() + 1, OFFSET, offset.getVariableType()));
+    }
+    parameters.add(new JavaParameter(parameters.size() + 1, SOURCE, source.getVariableType()));
+
+    return new JavaMethodDefinition(
+      name,
+      new JavaPublicModifier(),
+      new JavaExplicitType(void.class),
+      parameters,
+      Collections.singletonList(new JavaExplicitType(SQLException.class)),
+      new JavaMethodBlockImpl(statements)
+    );
+  }
+}
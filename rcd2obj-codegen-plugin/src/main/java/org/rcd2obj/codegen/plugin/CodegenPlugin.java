@@ -27,25 +27,54 @@ import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.rcd2obj.runtime.MapperBytecodeFactory;
 
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 /**
  * This mojo generates code by annotations. It has steps:
  * <br/>
+ * Step 0. Filtering of the class files by the packages, see {@link JavaClassVisitor}, and by the
+ * constant pool, see {@link TableClassFilter}.
+ * <br/>
  * Step 1. Extracting of meta information.
  * <br/>
  * Step 2. Generating source code.
  * <br/>
- * Step 3. Writing source code to the file.
+ * Step 3. Writing source code to the file, only for the debugging and the IDE, the compiler reads
+ * the source code from the memory. The unchanged files are not rewritten, the writing is disabled
+ * by {@code rcd2obj.writeSources} property.
  * <br/>
  * Step 4. Compiling source code.
  * <br/>
+ * The steps 0-3 are executed in parallel for the classes of one directory, count of the threads is
+ * configured by {@code rcd2obj.threads} property, by default all the processors are used. The
+ * classes of the directory are compiled together.
+ * <br/>
+ * The generation is incremental, the unchanged entities are skipped and the generated classes of
+ * the removed entities are deleted, see {@link FingerprintIndex}. It is disabled by
+ * {@code rcd2obj.incremental} property.
+ * <br/>
+ * The mappers are emitted as the class files without the steps 3-4 when {@code rcd2obj.bytecode}
+ * property is enabled, see {@link MapperBytecodeFactory}, the other generated classes are still
+ * compiled. The mappers generated by {@link MapperAnnotationProcessor} are kept as is.
+ * <br/>
+ * The durations of the phases are written to the log and to {@code rcd2obj.timingsFile} as JSON,
+ * see {@link PhaseTimer}.
+ * <br/>
  * It's first simplify realization, will be change in next iterations.
  *
  * @author Andrey_Yurzanov
@@ -56,6 +85,13 @@ import java.util.Optional;
   requiresDependencyResolution = ResolutionScope.COMPILE
 )
 public class CodegenPlugin extends AbstractMojo {
+  private static final String INDEX_EXTENSION = ".index";
+  private static final String CLASS_EXTENSION = ".class";
+  private static final String VERSION_SEPARATOR = ";";
+  private static final Collection<JavaSourceCode> UNCHANGED = Collections.emptyList();
+
+  @Parameter(defaultValue = "${project.build.directory}", readonly = true)
+  private File buildDirectory;
   @Parameter(defaultValue = "${project.build.directory}/classes", readonly = true)
   private File classesDirectory;
   @Parameter(defaultValue = "${project.build.directory}/test-classes", readonly = true)
@@ -64,13 +100,31 @@ public class CodegenPlugin extends AbstractMojo {
   private File generatedSources;
   @Parameter(property = "directories")
   private List<File> directories;
+  @Parameter(property = "includes")
+  private List<String> includes;
+  @Parameter(property = "excludes")
+  private List<String> excludes;
   @Parameter(
     defaultValue = "${project.compileClasspathElements}"
   )
   private List<String> classpathElements;
+  @Parameter(property = "rcd2obj.threads", defaultValue = "0")
+  private int threads;
+  @Parameter(property = "rcd2obj.incremental", defaultValue = "true")
+  private boolean incremental;
+  @Parameter(property = "rcd2obj.writeSources", defaultValue = "true")
+  private boolean writeSources;
+  @Parameter(property = "rcd2obj.bytecode", defaultValue = "false")
+  private boolean bytecode;
+  @Parameter(defaultValue = "${project.build.directory}/rcd2obj", readonly = true)
+  private File indexDirectory;
+  @Parameter(property = "rcd2obj.timingsFile", defaultValue = "${project.build.directory}/rcd2obj/timings.json")
+  private File timingsFile;
+  @Parameter(defaultValue = "${plugin.version}", readonly = true)
+  private String pluginVersion;
 
   @Component
-  private PathClassLoader loader;
+  private TableClassFilter filter;
   @Component
   private JavaSourceCodeCompiler compiler;
   @Component
@@ -78,6 +132,7 @@ public class CodegenPlugin extends AbstractMojo {
   @Component
   private JavaSourceCodeGenerator generator;
   private final TableMetaInfo.Factory metaFactory = new TableMetaInfo.Factory(new MetaInfoContext());
+  private final MapperBytecodeFactory bytecodeFactory = new MapperBytecodeFactory();
 
   @Override
   public void execute() throws MojoExecutionException, MojoFailureException {
@@ -89,41 +144,222 @@ public class CodegenPlugin extends AbstractMojo {
     }
 
     Log log = getLog();
-    try {
+    PhaseTimer timer = new PhaseTimer();
+    ForkJoinPool pool = new ForkJoinPool(threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+    // the loader is closed after the execution, the loaded classes don't outlive it
+    try (PathClassLoader loader = new PathClassLoader(directories, classpathElements, getClass().getClassLoader())) {
       for (File directory : directories) {
         Path root = directory.toPath();
         log.info(String.join("", "Start scanning [", root.toString(), "]"));
 
-        JavaClassVisitor visitor = new JavaClassVisitor();
+        long start = timer.start();
+        JavaClassVisitor visitor = new JavaClassVisitor(root, includes, excludes);
         Files.walkFileTree(root, visitor);
+        timer.stop(PhaseTimer.Phase.WALK, start);
 
-        for (Path path : visitor.getJavaClasses()) {
-          Class<?> loaded = loader.loadClass(root, path);
-
-          // Step 1. Extracting of meta information
-          Optional<TableMetaInfo> value = metaFactory.build(loaded);
-          if (value.isPresent()) {
-            log.info(String.join("", "Start processing [", path.toString(), "]"));
-
-            // Step 2. Generating source code
-            TableMetaInfo info = value.get();
-            JavaSourceCode sourceCode = generator.generate(value.get());
-
-            // Step 3. Writing source code
-            sourceCodeWriter.write(generatedSources.toPath(), info, sourceCode);
+        // the configuration is a part of the version, the entities are generated again when it is changed
+        FingerprintIndex index = new FingerprintIndex(
+          indexDirectory.toPath().resolve(directory.getName() + INDEX_EXTENSION),
+          buildDirectory.toPath(),
+          incremental ? getIndexVersion(pluginVersion, bytecode, writeSources, includes, excludes) : ""
+        );
+        List<Path> paths = new ArrayList<>(visitor.getJavaClasses());
+        List<Future<Optional<Collection<JavaSourceCode>>>> tasks = new ArrayList<>();
+        for (Path path : paths) {
+          tasks.add(pool.submit(() -> process(loader, timer, root, path, index)));
+        }
 
-            // Step 4. Compiling source code
-            compiler.compile(directory, classpathElements, sourceCode);
+        List<JavaSourceCode> sourceCodes = new ArrayList<>();
+        for (int i = 0; i < paths.size(); i++) {
+          Optional<Collection<JavaSourceCode>> processed = tasks.get(i).get();
+          if (processed.isPresent() && processed.get() == UNCHANGED) {
+            log.info(String.join("", "Unchanged [", paths.get(i).toString(), "]"));
+          } else if (processed.isPresent()) {
+            log.info(String.join("", "Processed [", paths.get(i).toString(), "]"));
+            sourceCodes.addAll(processed.get());
           } else {
-            log.info(String.join("", "Skipped [", path.toString(), "]"));
+            log.info(String.join("", "Skipped [", paths.get(i).toString(), "]"));
           }
         }
 
+        // Step 4. Compiling source code
+        if (!sourceCodes.isEmpty()) {
+          log.info(String.join("", "Start compiling [", String.valueOf(sourceCodes.size()), "] classes"));
+          start = timer.start();
+          report(log, compiler.compile(directory, classpathElements, sourceCodes));
+          timer.stop(PhaseTimer.Phase.COMPILE, start);
+        }
+
+        int removed = index.save();
+        if (removed > 0) {
+          log.info(String.join("", "Removed generated classes of [", String.valueOf(removed), "] entities"));
+        }
         log.info(String.join("", "Finish scanning [", root.toString(), "]"));
       }
+
+      timer.getTable().forEach(log::info);
+      timer.write(timingsFile.toPath());
+    } catch (MojoFailureException exception) {
+      throw exception;
     } catch (Exception exception) {
       log.error("Class files processing error", exception);
       throw new RuntimeException(exception);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  // Processes the class file, returns the generated source code for compiling, UNCHANGED for
+  // unchanged class or empty result for skipped class
+  private Optional<Collection<JavaSourceCode>> process(
+    PathClassLoader loader,
+    PhaseTimer timer,
+    Path root,
+    Path path,
+    FingerprintIndex index
+  ) throws Exception {
+    // Step 0. Filtering of the class files without the annotation and unchanged entities
+    long start = timer.start();
+    boolean annotated = filter.test(path);
+    boolean unchanged = annotated && incremental && index.isUnchanged(root, path);
+    timer.stop(PhaseTimer.Phase.FILTER, start);
+    if (!annotated) {
+      return Optional.empty();
+    }
+    if (unchanged) {
+      return Optional.of(UNCHANGED);
+    }
+
+    start = timer.start();
+    Class<?> loaded = loader.loadClass(root, path);
+    timer.stop(PhaseTimer.Phase.LOAD, start);
+
+    // Step 1. Extracting of meta information
+    start = timer.start();
+    Optional<TableMetaInfo> value = metaFactory.build(loaded);
+    timer.stop(PhaseTimer.Phase.META, start);
+    if (!value.isPresent()) {
+      return Optional.empty();
+    }
+
+    // Step 2. Generating source code
+    TableMetaInfo info = value.get();
+    start = timer.start();
+    Collection<JavaSourceCode> generated = generator.generate(info);
+    timer.stop(PhaseTimer.Phase.GENERATE, start);
+
+    start = timer.start();
+    String mapperName = bytecodeFactory.getClassName(info);
+    boolean processed = isProcessed(loader, mapperName);
+    Optional<byte[]> mapper = bytecode && !processed ? bytecodeFactory.build(info) : Optional.empty();
+    List<JavaSourceCode> sourceCodes = new ArrayList<>();
+    for (JavaSourceCode sourceCode : generated) {
+      // the mapper is emitted directly or generated by the annotation processor, its source code isn't
+      // written and compiled
+      boolean isMapper = mapperName.equals(sourceCode.getQualifiedName());
+      if (!isMapper || (!mapper.isPresent() && !processed)) {
+        // the source code is rendered lazily, it's rendered here to be measured separately
+        sourceCode.getCode();
+        sourceCodes.add(sourceCode);
+      }
+    }
+    timer.stop(PhaseTimer.Phase.RENDER, start);
+
+    // Step 3. Writing source code
+    start = timer.start();
+    List<Path> outputs = new ArrayList<>();
+    if (mapper.isPresent()) {
+      Path classFile = getClassFile(root, mapperName);
+      Files.write(classFile, mapper.get());
+      outputs.add(classFile);
+    }
+    for (JavaSourceCode sourceCode : sourceCodes) {
+      outputs.add(getClassFile(root, sourceCode.getQualifiedName()));
+      if (writeSources) {
+        sourceCodeWriter.write(generatedSources.toPath(), sourceCode);
+        outputs.add(sourceCodeWriter.getPath(generatedSources.toPath(), sourceCode));
+      }
+    }
+    timer.stop(PhaseTimer.Phase.WRITE, start);
+
+    index.put(root, path, info, outputs);
+    return Optional.of(sourceCodes);
+  }
+
+  // Checks that the mapper is generated by the annotation processor during the compilation
+  private static boolean isProcessed(PathClassLoader loader, String mapperName) {
+    try {
+      return MapperAnnotationProcessor.isGenerated(loader.loadClass(mapperName));
+    } catch (ClassNotFoundException | LinkageError exception) {
+      return false;
+    }
+  }
+
+  // Returns version of the index, it contains all the configuration affecting the generated files
+  static String getIndexVersion(
+    String pluginVersion,
+    boolean bytecode,
+    boolean writeSources,
+    List<String> includes,
+    List<String> excludes
+  ) {
+    return String.join(
+      VERSION_SEPARATOR,
+      pluginVersion,
+      "bytecode=" + bytecode,
+      "writeSources=" + writeSources,
+      "includes=" + (includes == null ? Collections.emptyList() : includes),
+      "excludes=" + (excludes == null ? Collections.emptyList() : excludes)
+    );
+  }
+
+  // Returns path of the class file of the class
+  private static Path getClassFile(Path root, String className) {
+    String fileName = className.replace(".", root.getFileSystem().getSeparator());
+    return root.resolve(fileName + CLASS_EXTENSION);
+  }
+
+  // Writes the diagnostics of the compiler to the log by classes, fails when there are errors,
+  // the diagnostics without the position are written as the messages of the whole compilation
+  static void report(
+    Log log,
+    Map<String, List<Diagnostic<? extends JavaFileObject>>> diagnostics
+  ) throws MojoFailureException {
+    int errors = 0;
+    for (Map.Entry<String, List<Diagnostic<? extends JavaFileObject>>> entry : diagnostics.entrySet()) {
+      for (Diagnostic<? extends JavaFileObject> diagnostic : entry.getValue()) {
+        String message = diagnostic.getMessage(null);
+        if (diagnostic.getSource() != null && diagnostic.getLineNumber() != Diagnostic.NOPOS) {
+          message = String.join(
+            "",
+            "[",
+            entry.getKey(),
+            ":",
+            String.valueOf(diagnostic.getLineNumber()),
+            "] ",
+            message
+          );
+        }
+
+        switch (diagnostic.getKind()) {
+          case ERROR:
+            log.error(message);
+            errors++;
+            break;
+          case WARNING:
+          case MANDATORY_WARNING:
+            log.warn(message);
+            break;
+          default:
+            log.info(message);
+        }
+      }
+    }
+
+    if (errors > 0) {
+      throw new MojoFailureException(
+        String.join("", "Compiling of the generated classes failed with [", String.valueOf(errors), "] errors")
+      );
     }
   }
 }
@@ -0,0 +1,300 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.codegen.plugin;
+
+import org.rcd2obj.annotation.meta.ColumnMetaInfo;
+import org.rcd2obj.annotation.meta.ColumnType;
+import org.rcd2obj.annotation.meta.TableMetaInfo;
+import org.rcd2obj.annotation.meta.alias.TableNameAlias;
+import org.rcd2obj.codegen.JavaElement;
+import org.rcd2obj.codegen.field.JavaFieldDefinition;
+import org.rcd2obj.codegen.method.JavaMethodBlockImpl;
+import org.rcd2obj.codegen.method.JavaMethodDefinition;
+import org.rcd2obj.codegen.method.JavaMethodInvokeOperator;
+import org.rcd2obj.codegen.modifier.JavaFinalModifier;
+import org.rcd2obj.codegen.modifier.JavaPrivateModifier;
+import org.rcd2obj.codegen.modifier.JavaPublicModifier;
+import org.rcd2obj.codegen.modifier.JavaStaticModifier;
+import org.rcd2obj.codegen.operator.JavaArgument;
+import org.rcd2obj.codegen.operator.JavaAssignOperator;
+import org.rcd2obj.codegen.operator.JavaCastOperator;
+import org.rcd2obj.codegen.operator.JavaLiteralArgument;
+import org.rcd2obj.codegen.parameter.JavaParameter;
+import org.rcd2obj.codegen.type.JavaExplicitType;
+import org.rcd2obj.codegen.variable.JavaVariableDefinition;
+import org.rcd2obj.runtime.MapperBytecodeFactory;
+
+import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Base factory of the classes which read or write attributes of the annotated entity by its public
+ * accessors.
+ *
+ * @author Andrey_Yurzanov
+ */
+public abstract class EntitySourceCodeFactory implements JavaSourceCodeFactory {
+  protected static final String STATEMENT = "statement";
+  protected static final String SOURCE = "source";
+  protected static final String ENTITY = "entity";
+
+  /**
+   * Maximal estimated size of the generated method's bytecode. The methods of this size are still
+   * inlined by JIT as the frequently called methods, see {@code -XX:FreqInlineSize}.
+   */
+  protected static final int METHOD_SIZE_LIMIT = MapperBytecodeFactory.METHOD_SIZE_LIMIT;
+
+  /**
+   * Estimated size of the bytecode of one column's reading or writing: loading of the receiver,
+   * the index and the value, the arithmetic of the index and two invocations.
+   */
+  protected static final int COLUMN_SIZE = MapperBytecodeFactory.COLUMN_SIZE;
+
+  /**
+   * Estimated size of the additional bytecode of {@link ColumnType#OBJECT}'s column, the class
+   * literal and the cast.
+   */
+  protected static final int OBJECT_COLUMN_SIZE = MapperBytecodeFactory.OBJECT_COLUMN_SIZE;
+
+  /**
+   * Checks that every column of the entity has the public getter.
+   *
+   * @param info information about annotated entity
+   * @return true when every column has the public getter
+   */
+  protected boolean hasGetters(TableMetaInfo info) {
+    for (ColumnMetaInfo column : info.getColumns()) {
+      if (!column.getGetter().isPresent()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Creates the entity's variable initialized by the source.
+   * <pre>
+   *   Example:
+   *   {@code
+   *   TestEntity entity = (TestEntity) source;
+   *   }
+   * </pre>
+   *
+   * @param info   information about annotated entity
+   * @param source the source variable
+   * @return the entity's variable
+   */
+  protected JavaVariableDefinition buildEntity(TableMetaInfo info, JavaVariableDefinition source) {
+    return new JavaVariableDefinition(
+      new JavaExplicitType(info.getType()),
+      ENTITY,
+      new JavaAssignOperator(new JavaCastOperator(new JavaExplicitType(info.getType()), source.reference()))
+    );
+  }
+
+  /**
+   * Creates invocation of the column's getter.
+   *
+   * @param entity the entity's variable
+   * @param column the column
+   * @return invocation of the column's getter
+   */
+  protected JavaArgument buildGetterInvoke(JavaVariableDefinition entity, ColumnMetaInfo column) {
+    Method getter = column
+      .getGetter()
+      .orElseThrow(() -> new IllegalArgumentException("Column doesn't have getter: " + column.getField()));
+    return entity.invoke(new JavaMethodDefinition(getter.getName()).invoke());
+  }
+
+  /**
+   * Creates invocation of the statement's typed setter.
+   *
+   * @param column the column
+   * @param index  index of the parameter
+   * @param value  value of the parameter
+   * @return invocation of the statement's typed setter
+   */
+  protected JavaMethodInvokeOperator buildSetterInvoke(ColumnMetaInfo column, JavaArgument index, JavaArgument value) {
+    ColumnType type = column.getType();
+    return new JavaMethodDefinition(
+      type.getSetterName(),
+      new JavaParameter(1, "parameterIndex", new JavaExplicitType(int.class)),
+      new JavaParameter(2, "x", new JavaExplicitType(type.getType()))
+    ).invoke(index, value);
+  }
+
+  /**
+   * Creates the statements of the columns. When the estimated size of the statements exceeds
+   * {@link EntitySourceCodeFactory#METHOD_SIZE_LIMIT}, the statements are split to the private
+   * helper methods of bounded size, then the returned statements are invocations of the helpers.
+   * So the wide tables don't produce the huge methods which are not compiled by JIT.
+   *
+   * @param name      prefix of the helpers' names
+   * @param variables variables of the caller which are passed to the helpers
+   * @param columns   the columns
+   * @param statement creates the statement of the column by the column and its index in the list
+   * @param helpers   receives the created helpers
+   * @return the statements of the columns or the invocations of the helpers
+   */
+  protected List<JavaElement> buildColumns(
+    String name,
+    List<JavaVariableDefinition> variables,
+    List<ColumnMetaInfo> columns,
+    BiFunction<ColumnMetaInfo, Integer, JavaElement> statement,
+    List<JavaMethodDefinition> helpers
+  ) {
+    return buildColumns(name, variables, columns, EntitySourceCodeFactory::estimateSize, statement, helpers);
+  }
+
+  /**
+   * Creates the statements of the columns of any model, see
+   * {@link EntitySourceCodeFactory#buildColumns(String, List, List, BiFunction, List)}.
+   *
+   * @param <C>       type of the columns
+   * @param name      prefix of the helpers' names
+   * @param variables variables of the caller which are passed to the helpers
+   * @param columns   the columns
+   * @param estimator returns estimated size of the column's statement
+   * @param statement creates the statement of the column by the column and its index in the list
+   * @param helpers   receives the created helpers
+   * @return the statements of the columns or the invocations of the helpers
+   */
+  static <C> List<JavaElement> buildColumns(
+    String name,
+    List<JavaVariableDefinition> variables,
+    List<C> columns,
+    ToIntFunction<C> estimator,
+    BiFunction<C, Integer, JavaElement> statement,
+    List<JavaMethodDefinition> helpers
+  ) {
+    List<JavaElement> statements = new ArrayList<>();
+    int total = 0;
+    for (C column : columns) {
+      total += estimator.applyAsInt(column);
+    }
+
+    if (total <= METHOD_SIZE_LIMIT) {
+      for (int i = 0; i < columns.size(); i++) {
+        statements.add(statement.apply(columns.get(i), i));
+      }
+      return statements;
+    }
+
+    List<JavaParameter> parameters = new ArrayList<>();
+    JavaArgument[] arguments = new JavaArgument[variables.size()];
+    for (JavaVariableDefinition variable : variables) {
+      arguments[parameters.size()] = variable.reference();
+      parameters.add(new JavaParameter(parameters.size() + 1, variable.getVariableName(), variable.getVariableType()));
+    }
+
+    List<JavaElement> chunk = new ArrayList<>();
+    int size = 0;
+    for (int i = 0; i < columns.size(); i++) {
+      C column = columns.get(i);
+      int columnSize = estimator.applyAsInt(column);
+      if (!chunk.isEmpty() && size + columnSize > METHOD_SIZE_LIMIT) {
+        statements.add(buildHelper(name, parameters, chunk, helpers).invoke(arguments));
+        chunk = new ArrayList<>();
+        size = 0;
+      }
+      chunk.add(statement.apply(column, i));
+      size += columnSize;
+    }
+    statements.add(buildHelper(name, parameters, chunk, helpers).invoke(arguments));
+    return statements;
+  }
+
+  /**
+   * Returns estimated size of the bytecode of the column's reading or writing.
+   *
+   * @param column the column
+   * @return estimated size of the bytecode
+   */
+  protected static int estimateSize(ColumnMetaInfo column) {
+    return MapperBytecodeFactory.estimateSize(column);
+  }
+
+  // Creates the private helper, the number of the helper makes its name unique
+  private static JavaMethodDefinition buildHelper(
+    String name,
+    List<JavaParameter> parameters,
+    List<JavaElement> statements,
+    List<JavaMethodDefinition> helpers
+  ) {
+    int number = 1;
+    for (JavaMethodDefinition helper : helpers) {
+      if (helper.getMethodName().startsWith(name)) {
+        number++;
+      }
+    }
+
+    JavaMethodDefinition helper = new JavaMethodDefinition(
+      name + number,
+      new JavaPrivateModifier(),
+      new JavaExplicitType(void.class),
+      parameters,
+      Collections.singletonList(new JavaExplicitType(SQLException.class)),
+      new JavaMethodBlockImpl(statements)
+    );
+    helpers.add(helper);
+    return helper;
+  }
+
+  /**
+   * Adds the public constants of the statements to the fields.
+   *
+   * @param fields  the class's fields
+   * @param queries the statements by names of the constants
+   * @return the first added constant
+   */
+  protected JavaFieldDefinition addConstants(List<JavaFieldDefinition> fields, Map<String, String> queries) {
+    JavaFieldDefinition first = null;
+    for (Map.Entry<String, String> query : queries.entrySet()) {
+      JavaFieldDefinition field = new JavaFieldDefinition(
+        Arrays.asList(new JavaPublicModifier(), new JavaStaticModifier(), new JavaFinalModifier()),
+        new JavaVariableDefinition(
+          new JavaExplicitType(String.class),
+          query.getKey(),
+          new JavaAssignOperator(new JavaLiteralArgument(query.getValue()))
+        )
+      );
+      if (first == null) {
+        first = field;
+      }
+      fields.add(field);
+    }
+    return first;
+  }
+
+  /**
+   * Returns name of the constant related to the table.
+   *
+   * @param prefix prefix of the name
+   * @param alias  the name of the table
+   * @return name of the constant
+   */
+  protected static String getConstantName(String prefix, TableNameAlias alias) {
+    return MapperBytecodeFactory.getConstantName(prefix, alias);
+  }
+}
@@ -0,0 +1,219 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.codegen.plugin;
+
+import org.rcd2obj.annotation.meta.TableMetaInfo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the processed entities for the incremental generation. The index keeps the hashes of
+ * the class files of every entity, its superclasses and subclasses, the version of the generator
+ * and the generated files. The unchanged entities are not generated again, the generated files of
+ * the removed entities are deleted. The generated files are kept relative to the output directory,
+ * so the index stays valid when the project is moved, only the files inside the output directory
+ * are deleted. The index is thread-safe.
+ *
+ * @author Andrey_Yurzanov
+ */
+public class FingerprintIndex {
+  private static final String SEPARATOR = "|";
+  private static final String SEPARATOR_PATTERN = "\\|";
+  private static final String LIST_SEPARATOR = ",";
+  private static final String HASH_SEPARATOR = "=";
+  private static final String CLASS_EXTENSION = ".class";
+  private static final String HASH_ALGORITHM = "SHA-256";
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private final Path file;
+  private final Path outputRoot;
+  private final String version;
+  private final Properties previous = new Properties();
+  private final Map<String, String> current = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs new instance of the index, the previous index is read from the file.
+   *
+   * @param file       file of the index
+   * @param outputRoot directory which contains all the generated files
+   * @param version    version of the generator, the entities of other versions are generated again
+   * @throws IOException when the file can't be read
+   */
+  public FingerprintIndex(Path file, Path outputRoot, String version) throws IOException {
+    this.file = file;
+    this.outputRoot = outputRoot.toAbsolutePath().normalize();
+    this.version = version;
+    if (Files.isRegularFile(file)) {
+      try (InputStream in = Files.newInputStream(file)) {
+        previous.load(in);
+      }
+    }
+  }
+
+  /**
+   * Checks that the entity and the generated files are not changed since the previous generation.
+   * The unchanged entity is kept in the index.
+   *
+   * @param root      path without name of the file and package
+   * @param classFile path of the entity's class file
+   * @return true when the entity can be skipped
+   * @throws IOException when the class files can't be read
+   */
+  public boolean isUnchanged(Path root, Path classFile) throws IOException {
+    String key = root.relativize(classFile).toString();
+    String entry = previous.getProperty(key);
+    if (entry == null) {
+      return false;
+    }
+
+    String[] parts = entry.split(SEPARATOR_PATTERN, -1);
+    if (parts.length != 3 || !version.equals(parts[0])) {
+      return false;
+    }
+    for (String output : split(parts[1])) {
+      if (!Files.isRegularFile(outputRoot.resolve(output))) {
+        return false;
+      }
+    }
+    for (String dependency : split(parts[2])) {
+      int separator = dependency.lastIndexOf(HASH_SEPARATOR);
+      Path path = root.resolve(dependency.substring(0, separator));
+      if (!Files.isRegularFile(path) || !hash(path).equals(dependency.substring(separator + 1))) {
+        return false;
+      }
+    }
+
+    current.put(key, entry);
+    return true;
+  }
+
+  /**
+   * Adds the generated entity to the index.
+   *
+   * @param root      path without name of the file and package
+   * @param classFile path of the entity's class file
+   * @param info      meta information of the entity
+   * @param outputs   the generated files
+   * @throws IOException when the class files can't be read
+   */
+  public void put(Path root, Path classFile, TableMetaInfo info, Collection<Path> outputs) throws IOException {
+    Set<Class<?>> types = new LinkedHashSet<>();
+    addHierarchy(types, info.getType());
+    for (TableMetaInfo subtype : info.getSubtypes().values()) {
+      addHierarchy(types, subtype.getType());
+    }
+
+    List<String> dependencies = new ArrayList<>();
+    for (Class<?> type : types) {
+      String fileName = type.getName().replace(".", root.getFileSystem().getSeparator());
+      Path path = root.resolve(fileName + CLASS_EXTENSION);
+      if (Files.isRegularFile(path)) {
+        dependencies.add(String.join(HASH_SEPARATOR, root.relativize(path).toString(), hash(path)));
+      }
+    }
+
+    List<String> files = new ArrayList<>();
+    for (Path output : outputs) {
+      files.add(outputRoot.relativize(output.toAbsolutePath().normalize()).toString());
+    }
+
+    String entry = String.join(
+      SEPARATOR,
+      version,
+      String.join(LIST_SEPARATOR, files),
+      String.join(LIST_SEPARATOR, dependencies)
+    );
+    current.put(root.relativize(classFile).toString(), entry);
+  }
+
+  /**
+   * Deletes the generated files of the entities which are not processed by this generation and
+   * writes the index to the file.
+   *
+   * @return count of the removed entities
+   * @throws IOException when the files can't be deleted or the index can't be written
+   */
+  public int save() throws IOException {
+    int removed = 0;
+    for (String key : previous.stringPropertyNames()) {
+      if (!current.containsKey(key)) {
+        String[] parts = previous.getProperty(key).split(SEPARATOR_PATTERN, -1);
+        if (parts.length > 1) {
+          for (String output : split(parts[1])) {
+            Path path = outputRoot.resolve(output).normalize();
+            if (path.startsWith(outputRoot)) {
+              Files.deleteIfExists(path);
+            }
+          }
+        }
+        removed++;
+      }
+    }
+
+    Files.createDirectories(file.toAbsolutePath().getParent());
+    try (OutputStream out = Files.newOutputStream(file)) {
+      Properties properties = new Properties();
+      properties.putAll(new TreeMap<>(current));
+      properties.store(out, null);
+    }
+    return removed;
+  }
+
+  // Adds the type and its superclasses
+  private static void addHierarchy(Set<Class<?>> types, Class<?> type) {
+    Class<?> current = type;
+    while (current != null && !Object.class.equals(current)) {
+      types.add(current);
+      current = current.getSuperclass();
+    }
+  }
+
+  // Splits the list, the empty list doesn't have elements
+  private static String[] split(String list) {
+    return list.isEmpty() ? new String[0] : list.split(LIST_SEPARATOR);
+  }
+
+  // Returns hash of the file's content
+  private static String hash(Path path) throws IOException {
+    try {
+      byte[] digest = MessageDigest.getInstance(HASH_ALGORITHM).digest(Files.readAllBytes(path));
+      char[] hex = new char[digest.length * 2];
+      for (int i = 0; i < digest.length; i++) {
+        hex[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+        hex[i * 2 + 1] = HEX[digest[i] & 0xF];
+      }
+      return new String(hex);
+    } catch (NoSuchAlgorithmException exception) {
+      throw new IllegalStateException(exception);
+    }
+  }
+}
@@ -21,25 +21,82 @@ import java.nio.file.FileVisitResult;
 import java.nio.file.FileVisitor;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.TreeSet;
+import java.util.regex.Pattern;
 
 /**
- * The visitor of java classes.
+ * The visitor of java classes. The class files of the packages info and the module info, the
+ * anonymous and the local classes are skipped, they can't be the entities. The classes are filtered
+ * by the patterns of the packages, the pattern is the name of the package where {@code *} matches
+ * one part of the name and {@code **} matches any count of the parts, for example:
+ * {@code org.example.model}, {@code org.example.*.model}, {@code org.example.**}. The directories
+ * which can't contain the matched packages are not visited.
  *
  * @author Andrey_Yurzanov
  */
 public class JavaClassVisitor implements FileVisitor<Path> {
+  private static final String FILE_EXTENSION = ".class";
+  private static final String PACKAGE_SEPARATOR = ".";
+  private static final String ANY_PART = "*";
+  private static final String ANY_PARTS = "**";
+  private static final Pattern SKIPPED_CLASS = Pattern.compile("(package-info|module-info|.*\\$[0-9].*)\\.class");
+
   private final Collection<Path> javaClasses = new TreeSet<>();
+  private final Path root;
+  private final List<String[]> includes = new ArrayList<>();
+  private final List<String[]> excludes = new ArrayList<>();
+
+  /**
+   * Constructs new instance of the visitor, all the packages are visited.
+   */
+  public JavaClassVisitor() {
+    this(null, Collections.emptyList(), Collections.emptyList());
+  }
+
+  /**
+   * Constructs new instance of the visitor.
+   *
+   * @param root     the visited directory, the names of the packages are relative to it
+   * @param includes patterns of the visited packages, all the packages are visited when it's empty
+   * @param excludes patterns of the skipped packages
+   */
+  public JavaClassVisitor(Path root, Collection<String> includes, Collection<String> excludes) {
+    this.root = root;
+    addPatterns(this.includes, includes);
+    addPatterns(this.excludes, excludes);
+  }
 
   @Override
   public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
-    return FileVisitResult.CONTINUE;
+    if (root == null || root.equals(dir)) {
+      return FileVisitResult.CONTINUE;
+    }
+
+    String[] packageName = getPackage(root.relativize(dir));
+    for (String[] exclude : excludes) {
+      if (isSkippedTree(exclude, packageName)) {
+        return FileVisitResult.SKIP_SUBTREE;
+      }
+    }
+    if (includes.isEmpty()) {
+      return FileVisitResult.CONTINUE;
+    }
+    for (String[] include : includes) {
+      if (canMatch(include, packageName)) {
+        return FileVisitResult.CONTINUE;
+      }
+    }
+    return FileVisitResult.SKIP_SUBTREE;
   }
 
   @Override
   public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
-    if (isClassFile(file)) {
+    if (isClassFile(file) && isMatched(file)) {
       javaClasses.add(file);
     }
     return FileVisitResult.CONTINUE;
@@ -65,6 +122,93 @@ public class JavaClassVisitor implements FileVisitor<Path> {
   }
 
   private boolean isClassFile(Path path) {
-    return path.toString().endsWith(".class");
+    String fileName = path.getFileName().toString();
+    return fileName.endsWith(FILE_EXTENSION) && !SKIPPED_CLASS.matcher(fileName).matches();
+  }
+
+  // Checks the package of the class file by the patterns
+  private boolean isMatched(Path file) {
+    if (root == null) {
+      return true;
+    }
+
+    Path parent = root.relativize(file).getParent();
+    String[] packageName = parent == null ? new String[0] : getPackage(parent);
+    for (String[] exclude : excludes) {
+      if (matches(exclude, 0, packageName, 0)) {
+        return false;
+      }
+    }
+    if (includes.isEmpty()) {
+      return true;
+    }
+    for (String[] include : includes) {
+      if (matches(include, 0, packageName, 0)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // Returns parts of the package's name by the relative path
+  private static String[] getPackage(Path relative) {
+    String[] parts = new String[relative.getNameCount()];
+    for (int i = 0; i < parts.length; i++) {
+      parts[i] = relative.getName(i).toString();
+    }
+    return parts;
+  }
+
+  // Splits the patterns to the parts of the names
+  private static void addPatterns(List<String[]> target, Collection<String> patterns) {
+    if (patterns != null) {
+      for (String pattern : patterns) {
+        if (pattern != null && !pattern.trim().isEmpty()) {
+          target.add(pattern.trim().split(Pattern.quote(PACKAGE_SEPARATOR)));
+        }
+      }
+    }
+  }
+
+  // Checks that the parts of the package's name match the parts of the pattern
+  private static boolean matches(String[] pattern, int patternIndex, String[] packageName, int packageIndex) {
+    if (patternIndex == pattern.length) {
+      return packageIndex == packageName.length;
+    }
+    if (ANY_PARTS.equals(pattern[patternIndex])) {
+      for (int i = packageIndex; i <= packageName.length; i++) {
+        if (matches(pattern, patternIndex + 1, packageName, i)) {
+          return true;
+        }
+      }
+      return false;
+    }
+    return packageIndex < packageName.length
+      && (ANY_PART.equals(pattern[patternIndex]) || pattern[patternIndex].equals(packageName[packageIndex]))
+      && matches(pattern, patternIndex + 1, packageName, packageIndex + 1);
+  }
+
+  // Checks that the package or its subpackages can match the pattern
+  private static boolean canMatch(String[] pattern, String[] packageName) {
+    for (int i = 0; i < packageName.length; i++) {
+      if (i == pattern.length) {
+        return false;
+      }
+      if (ANY_PARTS.equals(pattern[i])) {
+        return true;
+      }
+      if (!ANY_PART.equals(pattern[i]) && !pattern[i].equals(packageName[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // Checks that the package and all its subpackages match the excluding pattern
+  private static boolean isSkippedTree(String[] pattern, String[] packageName) {
+    int last = pattern.length - 1;
+    return last >= 0
+      && ANY_PARTS.equals(pattern[last])
+      && matches(Arrays.copyOf(pattern, last), 0, packageName, 0);
   }
 }
@@ -16,17 +16,12 @@
 
 package org.rcd2obj.codegen.plugin;
 
-import org.rcd2obj.annotation.mapping.Mapper;
-import org.rcd2obj.annotation.meta.TableMetaInfo;
 import org.rcd2obj.codegen.JavaClass;
 import org.rcd2obj.codegen.JavaPackage;
-import org.rcd2obj.codegen.inherited.JavaInheritableElement;
-import org.rcd2obj.codegen.modifier.JavaPublicModifier;
 import org.rcd2obj.codegen.render.JavaElementWriteRender;
 import org.rcd2obj.codegen.render.format.JavaElementFormatRender;
 
 import java.io.StringWriter;
-import java.util.Collections;
 
 /**
  * The generated Java's source code.
@@ -41,20 +36,12 @@ public class JavaSourceCode {
   /**
    * Constructs new instance of Java's source code.
    *
-   * @param info information about annotated entity
+   * @param javaClass definition of the generated class
    */
-  public JavaSourceCode(TableMetaInfo info) {
-    Class<?> type = info.getType();
-    this.name = type.getSimpleName().concat("StubMapper");
+  public JavaSourceCode(JavaClass javaClass) {
+    this.name = javaClass.getClassName();
     this.writer = new StringWriter();
-    this.javaClass = new JavaClass(
-      name,
-      new JavaPackage(type.getName().replace("." + type.getSimpleName(), "")),
-      new JavaPublicModifier(),
-      Collections.singletonList(new JavaInheritableElement(Mapper.class)),
-      null,
-      null
-    );
+    this.javaClass = javaClass;
   }
 
   /**
@@ -78,4 +65,17 @@ public class JavaSourceCode {
   public String getName() {
     return name;
   }
+
+  /**
+   * Returns name of the generated class with the package.
+   *
+   * @return full name of the generated class
+   */
+  public String getQualifiedName() {
+    JavaPackage classPackage = javaClass.getClassPackage();
+    if (classPackage == null) {
+      return name;
+    }
+    return String.join(".", classPackage.getName(), name);
+  }
 }
@@ -17,6 +17,8 @@
 package org.rcd2obj.codegen.plugin;
 
 import javax.inject.Named;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
 import javax.tools.JavaCompiler;
 import javax.tools.JavaFileObject;
 import javax.tools.SimpleJavaFileObject;
@@ -26,47 +28,94 @@ import javax.tools.ToolProvider;
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.stream.Collectors;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
- * Java code compiler, uses standard Java compiler API.
+ * Java code compiler, uses standard Java compiler API. The classes are compiled for Java 8 as the
+ * entities, the compilers of the newer versions get the {@code --release 8} option, so the
+ * generated classes are checked against the API of Java 8.
  *
  * @author Andrey_Yurzanov
  */
 @Named
 public class JavaSourceCodeCompiler {
+  private static final String RELEASE_OPTION = "--release";
+  private static final String RELEASE = "8";
+
   /**
-   * Compiles the Java code.
+   * Compiles the Java code of all the classes by one task, the classpath is read once. The root
+   * directory is added to the classpath.
    *
-   * @param root              directory for compiled class
+   * @param root              directory for compiled classes
    * @param classpathElements Java's classpath
-   * @param sourceCode        code for compiling
+   * @param sourceCodes       codes for compiling
+   * @return diagnostics of the compiler by full names of the classes, the classes without
+   *     diagnostics are absent, the diagnostics of the whole compilation are placed by the empty name
+   * @throws IOException when the classpath can't be used
    */
-  public void compile(File root, Collection<String> classpathElements, JavaSourceCode sourceCode) throws IOException {
+  public Map<String, List<Diagnostic<? extends JavaFileObject>>> compile(
+    File root,
+    Collection<String> classpathElements,
+    Collection<JavaSourceCode> sourceCodes
+  ) throws IOException {
     JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
-    StandardJavaFileManager manager = compiler.getStandardFileManager(null, null, null);
-    manager.setLocation(
-      StandardLocation.CLASS_OUTPUT,
-      Collections.singletonList(root)
-    );
-    manager.setLocation(
-      StandardLocation.CLASS_PATH,
-      classpathElements.stream().map(File::new).collect(Collectors.toList())
-    );
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager manager = compiler.getStandardFileManager(diagnostics, null, null)) {
+      List<File> classpath = new ArrayList<>();
+      classpath.add(root);
+      classpathElements.stream().map(File::new).forEach(classpath::add);
+
+      manager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singletonList(root));
+      manager.setLocation(StandardLocation.CLASS_PATH, classpath);
+
+      Map<JavaFileObject, String> sources = new LinkedHashMap<>();
+      for (JavaSourceCode sourceCode : sourceCodes) {
+        sources.put(toSource(sourceCode), sourceCode.getQualifiedName());
+      }
+
+      JavaCompiler.CompilationTask task = compiler.getTask(
+        null,
+        manager,
+        diagnostics,
+        getOptions(compiler),
+        null,
+        sources.keySet()
+      );
+      task.call();
+
+      Map<String, List<Diagnostic<? extends JavaFileObject>>> result = new LinkedHashMap<>();
+      for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+        String name = sources.getOrDefault(diagnostic.getSource(), "");
+        result.computeIfAbsent(name, key -> new ArrayList<>()).add(diagnostic);
+      }
+      return result;
+    }
+  }
+
+  // Returns the options of the compiler, the compiler of Java 8 doesn't support the release option
+  private static List<String> getOptions(JavaCompiler compiler) {
+    if (compiler.isSupportedOption(RELEASE_OPTION) < 0) {
+      return Collections.emptyList();
+    }
+    return Arrays.asList(RELEASE_OPTION, RELEASE, "-Xlint:-options");
+  }
 
-    JavaCompiler.CompilationTask task = compiler.getTask(null, manager, null, null, null, Collections.singletonList(
-      new SimpleJavaFileObject(
-        URI.create(String.join("", "string:///", sourceCode.getName(), ".java")),
-        JavaFileObject.Kind.SOURCE) {
-        @Override
-        public CharSequence getCharContent(boolean ignoreEncodingErrors)
-          throws IOException {
-          return sourceCode.getCode();
-        }
+  // Creates the source file of the code
+  private static JavaFileObject toSource(JavaSourceCode sourceCode) {
+    return new SimpleJavaFileObject(
+      URI.create(String.join("", "string:///", sourceCode.getQualifiedName().replace('.', '/'), ".java")),
+      JavaFileObject.Kind.SOURCE
+    ) {
+      @Override
+      public CharSequence getCharContent(boolean ignoreEncodingErrors) throws IOException {
+        return sourceCode.getCode();
       }
-    ));
-    task.call();
+    };
   }
 }
@@ -0,0 +1,48 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.codegen.plugin;
+
+import org.rcd2obj.annotation.meta.TableMetaInfo;
+import org.rcd2obj.codegen.JavaPackage;
+
+import java.util.Optional;
+
+/**
+ * Factory of the generated Java's source code, every factory creates one class for the annotated entity.
+ *
+ * @author Andrey_Yurzanov
+ */
+public interface JavaSourceCodeFactory {
+  /**
+   * Creates source code by information about annotated entity.
+   *
+   * @param info information about annotated entity
+   * @return created source code or empty when the entity isn't supported
+   */
+  Optional<JavaSourceCode> build(TableMetaInfo info);
+
+  /**
+   * Returns package of the annotated entity, generated classes are placed to the same package.
+   *
+   * @param info information about annotated entity
+   * @return package of the annotated entity
+   */
+  default JavaPackage getPackage(TableMetaInfo info) {
+    Class<?> type = info.getType();
+    return new JavaPackage(type.getName().replace("." + type.getSimpleName(), ""));
+  }
+}
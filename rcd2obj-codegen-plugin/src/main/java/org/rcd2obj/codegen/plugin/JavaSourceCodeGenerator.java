@@ -19,6 +19,10 @@ package org.rcd2obj.codegen.plugin;
 import org.rcd2obj.annotation.meta.TableMetaInfo;
 
 import javax.inject.Named;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Generator of Java's source code.
@@ -27,12 +31,23 @@ import javax.inject.Named;
  */
 @Named
 public class JavaSourceCodeGenerator {
+  private final List<JavaSourceCodeFactory> factories = Arrays.asList(
+    new MapperSourceCodeFactory(),
+    new BinderSourceCodeFactory(),
+    new TrackerSourceCodeFactory()
+  );
+
   /**
    * Generates source code by information about annotated entity.
    *
    * @param info information about annotated entity
+   * @return generated classes of the entity
    */
-  public JavaSourceCode generate(TableMetaInfo info) {
-    return new JavaSourceCode(info);
+  public Collection<JavaSourceCode> generate(TableMetaInfo info) {
+    Collection<JavaSourceCode> sources = new ArrayList<>();
+    for (JavaSourceCodeFactory factory : factories) {
+      factory.build(info).ifPresent(sources::add);
+    }
+    return sources;
   }
 }
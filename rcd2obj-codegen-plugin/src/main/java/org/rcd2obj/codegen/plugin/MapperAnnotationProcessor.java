@@ -0,0 +1,501 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.codegen.plugin;
+
+import org.rcd2obj.annotation.Column;
+import org.rcd2obj.annotation.Id;
+import org.rcd2obj.annotation.Table;
+import org.rcd2obj.annotation.mapping.RowMapper;
+import org.rcd2obj.annotation.meta.ColumnType;
+import org.rcd2obj.annotation.meta.MappingRules;
+import org.rcd2obj.annotation.meta.MetaInfoContext;
+import org.rcd2obj.annotation.meta.alias.ColumnNameAlias;
+import org.rcd2obj.annotation.meta.alias.TableNameAlias;
+import org.rcd2obj.annotation.naming.NamingStrategy;
+import org.rcd2obj.codegen.JavaClass;
+import org.rcd2obj.codegen.JavaElement;
+import org.rcd2obj.codegen.JavaPackage;
+import org.rcd2obj.codegen.constructor.JavaConstructorDefinition;
+import org.rcd2obj.codegen.field.JavaFieldDefinition;
+import org.rcd2obj.codegen.inherited.JavaInheritableElement;
+import org.rcd2obj.codegen.method.JavaMethodBlockImpl;
+import org.rcd2obj.codegen.method.JavaMethodDefinition;
+import org.rcd2obj.codegen.modifier.JavaPublicModifier;
+import org.rcd2obj.codegen.operator.JavaArgument;
+import org.rcd2obj.codegen.operator.JavaAssignOperator;
+import org.rcd2obj.codegen.operator.JavaLiteralArgument;
+import org.rcd2obj.codegen.operator.JavaNewOperator;
+import org.rcd2obj.codegen.operator.JavaReturnOperator;
+import org.rcd2obj.codegen.parameter.JavaParameter;
+import org.rcd2obj.codegen.type.JavaExplicitType;
+import org.rcd2obj.codegen.type.JavaNameType;
+import org.rcd2obj.codegen.variable.JavaVariableDefinition;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.MirroredTypeException;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+/**
+ * Annotation processor which generates the mappers during the compilation, the alternative of
+ * {@link CodegenPlugin} without loading of the compiled classes and the second compilation.
+ * The columns are read from the elements of the compiled sources by the same rules as the
+ * meta-information of the loaded classes, see {@link MappingRules}, and the mappers are built by
+ * the same model of the code as {@link MapperSourceCodeFactory} builds. The processor generates
+ * {@link RowMapper} of the entities without subclasses, see {@link org.rcd2obj.annotation.Subtype},
+ * the entities must have the public default constructor and the public setters of the columns.
+ * The other entities are reported and skipped, they are generated by {@link CodegenPlugin}.
+ * The naming strategies must be available to the compiler. The generated mapper is marked by
+ * {@link MapperAnnotationProcessor#GENERATOR} constant, so {@link CodegenPlugin} doesn't generate
+ * it again and generates only the other classes of the entity, the processor and the plugin can
+ * be used together.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   <plugin>
+ *     <groupId>org.apache.maven.plugins</groupId>
+ *     <artifactId>maven-compiler-plugin</artifactId>
+ *     <configuration>
+ *       <annotationProcessorPaths>
+ *         <path>
+ *           <groupId>org.rcd2obj</groupId>
+ *           <artifactId>rcd2obj-codegen-plugin</artifactId>
+ *           <version>1.0</version>
+ *         </path>
+ *       </annotationProcessorPaths>
+ *       <annotationProcessors>
+ *         <annotationProcessor>org.rcd2obj.codegen.plugin.MapperAnnotationProcessor</annotationProcessor>
+ *       </annotationProcessors>
+ *     </configuration>
+ *   </plugin>
+ *   }
+ * </pre>
+ *
+ * @author Andrey_Yurzanov
+ */
+@SupportedAnnotationTypes({"org.rcd2obj.annotation.Table", "org.rcd2obj.annotation.Table.Tables"})
+public class MapperAnnotationProcessor extends AbstractProcessor {
+  /**
+   * Name of the constant of the generated mapper, the value is the name of the processor.
+   */
+  public static final String GENERATOR = "GENERATOR";
+
+  private static final String CLASS_NAME_SUFFIX = "StubMapper";
+  private static final String COLUMNS_PREFIX = "COLUMNS_";
+  private static final String SELECT_PREFIX = "SELECT_";
+  private static final String SETTER_PREFIX = "set";
+  private static final String RESULT_SET = "resultSet";
+  private static final String OFFSET = "offset";
+  private static final String BUFFER = "buffer";
+  private static final String POSITION = "position";
+  private static final String ENTITY = "entity";
+  private static final String MAP_COLUMNS = "mapColumns";
+  private static final String CONVERT_COLUMNS = "convertColumns";
+  private static final String SEPARATOR = ", ";
+
+  private final MetaInfoContext context = new MetaInfoContext();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+    Set<Element> elements = new LinkedHashSet<>(round.getElementsAnnotatedWith(Table.class));
+    elements.addAll(round.getElementsAnnotatedWith(Table.Tables.class));
+    for (TypeElement type : ElementFilter.typesIn(elements)) {
+      try {
+        generate(type);
+      } catch (IOException | IllegalArgumentException exception) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, exception.getMessage(), type);
+      }
+    }
+    return false;
+  }
+
+  // Generates the mapper of the entity or reports the reason of skipping
+  private void generate(TypeElement type) throws IOException {
+    Table[] tables = type.getAnnotationsByType(Table.class);
+    String skipped = null;
+    if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+      skipped = "entity is abstract";
+    } else if (Arrays.stream(tables).anyMatch(table -> !table.discriminator().isEmpty())) {
+      skipped = "entity has subclasses";
+    } else if (!hasDefaultConstructor(type)) {
+      skipped = "entity doesn't have public default constructor";
+    }
+
+    List<TableNameAlias> aliases = new ArrayList<>();
+    for (Table table : tables) {
+      TableNameAlias alias = new TableNameAlias(
+        MappingRules.getTableName(table, type.getSimpleName().toString()),
+        getStrategy(table::naming),
+        getStrategy(table::combining)
+      );
+      if (!aliases.contains(alias)) {
+        aliases.add(alias);
+      }
+    }
+
+    List<ElementColumn> columns = new ArrayList<>();
+    for (VariableElement field : getFields(type)) {
+      ElementColumn column = new ElementColumn(field, aliases);
+      if (skipped == null && column.setter == null) {
+        skipped = "column doesn't have public setter: " + field.getSimpleName();
+      }
+      columns.add(column);
+    }
+    if (skipped == null && columns.isEmpty()) {
+      skipped = "entity doesn't have columns";
+    }
+
+    if (skipped != null) {
+      processingEnv.getMessager().printMessage(
+        Diagnostic.Kind.NOTE,
+        String.join("", "Mapper is not generated, ", skipped, ", use the code generator's plugin"),
+        type
+      );
+      return;
+    }
+
+    JavaSourceCode sourceCode = build(type, aliases, columns);
+    try (Writer writer = processingEnv.getFiler().createSourceFile(sourceCode.getQualifiedName(), type).openWriter()) {
+      writer.write(sourceCode.getCode());
+    }
+  }
+
+  // Builds the mapper of the entity
+  private JavaSourceCode build(TypeElement type, List<TableNameAlias> aliases, List<ElementColumn> columns) {
+    Map<String, String> selects = new LinkedHashMap<>();
+    Map<String, String> projections = new LinkedHashMap<>();
+    for (TableNameAlias alias : aliases) {
+      StringJoiner projection = new StringJoiner(SEPARATOR);
+      for (ElementColumn column : columns) {
+        projection.add(column.aliases.get(alias).getName());
+      }
+      String select = String.join("", "SELECT ", projection.toString(), " FROM ", alias.getName());
+      selects.putIfAbsent(EntitySourceCodeFactory.getConstantName(SELECT_PREFIX, alias), select);
+      projections.putIfAbsent(EntitySourceCodeFactory.getConstantName(COLUMNS_PREFIX, alias), projection.toString());
+    }
+
+    List<JavaFieldDefinition> fields = new ArrayList<>();
+    MapperSourceCodeFactory factory = new MapperSourceCodeFactory();
+    JavaFieldDefinition select = factory.addConstants(fields, selects);
+    JavaFieldDefinition projection = factory.addConstants(fields, projections);
+    factory.addConstants(fields, Collections.singletonMap(GENERATOR, MapperAnnotationProcessor.class.getName()));
+
+    List<JavaMethodDefinition> methods = new ArrayList<>();
+    methods.add(buildGetter("getSelectQuery", String.class, select.reference()));
+    methods.add(buildGetter("getProjection", String.class, projection.reference()));
+    methods.add(buildGetter("getColumnCount", int.class, new JavaLiteralArgument(columns.size())));
+    int idColumn = MappingRules.getIdColumn(columns, column -> column.id, column -> column.javaType.getName());
+    methods.add(buildGetter("getIdColumn", int.class, new JavaLiteralArgument(idColumn)));
+
+    List<JavaMethodDefinition> helpers = new ArrayList<>();
+    methods.add(buildMapRow(type, columns, helpers));
+    methods.add(MapperSourceCodeFactory.buildExtract(columns.size(), helpers));
+    methods.add(buildConvert(type, columns, helpers));
+    methods.addAll(helpers);
+
+    String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+    return new JavaSourceCode(
+      new JavaClass(
+        type.getSimpleName().toString().concat(CLASS_NAME_SUFFIX),
+        new JavaPackage(packageName),
+        new JavaPublicModifier(),
+        Collections.singletonList(new JavaInheritableElement(RowMapper.class)),
+        fields,
+        null,
+        methods
+      )
+    );
+  }
+
+  /**
+   * Checks that the mapper is generated by the processor.
+   *
+   * @param mapper class of the mapper
+   * @return true when the mapper is generated by the processor
+   */
+  public static boolean isGenerated(Class<?> mapper) {
+    try {
+      Field field = mapper.getField(GENERATOR);
+      return java.lang.reflect.Modifier.isStatic(field.getModifiers())
+        && MapperAnnotationProcessor.class.getName().equals(field.get(null));
+    } catch (NoSuchFieldException | IllegalAccessException exception) {
+      return false;
+    }
+  }
+
+  // Creates getter of the constant value
+  private JavaMethodDefinition buildGetter(String name, Class<?> type, JavaArgument value) {
+    return new JavaMethodDefinition(
+      name,
+      new JavaPublicModifier(),
+      new JavaExplicitType(type),
+      null,
+      new JavaMethodBlockImpl(new JavaReturnOperator(value))
+    );
+  }
+
+  // Creates method which reads the columns by positions
+  private JavaMethodDefinition buildMapRow(
+    TypeElement type,
+    List<ElementColumn> columns,
+    List<JavaMethodDefinition> helpers
+  ) {
+    JavaVariableDefinition resultSet = new JavaVariableDefinition(new JavaExplicitType(ResultSet.class), RESULT_SET);
+    JavaVariableDefinition offset = new JavaVariableDefinition(new JavaExplicitType(int.class), OFFSET);
+    return new JavaMethodDefinition(
+      "mapRow",
+      new JavaPublicModifier(),
+      new JavaExplicitType(Object.class),
+      Arrays.asList(
+        new JavaParameter(1, RESULT_SET, resultSet.getVariableType()),
+        new JavaParameter(2, OFFSET, offset.getVariableType())
+      ),
+      Collections.singletonList(new JavaExplicitType(SQLException.class)),
+      new JavaMethodBlockImpl(
+        buildEntity(
+          type,
+          columns,
+          MAP_COLUMNS,
+          Arrays.asList(resultSet, offset),
+          MapperSourceCodeFactory.buildResultSetReader(resultSet, offset),
+          helpers
+        )
+      )
+    );
+  }
+
+  // Creates method which converts the columns extracted into the buffer
+  private JavaMethodDefinition buildConvert(
+    TypeElement type,
+    List<ElementColumn> columns,
+    List<JavaMethodDefinition> helpers
+  ) {
+    JavaVariableDefinition buffer = new JavaVariableDefinition(new JavaExplicitType(Object[].class), BUFFER);
+    JavaVariableDefinition position = new JavaVariableDefinition(new JavaExplicitType(int.class), POSITION);
+    return new JavaMethodDefinition(
+      "convert",
+      new JavaPublicModifier(),
+      new JavaExplicitType(Object.class),
+      Arrays.asList(
+        new JavaParameter(1, BUFFER, buffer.getVariableType()),
+        new JavaParameter(2, POSITION, position.getVariableType())
+      ),
+      Collections.singletonList(new JavaExplicitType(SQLException.class)),
+      new JavaMethodBlockImpl(
+        buildEntity(
+          type,
+          columns,
+          CONVERT_COLUMNS,
+          Arrays.asList(buffer, position),
+          MapperSourceCodeFactory.buildBufferReader(buffer, position),
+          helpers
+        )
+      )
+    );
+  }
+
+  // Creates the entity, fills its columns by the reader and returns it
+  private List<JavaElement> buildEntity(
+    TypeElement type,
+    List<ElementColumn> columns,
+    String helperName,
+    List<JavaVariableDefinition> variables,
+    MapperSourceCodeFactory.ColumnReader reader,
+    List<JavaMethodDefinition> helpers
+  ) {
+    JavaNameType entityType = new JavaNameType(type.getQualifiedName().toString());
+    JavaVariableDefinition entity = new JavaVariableDefinition(
+      entityType,
+      ENTITY,
+      new JavaAssignOperator(new JavaNewOperator(new JavaConstructorDefinition(entityType).invoke()))
+    );
+
+    List<JavaVariableDefinition> helperVariables = new ArrayList<>();
+    helperVariables.add(entity);
+    helperVariables.addAll(variables);
+
+    List<JavaElement> statements = new ArrayList<>();
+    statements.add(entity);
+    statements.addAll(
+      EntitySourceCodeFactory.buildColumns(
+        helperName,
+        helperVariables,
+        columns,
+        column -> column.type == ColumnType.OBJECT
+          ? EntitySourceCodeFactory.COLUMN_SIZE + EntitySourceCodeFactory.OBJECT_COLUMN_SIZE
+          : EntitySourceCodeFactory.COLUMN_SIZE,
+        (column, index) -> {
+          JavaMethodDefinition setter = new JavaMethodDefinition(
+            column.setter,
+            new JavaParameter(1, "value", column.javaType)
+          );
+          return entity.invoke(setter.invoke(reader.read(column.type, column.javaType, index + 1)));
+        },
+        helpers
+      )
+    );
+    statements.add(new JavaReturnOperator(entity.reference()));
+    return statements;
+  }
+
+  // Returns the columns of the marked hierarchy starting from the base class, see MappingRules
+  private List<VariableElement> getFields(TypeElement type) {
+    Deque<TypeElement> hierarchy = MappingRules.getHierarchy(
+      type,
+      MapperAnnotationProcessor::getSuperclass,
+      current -> MappingRules.isMapped(annotation -> current.getAnnotation(annotation) != null)
+    );
+
+    List<VariableElement> fields = new ArrayList<>();
+    for (TypeElement declaring : hierarchy) {
+      for (VariableElement field : ElementFilter.fieldsIn(declaring.getEnclosedElements())) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (MappingRules.isColumn(modifiers.contains(Modifier.STATIC), modifiers.contains(Modifier.FINAL))) {
+          fields.add(field);
+        }
+      }
+    }
+    return fields;
+  }
+
+  // Returns the superclass of the type or null
+  private static TypeElement getSuperclass(TypeElement type) {
+    TypeMirror superclass = type.getSuperclass();
+    return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+  }
+
+  // Checks that the entity has the public default constructor
+  private static boolean hasDefaultConstructor(TypeElement type) {
+    for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+      if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // Returns the naming strategy, the strategy is loaded by the processor's class loader
+  private NamingStrategy getStrategy(Supplier<Class<? extends NamingStrategy>> strategy) {
+    try {
+      return context.get(strategy.get());
+    } catch (MirroredTypeException exception) {
+      String name = exception.getTypeMirror().toString();
+      try {
+        return context.get(Class.forName(name, true, getClass().getClassLoader()).asSubclass(NamingStrategy.class));
+      } catch (ClassNotFoundException notFound) {
+        throw new IllegalArgumentException("Naming strategy is not available to the compiler: " + name, notFound);
+      }
+    }
+  }
+
+  /**
+   * Column of the compiled entity.
+   *
+   * @author Andrey_Yurzanov
+   */
+  private final class ElementColumn {
+    private final VariableElement field;
+    private final Map<TableNameAlias, ColumnNameAlias> aliases = new LinkedHashMap<>();
+    private final boolean id;
+    private final ColumnType type;
+    private final JavaNameType javaType;
+    private final String setter;
+
+    /**
+     * Constructs new instance of the column.
+     *
+     * @param field   the field of the column
+     * @param tables  the names of the table
+     */
+    ElementColumn(VariableElement field, List<TableNameAlias> tables) {
+      Types types = processingEnv.getTypeUtils();
+      String fieldName = field.getSimpleName().toString();
+      Column[] columns = field.getAnnotationsByType(Column.class);
+      String name = MappingRules.getColumnName(columns.length == 0 ? null : columns[0], fieldName);
+      for (TableNameAlias table : tables) {
+        aliases.put(table, new ColumnNameAlias(name, table));
+      }
+
+      this.field = field;
+      this.id = field.getAnnotation(Id.class) != null;
+      this.javaType = new JavaNameType(types.erasure(field.asType()).toString());
+      this.type = getColumnType(javaType.getName());
+      this.setter = findSetter(field, fieldName);
+    }
+
+    // Returns the column's type by the name of the Java's type
+    private ColumnType getColumnType(String typeName) {
+      for (ColumnType value : ColumnType.values()) {
+        if (value != ColumnType.OBJECT && value.getType().getCanonicalName().equals(typeName)) {
+          return value;
+        }
+      }
+      return ColumnType.OBJECT;
+    }
+
+    // Returns name of the public setter of the field or null
+    private String findSetter(VariableElement field, String fieldName) {
+      String name = String.join("", SETTER_PREFIX, fieldName.substring(0, 1).toUpperCase(), fieldName.substring(1));
+      Types types = processingEnv.getTypeUtils();
+      TypeElement owner = (TypeElement) field.getEnclosingElement();
+      for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(owner))) {
+        if (
+          method.getSimpleName().contentEquals(name)
+            && method.getModifiers().contains(Modifier.PUBLIC)
+            && method.getParameters().size() == 1
+            && types.isSameType(method.getParameters().get(0).asType(), field.asType())
+        ) {
+          return name;
+        }
+      }
+      return null;
+    }
+  }
+}
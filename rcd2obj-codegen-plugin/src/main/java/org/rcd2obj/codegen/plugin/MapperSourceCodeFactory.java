@@ -0,0 +1,513 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.codegen.plugin;
+
+import org.rcd2obj.annotation.mapping.Mapper;
+import org.rcd2obj.annotation.mapping.MappingException;
+import org.rcd2obj.annotation.mapping.RawValues;
+import org.rcd2obj.annotation.mapping.RowMapper;
+import org.rcd2obj.annotation.meta.ColumnMetaInfo;
+import org.rcd2obj.annotation.meta.ColumnType;
+import org.rcd2obj.annotation.meta.QueryBuilder;
+import org.rcd2obj.annotation.meta.TableMetaInfo;
+import org.rcd2obj.annotation.meta.alias.TableNameAlias;
+import org.rcd2obj.codegen.JavaClass;
+import org.rcd2obj.codegen.JavaElement;
+import org.rcd2obj.codegen.constructor.JavaConstructorDefinition;
+import org.rcd2obj.codegen.field.JavaFieldDefinition;
+import org.rcd2obj.codegen.inherited.JavaInheritableElement;
+import org.rcd2obj.codegen.method.JavaMethodBlockImpl;
+import org.rcd2obj.codegen.method.JavaMethodDefinition;
+import org.rcd2obj.codegen.method.JavaMethodInvokeOperator;
+import org.rcd2obj.codegen.method.JavaStaticMethodInvokeOperator;
+import org.rcd2obj.codegen.modifier.JavaPrivateModifier;
+import org.rcd2obj.codegen.modifier.JavaPublicModifier;
+import org.rcd2obj.codegen.operator.JavaArgument;
+import org.rcd2obj.codegen.operator.JavaArrayElementOperator;
+import org.rcd2obj.codegen.operator.JavaAssignOperator;
+import org.rcd2obj.codegen.operator.JavaClassLiteralArgument;
+import org.rcd2obj.codegen.operator.JavaIfOperator;
+import org.rcd2obj.codegen.operator.JavaLiteralArgument;
+import org.rcd2obj.codegen.operator.JavaNewOperator;
+import org.rcd2obj.codegen.operator.JavaNotEqualsOperator;
+import org.rcd2obj.codegen.operator.JavaNullArgument;
+import org.rcd2obj.codegen.operator.JavaPlusOperator;
+import org.rcd2obj.codegen.operator.JavaReturnOperator;
+import org.rcd2obj.codegen.operator.JavaSwitchCase;
+import org.rcd2obj.codegen.operator.JavaSwitchOperator;
+import org.rcd2obj.codegen.operator.JavaThrowOperator;
+import org.rcd2obj.codegen.parameter.JavaParameter;
+import org.rcd2obj.codegen.type.JavaExplicitType;
+import org.rcd2obj.codegen.type.JavaType;
+import org.rcd2obj.codegen.variable.JavaVariableDefinition;
+import org.rcd2obj.runtime.MapperBytecodeFactory;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Factory of the {@link Mapper}'s implementations. The entities with the public default constructor
+ * and the public setters of the columns get {@link RowMapper}, the columns are read by positions
+ * in order of the generated select statements. The other entities get the stub which throws
+ * {@link UnsupportedOperationException}.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   public class TestEntityStubMapper implements RowMapper {
+ *     public static final String COLUMNS_TEST_ENTITY = "test_entity.name, test_entity.age";
+ *
+ *     public static final String SELECT_TEST_ENTITY = "SELECT test_entity.name, test_entity.age FROM test_entity";
+ *
+ *     public Object mapRow(ResultSet resultSet, int offset) throws SQLException {
+ *       TestEntity entity = new TestEntity();
+ *       entity.setName(resultSet.getString(offset + 1));
+ *       entity.setAge(resultSet.getShort(offset + 2));
+ *       return entity;
+ *     }
+ *
+ *     public void extract(ResultSet resultSet, int offset, Object[] buffer, int position) throws SQLException {
+ *       buffer[position] = RawValues.read(resultSet, offset + 1);
+ *       buffer[position + 1] = RawValues.read(resultSet, offset + 2);
+ *     }
+ *
+ *     public Object convert(Object[] buffer, int position) throws SQLException {
+ *       TestEntity entity = new TestEntity();
+ *       entity.setName(RawValues.getString(buffer[position]));
+ *       entity.setAge(RawValues.getShort(buffer[position + 1]));
+ *       return entity;
+ *     }
+ *     ...
+ *   }
+ *   }
+ * </pre>
+ * The extraction and the conversion split the mapping into two steps, see
+ * {@link RowMapper#extract(ResultSet, int, Object[], int)}, the values are converted as mapRow reads them.
+ * When the table has the subclasses, see {@link org.rcd2obj.annotation.Subtype}, the type's column is read first and
+ * the generated switch creates the subclass and reads its columns inline. The unknown or NULL type creates the base
+ * entity or fails with {@link MappingException} when the base entity is abstract.
+ *
+ * @author Andrey_Yurzanov
+ */
+public class MapperSourceCodeFactory extends EntitySourceCodeFactory {
+  private static final String CLASS_NAME_SUFFIX = "StubMapper";
+  private static final String COLUMNS_PREFIX = "COLUMNS_";
+  private static final String SELECT_PREFIX = "SELECT_";
+  private static final String RESULT_SET = "resultSet";
+  private static final String OFFSET = "offset";
+  private static final String BUFFER = "buffer";
+  private static final String POSITION = "position";
+  private static final String TYPE = "type";
+  private static final String MAP_COLUMNS = "mapColumns";
+  private static final String EXTRACT_COLUMNS = "extractColumns";
+  private static final String CONVERT_COLUMNS = "convertColumns";
+  private static final String UNKNOWN_TYPE = "unknownType";
+
+  @Override
+  public Optional<JavaSourceCode> build(TableMetaInfo info) {
+    if (!canMap(info)) {
+      return Optional.of(
+        new JavaSourceCode(
+          new JavaClass(
+            info.getType().getSimpleName().concat(CLASS_NAME_SUFFIX),
+            getPackage(info),
+            new JavaPublicModifier(),
+            Collections.singletonList(new JavaInheritableElement(Mapper.class)),
+            null,
+            null
+          )
+        )
+      );
+    }
+
+    QueryBuilder builder = new QueryBuilder(info);
+    Map<String, String> selects = new LinkedHashMap<>();
+    Map<String, String> projections = new LinkedHashMap<>();
+    for (TableNameAlias alias : info.getAliases()) {
+      selects.putIfAbsent(getConstantName(SELECT_PREFIX, alias), builder.buildSelect(alias));
+      projections.putIfAbsent(getConstantName(COLUMNS_PREFIX, alias), builder.buildProjection(alias));
+    }
+
+    List<JavaFieldDefinition> fields = new ArrayList<>();
+    JavaFieldDefinition select = addConstants(fields, selects);
+    JavaFieldDefinition projection = addConstants(fields, projections);
+
+    List<ColumnMetaInfo> columns = builder.getSelectColumns();
+    List<JavaMethodDefinition> methods = new ArrayList<>();
+    methods.add(buildGetter("getSelectQuery", String.class, select.reference()));
+    methods.add(buildGetter("getProjection", String.class, projection.reference()));
+    methods.add(buildGetter("getColumnCount", int.class, new JavaLiteralArgument(builder.getSelectColumnCount())));
+    methods.add(buildGetter("getIdColumn", int.class, new JavaLiteralArgument(builder.getIdColumn())));
+
+    List<JavaMethodDefinition> helpers = new ArrayList<>();
+    methods.add(buildMapRow(info, columns, builder.getSelectOffset(), helpers));
+    methods.add(buildExtract(builder.getSelectColumnCount(), helpers));
+    methods.add(buildConvert(info, columns, builder.getSelectOffset(), helpers));
+    methods.addAll(helpers);
+    return Optional.of(
+      new JavaSourceCode(
+        new JavaClass(
+          info.getType().getSimpleName().concat(CLASS_NAME_SUFFIX),
+          getPackage(info),
+          new JavaPublicModifier(),
+          Collections.singletonList(new JavaInheritableElement(RowMapper.class)),
+          fields,
+          null,
+          methods
+        )
+      )
+    );
+  }
+
+  // Creates getter of the constant value
+  private JavaMethodDefinition buildGetter(String name, Class<?> type, JavaArgument value) {
+    return new JavaMethodDefinition(
+      name,
+      new JavaPublicModifier(),
+      new JavaExplicitType(type),
+      null,
+      new JavaMethodBlockImpl(new JavaReturnOperator(value))
+    );
+  }
+
+  // Creates method which reads the columns by positions
+  private JavaMethodDefinition buildMapRow(
+    TableMetaInfo info,
+    List<ColumnMetaInfo> columns,
+    int first,
+    List<JavaMethodDefinition> helpers
+  ) {
+    JavaVariableDefinition resultSet = new JavaVariableDefinition(new JavaExplicitType(ResultSet.class), RESULT_SET);
+    JavaVariableDefinition offset = new JavaVariableDefinition(new JavaExplicitType(int.class), OFFSET);
+    ColumnReader reader = buildResultSetReader(resultSet, offset);
+
+    return new JavaMethodDefinition(
+      "mapRow",
+      new JavaPublicModifier(),
+      new JavaExplicitType(Object.class),
+      Arrays.asList(
+        new JavaParameter(1, RESULT_SET, resultSet.getVariableType()),
+        new JavaParameter(2, OFFSET, offset.getVariableType())
+      ),
+      Collections.singletonList(new JavaExplicitType(SQLException.class)),
+      new JavaMethodBlockImpl(
+        buildRow(info, columns, first, MAP_COLUMNS, Arrays.asList(resultSet, offset), reader, helpers)
+      )
+    );
+  }
+
+  // Creates method which copies the columns into the buffer without the conversion
+  static JavaMethodDefinition buildExtract(int columnCount, List<JavaMethodDefinition> helpers) {
+    JavaVariableDefinition resultSet = new JavaVariableDefinition(new JavaExplicitType(ResultSet.class), RESULT_SET);
+    JavaVariableDefinition offset = new JavaVariableDefinition(new JavaExplicitType(int.class), OFFSET);
+    JavaVariableDefinition buffer = new JavaVariableDefinition(new JavaExplicitType(Object[].class), BUFFER);
+    JavaVariableDefinition position = new JavaVariableDefinition(new JavaExplicitType(int.class), POSITION);
+    JavaMethodDefinition read = new JavaMethodDefinition(
+      "read",
+      new JavaParameter(1, RESULT_SET, resultSet.getVariableType()),
+      new JavaParameter(2, "column", new JavaExplicitType(int.class))
+    );
+
+    List<Integer> columns = new ArrayList<>();
+    for (int column = 1; column <= columnCount; column++) {
+      columns.add(column);
+    }
+
+    List<JavaElement> statements = buildColumns(
+      EXTRACT_COLUMNS,
+      Arrays.asList(resultSet, offset, buffer, position),
+      columns,
+      column -> COLUMN_SIZE,
+      (column, index) -> buildElement(buffer, position, column - 1).assign(
+        new JavaAssignOperator(
+          new JavaStaticMethodInvokeOperator(
+            new JavaExplicitType(RawValues.class),
+            read.invoke(
+              resultSet.reference(),
+              new JavaPlusOperator(offset.reference(), new JavaLiteralArgument(column))
+            )
+          )
+        )
+      ),
+      helpers
+    );
+
+    return new JavaMethodDefinition(
+      "extract",
+      new JavaPublicModifier(),
+      new JavaExplicitType(void.class),
+      Arrays.asList(
+        new JavaParameter(1, RESULT_SET, resultSet.getVariableType()),
+        new JavaParameter(2, OFFSET, offset.getVariableType()),
+        new JavaParameter(3, BUFFER, buffer.getVariableType()),
+        new JavaParameter(4, POSITION, position.getVariableType())
+      ),
+      Collections.singletonList(new JavaExplicitType(SQLException.class)),
+      new JavaMethodBlockImpl(statements)
+    );
+  }
+
+  // Creates method which converts the extracted columns, the columns are converted as mapRow reads them
+  private JavaMethodDefinition buildConvert(
+    TableMetaInfo info,
+    List<ColumnMetaInfo> columns,
+    int first,
+    List<JavaMethodDefinition> helpers
+  ) {
+    JavaVariableDefinition buffer = new JavaVariableDefinition(new JavaExplicitType(Object[].class), BUFFER);
+    JavaVariableDefinition position = new JavaVariableDefinition(new JavaExplicitType(int.class), POSITION);
+    ColumnReader reader = buildBufferReader(buffer, position);
+
+    return new JavaMethodDefinition(
+      "convert",
+      new JavaPublicModifier(),
+      new JavaExplicitType(Object.class),
+      Arrays.asList(
+        new JavaParameter(1, BUFFER, buffer.getVariableType()),
+        new JavaParameter(2, POSITION, position.getVariableType())
+      ),
+      Collections.singletonList(new JavaExplicitType(SQLException.class)),
+      new JavaMethodBlockImpl(
+        buildRow(info, columns, first, CONVERT_COLUMNS, Arrays.asList(buffer, position), reader, helpers)
+      )
+    );
+  }
+
+  // Creates the statements which create the entity of the row, the variables are the row's source and its offset
+  private List<JavaElement> buildRow(
+    TableMetaInfo info,
+    List<ColumnMetaInfo> columns,
+    int first,
+    String helperName,
+    List<JavaVariableDefinition> variables,
+    ColumnReader reader,
+    List<JavaMethodDefinition> helpers
+  ) {
+    Map<Field, Integer> positions = new HashMap<>();
+    for (ColumnMetaInfo column : columns) {
+      positions.put(column.getField(), first + positions.size() + 1);
+    }
+
+    List<JavaElement> statements = new ArrayList<>();
+    Map<String, TableMetaInfo> subtypes = info.getSubtypes();
+    if (subtypes.isEmpty()) {
+      statements.addAll(buildEntity(info, ENTITY, helperName, variables, positions, reader, helpers));
+    } else {
+      JavaVariableDefinition type = new JavaVariableDefinition(
+        new JavaExplicitType(String.class),
+        TYPE,
+        new JavaAssignOperator(reader.read(ColumnType.STRING, new JavaExplicitType(String.class), 1))
+      );
+
+      List<JavaSwitchCase> cases = new ArrayList<>();
+      for (Map.Entry<String, TableMetaInfo> subtype : subtypes.entrySet()) {
+        cases.add(
+          new JavaSwitchCase(
+            new JavaLiteralArgument(subtype.getKey()),
+            buildEntity(
+              subtype.getValue(),
+              ENTITY + (cases.size() + 1),
+              helperName,
+              variables,
+              positions,
+              reader,
+              helpers
+            )
+          )
+        );
+      }
+
+      // the NULL discriminator is checked before the switch, it goes to the same path as the unknown type
+      statements.add(type);
+      statements.add(
+        new JavaIfOperator(
+          new JavaNotEqualsOperator(type.reference(), new JavaNullArgument()),
+          Collections.singletonList(new JavaSwitchOperator(type.reference(), cases))
+        )
+      );
+      if (Modifier.isAbstract(info.getType().getModifiers())) {
+        // the error's message is built by the separate method to keep the hot method small
+        JavaMethodDefinition unknownType = getUnknownType(type, helpers);
+        statements.add(new JavaThrowOperator(unknownType.invoke(type.reference())));
+      } else {
+        statements.addAll(buildEntity(info, ENTITY, helperName, variables, positions, reader, helpers));
+      }
+    }
+    return statements;
+  }
+
+  // Returns the method which creates the error of the unknown type, the method is shared by mapRow and convert
+  private JavaMethodDefinition getUnknownType(JavaVariableDefinition type, List<JavaMethodDefinition> helpers) {
+    for (JavaMethodDefinition helper : helpers) {
+      if (UNKNOWN_TYPE.equals(helper.getMethodName())) {
+        return helper;
+      }
+    }
+
+    JavaMethodDefinition unknownType = buildUnknownType(type);
+    helpers.add(unknownType);
+    return unknownType;
+  }
+
+  // Creates the error of the unknown type
+  private JavaMethodDefinition buildUnknownType(JavaVariableDefinition type) {
+    return new JavaMethodDefinition(
+      UNKNOWN_TYPE,
+      new JavaPrivateModifier(),
+      new JavaExplicitType(MappingException.class),
+      Collections.singletonList(new JavaParameter(1, type.getVariableName(), type.getVariableType())),
+      new JavaMethodBlockImpl(
+        new JavaReturnOperator(
+          new JavaNewOperator(
+            new JavaConstructorDefinition(
+              new JavaExplicitType(MappingException.class),
+              new JavaParameter(1, "message", new JavaExplicitType(String.class))
+            ).invoke(new JavaPlusOperator(new JavaLiteralArgument("Unknown type: "), type.reference()))
+          )
+        )
+      )
+    );
+  }
+
+  // Creates the entity, fills its columns and returns it
+  private List<JavaElement> buildEntity(
+    TableMetaInfo info,
+    String name,
+    String helperName,
+    List<JavaVariableDefinition> variables,
+    Map<Field, Integer> positions,
+    ColumnReader reader,
+    List<JavaMethodDefinition> helpers
+  ) {
+    JavaExplicitType entityType = new JavaExplicitType(info.getType());
+    JavaVariableDefinition entity = new JavaVariableDefinition(
+      entityType,
+      name,
+      new JavaAssignOperator(new JavaNewOperator(new JavaConstructorDefinition(entityType).invoke()))
+    );
+
+    List<JavaVariableDefinition> helperVariables = new ArrayList<>();
+    helperVariables.add(entity);
+    helperVariables.addAll(variables);
+
+    List<JavaElement> statements = new ArrayList<>();
+    statements.add(entity);
+    statements.addAll(
+      buildColumns(
+        helperName,
+        helperVariables,
+        new ArrayList<>(info.getColumns()),
+        (column, index) -> {
+          JavaExplicitType fieldType = new JavaExplicitType(column.getField().getType());
+          Method setter = column
+            .getSetter()
+            .orElseThrow(() -> new IllegalArgumentException("Column doesn't have setter: " + column.getField()));
+          JavaMethodDefinition setterDefinition = new JavaMethodDefinition(
+            setter.getName(),
+            new JavaParameter(1, "value", fieldType)
+          );
+          return entity.invoke(
+            setterDefinition.invoke(reader.read(column.getType(), fieldType, positions.get(column.getField())))
+          );
+        },
+        helpers
+      )
+    );
+    statements.add(new JavaReturnOperator(entity.reference()));
+    return statements;
+  }
+
+  // Creates the reader of the result set's columns, the getters of the result set convert the columns
+  static ColumnReader buildResultSetReader(JavaVariableDefinition resultSet, JavaVariableDefinition offset) {
+    JavaParameter indexParameter = new JavaParameter(1, "columnIndex", new JavaExplicitType(int.class));
+    return (type, fieldType, position) -> resultSet.invoke(
+      buildGetterInvoke(
+        type,
+        fieldType,
+        indexParameter,
+        new JavaPlusOperator(offset.reference(), new JavaLiteralArgument(position))
+      )
+    );
+  }
+
+  // Creates the reader of the extracted columns, the getters of RawValues convert the columns as the result set does
+  static ColumnReader buildBufferReader(JavaVariableDefinition buffer, JavaVariableDefinition position) {
+    JavaParameter valueParameter = new JavaParameter(1, "value", new JavaExplicitType(Object.class));
+    return (type, fieldType, column) -> new JavaStaticMethodInvokeOperator(
+      new JavaExplicitType(RawValues.class),
+      buildGetterInvoke(type, fieldType, valueParameter, buildElement(buffer, position, column - 1))
+    );
+  }
+
+  // Creates invocation of the typed getter of ResultSet or RawValues, the getters have the same names
+  private static JavaMethodInvokeOperator buildGetterInvoke(
+    ColumnType type,
+    JavaType fieldType,
+    JavaParameter parameter,
+    JavaArgument argument
+  ) {
+    if (type == ColumnType.OBJECT) {
+      return new JavaMethodDefinition(
+        type.getGetterName(),
+        parameter,
+        new JavaParameter(2, "type", new JavaExplicitType(Class.class))
+      ).invoke(argument, new JavaClassLiteralArgument(fieldType));
+    }
+    return new JavaMethodDefinition(type.getGetterName(), parameter).invoke(argument);
+  }
+
+  // Creates the element of the buffer, the index is relative to the position
+  private static JavaArrayElementOperator buildElement(
+    JavaVariableDefinition buffer,
+    JavaVariableDefinition position,
+    int index
+  ) {
+    if (index == 0) {
+      return new JavaArrayElementOperator(buffer.reference(), position.reference());
+    }
+    return new JavaArrayElementOperator(
+      buffer.reference(),
+      new JavaPlusOperator(position.reference(), new JavaLiteralArgument(index))
+    );
+  }
+
+  // Checks that the entity and its subclasses can be created and filled
+  static boolean canMap(TableMetaInfo info) {
+    return MapperBytecodeFactory.canMap(info);
+  }
+
+  /**
+   * Creates the reading of the column by the column's type, type of the field and position of the
+   * column in the row, the positions start from 1.
+   *
+   * @author Andrey_Yurzanov
+   */
+  @FunctionalInterface
+  interface ColumnReader {
+    JavaArgument read(ColumnType type, JavaType fieldType, int position);
+  }
+}
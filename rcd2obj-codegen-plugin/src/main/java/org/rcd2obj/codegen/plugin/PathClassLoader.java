@@ -16,29 +16,50 @@
 
 package org.rcd2obj.codegen.plugin;
 
-import javax.inject.Named;
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 /**
- * Loads classes by paths.
+ * Loads classes by paths. The loader is created for one execution of the plugin and closed after
+ * it, so the loaded classes are unloaded and the classes of the next execution, for example in the
+ * daemon of the build, don't collide with them. The classes referenced by the loaded class, such as
+ * superclasses and types in annotations, are searched in the scanned directories and the classpath
+ * of the project. The loader is parallel capable, the classes can be loaded by several threads.
  *
  * @author Andrey_Yurzanov
  */
-@Named
-public class PathClassLoader extends ClassLoader {
+public class PathClassLoader extends URLClassLoader {
   private static final String EMPTY = "";
   private static final String PACKAGE_SEPARATOR = ".";
   private static final String FILE_EXTENSION = ".class";
   private static final String PATH_SEPARATOR = getPathSeparator();
 
+  static {
+    ClassLoader.registerAsParallelCapable();
+  }
+
   /**
    * Constructs new instance of class loader.
+   *
+   * @param directories the scanned directories
+   * @param classpath   the classpath of the project
+   * @param parent      the parent class loader, it must load the annotations of the plugin
+   * @throws MalformedURLException when the path can't be converted to URL
    */
-  public PathClassLoader() {
-    super(Thread.currentThread().getContextClassLoader());
+  public PathClassLoader(
+    Collection<File> directories,
+    Collection<String> classpath,
+    ClassLoader parent
+  ) throws MalformedURLException {
+    super(getUrls(directories, classpath), parent);
   }
 
   /**
@@ -56,13 +77,8 @@ public class PathClassLoader extends ClassLoader {
         .toString()
         .replace(PATH_SEPARATOR, PACKAGE_SEPARATOR)
         .replace(FILE_EXTENSION, EMPTY);
-
-      byte[] classData = Files.readAllBytes(classFile);
-      Class<?> defined = defineClass(className, classData, 0, classData.length);
-      resolveClass(defined);
-
-      return defined;
-    } catch (Exception exception) {
+      return loadClass(className, true);
+    } catch (Exception | LinkageError exception) {
       throw new ClassNotFoundException(
         String.join("", "Loading error of class [", classFile.toString(), "]"),
         exception
@@ -70,6 +86,26 @@ public class PathClassLoader extends ClassLoader {
     }
   }
 
+  // Returns URLs of the directories and the classpath, the directories are searched first
+  private static URL[] getUrls(
+    Collection<File> directories,
+    Collection<String> classpath
+  ) throws MalformedURLException {
+    List<URL> urls = new ArrayList<>();
+    for (File directory : directories) {
+      urls.add(directory.toURI().toURL());
+    }
+    if (classpath != null) {
+      for (String element : classpath) {
+        URL url = new File(element).toURI().toURL();
+        if (!urls.contains(url)) {
+          urls.add(url);
+        }
+      }
+    }
+    return urls.toArray(new URL[0]);
+  }
+
   // Returns path's separator of current os
   private static String getPathSeparator() {
     FileSystem fileSystem = FileSystems.getDefault();
@@ -0,0 +1,257 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.codegen.plugin;
+
+import org.rcd2obj.runtime.MapperBytecodeFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Timer of the phases of the code generation. The durations are recorded by every class file or
+ * entity, the directory's walking and the compiling are recorded by every directory. The timer
+ * reports count, total, median and 99th percentile of the durations of every phase as the table
+ * for the log and as JSON file for tracking of the build's regressions. The timer can be used by
+ * several threads.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   PhaseTimer timer = new PhaseTimer();
+ *   long start = timer.start();
+ *   ...
+ *   timer.stop(PhaseTimer.Phase.LOAD, start);
+ *   timer.getTable().forEach(log::info);
+ *   timer.write(Paths.get("target/rcd2obj/timings.json"));
+ *   }
+ * </pre>
+ *
+ * @author Andrey_Yurzanov
+ */
+public class PhaseTimer {
+  private static final double NANOS_IN_MILLI = 1_000_000.0;
+  private static final double NANOS_IN_SECOND = 1_000_000_000.0;
+  private static final String ROW_FORMAT = "%-10s %8s %12s %10s %10s";
+
+  private final long created = System.nanoTime();
+  private final Map<Phase, List<Long>> durations = new EnumMap<>(Phase.class);
+
+  /**
+   * Constructs new instance of the timer.
+   */
+  public PhaseTimer() {
+    for (Phase phase : Phase.values()) {
+      durations.put(phase, Collections.synchronizedList(new ArrayList<>()));
+    }
+  }
+
+  /**
+   * Returns start time of the measured phase.
+   *
+   * @return start time in nanoseconds
+   */
+  public long start() {
+    return System.nanoTime();
+  }
+
+  /**
+   * Records duration of the phase.
+   *
+   * @param phase the measured phase
+   * @param start start time of the phase, see {@link PhaseTimer#start()}
+   */
+  public void stop(Phase phase, long start) {
+    durations.get(phase).add(System.nanoTime() - start);
+  }
+
+  /**
+   * Returns the rows of the table of the phases, the durations are in milliseconds.
+   *
+   * @return the rows of the table with the header
+   */
+  public List<String> getTable() {
+    List<String> rows = new ArrayList<>();
+    rows.add(String.format(Locale.ROOT, ROW_FORMAT, "Phase", "Count", "Total, ms", "p50, ms", "p99, ms"));
+    for (Phase phase : Phase.values()) {
+      long[] sorted = getSorted(phase);
+      rows.add(
+        String.format(
+          Locale.ROOT,
+          ROW_FORMAT,
+          phase.getName(),
+          sorted.length,
+          toMillis(getTotal(sorted)),
+          toMillis(getPercentile(sorted, 50)),
+          toMillis(getPercentile(sorted, 99))
+        )
+      );
+    }
+
+    long wall = System.nanoTime() - created;
+    int entities = durations.get(Phase.GENERATE).size();
+    rows.add(
+      String.format(
+        Locale.ROOT,
+        "Total [%s] ms, [%d] entities, [%.1f] entities per second",
+        toMillis(wall),
+        entities,
+        entities * NANOS_IN_SECOND / Math.max(wall, 1)
+      )
+    );
+    return rows;
+  }
+
+  /**
+   * Writes durations of the phases to the file as JSON, the durations are in milliseconds.
+   *
+   * @param file the report's file
+   * @throws IOException when the file can't be written
+   */
+  public void write(Path file) throws IOException {
+    StringJoiner phases = new StringJoiner(",\n", "[\n", "\n  ]");
+    for (Phase phase : Phase.values()) {
+      long[] sorted = getSorted(phase);
+      phases.add(
+        String.format(
+          Locale.ROOT,
+          "    {\"phase\": \"%s\", \"count\": %d, \"totalMs\": %s, \"p50Ms\": %s, \"p99Ms\": %s}",
+          phase.getName(),
+          sorted.length,
+          toMillis(getTotal(sorted)),
+          toMillis(getPercentile(sorted, 50)),
+          toMillis(getPercentile(sorted, 99))
+        )
+      );
+    }
+
+    String json = String.format(
+      Locale.ROOT,
+      "{\n  \"totalMs\": %s,\n  \"entities\": %d,\n  \"phases\": %s\n}\n",
+      toMillis(System.nanoTime() - created),
+      durations.get(Phase.GENERATE).size(),
+      phases
+    );
+    Path directory = file.toAbsolutePath().getParent();
+    if (!Files.exists(directory)) {
+      Files.createDirectories(directory);
+    }
+    Files.write(file, json.getBytes(StandardCharsets.UTF_8));
+  }
+
+  // Returns the sorted copy of the durations of the phase
+  private long[] getSorted(Phase phase) {
+    List<Long> values = durations.get(phase);
+    long[] sorted;
+    synchronized (values) {
+      sorted = values.stream().mapToLong(Long::longValue).toArray();
+    }
+    Arrays.sort(sorted);
+    return sorted;
+  }
+
+  // Returns sum of the durations
+  private static long getTotal(long[] sorted) {
+    long total = 0;
+    for (long value : sorted) {
+      total += value;
+    }
+    return total;
+  }
+
+  // Returns the percentile of the durations by the nearest rank
+  private static long getPercentile(long[] sorted, int percentile) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+    return sorted[Math.max(rank, 1) - 1];
+  }
+
+  // Converts the nanoseconds to the milliseconds with 3 digits after the point
+  private static String toMillis(long nanos) {
+    return String.format(Locale.ROOT, "%.3f", nanos / NANOS_IN_MILLI);
+  }
+
+  /**
+   * The measured phases of the code generation.
+   *
+   * @author Andrey_Yurzanov
+   */
+  public enum Phase {
+    /**
+     * Walking of the directory, it's recorded by every directory.
+     */
+    WALK("walk"),
+    /**
+     * Filtering of the class file by the constant pool and the fingerprint.
+     */
+    FILTER("filter"),
+    /**
+     * Loading of the class.
+     */
+    LOAD("load"),
+    /**
+     * Extracting of meta information, see {@link org.rcd2obj.annotation.meta.TableMetaInfo.Factory}.
+     */
+    META("meta"),
+    /**
+     * Building of the model of the generated classes, see {@link JavaSourceCodeGenerator}.
+     */
+    GENERATE("generate"),
+    /**
+     * Rendering of the source code or emitting of the bytecode, see {@link MapperBytecodeFactory}.
+     */
+    RENDER("render"),
+    /**
+     * Writing of the source code and the emitted class files.
+     */
+    WRITE("write"),
+    /**
+     * Compiling of the source code, it's recorded by every directory.
+     */
+    COMPILE("compile");
+
+    private final String name;
+
+    /**
+     * Constructs new instance of the phase.
+     *
+     * @param name name of the phase in the reports
+     */
+    Phase(String name) {
+      this.name = name;
+    }
+
+    /**
+     * Returns name of the phase in the reports.
+     *
+     * @return name of the phase
+     */
+    public String getName() {
+      return name;
+    }
+  }
+}
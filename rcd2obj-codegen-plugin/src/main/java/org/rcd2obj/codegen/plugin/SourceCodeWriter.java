@@ -16,17 +16,15 @@
 
 package org.rcd2obj.codegen.plugin;
 
-import org.rcd2obj.annotation.meta.TableMetaInfo;
-
 import javax.inject.Named;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 /**
  * Writer of generated source code.
@@ -40,27 +38,41 @@ public class SourceCodeWriter {
   private static final String PATH_SEPARATOR = getPathSeparator();
 
   /**
-   * Writes generated source code.
+   * Writes generated source code in UTF-8. The file is not rewritten when it has the same content,
+   * so the unchanged file keeps its modification time for the IDE and the incremental builds.
    *
    * @param root       path without name of the file and package
-   * @param info       annotated entity's meta information
    * @param sourceCode generated source code
+   * @return true when the file is written or false when it's unchanged
    * @throws IOException when can't write to file
    */
-  public void write(Path root, TableMetaInfo info, JavaSourceCode sourceCode) throws IOException {
-    Class<?> type = info.getType();
-    String packageName = type.getName().replace("." + type.getSimpleName(), "");
+  public boolean write(Path root, JavaSourceCode sourceCode) throws IOException {
+    Path filePath = getPath(root, sourceCode);
+    byte[] content = sourceCode.getCode().getBytes(StandardCharsets.UTF_8);
+    if (Files.isRegularFile(filePath) && Files.size(filePath) == content.length) {
+      if (Arrays.equals(content, Files.readAllBytes(filePath))) {
+        return false;
+      }
+    }
 
-    Path directory = Paths.get(root.toString(), packageName.replace(PACKAGE_SEPARATOR, PATH_SEPARATOR));
+    Path directory = filePath.getParent();
     if (!Files.exists(directory)) {
       Files.createDirectories(directory);
     }
+    Files.write(filePath, content);
+    return true;
+  }
 
-    Path filePath = Paths.get(directory.toString(), sourceCode.getName() + FILE_EXTENSION);
-    try (Writer out = new FileWriter(filePath.toFile())) {
-      out.write(sourceCode.getCode());
-      out.flush();
-    }
+  /**
+   * Returns path of the file of generated source code.
+   *
+   * @param root       path without name of the file and package
+   * @param sourceCode generated source code
+   * @return path of the file
+   */
+  public Path getPath(Path root, JavaSourceCode sourceCode) {
+    String fileName = sourceCode.getQualifiedName().replace(PACKAGE_SEPARATOR, PATH_SEPARATOR);
+    return Paths.get(root.toString(), fileName + FILE_EXTENSION);
   }
 
   // Returns path's separator of current os
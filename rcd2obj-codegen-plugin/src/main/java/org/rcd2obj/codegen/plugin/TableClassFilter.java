@@ -0,0 +1,135 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.codegen.plugin;
+
+import org.rcd2obj.annotation.Table;
+
+import javax.inject.Named;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Filter of the class files by {@link Table} annotation. The constant pool of the class file is
+ * searched for the descriptors of {@link Table} and its container, so the classes without
+ * the annotation are not loaded. The filter can pass the class without the annotation, when
+ * the descriptor is used in other way, the annotation is checked again after loading.
+ *
+ * @author Andrey_Yurzanov
+ */
+@Named
+public class TableClassFilter {
+  private static final int MAGIC = 0xCAFEBABE;
+  private static final int HEADER_SIZE = 8;
+  private static final byte[][] DESCRIPTORS = {
+    getDescriptor(Table.class),
+    getDescriptor(Table.Tables.class)
+  };
+
+  /**
+   * Checks that the class file can have {@link Table} annotation.
+   *
+   * @param classFile path of the class's file
+   * @return true when the constant pool contains the descriptor of the annotation or the class file
+   *     can't be parsed by the filter
+   * @throws IOException when the file can't be read
+   */
+  public boolean test(Path classFile) throws IOException {
+    try {
+      return test(ByteBuffer.wrap(Files.readAllBytes(classFile)));
+    } catch (BufferUnderflowException | IllegalArgumentException exception) {
+      // broken constant pool, the class is checked after loading
+      return true;
+    }
+  }
+
+  // Searches the descriptors in the constant pool
+  private static boolean test(ByteBuffer buffer) {
+    if (buffer.remaining() < HEADER_SIZE + 2 || buffer.getInt() != MAGIC) {
+      return false;
+    }
+
+    buffer.position(HEADER_SIZE);
+    int count = buffer.getShort() & 0xFFFF;
+    for (int index = 1; index < count; index++) {
+      int tag = buffer.get();
+      switch (tag) {
+        case 1: // Utf8
+          int length = buffer.getShort() & 0xFFFF;
+          if (matches(buffer, length)) {
+            return true;
+          }
+          buffer.position(buffer.position() + length);
+          break;
+        case 3: // Integer
+        case 4: // Float
+        case 9: // Fieldref
+        case 10: // Methodref
+        case 11: // InterfaceMethodref
+        case 12: // NameAndType
+        case 17: // Dynamic
+        case 18: // InvokeDynamic
+          buffer.position(buffer.position() + 4);
+          break;
+        case 5: // Long
+        case 6: // Double
+          buffer.position(buffer.position() + 8);
+          index++;
+          break;
+        case 7: // Class
+        case 8: // String
+        case 16: // MethodType
+        case 19: // Module
+        case 20: // Package
+          buffer.position(buffer.position() + 2);
+          break;
+        case 15: // MethodHandle
+          buffer.position(buffer.position() + 3);
+          break;
+        default:
+          // unknown format, the class is checked after loading
+          return true;
+      }
+    }
+    return false;
+  }
+
+  // Checks that the string of the constant pool is one of the descriptors
+  private static boolean matches(ByteBuffer buffer, int length) {
+    int position = buffer.position();
+    for (byte[] descriptor : DESCRIPTORS) {
+      if (descriptor.length == length) {
+        boolean equal = true;
+        for (int i = 0; i < length && equal; i++) {
+          equal = buffer.get(position + i) == descriptor[i];
+        }
+        if (equal) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  // Returns descriptor of the type, as it is written to the class file
+  private static byte[] getDescriptor(Class<?> type) {
+    return String.join("", "L", type.getName().replace('.', '/'), ";").getBytes(StandardCharsets.UTF_8);
+  }
+}
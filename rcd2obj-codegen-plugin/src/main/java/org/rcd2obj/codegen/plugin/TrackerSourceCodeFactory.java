@@ -0,0 +1,307 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.codegen.plugin;
+
+import org.rcd2obj.annotation.Tracked;
+import org.rcd2obj.annotation.mapping.Snapshot;
+import org.rcd2obj.annotation.mapping.Tracker;
+import org.rcd2obj.annotation.meta.ColumnMetaInfo;
+import org.rcd2obj.annotation.meta.TableMetaInfo;
+import org.rcd2obj.codegen.JavaClass;
+import org.rcd2obj.codegen.JavaElement;
+import org.rcd2obj.codegen.constructor.JavaConstructorDefinition;
+import org.rcd2obj.codegen.inherited.JavaInheritableElement;
+import org.rcd2obj.codegen.method.JavaMethodBlockImpl;
+import org.rcd2obj.codegen.method.JavaMethodDefinition;
+import org.rcd2obj.codegen.modifier.JavaPublicModifier;
+import org.rcd2obj.codegen.operator.JavaAssignOperator;
+import org.rcd2obj.codegen.operator.JavaBreakOperator;
+import org.rcd2obj.codegen.operator.JavaIfOperator;
+import org.rcd2obj.codegen.operator.JavaLiteralArgument;
+import org.rcd2obj.codegen.operator.JavaNewOperator;
+import org.rcd2obj.codegen.operator.JavaReturnOperator;
+import org.rcd2obj.codegen.operator.JavaSwitchCase;
+import org.rcd2obj.codegen.operator.JavaSwitchOperator;
+import org.rcd2obj.codegen.operator.JavaThrowOperator;
+import org.rcd2obj.codegen.parameter.JavaParameter;
+import org.rcd2obj.codegen.type.JavaExplicitType;
+import org.rcd2obj.codegen.variable.JavaVariableDefinition;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Factory of the {@link Tracker}'s implementations for the entities marked by {@link Tracked}. The
+ * columns are read by the getters and are bound by the typed setters, the position of the column is
+ * selected by the switch operator. The values of the columns are saved to {@link Snapshot} and are
+ * compared without boxing of the primitive columns, the identifiers are not saved.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   public class TestEntityStubTracker implements Tracker {
+ *     public void bindColumn(PreparedStatement statement, int index, int column, Object source) throws SQLException {
+ *       TestEntity entity = (TestEntity) source;
+ *       switch (column) {
+ *         case 0:
+ *           statement.setLong(index, entity.getId());
+ *           break;
+ *         ...
+ *       }
+ *     }
+ *
+ *     public Snapshot snapshot(Object source) {
+ *       TestEntity entity = (TestEntity) source;
+ *       Snapshot snapshot = new Snapshot(1, 1);
+ *       snapshot.set(0, entity.getName());
+ *       snapshot.set(0, entity.getAge());
+ *       return snapshot;
+ *     }
+ *
+ *     public BitSet getDirty(Snapshot snapshot, Object source) {
+ *       TestEntity entity = (TestEntity) source;
+ *       BitSet dirty = new BitSet();
+ *       if (snapshot.isChanged(0, entity.getName())) {
+ *         dirty.set(1);
+ *       }
+ *       ...
+ *       return dirty;
+ *     }
+ *   }
+ *   }
+ * </pre>
+ * The entities without identifiers or public getters of the columns are not supported.
+ *
+ * @author Andrey_Yurzanov
+ */
+public class TrackerSourceCodeFactory extends EntitySourceCodeFactory {
+  private static final String CLASS_NAME_SUFFIX = "StubTracker";
+  private static final String INDEX = "index";
+  private static final String COLUMN = "column";
+  private static final String SNAPSHOT = "snapshot";
+  private static final String DIRTY = "dirty";
+  private static final String SLOT = "slot";
+  private static final String VALUE = "value";
+
+  @Override
+  public Optional<JavaSourceCode> build(TableMetaInfo info) {
+    if (!info.getType().isAnnotationPresent(Tracked.class) || !hasGetters(info) || !hasIds(info)) {
+      return Optional.empty();
+    }
+
+    return Optional.of(
+      new JavaSourceCode(
+        new JavaClass(
+          info.getType().getSimpleName().concat(CLASS_NAME_SUFFIX),
+          getPackage(info),
+          new JavaPublicModifier(),
+          Collections.singletonList(new JavaInheritableElement(Tracker.class)),
+          null,
+          null,
+          Arrays.asList(buildSnapshot(info), buildGetDirty(info), buildBindColumn(info))
+        )
+      )
+    );
+  }
+
+  // Creates method which saves values of the columns
+  private JavaMethodDefinition buildSnapshot(TableMetaInfo info) {
+    JavaVariableDefinition source = new JavaVariableDefinition(new JavaExplicitType(Object.class), SOURCE);
+    JavaVariableDefinition entity = buildEntity(info, source);
+
+    int values = 0;
+    int references = 0;
+    for (ColumnMetaInfo column : info.getColumns()) {
+      if (!column.isId()) {
+        if (isPrimitive(column)) {
+          values++;
+        } else {
+          references++;
+        }
+      }
+    }
+
+    JavaExplicitType snapshotType = new JavaExplicitType(Snapshot.class);
+    JavaVariableDefinition snapshot = new JavaVariableDefinition(
+      snapshotType,
+      SNAPSHOT,
+      new JavaAssignOperator(
+        new JavaNewOperator(
+          new JavaConstructorDefinition(
+            snapshotType,
+            new JavaParameter(1, "values", new JavaExplicitType(int.class)),
+            new JavaParameter(2, "references", new JavaExplicitType(int.class))
+          ).invoke(new JavaLiteralArgument(values), new JavaLiteralArgument(references))
+        )
+      )
+    );
+
+    values = 0;
+    references = 0;
+    List<JavaElement> statements = new ArrayList<>(Arrays.asList(entity, snapshot));
+    for (ColumnMetaInfo column : info.getColumns()) {
+      if (!column.isId()) {
+        int slot = isPrimitive(column) ? values++ : references++;
+        statements.add(
+          snapshot.invoke(
+            buildSnapshotMethod("set", column).invoke(new JavaLiteralArgument(slot), buildGetterInvoke(entity, column))
+          )
+        );
+      }
+    }
+    statements.add(new JavaReturnOperator(snapshot.reference()));
+
+    return new JavaMethodDefinition(
+      "snapshot",
+      new JavaPublicModifier(),
+      snapshotType,
+      Collections.singletonList(new JavaParameter(1, SOURCE, source.getVariableType())),
+      new JavaMethodBlockImpl(statements)
+    );
+  }
+
+  // Creates method which compares the saved values with the current values of the columns
+  private JavaMethodDefinition buildGetDirty(TableMetaInfo info) {
+    JavaVariableDefinition snapshot = new JavaVariableDefinition(new JavaExplicitType(Snapshot.class), SNAPSHOT);
+    JavaVariableDefinition source = new JavaVariableDefinition(new JavaExplicitType(Object.class), SOURCE);
+    JavaVariableDefinition entity = buildEntity(info, source);
+    JavaExplicitType dirtyType = new JavaExplicitType(BitSet.class);
+    JavaVariableDefinition dirty = new JavaVariableDefinition(
+      dirtyType,
+      DIRTY,
+      new JavaAssignOperator(new JavaNewOperator(new JavaConstructorDefinition(dirtyType).invoke()))
+    );
+
+    int values = 0;
+    int references = 0;
+    int position = 0;
+    List<JavaElement> statements = new ArrayList<>(Arrays.asList(entity, dirty));
+    for (ColumnMetaInfo column : info.getColumns()) {
+      if (!column.isId()) {
+        int slot = isPrimitive(column) ? values++ : references++;
+        statements.add(
+          new JavaIfOperator(
+            snapshot.invoke(
+              buildSnapshotMethod("isChanged", column)
+                .invoke(new JavaLiteralArgument(slot), buildGetterInvoke(entity, column))
+            ),
+            Collections.singletonList(
+              dirty.invoke(
+                new JavaMethodDefinition("set", new JavaParameter(1, "bitIndex", new JavaExplicitType(int.class)))
+                  .invoke(new JavaLiteralArgument(position))
+              )
+            )
+          )
+        );
+      }
+      position++;
+    }
+    statements.add(new JavaReturnOperator(dirty.reference()));
+
+    return new JavaMethodDefinition(
+      "getDirty",
+      new JavaPublicModifier(),
+      dirtyType,
+      Arrays.asList(
+        new JavaParameter(1, SNAPSHOT, snapshot.getVariableType()),
+        new JavaParameter(2, SOURCE, source.getVariableType())
+      ),
+      new JavaMethodBlockImpl(statements)
+    );
+  }
+
+  // Creates method of the snapshot which accepts value of the column
+  private static JavaMethodDefinition buildSnapshotMethod(String name, ColumnMetaInfo column) {
+    return new JavaMethodDefinition(
+      name,
+      new JavaParameter(1, SLOT, new JavaExplicitType(int.class)),
+      new JavaParameter(2, VALUE, new JavaExplicitType(column.getField().getType()))
+    );
+  }
+
+  // Checks that the column is saved as the primitive value
+  private static boolean isPrimitive(ColumnMetaInfo column) {
+    return column.getField().getType().isPrimitive();
+  }
+
+  // Creates method which binds the column by position
+  private JavaMethodDefinition buildBindColumn(TableMetaInfo info) {
+    JavaVariableDefinition statement = new JavaVariableDefinition(
+      new JavaExplicitType(PreparedStatement.class),
+      STATEMENT
+    );
+    JavaVariableDefinition index = new JavaVariableDefinition(new JavaExplicitType(int.class), INDEX);
+    JavaVariableDefinition column = new JavaVariableDefinition(new JavaExplicitType(int.class), COLUMN);
+    JavaVariableDefinition source = new JavaVariableDefinition(new JavaExplicitType(Object.class), SOURCE);
+    JavaVariableDefinition entity = buildEntity(info, source);
+
+    List<JavaSwitchCase> cases = new ArrayList<>();
+    int position = 0;
+    for (ColumnMetaInfo columnInfo : info.getColumns()) {
+      cases.add(
+        new JavaSwitchCase(
+          new JavaLiteralArgument(position++),
+          Arrays.asList(
+            statement.invoke(buildSetterInvoke(columnInfo, index.reference(), buildGetterInvoke(entity, columnInfo))),
+            new JavaBreakOperator()
+          )
+        )
+      );
+    }
+    cases.add(
+      new JavaSwitchCase(
+        null,
+        Collections.singletonList(
+          new JavaThrowOperator(
+            new JavaNewOperator(
+              new JavaConstructorDefinition(new JavaExplicitType(IndexOutOfBoundsException.class)).invoke()
+            )
+          )
+        )
+      )
+    );
+
+    return new JavaMethodDefinition(
+      "bindColumn",
+      new JavaPublicModifier(),
+      new JavaExplicitType(void.class),
+      Arrays.asList(
+        new JavaParameter(1, STATEMENT, statement.getVariableType()),
+        new JavaParameter(2, INDEX, index.getVariableType()),
+        new JavaParameter(3, COLUMN, column.getVariableType()),
+        new JavaParameter(4, SOURCE, source.getVariableType())
+      ),
+      Collections.singletonList(new JavaExplicitType(SQLException.class)),
+      new JavaMethodBlockImpl(entity, new JavaSwitchOperator(column.reference(), cases))
+    );
+  }
+
+  // Checks that the entity has the identifiers
+  private static boolean hasIds(TableMetaInfo info) {
+    for (ColumnMetaInfo column : info.getColumns()) {
+      if (column.isId()) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.codegen.plugin;
+
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.Log;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Tests of the plugin's configuration and reporting.
+ *
+ * @author Andrey_Yurzanov
+ */
+class CodegenPluginTest {
+  private static final String VERSION = "1.0";
+
+  @Test
+  void getIndexVersionTest() {
+    String version = CodegenPlugin.getIndexVersion(VERSION, false, true, null, null);
+    Assertions.assertEquals(version, CodegenPlugin.getIndexVersion(VERSION, false, true, null, null));
+    Assertions.assertEquals(
+      version,
+      CodegenPlugin.getIndexVersion(VERSION, false, true, Collections.emptyList(), Collections.emptyList())
+    );
+
+    Assertions.assertNotEquals(version, CodegenPlugin.getIndexVersion("1.1", false, true, null, null));
+    Assertions.assertNotEquals(version, CodegenPlugin.getIndexVersion(VERSION, true, true, null, null));
+    Assertions.assertNotEquals(version, CodegenPlugin.getIndexVersion(VERSION, false, false, null, null));
+    Assertions.assertNotEquals(
+      version,
+      CodegenPlugin.getIndexVersion(VERSION, false, true, Collections.singletonList("org.rcd2obj.**"), null)
+    );
+    Assertions.assertNotEquals(
+      version,
+      CodegenPlugin.getIndexVersion(VERSION, false, true, null, Collections.singletonList("org.rcd2obj.**"))
+    );
+    Assertions.assertNotEquals(
+      CodegenPlugin.getIndexVersion(VERSION, false, true, Arrays.asList("org.*", "com.*"), null),
+      CodegenPlugin.getIndexVersion(VERSION, false, true, null, Arrays.asList("org.*", "com.*"))
+    );
+  }
+
+  @Test
+  void reportTest() {
+    Map<String, List<String>> messages = new LinkedHashMap<>();
+    Log log = (Log) Proxy.newProxyInstance(
+      Log.class.getClassLoader(),
+      new Class<?>[] {Log.class},
+      (proxy, method, args) -> {
+        messages.computeIfAbsent(method.getName(), key -> new ArrayList<>()).add(String.valueOf(args[0]));
+        return null;
+      }
+    );
+
+    Map<String, List<Diagnostic<? extends JavaFileObject>>> diagnostics = new LinkedHashMap<>();
+    diagnostics.put("", Collections.singletonList(createDiagnostic(Diagnostic.Kind.NOTE, false, "Some note")));
+    diagnostics.put(
+      "org.rcd2obj.TestEntityStubMapper",
+      Arrays.asList(
+        createDiagnostic(Diagnostic.Kind.WARNING, true, "Some warning"),
+        createDiagnostic(Diagnostic.Kind.ERROR, true, "Some error")
+      )
+    );
+    Assertions.assertThrows(MojoFailureException.class, () -> CodegenPlugin.report(log, diagnostics));
+    Assertions.assertEquals(Collections.singletonList("Some note"), messages.get("info"));
+    Assertions.assertEquals(
+      Collections.singletonList("[org.rcd2obj.TestEntityStubMapper:7] Some warning"),
+      messages.get("warn")
+    );
+    Assertions.assertEquals(
+      Collections.singletonList("[org.rcd2obj.TestEntityStubMapper:7] Some error"),
+      messages.get("error")
+    );
+
+    messages.clear();
+    Assertions.assertDoesNotThrow(() -> CodegenPlugin.report(log, Collections.singletonMap("", diagnostics.get(""))));
+    Assertions.assertEquals(Collections.singleton("info"), messages.keySet());
+  }
+
+  // Creates the diagnostic of the compiler
+  private static Diagnostic<JavaFileObject> createDiagnostic(Diagnostic.Kind kind, boolean positioned, String message) {
+    JavaFileObject source = positioned
+      ? new SimpleJavaFileObject(URI.create("string:///TestEntityStubMapper.java"), JavaFileObject.Kind.SOURCE) {
+      }
+      : null;
+    return new Diagnostic<JavaFileObject>() {
+      @Override
+      public Kind getKind() {
+        return kind;
+      }
+
+      @Override
+      public JavaFileObject getSource() {
+        return source;
+      }
+
+      @Override
+      public long getPosition() {
+        return positioned ? 1 : NOPOS;
+      }
+
+      @Override
+      public long getStartPosition() {
+        return getPosition();
+      }
+
+      @Override
+      public long getEndPosition() {
+        return getPosition();
+      }
+
+      @Override
+      public long getLineNumber() {
+        return positioned ? 7 : NOPOS;
+      }
+
+      @Override
+      public long getColumnNumber() {
+        return positioned ? 1 : NOPOS;
+      }
+
+      @Override
+      public String getCode() {
+        return null;
+      }
+
+      @Override
+      public String getMessage(Locale locale) {
+        return message;
+      }
+    };
+  }
+}
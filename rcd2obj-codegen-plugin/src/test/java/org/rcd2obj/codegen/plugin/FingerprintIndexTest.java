@@ -0,0 +1,191 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.codegen.plugin;
+
+import org.rcd2obj.annotation.Table;
+import org.rcd2obj.annotation.meta.MetaInfoContext;
+import org.rcd2obj.annotation.meta.TableMetaInfo;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Tests of the index of the processed entities.
+ *
+ * @author Andrey_Yurzanov
+ */
+class FingerprintIndexTest {
+  private static final String VERSION = "1.0";
+
+  @TempDir
+  Path build;
+  private Path root;
+  private Path indexFile;
+  private Path classFile;
+  private Path baseClassFile;
+  private Collection<Path> outputs;
+  private TableMetaInfo info;
+
+  @BeforeEach
+  void init() throws IOException {
+    root = build.resolve("classes");
+    indexFile = build.resolve("rcd2obj").resolve("classes.index");
+    classFile = copyClassFile(TestEntity.class);
+    baseClassFile = copyClassFile(TestBaseEntity.class);
+    outputs = Arrays.asList(
+      createFile(root.resolve("TestEntityStubMapper.class")),
+      createFile(build.resolve("generated-sources").resolve("TestEntityStubMapper.java"))
+    );
+    info = new TableMetaInfo.Factory(new MetaInfoContext()).build(TestEntity.class).get();
+  }
+
+  @Test
+  void isUnchangedTest() throws IOException {
+    FingerprintIndex index = new FingerprintIndex(indexFile, build, VERSION);
+    Assertions.assertFalse(index.isUnchanged(root, classFile));
+    index.put(root, classFile, info, outputs);
+    Assertions.assertEquals(0, index.save());
+
+    index = new FingerprintIndex(indexFile, build, VERSION);
+    Assertions.assertTrue(index.isUnchanged(root, classFile));
+    Assertions.assertEquals(0, index.save());
+    Assertions.assertTrue(new FingerprintIndex(indexFile, build, VERSION).isUnchanged(root, classFile));
+  }
+
+  @Test
+  void isUnchangedMovedTest() throws IOException {
+    FingerprintIndex index = new FingerprintIndex(indexFile, build, VERSION);
+    index.put(root, classFile, info, outputs);
+    index.save();
+
+    // the index is kept relative to the output directory
+    Path moved = Files.move(build, build.resolveSibling(build.getFileName() + "-moved"));
+    try {
+      index = new FingerprintIndex(moved.resolve(build.relativize(indexFile)), moved, VERSION);
+      Assertions.assertTrue(index.isUnchanged(moved.resolve("classes"), moved.resolve(build.relativize(classFile))));
+    } finally {
+      Files.move(moved, build);
+    }
+  }
+
+  @Test
+  void isUnchangedDependencyTest() throws IOException {
+    FingerprintIndex index = new FingerprintIndex(indexFile, build, VERSION);
+    index.put(root, classFile, info, outputs);
+    index.save();
+
+    Files.write(baseClassFile, new byte[] {0}, StandardOpenOption.APPEND);
+    Assertions.assertFalse(new FingerprintIndex(indexFile, build, VERSION).isUnchanged(root, classFile));
+  }
+
+  @Test
+  void isUnchangedOutputTest() throws IOException {
+    FingerprintIndex index = new FingerprintIndex(indexFile, build, VERSION);
+    index.put(root, classFile, info, outputs);
+    index.save();
+
+    Files.delete(outputs.iterator().next());
+    Assertions.assertFalse(new FingerprintIndex(indexFile, build, VERSION).isUnchanged(root, classFile));
+  }
+
+  @Test
+  void isUnchangedVersionTest() throws IOException {
+    FingerprintIndex index = new FingerprintIndex(indexFile, build, VERSION);
+    index.put(root, classFile, info, outputs);
+    index.save();
+
+    Assertions.assertFalse(new FingerprintIndex(indexFile, build, "1.1").isUnchanged(root, classFile));
+    Assertions.assertTrue(new FingerprintIndex(indexFile, build, VERSION).isUnchanged(root, classFile));
+  }
+
+  @Test
+  void saveRemovedTest() throws IOException {
+    FingerprintIndex index = new FingerprintIndex(indexFile, build, VERSION);
+    index.put(root, classFile, info, outputs);
+    index.save();
+
+    // the entity isn't processed, so it's removed with the generated files
+    Assertions.assertEquals(1, new FingerprintIndex(indexFile, build, VERSION).save());
+    for (Path output : outputs) {
+      Assertions.assertFalse(Files.exists(output));
+    }
+    Assertions.assertTrue(Files.exists(classFile));
+    Assertions.assertEquals(0, new FingerprintIndex(indexFile, build, VERSION).save());
+  }
+
+  @Test
+  void saveOutsideTest() throws IOException {
+    Path outside = createFile(build.resolveSibling(build.getFileName() + "-outside").resolve("Outside.java"));
+    try {
+      FingerprintIndex index = new FingerprintIndex(indexFile, build, VERSION);
+      index.put(root, classFile, info, Arrays.asList(outside));
+      index.save();
+
+      // the files outside the output directory are never deleted
+      Assertions.assertEquals(1, new FingerprintIndex(indexFile, build, VERSION).save());
+      Assertions.assertTrue(Files.exists(outside));
+    } finally {
+      Files.delete(outside);
+      Files.delete(outside.getParent());
+    }
+  }
+
+  // Copies the class file of the type to the scanned directory
+  private Path copyClassFile(Class<?> type) throws IOException {
+    String resource = type.getName().replace('.', '/') + ".class";
+    Path path = root.resolve(resource);
+    Files.createDirectories(path.getParent());
+    try (InputStream in = type.getClassLoader().getResourceAsStream(resource)) {
+      Files.copy(in, path);
+    }
+    return path;
+  }
+
+  // Creates the generated file
+  private static Path createFile(Path path) throws IOException {
+    Files.createDirectories(path.getParent());
+    return Files.write(path, new byte[] {1});
+  }
+
+  /**
+   * Superclass of the entity.
+   *
+   * @author Andrey_Yurzanov
+   */
+  public static class TestBaseEntity {
+    private long id;
+  }
+
+  /**
+   * Entity of the index.
+   *
+   * @author Andrey_Yurzanov
+   */
+  @Table
+  public static class TestEntity extends TestBaseEntity {
+    private String name;
+  }
+}
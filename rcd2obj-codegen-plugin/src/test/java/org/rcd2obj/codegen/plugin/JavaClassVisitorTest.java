@@ -0,0 +1,145 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.codegen.plugin;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Tests of the visitor of the class files.
+ *
+ * @author Andrey_Yurzanov
+ */
+class JavaClassVisitorTest {
+  private static final String ROOT_CLASS = "Root.class";
+  private static final String EXAMPLE_CLASS = "org/example/Example.class";
+  private static final String MODEL_CLASS = "org/example/model/Model.class";
+  private static final String SHOP_MODEL_CLASS = "org/example/shop/model/ShopModel.class";
+  private static final String SHOP_MODEL_ITEM_CLASS = "org/example/shop/model/item/Item.class";
+  private static final String SHOP_DAO_CLASS = "org/example/shop/dao/Dao.class";
+  private static final String OTHER_CLASS = "com/other/Other.class";
+  private static final List<String> CLASSES = Arrays.asList(
+    ROOT_CLASS,
+    EXAMPLE_CLASS,
+    MODEL_CLASS,
+    SHOP_MODEL_CLASS,
+    SHOP_MODEL_ITEM_CLASS,
+    SHOP_DAO_CLASS,
+    OTHER_CLASS
+  );
+  private static final List<String> SKIPPED = Arrays.asList(
+    "org/example/package-info.class",
+    "module-info.class",
+    "org/example/Example$1.class",
+    "org/example/Example$1Local.class",
+    "org/example/Example.java"
+  );
+
+  @TempDir
+  Path root;
+
+  @BeforeEach
+  void init() throws IOException {
+    for (String name : CLASSES) {
+      createFile(name);
+    }
+    for (String name : SKIPPED) {
+      createFile(name);
+    }
+    createFile("org/example/Example$Nested.class");
+  }
+
+  @Test
+  void visitAllTest() throws IOException {
+    Set<String> expected = new TreeSet<>(CLASSES);
+    expected.add("org/example/Example$Nested.class");
+    Assertions.assertEquals(expected, visit(null, null));
+    Assertions.assertEquals(expected, visit(Collections.singletonList(" "), Collections.emptyList()));
+  }
+
+  @Test
+  void visitIncludesTest() throws IOException {
+    Assertions.assertEquals(classes(MODEL_CLASS), visit(Arrays.asList("org.example.model"), null));
+    Assertions.assertEquals(
+      classes(MODEL_CLASS, SHOP_MODEL_ITEM_CLASS),
+      visit(Arrays.asList("org.example.model", "org.*.*.model.item"), null)
+    );
+    Assertions.assertEquals(classes(SHOP_MODEL_CLASS, SHOP_DAO_CLASS), visit(Arrays.asList("org.*.shop.*"), null));
+    Assertions.assertEquals(
+      classes(MODEL_CLASS, SHOP_MODEL_CLASS),
+      visit(Arrays.asList("org.**.model"), null)
+    );
+    Assertions.assertEquals(
+      classes(MODEL_CLASS, SHOP_MODEL_CLASS, SHOP_MODEL_ITEM_CLASS, SHOP_DAO_CLASS),
+      visit(Arrays.asList("org.example.*.**"), null)
+    );
+    Assertions.assertEquals(classes(OTHER_CLASS), visit(Arrays.asList("", "**.other"), null));
+    Assertions.assertEquals(classes(), visit(Arrays.asList("org.example.missing"), null));
+  }
+
+  @Test
+  void visitExcludesTest() throws IOException {
+    Assertions.assertEquals(
+      classes(ROOT_CLASS, OTHER_CLASS),
+      visit(null, Arrays.asList("org.**"))
+    );
+    Assertions.assertEquals(
+      classes(EXAMPLE_CLASS, "org/example/Example$Nested.class", MODEL_CLASS, SHOP_DAO_CLASS),
+      visit(Arrays.asList("org.**"), Arrays.asList("org.*.shop.model.**"))
+    );
+    Assertions.assertEquals(
+      classes(EXAMPLE_CLASS, "org/example/Example$Nested.class", SHOP_MODEL_ITEM_CLASS, SHOP_DAO_CLASS),
+      visit(Arrays.asList("org.**"), Arrays.asList("**.model"))
+    );
+  }
+
+  // Visits the temporary directory, returns the relative paths of the found classes
+  private Set<String> visit(Collection<String> includes, Collection<String> excludes) throws IOException {
+    JavaClassVisitor visitor = new JavaClassVisitor(root, includes, excludes);
+    Files.walkFileTree(root, visitor);
+
+    Set<String> found = new TreeSet<>();
+    for (Path path : visitor.getJavaClasses()) {
+      found.add(root.relativize(path).toString().replace(root.getFileSystem().getSeparator(), "/"));
+    }
+    return found;
+  }
+
+  // Creates the empty file by the relative path
+  private void createFile(String name) throws IOException {
+    Path path = root.resolve(name);
+    Files.createDirectories(path.getParent());
+    Files.createFile(path);
+  }
+
+  // Returns the set of the classes
+  private static Set<String> classes(String... names) {
+    return new TreeSet<>(Arrays.asList(names));
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.codegen.plugin;
+
+import org.rcd2obj.codegen.JavaClass;
+import org.rcd2obj.codegen.JavaPackage;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests of the compiler of generated source code.
+ *
+ * @author Andrey_Yurzanov
+ */
+class JavaSourceCodeCompilerTest {
+  private static final String CLASS_NAME = "MyClass";
+  private static final String PACKAGE_NAME = "org.rcd2obj.codegen";
+  private static final int JAVA_8_VERSION = 52;
+
+  @TempDir
+  Path root;
+
+  @Test
+  void compileTest() throws IOException {
+    JavaSourceCode sourceCode = new JavaSourceCode(
+      new JavaClass(CLASS_NAME, new JavaPackage(PACKAGE_NAME), null, null, null, null)
+    );
+    Map<String, List<Diagnostic<? extends JavaFileObject>>> diagnostics = new JavaSourceCodeCompiler().compile(
+      root.toFile(),
+      Collections.emptyList(),
+      Collections.singletonList(sourceCode)
+    );
+    Assertions.assertEquals(Collections.emptyMap(), diagnostics);
+
+    try (
+      InputStream stream = Files.newInputStream(root.resolve("org/rcd2obj/codegen/MyClass.class"));
+      DataInputStream input = new DataInputStream(stream)
+    ) {
+      Assertions.assertEquals(0xCAFEBABE, input.readInt());
+      Assertions.assertEquals(0, input.readUnsignedShort());
+      Assertions.assertEquals(JAVA_8_VERSION, input.readUnsignedShort());
+    }
+  }
+}
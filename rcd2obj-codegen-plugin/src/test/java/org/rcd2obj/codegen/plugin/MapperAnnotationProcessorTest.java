@@ -0,0 +1,286 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.codegen.plugin;
+
+import org.rcd2obj.annotation.mapping.RowMapper;
+import org.rcd2obj.annotation.mapping.RuntimeMapperFactory;
+import org.rcd2obj.annotation.meta.MetaInfoContext;
+import org.rcd2obj.annotation.meta.TableMetaInfo;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests of the annotation processor, the entities are compiled by the system Java compiler.
+ *
+ * @author Andrey_Yurzanov
+ */
+class MapperAnnotationProcessorTest {
+  private static final String ENTITY = String.join(
+    "\n",
+    "package org.example;",
+    "import org.rcd2obj.annotation.Id;",
+    "import org.rcd2obj.annotation.Table;",
+    "@Table(\"test_entity\")",
+    "public class TestEntity {",
+    "  @Id",
+    "  private long id;",
+    "  private String name;",
+    "  public long getId() { return id; }",
+    "  public void setId(long id) { this.id = id; }",
+    "  public String getName() { return name; }",
+    "  public void setName(String name) { this.name = name; }",
+    "}"
+  );
+  private static final String SKIPPED_ENTITY = String.join(
+    "\n",
+    "package org.example;",
+    "import org.rcd2obj.annotation.Table;",
+    "@Table",
+    "public class TestSkippedEntity {",
+    "  private String name;",
+    "  public TestSkippedEntity(String name) { this.name = name; }",
+    "}"
+  );
+  private static final String UNMAPPED_BASE = String.join(
+    "\n",
+    "package org.example;",
+    "public class TestBase {",
+    "  private String hidden;",
+    "}"
+  );
+  private static final String MAPPED_BASE = String.join(
+    "\n",
+    "package org.example;",
+    "import org.rcd2obj.annotation.Id;",
+    "import org.rcd2obj.annotation.MappedSuperclass;",
+    "@MappedSuperclass",
+    "public abstract class TestRecord extends TestBase {",
+    "  @Id",
+    "  private long id;",
+    "  public void setId(long id) { this.id = id; }",
+    "}"
+  );
+  private static final String INHERITED_ENTITY = String.join(
+    "\n",
+    "package org.example;",
+    "import org.rcd2obj.annotation.Table;",
+    "@Table",
+    "public class TestInheritedEntity extends TestRecord {",
+    "  private String name;",
+    "  public void setName(String name) { this.name = name; }",
+    "}"
+  );
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void processTest() throws Exception {
+    DiagnosticCollector<JavaFileObject> diagnostics = compile(
+      new SourceFile("org.example.TestEntity", ENTITY)
+    );
+    Assertions.assertEquals(Collections.emptyList(), getErrors(diagnostics));
+
+    Path source = directory.resolve("sources/org/example/TestEntityStubMapper.java");
+    Assertions.assertTrue(Files.isRegularFile(source));
+    Assertions.assertTrue(Files.isRegularFile(directory.resolve("classes/org/example/TestEntityStubMapper.class")));
+
+    try (URLClassLoader loader = createLoader()) {
+      Class<?> mapperClass = loader.loadClass("org.example.TestEntityStubMapper");
+      Assertions.assertTrue(MapperAnnotationProcessor.isGenerated(mapperClass));
+      Assertions.assertFalse(MapperAnnotationProcessor.isGenerated(MapperAnnotationProcessorTest.class));
+
+      // the queries are the same as the queries of the meta information of the compiled entity
+      Class<?> entityClass = loader.loadClass("org.example.TestEntity");
+      TableMetaInfo info = new TableMetaInfo.Factory(new MetaInfoContext()).build(entityClass).get();
+      RowMapper expected = new RuntimeMapperFactory().create(info);
+      RowMapper mapper = (RowMapper) mapperClass.getConstructor().newInstance();
+      Assertions.assertEquals(expected.getSelectQuery(), mapper.getSelectQuery());
+      Assertions.assertEquals(expected.getProjection(), mapper.getProjection());
+      Assertions.assertEquals(2, mapper.getColumnCount());
+      Assertions.assertEquals(1, mapper.getIdColumn());
+
+      Object entity = mapper.mapRow(createResultSet(3L, "name"), 0);
+      Assertions.assertEquals(3L, entity.getClass().getMethod("getId").invoke(entity));
+      Assertions.assertEquals("name", entity.getClass().getMethod("getName").invoke(entity));
+
+      // the steps of the split mapping are generated, not inherited from RowMapper
+      Assertions.assertNotNull(
+        mapperClass.getDeclaredMethod("extract", ResultSet.class, int.class, Object[].class, int.class)
+      );
+      Assertions.assertNotNull(mapperClass.getDeclaredMethod("convert", Object[].class, int.class));
+      Object[] buffer = new Object[3];
+      mapper.extract(createResultSet(4L, "other"), 0, buffer, 1);
+      entity = mapper.convert(buffer, 1);
+      Assertions.assertEquals(4L, entity.getClass().getMethod("getId").invoke(entity));
+      Assertions.assertEquals("other", entity.getClass().getMethod("getName").invoke(entity));
+    }
+  }
+
+  @Test
+  void processSkippedTest() throws IOException {
+    DiagnosticCollector<JavaFileObject> diagnostics = compile(
+      new SourceFile("org.example.TestSkippedEntity", SKIPPED_ENTITY)
+    );
+    Assertions.assertEquals(Collections.emptyList(), getErrors(diagnostics));
+    Assertions.assertTrue(
+      diagnostics
+        .getDiagnostics()
+        .stream()
+        .anyMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.NOTE
+          && diagnostic.getMessage(null).contains("public default constructor"))
+    );
+    Assertions.assertFalse(Files.exists(directory.resolve("sources/org/example/TestSkippedEntityStubMapper.java")));
+  }
+
+  @Test
+  void processInheritedTest() throws Exception {
+    DiagnosticCollector<JavaFileObject> diagnostics = compile(
+      new SourceFile("org.example.TestBase", UNMAPPED_BASE),
+      new SourceFile("org.example.TestRecord", MAPPED_BASE),
+      new SourceFile("org.example.TestInheritedEntity", INHERITED_ENTITY)
+    );
+    Assertions.assertEquals(Collections.emptyList(), getErrors(diagnostics));
+
+    try (URLClassLoader loader = createLoader()) {
+      // the columns are the same as the columns of the meta information of the compiled entity
+      Class<?> entityClass = loader.loadClass("org.example.TestInheritedEntity");
+      TableMetaInfo info = new TableMetaInfo.Factory(new MetaInfoContext()).build(entityClass).get();
+      RowMapper expected = new RuntimeMapperFactory().create(info);
+      RowMapper mapper = (RowMapper) loader
+        .loadClass("org.example.TestInheritedEntityStubMapper")
+        .getConstructor()
+        .newInstance();
+      Assertions.assertEquals(expected.getProjection(), mapper.getProjection());
+      Assertions.assertEquals(2, mapper.getColumnCount());
+      Assertions.assertEquals(expected.getIdColumn(), mapper.getIdColumn());
+      Assertions.assertEquals(1, mapper.getIdColumn());
+    }
+  }
+
+  // Compiles the sources with the processor to the temporary directory
+  private DiagnosticCollector<JavaFileObject> compile(JavaFileObject... sources) throws IOException {
+    Path classes = Files.createDirectories(directory.resolve("classes"));
+    Path generated = Files.createDirectories(directory.resolve("sources"));
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+      List<String> options = Arrays.asList(
+        "-classpath", System.getProperty("java.class.path"),
+        "-d", classes.toString(),
+        "-s", generated.toString()
+      );
+      JavaCompiler.CompilationTask task = compiler.getTask(
+        null,
+        fileManager,
+        diagnostics,
+        options,
+        null,
+        Arrays.asList(sources)
+      );
+      task.setProcessors(Collections.singletonList(new MapperAnnotationProcessor()));
+      task.call();
+    }
+    return diagnostics;
+  }
+
+  // Returns messages of the errors of the compiler
+  private static List<String> getErrors(DiagnosticCollector<JavaFileObject> diagnostics) {
+    List<String> errors = new ArrayList<>();
+    for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+      if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+        errors.add(diagnostic.getMessage(null));
+      }
+    }
+    return errors;
+  }
+
+  // Creates loader of the compiled classes
+  private URLClassLoader createLoader() throws IOException {
+    return new URLClassLoader(
+      new URL[] {directory.resolve("classes").toUri().toURL()},
+      getClass().getClassLoader()
+    );
+  }
+
+  // Creates the result set of one row
+  private static ResultSet createResultSet(Object... values) {
+    return (ResultSet) Proxy.newProxyInstance(
+      ResultSet.class.getClassLoader(),
+      new Class<?>[] {ResultSet.class},
+      (proxy, method, args) -> {
+        switch (method.getName()) {
+          case "getLong":
+          case "getString":
+          case "getObject":
+            return values[(Integer) args[0] - 1];
+          case "wasNull":
+            return false;
+          default:
+            throw new UnsupportedOperationException(method.getName());
+        }
+      }
+    );
+  }
+
+  /**
+   * Source file of the compiled entity.
+   *
+   * @author Andrey_Yurzanov
+   */
+  private static class SourceFile extends SimpleJavaFileObject {
+    private final String code;
+
+    /**
+     * Constructs new instance of the source file.
+     *
+     * @param className qualified name of the class
+     * @param code      source code of the class
+     */
+    SourceFile(String className, String code) {
+      super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+      this.code = code;
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return code;
+    }
+  }
+}
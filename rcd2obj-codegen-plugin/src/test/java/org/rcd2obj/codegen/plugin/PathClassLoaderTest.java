@@ -0,0 +1,156 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.codegen.plugin;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tests of the class loader of the scanned directories.
+ *
+ * @author Andrey_Yurzanov
+ */
+class PathClassLoaderTest {
+  private static final int THREADS = 4;
+
+  @TempDir
+  Path build;
+  private Path root;
+  private Path classpath;
+
+  @BeforeEach
+  void init() throws IOException {
+    root = build.resolve("classes");
+    classpath = build.resolve("dependency");
+    copyClassFile(root, TestEntity.class);
+    copyClassFile(root, TestOtherEntity.class);
+    copyClassFile(classpath, TestBaseEntity.class);
+  }
+
+  @Test
+  void loadClassTest() throws Exception {
+    try (PathClassLoader loader = createLoader()) {
+      Class<?> loaded = loader.loadClass(root, getClassFile(root, TestEntity.class));
+      Assertions.assertEquals(TestEntity.class.getName(), loaded.getName());
+      Assertions.assertNotSame(TestEntity.class, loaded);
+      Assertions.assertSame(loader, loaded.getClassLoader());
+
+      // the superclass is found in the classpath of the project
+      Class<?> superclass = loaded.getSuperclass();
+      Assertions.assertEquals(TestBaseEntity.class.getName(), superclass.getName());
+      Assertions.assertSame(loader, superclass.getClassLoader());
+      Assertions.assertSame(loaded, loader.loadClass(root, getClassFile(root, TestEntity.class)));
+    }
+  }
+
+  @Test
+  void loadClassParallelTest() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try (PathClassLoader loader = createLoader()) {
+      Path classFile = getClassFile(root, TestEntity.class);
+      List<Callable<Class<?>>> tasks = new ArrayList<>();
+      for (int i = 0; i < THREADS; i++) {
+        tasks.add(() -> loader.loadClass(root, classFile));
+      }
+
+      List<Future<Class<?>>> loaded = executor.invokeAll(tasks);
+      for (Future<Class<?>> future : loaded) {
+        Assertions.assertSame(loaded.get(0).get(), future.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void loadClassExceptionTest() throws Exception {
+    try (PathClassLoader loader = createLoader()) {
+      Path missing = root.resolve("org").resolve("rcd2obj").resolve("Missing.class");
+      Assertions.assertThrows(ClassNotFoundException.class, () -> loader.loadClass(root, missing));
+    }
+
+    // the classes can't be loaded after closing
+    PathClassLoader loader = createLoader();
+    loader.close();
+    Path classFile = getClassFile(root, TestOtherEntity.class);
+    Assertions.assertThrows(ClassNotFoundException.class, () -> loader.loadClass(root, classFile));
+  }
+
+  // Creates the loader without the classes of the test
+  private PathClassLoader createLoader() throws IOException {
+    return new PathClassLoader(
+      Collections.singletonList(root.toFile()),
+      Collections.singletonList(classpath.toString()),
+      null
+    );
+  }
+
+  // Returns path of the class file of the type
+  private static Path getClassFile(Path directory, Class<?> type) {
+    return directory.resolve(type.getName().replace('.', '/') + ".class");
+  }
+
+  // Copies the class file of the type to the directory
+  private static void copyClassFile(Path directory, Class<?> type) throws IOException {
+    Path path = getClassFile(directory, type);
+    Files.createDirectories(path.getParent());
+    try (InputStream in = type.getClassLoader().getResourceAsStream(type.getName().replace('.', '/') + ".class")) {
+      Files.copy(in, path);
+    }
+  }
+
+  /**
+   * Superclass of the entity, it's placed to the classpath.
+   *
+   * @author Andrey_Yurzanov
+   */
+  public static class TestBaseEntity {
+    private long id;
+  }
+
+  /**
+   * Entity of the scanned directory.
+   *
+   * @author Andrey_Yurzanov
+   */
+  public static class TestEntity extends TestBaseEntity {
+    private String name;
+  }
+
+  /**
+   * Other entity of the scanned directory.
+   *
+   * @author Andrey_Yurzanov
+   */
+  public static class TestOtherEntity {
+    private String name;
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.codegen.plugin;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tests of the timer of the phases.
+ *
+ * @author Andrey_Yurzanov
+ */
+class PhaseTimerTest {
+  private static final int COUNT = 100;
+  private static final int THREADS = 4;
+  private static final long NANOS_IN_MILLI = 1_000_000L;
+  private static final double DELTA = 5.0;
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void writeTest() throws IOException {
+    PhaseTimer timer = new PhaseTimer();
+    // the durations are 1, 2, ..., 100 ms
+    for (int i = COUNT; i > 0; i--) {
+      timer.stop(PhaseTimer.Phase.LOAD, timer.start() - i * NANOS_IN_MILLI);
+    }
+
+    Path file = directory.resolve("rcd2obj").resolve("timings.json");
+    timer.write(file);
+    String json = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    for (PhaseTimer.Phase phase : PhaseTimer.Phase.values()) {
+      Matcher matcher = getPhase(json, phase);
+      if (phase == PhaseTimer.Phase.LOAD) {
+        Assertions.assertEquals(String.valueOf(COUNT), matcher.group(1));
+        Assertions.assertEquals(5050.0, Double.parseDouble(matcher.group(2)), DELTA);
+        Assertions.assertEquals(50.0, Double.parseDouble(matcher.group(3)), DELTA);
+        Assertions.assertEquals(99.0, Double.parseDouble(matcher.group(4)), DELTA);
+      } else {
+        Assertions.assertEquals("0", matcher.group(1));
+        Assertions.assertEquals("0.000", matcher.group(2));
+        Assertions.assertEquals("0.000", matcher.group(3));
+        Assertions.assertEquals("0.000", matcher.group(4));
+      }
+    }
+    Assertions.assertTrue(json.contains("\"entities\": 0"));
+  }
+
+  @Test
+  void getTableTest() {
+    PhaseTimer timer = new PhaseTimer();
+    timer.stop(PhaseTimer.Phase.GENERATE, timer.start());
+    timer.stop(PhaseTimer.Phase.GENERATE, timer.start());
+
+    List<String> table = timer.getTable();
+    Assertions.assertEquals(PhaseTimer.Phase.values().length + 2, table.size());
+    Assertions.assertTrue(table.get(0).startsWith("Phase"));
+    for (PhaseTimer.Phase phase : PhaseTimer.Phase.values()) {
+      String[] row = table.get(phase.ordinal() + 1).trim().split("\\s+");
+      Assertions.assertEquals(phase.getName(), row[0]);
+      Assertions.assertEquals(phase == PhaseTimer.Phase.GENERATE ? "2" : "0", row[1]);
+    }
+    Assertions.assertTrue(table.get(table.size() - 1).contains("[2] entities"));
+  }
+
+  @Test
+  void stopParallelTest() throws InterruptedException {
+    PhaseTimer timer = new PhaseTimer();
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    for (int i = 0; i < THREADS; i++) {
+      executor.execute(() -> {
+        for (int j = 0; j < COUNT; j++) {
+          timer.stop(PhaseTimer.Phase.FILTER, timer.start());
+        }
+      });
+    }
+    executor.shutdown();
+    Assertions.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+    String[] row = timer.getTable().get(PhaseTimer.Phase.FILTER.ordinal() + 1).trim().split("\\s+");
+    Assertions.assertEquals(String.valueOf(THREADS * COUNT), row[1]);
+  }
+
+  // Returns the matched phase of JSON, the groups are count, total, p50 and p99
+  private static Matcher getPhase(String json, PhaseTimer.Phase phase) {
+    Matcher matcher = Pattern.compile(
+      String.join(
+        "",
+        "\\{\"phase\": \"",
+        phase.getName(),
+        "\", \"count\": (\\d+), \"totalMs\": ([0-9.]+), \"p50Ms\": ([0-9.]+), \"p99Ms\": ([0-9.]+)}"
+      )
+    ).matcher(json);
+    Assertions.assertTrue(matcher.find(), phase.getName());
+    return matcher;
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.codegen.plugin;
+
+import org.rcd2obj.codegen.JavaClass;
+import org.rcd2obj.codegen.JavaPackage;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * Tests of the writer of generated source code.
+ *
+ * @author Andrey_Yurzanov
+ */
+class SourceCodeWriterTest {
+  private static final String CLASS_NAME = "MyClass";
+  private static final String PACKAGE_NAME = "org.rcd2obj.codegen";
+  private static final FileTime MODIFIED = FileTime.fromMillis(0);
+
+  @TempDir
+  Path root;
+
+  @Test
+  void writeTest() throws IOException {
+    SourceCodeWriter writer = new SourceCodeWriter();
+    JavaSourceCode sourceCode = createSourceCode();
+    Path path = writer.getPath(root, sourceCode);
+    Assertions.assertEquals(root.resolve("org/rcd2obj/codegen/MyClass.java"), path);
+
+    Assertions.assertTrue(writer.write(root, sourceCode));
+    Assertions.assertEquals(sourceCode.getCode(), new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void writeUnchangedTest() throws IOException {
+    SourceCodeWriter writer = new SourceCodeWriter();
+    JavaSourceCode sourceCode = createSourceCode();
+    Path path = writer.getPath(root, sourceCode);
+    Assertions.assertTrue(writer.write(root, sourceCode));
+    Files.setLastModifiedTime(path, MODIFIED);
+
+    Assertions.assertFalse(writer.write(root, sourceCode));
+    Assertions.assertEquals(MODIFIED, Files.getLastModifiedTime(path));
+  }
+
+  @Test
+  void writeChangedTest() throws IOException {
+    SourceCodeWriter writer = new SourceCodeWriter();
+    JavaSourceCode sourceCode = createSourceCode();
+    Path path = writer.getPath(root, sourceCode);
+    Files.createDirectories(path.getParent());
+    Files.write(path, "class MyClass {}".getBytes(StandardCharsets.UTF_8));
+    Files.setLastModifiedTime(path, MODIFIED);
+
+    Assertions.assertTrue(writer.write(root, sourceCode));
+    Assertions.assertEquals(sourceCode.getCode(), new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+    Assertions.assertNotEquals(MODIFIED, Files.getLastModifiedTime(path));
+  }
+
+  // Creates source code of the empty class
+  private static JavaSourceCode createSourceCode() {
+    return new JavaSourceCode(new JavaClass(CLASS_NAME, new JavaPackage(PACKAGE_NAME), null, null, null, null));
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.codegen.plugin;
+
+import org.rcd2obj.annotation.Table;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Tests of the filter of the class files by the annotation.
+ *
+ * @author Andrey_Yurzanov
+ */
+class TableClassFilterTest {
+  @TempDir
+  Path root;
+
+  @Test
+  void testAnnotated() throws IOException {
+    TableClassFilter filter = new TableClassFilter();
+    Assertions.assertTrue(filter.test(copyClassFile(TestEntity.class)));
+    Assertions.assertTrue(filter.test(copyClassFile(TestEntities.class)));
+  }
+
+  @Test
+  void testNotAnnotated() throws IOException {
+    TableClassFilter filter = new TableClassFilter();
+    Assertions.assertFalse(filter.test(copyClassFile(TestConstants.class)));
+    Assertions.assertFalse(filter.test(copyClassFile(TableClassFilterTest.class)));
+  }
+
+  @Test
+  void testBroken() throws IOException {
+    TableClassFilter filter = new TableClassFilter();
+    Path empty = Files.write(root.resolve("Empty.class"), new byte[0]);
+    Assertions.assertFalse(filter.test(empty));
+    Path text = Files.write(root.resolve("Text.class"), "public class Text {}".getBytes());
+    Assertions.assertFalse(filter.test(text));
+
+    // the truncated constant pool can't be checked, the class is checked after loading
+    byte[] content = Files.readAllBytes(copyClassFile(TestConstants.class));
+    Path truncated = Files.write(root.resolve("Truncated.class"), Arrays.copyOf(content, 16));
+    Assertions.assertTrue(filter.test(truncated));
+  }
+
+  // Copies the class file of the type to the temporary directory
+  private Path copyClassFile(Class<?> type) throws IOException {
+    String resource = type.getName().replace('.', '/') + ".class";
+    Path path = root.resolve(type.getSimpleName() + ".class");
+    try (InputStream in = type.getClassLoader().getResourceAsStream(resource)) {
+      Files.copy(in, path);
+    }
+    return path;
+  }
+
+  /**
+   * Class with the annotation.
+   *
+   * @author Andrey_Yurzanov
+   */
+  @Table
+  public static class TestEntity {
+    private long id;
+  }
+
+  /**
+   * Class with the repeated annotation, the container of the annotation is written to the class file.
+   *
+   * @author Andrey_Yurzanov
+   */
+  @Table("test_first")
+  @Table("test_second")
+  public static class TestEntities {
+    private long id;
+  }
+
+  /**
+   * Class without the annotation with the constants of all the sizes.
+   *
+   * @author Andrey_Yurzanov
+   */
+  public static class TestConstants {
+    private final long longValue = System.nanoTime() + 1234567890123L;
+    private final double doubleValue = Math.random() + 12345.6789;
+    private final float floatValue = (float) Math.random() + 123.45F;
+    private final int intValue = (int) System.nanoTime() + 1234567;
+    private final String stringValue = String.valueOf(longValue) + "Lorg/rcd2obj/annotation/Table";
+    private final Runnable runnable = () -> System.out.println(stringValue);
+  }
+}
@@ -17,6 +17,7 @@
 package org.rcd2obj.codegen;
 
 import org.rcd2obj.codegen.constructor.JavaConstructorDefinition;
+import org.rcd2obj.codegen.field.JavaFieldDefinition;
 import org.rcd2obj.codegen.inherited.JavaInheritableElement;
 import org.rcd2obj.codegen.method.JavaMethodDefinition;
 import org.rcd2obj.codegen.method.JavaMethodUnsupportedImpl;
@@ -25,6 +26,7 @@ import org.rcd2obj.codegen.operator.JavaCompleteOperator;
 import org.rcd2obj.codegen.render.JavaClassBufferRender;
 import org.rcd2obj.codegen.render.JavaElementRender;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.TreeSet;
@@ -90,6 +92,7 @@ public class JavaClass implements JavaElement {
   private final JavaPackage classPackage;
   private final JavaModifier classAccessModifier;
   private final Collection<JavaInheritableElement> classImplements;
+  private final Collection<JavaFieldDefinition> classFields;
   private final Collection<JavaConstructorDefinition> classConstructors;
   private final Collection<JavaMethodDefinition> classMethods;
 
@@ -121,11 +124,42 @@ public class JavaClass implements JavaElement {
     Collection<JavaInheritableElement> classImplements,
     Collection<JavaConstructorDefinition> classConstructors,
     Collection<JavaMethodDefinition> classMethods
+  ) {
+    this(className, classPackage, classAccessModifier, classImplements, null, classConstructors, classMethods);
+  }
+
+  /**
+   * It creates new instance of the class. Any types will add to the import block.
+   *
+   * @param className           name of the class, it is required
+   * @param classPackage        package of the class
+   * @param classAccessModifier access modifier of the class
+   * @param classImplements     interfaces for implements, methods of interfaces will be implements with
+   *                            {@link JavaMethodUnsupportedImpl} body, if they are not specified in the
+   *                            classMethods
+   * @param classFields         fields of the class, will be rendered in the specified order
+   * @param classConstructors   constructor of the class
+   * @param classMethods        methods of the class
+   * @throws IllegalArgumentException throws if classImplements contains something other than an interface
+   */
+  public JavaClass(
+    String className,
+    JavaPackage classPackage,
+    JavaModifier classAccessModifier,
+    Collection<JavaInheritableElement> classImplements,
+    Collection<JavaFieldDefinition> classFields,
+    Collection<JavaConstructorDefinition> classConstructors,
+    Collection<JavaMethodDefinition> classMethods
   ) {
     this.className = className;
     this.classPackage = classPackage;
     this.classAccessModifier = classAccessModifier;
 
+    this.classFields = new ArrayList<>();
+    if (classFields != null) {
+      this.classFields.addAll(classFields);
+    }
+
     if (classConstructors != null) {
       this.classConstructors = new TreeSet<>(classConstructors);
     } else {
@@ -191,6 +225,15 @@ public class JavaClass implements JavaElement {
     return Collections.unmodifiableCollection(classImplements);
   }
 
+  /**
+   * Returns fields of the class.
+   *
+   * @return fields of the class
+   */
+  public Collection<JavaFieldDefinition> getClassFields() {
+    return Collections.unmodifiableCollection(classFields);
+  }
+
   /**
    * Returns constructors of the class.
    *
@@ -233,9 +276,18 @@ public class JavaClass implements JavaElement {
         .append(JavaElementType.IMPLEMENTS_BLOCK_END);
     }
 
+    classRender.append(JavaElementType.CLASS_BODY_BEGIN);
+
+    // fields
+    if (!classFields.isEmpty()) {
+      classRender
+        .append(JavaElementType.CLASS_FIELDS_BLOCK_BEGIN)
+        .append(classFields, JavaElementType.CLASS_FIELDS_SEPARATOR.toElement())
+        .append(JavaElementType.CLASS_FIELDS_BLOCK_END);
+    }
+
     // constructors
     classRender
-      .append(JavaElementType.CLASS_BODY_BEGIN)
       .append(JavaElementType.CLASS_CONSTRUCTORS_BLOCK_BEGIN)
       .append(classConstructors, JavaElementType.CLASS_CONSTRUCTORS_SEPARATOR.toElement())
       .append(JavaElementType.CLASS_CONSTRUCTORS_BLOCK_END);
@@ -67,6 +67,18 @@ public enum JavaElementType {
    * The keyword of the public modifier.
    */
   MODIFIER_PUBLIC_KEYWORD("public", true),
+  /**
+   * The keyword of the private modifier.
+   */
+  MODIFIER_PRIVATE_KEYWORD("private", true),
+  /**
+   * The keyword of the static modifier.
+   */
+  MODIFIER_STATIC_KEYWORD("static", true),
+  /**
+   * The keyword of the final modifier.
+   */
+  MODIFIER_FINAL_KEYWORD("final", true),
   /**
    * The end of the modifier definition.
    */
@@ -95,6 +107,230 @@ public enum JavaElementType {
    * The end of the new operator.
    */
   NEW_END,
+  /**
+   * The start of the return operator.
+   */
+  RETURN_BEGIN,
+  /**
+   * The keyword of the return operator.
+   */
+  RETURN_KEYWORD("return", true),
+  /**
+   * The end of the return operator.
+   */
+  RETURN_END,
+  /**
+   * The start of the cast operator.
+   */
+  CAST_BEGIN,
+  /**
+   * The start of the cast's type.
+   */
+  CAST_TYPE_BLOCK_BEGIN("("),
+  /**
+   * The type of the cast.
+   */
+  CAST_TYPE,
+  /**
+   * The end of the cast's type.
+   */
+  CAST_TYPE_BLOCK_END(")"),
+  /**
+   * The end of the cast operator.
+   */
+  CAST_END,
+  /**
+   * The start of a literal.
+   */
+  LITERAL_BEGIN,
+  /**
+   * Value of the literal.
+   */
+  LITERAL_VALUE,
+  /**
+   * The end of a literal.
+   */
+  LITERAL_END,
+  /**
+   * The start of the array creation.
+   */
+  NEW_ARRAY_BEGIN,
+  /**
+   * The type of the array's items.
+   */
+  NEW_ARRAY_TYPE,
+  /**
+   * The dimension of the array.
+   */
+  NEW_ARRAY_DIMENSION("[]"),
+  /**
+   * The start of the array's items.
+   */
+  NEW_ARRAY_VALUES_BLOCK_BEGIN("{"),
+  /**
+   * Separator of the array's items.
+   */
+  NEW_ARRAY_VALUES_SEPARATOR(","),
+  /**
+   * The end of the array's items.
+   */
+  NEW_ARRAY_VALUES_BLOCK_END("}"),
+  /**
+   * The end of the array creation.
+   */
+  NEW_ARRAY_END,
+  /**
+   * The start of the break operator.
+   */
+  BREAK_BEGIN,
+  /**
+   * The keyword of the break operator.
+   */
+  BREAK_KEYWORD("break"),
+  /**
+   * The end of the break operator.
+   */
+  BREAK_END,
+  /**
+   * The start of the switch operator.
+   */
+  SWITCH_BEGIN,
+  /**
+   * The keyword of the switch operator.
+   */
+  SWITCH_KEYWORD("switch", true),
+  /**
+   * The start of the switch's argument.
+   */
+  SWITCH_ARGUMENT_BLOCK_BEGIN("("),
+  /**
+   * The end of the switch's argument.
+   */
+  SWITCH_ARGUMENT_BLOCK_END(")"),
+  /**
+   * The start of the switch's cases.
+   */
+  SWITCH_BODY_BEGIN("{"),
+  /**
+   * The end of the switch's cases.
+   */
+  SWITCH_BODY_END("}"),
+  /**
+   * The end of the switch operator.
+   */
+  SWITCH_END,
+  /**
+   * The start of the switch's case.
+   */
+  SWITCH_CASE_BEGIN,
+  /**
+   * The keyword of the switch's case.
+   */
+  SWITCH_CASE_KEYWORD("case", true),
+  /**
+   * The keyword of the switch's default case.
+   */
+  SWITCH_CASE_DEFAULT_KEYWORD("default"),
+  /**
+   * The end of the case's label.
+   */
+  SWITCH_CASE_LABEL_END(":"),
+  /**
+   * The start of the case's statements.
+   */
+  SWITCH_CASE_BODY_BEGIN,
+  /**
+   * The end of the case's statements.
+   */
+  SWITCH_CASE_BODY_END,
+  /**
+   * The end of the switch's case.
+   */
+  SWITCH_CASE_END,
+  /**
+   * The start of the class literal.
+   */
+  CLASS_LITERAL_BEGIN,
+  /**
+   * The type of the class literal.
+   */
+  CLASS_LITERAL_TYPE,
+  /**
+   * The suffix of the class literal.
+   */
+  CLASS_LITERAL_SUFFIX(".class"),
+  /**
+   * The end of the class literal.
+   */
+  CLASS_LITERAL_END,
+  /**
+   * The start of the plus operator.
+   */
+  PLUS_BEGIN,
+  /**
+   * The plus operator.
+   */
+  PLUS_OPERATOR("+"),
+  /**
+   * The end of the plus operator.
+   */
+  PLUS_END,
+  /**
+   * The start of the not equals operator.
+   */
+  NOT_EQUALS_BEGIN,
+  /**
+   * The not equals operator.
+   */
+  NOT_EQUALS_OPERATOR("!="),
+  /**
+   * The end of the not equals operator.
+   */
+  NOT_EQUALS_END,
+  /**
+   * The start of the array's element.
+   */
+  ARRAY_ELEMENT_BEGIN,
+  /**
+   * The start of the element's index.
+   */
+  ARRAY_ELEMENT_INDEX_BEGIN("["),
+  /**
+   * The end of the element's index.
+   */
+  ARRAY_ELEMENT_INDEX_END("]"),
+  /**
+   * The end of the array's element.
+   */
+  ARRAY_ELEMENT_END,
+  /**
+   * The start of the if operator.
+   */
+  IF_BEGIN,
+  /**
+   * The keyword of the if operator.
+   */
+  IF_KEYWORD("if", true),
+  /**
+   * The start of the if's condition.
+   */
+  IF_CONDITION_BLOCK_BEGIN("("),
+  /**
+   * The end of the if's condition.
+   */
+  IF_CONDITION_BLOCK_END(")"),
+  /**
+   * The start of the if's statements.
+   */
+  IF_BODY_BEGIN("{"),
+  /**
+   * The end of the if's statements.
+   */
+  IF_BODY_END("}"),
+  /**
+   * The end of the if operator.
+   */
+  IF_END,
   /**
    * The start of the method definition.
    */
@@ -127,6 +363,26 @@ public enum JavaElementType {
    * The end of the method parameters.
    */
   METHOD_DEFINITION_PARAMS_BLOCK_END(")"),
+  /**
+   * The start of the method's exceptions.
+   */
+  METHOD_DEFINITION_THROWS_BLOCK_BEGIN,
+  /**
+   * The keyword of the method's exceptions.
+   */
+  METHOD_DEFINITION_THROWS_KEYWORD("throws", true),
+  /**
+   * The type of the method's exception.
+   */
+  METHOD_DEFINITION_THROWS_TYPE,
+  /**
+   * Separator of the method's exceptions.
+   */
+  METHOD_DEFINITION_THROWS_SEPARATOR(","),
+  /**
+   * The end of the method's exceptions.
+   */
+  METHOD_DEFINITION_THROWS_BLOCK_END,
   /**
    * The start of the method implementation.
    */
@@ -271,6 +527,18 @@ public enum JavaElementType {
    * The end of a class definition.
    */
   CLASS_DEFINITION_BLOCK_END,
+  /**
+   * The start of fields' logical block.
+   */
+  CLASS_FIELDS_BLOCK_BEGIN,
+  /**
+   * The logical separator of the fields.
+   */
+  CLASS_FIELDS_SEPARATOR,
+  /**
+   * The end of fields' logical block.
+   */
+  CLASS_FIELDS_BLOCK_END,
   /**
    * The start of methods' logical block.
    */
@@ -363,6 +631,50 @@ public enum JavaElementType {
    * The end of variable's method invocation.
    */
   VARIABLE_METHOD_INVOKE_END,
+  /**
+   * The start of static method's invocation.
+   */
+  STATIC_METHOD_INVOKE_BEGIN,
+  /**
+   * A type which declares the method.
+   */
+  STATIC_METHOD_INVOKE_TYPE,
+  /**
+   * A separator between the type and invokable method.
+   */
+  STATIC_METHOD_INVOKE_SEPARATOR("."),
+  /**
+   * The end of static method's invocation.
+   */
+  STATIC_METHOD_INVOKE_END,
+  /**
+   * The start of variable's reference.
+   */
+  VARIABLE_REFERENCE_BEGIN,
+  /**
+   * A name of the variable.
+   */
+  VARIABLE_REFERENCE_NAME,
+  /**
+   * The end of variable's reference.
+   */
+  VARIABLE_REFERENCE_END,
+  /**
+   * The start of field definition.
+   */
+  FIELD_DEFINITION_BEGIN,
+  /**
+   * The start of the field's modifiers.
+   */
+  FIELD_DEFINITION_MODIFIERS_BEGIN,
+  /**
+   * The end of the field's modifiers.
+   */
+  FIELD_DEFINITION_MODIFIERS_END,
+  /**
+   * The end of field definition.
+   */
+  FIELD_DEFINITION_END(";"),
   /**
    * The start of assign operator.
    */
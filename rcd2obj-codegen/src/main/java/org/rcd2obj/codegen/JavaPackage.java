@@ -47,6 +47,15 @@ public class JavaPackage implements JavaElement {
     this.name = name;
   }
 
+  /**
+   * Returns name of the package.
+   *
+   * @return package name
+   */
+  public String getName() {
+    return name;
+  }
+
   @Override
   public void render(JavaElementRender target) {
     if (name == null || name.trim().isEmpty()) {
@@ -0,0 +1,123 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.rcd2obj.codegen.field;
+
+import org.rcd2obj.codegen.JavaElement;
+import org.rcd2obj.codegen.JavaElementRenderingException;
+import org.rcd2obj.codegen.JavaElementType;
+import org.rcd2obj.codegen.modifier.JavaModifier;
+import org.rcd2obj.codegen.render.JavaElementRender;
+import org.rcd2obj.codegen.variable.JavaVariableDefinition;
+import org.rcd2obj.codegen.variable.JavaVariableReferenceOperator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * A field definition of a class.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   JavaVariableDefinition var = new JavaVariableDefinition(
+ *     new JavaExplicitType(String.class),
+ *     "NAME",
+ *     new JavaAssignOperator(new JavaLiteralArgument("value"))
+ *   );
+ *   JavaFieldDefinition def = new JavaFieldDefinition(
+ *     Arrays.asList(new JavaPublicModifier(), new JavaStaticModifier(), new JavaFinalModifier()),
+ *     var
+ *   );
+ *   def.render(...);
+ *   }
+ *   Result:
+ *   {@code
+ *   public static final String NAME = "value";
+ *   }
+ * </pre>
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class JavaFieldDefinition implements JavaElement {
+  private final Collection<JavaModifier> fieldModifiers;
+  private final JavaVariableDefinition fieldVariable;
+
+  /**
+   * It creates new instance of the field without modifiers.
+   *
+   * @param fieldVariable variable of the field
+   */
+  public JavaFieldDefinition(JavaVariableDefinition fieldVariable) {
+    this(null, fieldVariable);
+  }
+
+  /**
+   * It creates new instance of the field.
+   *
+   * @param fieldModifiers modifiers of the field, will be rendered in the specified order
+   * @param fieldVariable  variable of the field
+   */
+  public JavaFieldDefinition(Collection<JavaModifier> fieldModifiers, JavaVariableDefinition fieldVariable) {
+    this.fieldModifiers = new ArrayList<>();
+    if (fieldModifiers != null) {
+      this.fieldModifiers.addAll(fieldModifiers);
+    }
+    this.fieldVariable = fieldVariable;
+  }
+
+  /**
+   * Returns modifiers of the field.
+   *
+   * @return modifiers of the field
+   */
+  public Collection<JavaModifier> getFieldModifiers() {
+    return Collections.unmodifiableCollection(fieldModifiers);
+  }
+
+  /**
+   * Returns variable of the field.
+   *
+   * @return variable of the field
+   */
+  public JavaVariableDefinition getFieldVariable() {
+    return fieldVariable;
+  }
+
+  /**
+   * Returns operator for code generating usage of the field as a value.
+   *
+   * @return operator for code generating usage of the field as a value
+   */
+  public JavaVariableReferenceOperator reference() {
+    return fieldVariable.reference();
+  }
+
+  @Override
+  public void render(JavaElementRender target) throws JavaElementRenderingException {
+    if (fieldVariable == null) {
+      throw new JavaElementRenderingException("Field variable has incorrect value: [$]!", fieldVariable);
+    }
+
+    target
+      .append(JavaElementType.FIELD_DEFINITION_BEGIN)
+      .append(JavaElementType.FIELD_DEFINITION_MODIFIERS_BEGIN)
+      .append(fieldModifiers)
+      .append(JavaElementType.FIELD_DEFINITION_MODIFIERS_END)
+      .append(fieldVariable)
+      .append(JavaElementType.FIELD_DEFINITION_END);
+  }
+}
@@ -25,6 +25,7 @@ import org.rcd2obj.codegen.modifier.JavaModifier;
 import org.rcd2obj.codegen.parameter.JavaParameter;
 import org.rcd2obj.codegen.render.JavaElementRender;
 import org.rcd2obj.codegen.type.JavaExplicitType;
+import org.rcd2obj.codegen.type.JavaType;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -95,7 +96,7 @@ public class JavaInheritableElement implements JavaElement, Comparable<JavaInher
     if (typeMethods.length > 0) {
       List<JavaMethodDefinition> methods = new ArrayList<>();
       for (Method method : type.getMethods()) {
-        if (!isDefinedInObject(method) && canOverride(method)) {
+        if (!isDefinedInObject(method) && canOverride(method) && !hasDefault(typeMethods, method)) {
           Set<JavaParameter> methodParameters = new TreeSet<>();
           Parameter[] parameters = method.getParameters();
           if (parameters.length > 0) {
@@ -110,12 +111,18 @@ public class JavaInheritableElement implements JavaElement, Comparable<JavaInher
             }
           }
 
+          Set<JavaType> methodExceptions = new TreeSet<>();
+          for (Class<?> exception : method.getExceptionTypes()) {
+            methodExceptions.add(new JavaExplicitType(exception));
+          }
+
           methods.add(
             new JavaMethodDefinition(
               method.getName(),
               JavaModifier.getModifier(method.getModifiers()),
               new JavaExplicitType(method.getReturnType()),
               methodParameters,
+              methodExceptions,
               new JavaMethodUnsupportedImpl()
             )
           );
@@ -150,6 +157,20 @@ public class JavaInheritableElement implements JavaElement, Comparable<JavaInher
     return (type.isInterface() && !method.isDefault()) && isAbstract;
   }
 
+  // Some JVMs return the abstract method together with the default method which overrides it
+  private boolean hasDefault(Method[] methods, Method method) {
+    for (Method other : methods) {
+      if (
+        other.isDefault()
+          && other.getName().equals(method.getName())
+          && Arrays.equals(other.getParameterTypes(), method.getParameterTypes())
+      ) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private boolean isDefinedInObject(Method method) {
     String name = method.getName();
     Class<?>[] parameters = method.getParameterTypes();
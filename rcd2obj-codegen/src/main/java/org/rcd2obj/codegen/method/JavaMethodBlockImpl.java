@@ -0,0 +1,93 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.rcd2obj.codegen.method;
+
+import org.rcd2obj.codegen.JavaElement;
+import org.rcd2obj.codegen.JavaElementType;
+import org.rcd2obj.codegen.operator.JavaBlockOperator;
+import org.rcd2obj.codegen.operator.JavaCompleteOperator;
+import org.rcd2obj.codegen.render.JavaElementRender;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * The method's implementation as a block of statements, each statement will be completed.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   JavaMethodBlockImpl impl = new JavaMethodBlockImpl(new JavaReturnOperator(new JavaNullArgument()));
+ *   impl.render(...);
+ *   }
+ *   Result:
+ *   {@code
+ *   {
+ *     return null;
+ *   }
+ *   }
+ * </pre>
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class JavaMethodBlockImpl implements JavaMethodImpl {
+  private final Collection<JavaElement> statements;
+
+  /**
+   * It creates new instance of the implementation.
+   *
+   * @param statements statements of the method, will be rendered in the specified order
+   */
+  public JavaMethodBlockImpl(JavaElement... statements) {
+    this(Arrays.asList(statements));
+  }
+
+  /**
+   * It creates new instance of the implementation.
+   *
+   * @param statements statements of the method, will be rendered in the specified order
+   */
+  public JavaMethodBlockImpl(Collection<? extends JavaElement> statements) {
+    this.statements = new ArrayList<>();
+    if (statements != null) {
+      this.statements.addAll(statements);
+    }
+  }
+
+  /**
+   * Returns statements of the method.
+   *
+   * @return statements of the method
+   */
+  public Collection<JavaElement> getStatements() {
+    return Collections.unmodifiableCollection(statements);
+  }
+
+  @Override
+  public void render(JavaElementRender target) {
+    target.append(JavaElementType.METHOD_IMPL_BLOCK_BEGIN);
+    for (JavaElement statement : statements) {
+      if (statement instanceof JavaBlockOperator) {
+        target.append(statement);
+      } else {
+        target.append(new JavaCompleteOperator(statement));
+      }
+    }
+    target.append(JavaElementType.METHOD_IMPL_BLOCK_END);
+  }
+}
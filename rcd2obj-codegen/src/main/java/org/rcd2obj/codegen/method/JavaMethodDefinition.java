@@ -90,6 +90,7 @@ public class JavaMethodDefinition implements JavaElement, Comparable<JavaMethodD
   private final JavaModifier methodAccessModifier;
   private final JavaType methodReturnType;
   private final Collection<JavaParameter> methodParameters;
+  private final Collection<JavaType> methodExceptions;
   private final JavaMethodImpl methodImpl;
 
   /**
@@ -119,6 +120,28 @@ public class JavaMethodDefinition implements JavaElement, Comparable<JavaMethodD
     JavaType methodReturnType,
     Collection<JavaParameter> methodParameters,
     JavaMethodImpl methodImpl
+  ) {
+    this(methodName, methodAccessModifier, methodReturnType, methodParameters, null, methodImpl);
+  }
+
+  /**
+   * It creates new instance of method's generator.
+   *
+   * @param methodName           name of the method, it is required parameter
+   * @param methodAccessModifier access modifier of the method
+   * @param methodReturnType     return type of the method, if it has null-value, then void will be used
+   * @param methodParameters     parameters of the method
+   * @param methodExceptions     exceptions of the method's throws block
+   * @param methodImpl           implementation of the method, if it has null-value, then
+   *                             {@link JavaMethodUnsupportedImpl} will be used
+   */
+  public JavaMethodDefinition(
+    String methodName,
+    JavaModifier methodAccessModifier,
+    JavaType methodReturnType,
+    Collection<JavaParameter> methodParameters,
+    Collection<JavaType> methodExceptions,
+    JavaMethodImpl methodImpl
   ) {
     this.methodName = methodName;
     this.methodAccessModifier = methodAccessModifier;
@@ -134,6 +157,11 @@ public class JavaMethodDefinition implements JavaElement, Comparable<JavaMethodD
       this.methodParameters.addAll(methodParameters);
     }
 
+    this.methodExceptions = new TreeSet<>();
+    if (methodExceptions != null) {
+      this.methodExceptions.addAll(methodExceptions);
+    }
+
     if (methodImpl == null) {
       this.methodImpl = new JavaMethodUnsupportedImpl();
     } else {
@@ -177,6 +205,15 @@ public class JavaMethodDefinition implements JavaElement, Comparable<JavaMethodD
     return Collections.unmodifiableCollection(methodParameters);
   }
 
+  /**
+   * Returns exceptions of the method's throws block.
+   *
+   * @return method's exceptions
+   */
+  public Collection<JavaType> getMethodExceptions() {
+    return Collections.unmodifiableCollection(methodExceptions);
+  }
+
   /**
    * Returns an implementation of the method.
    *
@@ -247,7 +284,27 @@ public class JavaMethodDefinition implements JavaElement, Comparable<JavaMethodD
       .append(methodName)
       .append(JavaElementType.METHOD_DEFINITION_PARAMS_BLOCK_BEGIN)
       .append(methodParameters, JavaElementType.METHOD_DEFINITION_PARAMS_SEPARATOR.toElement())
-      .append(JavaElementType.METHOD_DEFINITION_PARAMS_BLOCK_END)
+      .append(JavaElementType.METHOD_DEFINITION_PARAMS_BLOCK_END);
+
+    // exceptions
+    if (!methodExceptions.isEmpty()) {
+      target
+        .append(JavaElementType.METHOD_DEFINITION_THROWS_BLOCK_BEGIN)
+        .append(JavaElementType.METHOD_DEFINITION_THROWS_KEYWORD);
+
+      Iterator<JavaType> exceptions = methodExceptions.iterator();
+      while (exceptions.hasNext()) {
+        target
+          .append(JavaElementType.METHOD_DEFINITION_THROWS_TYPE)
+          .append(exceptions.next());
+        if (exceptions.hasNext()) {
+          target.append(JavaElementType.METHOD_DEFINITION_THROWS_SEPARATOR);
+        }
+      }
+      target.append(JavaElementType.METHOD_DEFINITION_THROWS_BLOCK_END);
+    }
+
+    target
       .append(methodImpl)
       .append(JavaElementType.METHOD_DEFINITION_END);
   }
@@ -0,0 +1,100 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.codegen.method;
+
+import org.rcd2obj.codegen.JavaElementRenderingException;
+import org.rcd2obj.codegen.JavaElementType;
+import org.rcd2obj.codegen.operator.JavaArgument;
+import org.rcd2obj.codegen.render.JavaElementRender;
+import org.rcd2obj.codegen.type.JavaType;
+
+/**
+ * An operator for invocation of the static method, the type is added to the import block.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   JavaMethodDefinition def = new JavaMethodDefinition(
+ *     "valueOf",
+ *     new JavaParameter(1, "value", new JavaExplicitType(int.class))
+ *   );
+ *   JavaStaticMethodInvokeOperator invoke = new JavaStaticMethodInvokeOperator(
+ *     new JavaExplicitType(String.class),
+ *     def.invoke(new JavaLiteralArgument(1))
+ *   );
+ *   invoke.render(...);
+ *   }
+ *   Result:
+ *   {@code
+ *   String.valueOf(1)
+ *   }
+ * </pre>
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class JavaStaticMethodInvokeOperator implements JavaArgument {
+  private final JavaType type;
+  private final JavaMethodInvokeOperator methodInvoke;
+
+  /**
+   * It constructs new instance of operator.
+   *
+   * @param type         type which declares the method
+   * @param methodInvoke invocation of the method
+   */
+  public JavaStaticMethodInvokeOperator(JavaType type, JavaMethodInvokeOperator methodInvoke) {
+    this.type = type;
+    this.methodInvoke = methodInvoke;
+  }
+
+  /**
+   * Returns type which declares the method.
+   *
+   * @return type which declares the method
+   */
+  public JavaType getType() {
+    return type;
+  }
+
+  /**
+   * Returns invocation of the method.
+   *
+   * @return invocation of the method
+   */
+  public JavaMethodInvokeOperator getMethodInvoke() {
+    return methodInvoke;
+  }
+
+  @Override
+  public void render(JavaElementRender target) throws JavaElementRenderingException {
+    if (type == null) {
+      throw new JavaElementRenderingException("Type has incorrect value: [$]!", type);
+    }
+
+    if (methodInvoke == null) {
+      throw new JavaElementRenderingException("Invocable method has incorrect value: [$]!", methodInvoke);
+    }
+
+    target
+      .append(JavaElementType.STATIC_METHOD_INVOKE_BEGIN)
+      .append(JavaElementType.STATIC_METHOD_INVOKE_TYPE)
+      .append(type)
+      .append(JavaElementType.STATIC_METHOD_INVOKE_SEPARATOR)
+      .append(methodInvoke)
+      .append(JavaElementType.STATIC_METHOD_INVOKE_END);
+  }
+}
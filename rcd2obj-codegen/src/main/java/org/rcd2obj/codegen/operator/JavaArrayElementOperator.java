@@ -0,0 +1,130 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.rcd2obj.codegen.operator;
+
+import org.rcd2obj.codegen.JavaElementRenderingException;
+import org.rcd2obj.codegen.JavaElementType;
+import org.rcd2obj.codegen.render.JavaElementRender;
+
+/**
+ * The element of the array, the element can be read or assigned.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   JavaVariableDefinition var = new JavaVariableDefinition(new JavaExplicitType(Object[].class), "buffer");
+ *   JavaArrayElementOperator element = new JavaArrayElementOperator(var.reference(), new JavaLiteralArgument(1));
+ *   element.assign(new JavaAssignOperator(new JavaNullArgument())).render(...);
+ *   }
+ *   Result:
+ *   {@code
+ *   buffer[1] = null
+ *   }
+ * </pre>
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class JavaArrayElementOperator implements JavaArgument {
+  private final JavaArgument arrayArgument;
+  private final JavaArgument indexArgument;
+  private final JavaAssignOperator elementAssign;
+
+  /**
+   * It constructs new instance of the array's element.
+   *
+   * @param arrayArgument the array
+   * @param indexArgument index of the element
+   */
+  public JavaArrayElementOperator(JavaArgument arrayArgument, JavaArgument indexArgument) {
+    this(arrayArgument, indexArgument, null);
+  }
+
+  /**
+   * It constructs new instance of the assigned array's element.
+   *
+   * @param arrayArgument the array
+   * @param indexArgument index of the element
+   * @param elementAssign assignment or null when the element is read
+   */
+  public JavaArrayElementOperator(
+    JavaArgument arrayArgument,
+    JavaArgument indexArgument,
+    JavaAssignOperator elementAssign
+  ) {
+    this.arrayArgument = arrayArgument;
+    this.indexArgument = indexArgument;
+    this.elementAssign = elementAssign;
+  }
+
+  /**
+   * Returns the array.
+   *
+   * @return the array
+   */
+  public JavaArgument getArrayArgument() {
+    return arrayArgument;
+  }
+
+  /**
+   * Returns index of the element.
+   *
+   * @return index of the element
+   */
+  public JavaArgument getIndexArgument() {
+    return indexArgument;
+  }
+
+  /**
+   * Returns assignment of the element.
+   *
+   * @return assignment or null when the element is read
+   */
+  public JavaAssignOperator getElementAssign() {
+    return elementAssign;
+  }
+
+  /**
+   * Creates the assignment of new value to the element.
+   *
+   * @param elementAssign assignment
+   * @return the assigned element
+   */
+  public JavaArrayElementOperator assign(JavaAssignOperator elementAssign) {
+    return new JavaArrayElementOperator(arrayArgument, indexArgument, elementAssign);
+  }
+
+  @Override
+  public void render(JavaElementRender target) throws JavaElementRenderingException {
+    if (arrayArgument == null) {
+      throw new JavaElementRenderingException("Array has incorrect value: [$]!", arrayArgument);
+    }
+
+    if (indexArgument == null) {
+      throw new JavaElementRenderingException("Index has incorrect value: [$]!", indexArgument);
+    }
+
+    target
+      .append(JavaElementType.ARRAY_ELEMENT_BEGIN)
+      .append(arrayArgument)
+      .append(JavaElementType.ARRAY_ELEMENT_INDEX_BEGIN)
+      .append(indexArgument)
+      .append(JavaElementType.ARRAY_ELEMENT_INDEX_END);
+    if (elementAssign != null) {
+      target.append(elementAssign);
+    }
+    target.append(JavaElementType.ARRAY_ELEMENT_END);
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.rcd2obj.codegen.operator;
+
+import org.rcd2obj.codegen.JavaElementType;
+import org.rcd2obj.codegen.render.JavaElementRender;
+
+/**
+ * The break operator of Java language.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   JavaBreakOperator br = new JavaBreakOperator();
+ *   br.render(...);
+ *   }
+ *   Result:
+ *   {@code
+ *   break
+ *   }
+ * </pre>
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class JavaBreakOperator implements JavaOperator {
+  @Override
+  public void render(JavaElementRender target) {
+    target
+      .append(JavaElementType.BREAK_BEGIN)
+      .append(JavaElementType.BREAK_KEYWORD)
+      .append(JavaElementType.BREAK_END);
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.rcd2obj.codegen.operator;
+
+import org.rcd2obj.codegen.JavaElementRenderingException;
+import org.rcd2obj.codegen.JavaElementType;
+import org.rcd2obj.codegen.render.JavaElementRender;
+import org.rcd2obj.codegen.type.JavaType;
+
+/**
+ * The cast operator of Java language.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   JavaVariableDefinition def = new JavaVariableDefinition(new JavaExplicitType(Object.class), "value");
+ *   JavaCastOperator cast = new JavaCastOperator(new JavaExplicitType(String.class), def.reference());
+ *   cast.render(...);
+ *   }
+ *   Result:
+ *   {@code
+ *   (String) value
+ *   }
+ * </pre>
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class JavaCastOperator implements JavaArgument {
+  private final JavaType castType;
+  private final JavaArgument castArgument;
+
+  /**
+   * It constructs new instance of the cast operator.
+   *
+   * @param castType     target type of the cast
+   * @param castArgument value for the cast
+   */
+  public JavaCastOperator(JavaType castType, JavaArgument castArgument) {
+    this.castType = castType;
+    this.castArgument = castArgument;
+  }
+
+  /**
+   * Returns target type of the cast.
+   *
+   * @return target type of the cast
+   */
+  public JavaType getCastType() {
+    return castType;
+  }
+
+  /**
+   * Returns value for the cast.
+   *
+   * @return value for the cast
+   */
+  public JavaArgument getCastArgument() {
+    return castArgument;
+  }
+
+  @Override
+  public void render(JavaElementRender target) throws JavaElementRenderingException {
+    if (castType == null) {
+      throw new JavaElementRenderingException("Cast type has incorrect value: [$]!", castType);
+    }
+
+    if (castArgument == null) {
+      throw new JavaElementRenderingException("Cast argument has incorrect value: [$]!", castArgument);
+    }
+
+    target
+      .append(JavaElementType.CAST_BEGIN)
+      .append(JavaElementType.CAST_TYPE_BLOCK_BEGIN)
+      .append(JavaElementType.CAST_TYPE)
+      .append(castType)
+      .append(JavaElementType.CAST_TYPE_BLOCK_END)
+      .append(castArgument)
+      .append(JavaElementType.CAST_END);
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.rcd2obj.codegen.operator;
+
+import org.rcd2obj.codegen.JavaElementRenderingException;
+import org.rcd2obj.codegen.JavaElementType;
+import org.rcd2obj.codegen.render.JavaElementRender;
+import org.rcd2obj.codegen.type.JavaType;
+
+/**
+ * The class literal of Java language.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   JavaClassLiteralArgument arg = new JavaClassLiteralArgument(new JavaExplicitType(Long.class));
+ *   arg.render(...);
+ *   }
+ *   Result:
+ *   {@code
+ *   Long.class
+ *   }
+ * </pre>
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class JavaClassLiteralArgument implements JavaArgument {
+  private final JavaType type;
+
+  /**
+   * It constructs new instance of the class literal.
+   *
+   * @param type type of the literal
+   */
+  public JavaClassLiteralArgument(JavaType type) {
+    this.type = type;
+  }
+
+  /**
+   * Returns type of the literal.
+   *
+   * @return type of the literal
+   */
+  public JavaType getType() {
+    return type;
+  }
+
+  @Override
+  public void render(JavaElementRender target) throws JavaElementRenderingException {
+    if (type == null) {
+      throw new JavaElementRenderingException("Class literal has incorrect value: [$]!", type);
+    }
+
+    target
+      .append(JavaElementType.CLASS_LITERAL_BEGIN)
+      .append(JavaElementType.CLASS_LITERAL_TYPE)
+      .append(type)
+      .append(JavaElementType.CLASS_LITERAL_SUFFIX)
+      .append(JavaElementType.CLASS_LITERAL_END);
+  }
+}
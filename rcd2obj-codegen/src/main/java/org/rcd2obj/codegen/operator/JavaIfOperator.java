@@ -0,0 +1,110 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.rcd2obj.codegen.operator;
+
+import org.rcd2obj.codegen.JavaElement;
+import org.rcd2obj.codegen.JavaElementRenderingException;
+import org.rcd2obj.codegen.JavaElementType;
+import org.rcd2obj.codegen.render.JavaElementRender;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * The if operator of Java language, the operator without the else branch.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   JavaVariableDefinition var = new JavaVariableDefinition(new JavaExplicitType(String.class), "type");
+ *   JavaIfOperator op = new JavaIfOperator(
+ *     new JavaNotEqualsOperator(var.reference(), new JavaNullArgument()),
+ *     Arrays.asList(new JavaReturnOperator(new JavaNullArgument()))
+ *   );
+ *   op.render(...);
+ *   }
+ *   Result:
+ *   {@code
+ *   if (type != null) {
+ *     return null;
+ *   }
+ *   }
+ * </pre>
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class JavaIfOperator implements JavaBlockOperator {
+  private final JavaArgument condition;
+  private final Collection<JavaElement> statements;
+
+  /**
+   * It constructs new instance of the if operator.
+   *
+   * @param condition  the checked condition
+   * @param statements statements executed when the condition is true
+   */
+  public JavaIfOperator(JavaArgument condition, Collection<? extends JavaElement> statements) {
+    this.condition = condition;
+    this.statements = new ArrayList<>();
+    if (statements != null) {
+      this.statements.addAll(statements);
+    }
+  }
+
+  /**
+   * Returns the checked condition.
+   *
+   * @return the checked condition
+   */
+  public JavaArgument getCondition() {
+    return condition;
+  }
+
+  /**
+   * Returns statements of the operator.
+   *
+   * @return statements of the operator
+   */
+  public Collection<JavaElement> getStatements() {
+    return Collections.unmodifiableCollection(statements);
+  }
+
+  @Override
+  public void render(JavaElementRender target) throws JavaElementRenderingException {
+    if (condition == null) {
+      throw new JavaElementRenderingException("Condition has incorrect value: [$]!", condition);
+    }
+
+    target
+      .append(JavaElementType.IF_BEGIN)
+      .append(JavaElementType.IF_KEYWORD)
+      .append(JavaElementType.IF_CONDITION_BLOCK_BEGIN)
+      .append(condition)
+      .append(JavaElementType.IF_CONDITION_BLOCK_END)
+      .append(JavaElementType.IF_BODY_BEGIN);
+    for (JavaElement statement : statements) {
+      if (statement instanceof JavaBlockOperator) {
+        target.append(statement);
+      } else {
+        target.append(new JavaCompleteOperator(statement));
+      }
+    }
+    target
+      .append(JavaElementType.IF_BODY_END)
+      .append(JavaElementType.IF_END);
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.rcd2obj.codegen.operator;
+
+import org.rcd2obj.codegen.JavaElementRenderingException;
+import org.rcd2obj.codegen.JavaElementType;
+import org.rcd2obj.codegen.render.JavaElementRender;
+
+/**
+ * A literal value argument, such as strings, numbers, etc.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   JavaLiteralArgument literal = new JavaLiteralArgument("value");
+ *   literal.render(...);
+ *   }
+ *   Result:
+ *   {@code
+ *   "value"
+ *   }
+ * </pre>
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class JavaLiteralArgument implements JavaArgument {
+  private final Object value;
+
+  /**
+   * It constructs new instance of the literal.
+   *
+   * @param value value of the literal
+   */
+  public JavaLiteralArgument(Object value) {
+    this.value = value;
+  }
+
+  /**
+   * Returns value of the literal.
+   *
+   * @return value of the literal
+   */
+  public Object getValue() {
+    return value;
+  }
+
+  @Override
+  public void render(JavaElementRender target) throws JavaElementRenderingException {
+    if (value == null) {
+      throw new JavaElementRenderingException("Literal has incorrect value: [$]!", value);
+    }
+
+    target
+      .append(JavaElementType.LITERAL_BEGIN)
+      .append(JavaElementType.LITERAL_VALUE)
+      .append(value, value.getClass())
+      .append(JavaElementType.LITERAL_END);
+  }
+}
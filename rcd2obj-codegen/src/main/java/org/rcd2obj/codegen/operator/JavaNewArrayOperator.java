@@ -0,0 +1,100 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.rcd2obj.codegen.operator;
+
+import org.rcd2obj.codegen.JavaElementRenderingException;
+import org.rcd2obj.codegen.JavaElementType;
+import org.rcd2obj.codegen.render.JavaElementRender;
+import org.rcd2obj.codegen.type.JavaType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * The creation of the initialized array.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   JavaNewArrayOperator arr = new JavaNewArrayOperator(
+ *     new JavaExplicitType(Object.class),
+ *     Arrays.asList(new JavaLiteralArgument(1), new JavaNullArgument())
+ *   );
+ *   arr.render(...);
+ *   }
+ *   Result:
+ *   {@code
+ *   new Object[]{1, null}
+ *   }
+ * </pre>
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class JavaNewArrayOperator implements JavaArgument {
+  private final JavaType arrayType;
+  private final Collection<JavaArgument> arrayValues;
+
+  /**
+   * It constructs new instance of the array creation.
+   *
+   * @param arrayType   type of the array's items
+   * @param arrayValues items of the array
+   */
+  public JavaNewArrayOperator(JavaType arrayType, Collection<? extends JavaArgument> arrayValues) {
+    this.arrayType = arrayType;
+    this.arrayValues = new ArrayList<>();
+    if (arrayValues != null) {
+      this.arrayValues.addAll(arrayValues);
+    }
+  }
+
+  /**
+   * Returns type of the array's items.
+   *
+   * @return type of the array's items
+   */
+  public JavaType getArrayType() {
+    return arrayType;
+  }
+
+  /**
+   * Returns items of the array.
+   *
+   * @return items of the array
+   */
+  public Collection<JavaArgument> getArrayValues() {
+    return Collections.unmodifiableCollection(arrayValues);
+  }
+
+  @Override
+  public void render(JavaElementRender target) throws JavaElementRenderingException {
+    if (arrayType == null) {
+      throw new JavaElementRenderingException("Array type has incorrect value: [$]!", arrayType);
+    }
+
+    target
+      .append(JavaElementType.NEW_ARRAY_BEGIN)
+      .append(JavaElementType.NEW_KEYWORD)
+      .append(JavaElementType.NEW_ARRAY_TYPE)
+      .append(arrayType)
+      .append(JavaElementType.NEW_ARRAY_DIMENSION)
+      .append(JavaElementType.NEW_ARRAY_VALUES_BLOCK_BEGIN)
+      .append(arrayValues, JavaElementType.NEW_ARRAY_VALUES_SEPARATOR.toElement())
+      .append(JavaElementType.NEW_ARRAY_VALUES_BLOCK_END)
+      .append(JavaElementType.NEW_ARRAY_END);
+  }
+}
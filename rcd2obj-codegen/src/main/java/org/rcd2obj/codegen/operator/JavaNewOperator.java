@@ -40,7 +40,7 @@ import org.rcd2obj.codegen.render.JavaElementRender;
  * @author Andrey_Yurzanov
  * @since 1.0
  */
-public class JavaNewOperator implements JavaOperator {
+public class JavaNewOperator implements JavaArgument {
   private final JavaClassConstructorInvokeOperator newConstructor;
 
   /**
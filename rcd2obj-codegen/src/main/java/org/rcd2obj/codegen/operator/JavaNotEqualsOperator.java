@@ -0,0 +1,90 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.rcd2obj.codegen.operator;
+
+import org.rcd2obj.codegen.JavaElementRenderingException;
+import org.rcd2obj.codegen.JavaElementType;
+import org.rcd2obj.codegen.render.JavaElementRender;
+
+/**
+ * The not equals operator of Java language.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   JavaVariableDefinition var = new JavaVariableDefinition(new JavaExplicitType(String.class), "type");
+ *   JavaNotEqualsOperator notEquals = new JavaNotEqualsOperator(var.reference(), new JavaNullArgument());
+ *   notEquals.render(...);
+ *   }
+ *   Result:
+ *   {@code
+ *   type != null
+ *   }
+ * </pre>
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class JavaNotEqualsOperator implements JavaArgument {
+  private final JavaArgument leftArgument;
+  private final JavaArgument rightArgument;
+
+  /**
+   * It constructs new instance of the not equals operator.
+   *
+   * @param leftArgument  the left operand
+   * @param rightArgument the right operand
+   */
+  public JavaNotEqualsOperator(JavaArgument leftArgument, JavaArgument rightArgument) {
+    this.leftArgument = leftArgument;
+    this.rightArgument = rightArgument;
+  }
+
+  /**
+   * Returns the left operand.
+   *
+   * @return the left operand
+   */
+  public JavaArgument getLeftArgument() {
+    return leftArgument;
+  }
+
+  /**
+   * Returns the right operand.
+   *
+   * @return the right operand
+   */
+  public JavaArgument getRightArgument() {
+    return rightArgument;
+  }
+
+  @Override
+  public void render(JavaElementRender target) throws JavaElementRenderingException {
+    if (leftArgument == null) {
+      throw new JavaElementRenderingException("Left operand has incorrect value: [$]!", leftArgument);
+    }
+
+    if (rightArgument == null) {
+      throw new JavaElementRenderingException("Right operand has incorrect value: [$]!", rightArgument);
+    }
+
+    target
+      .append(JavaElementType.NOT_EQUALS_BEGIN)
+      .append(leftArgument)
+      .append(JavaElementType.NOT_EQUALS_OPERATOR)
+      .append(rightArgument)
+      .append(JavaElementType.NOT_EQUALS_END);
+  }
+}
@@ -16,6 +16,7 @@
 
 package org.rcd2obj.codegen.operator;
 
+import org.rcd2obj.codegen.JavaElementType;
 import org.rcd2obj.codegen.render.JavaElementRender;
 
 /**
@@ -40,6 +41,10 @@ public class JavaNullArgument implements JavaArgument {
 
   @Override
   public void render(JavaElementRender target) {
-    target.append(VALUE);
+    target
+      .append(JavaElementType.LITERAL_BEGIN)
+      .append(JavaElementType.LITERAL_VALUE)
+      .append(VALUE)
+      .append(JavaElementType.LITERAL_END);
   }
 }
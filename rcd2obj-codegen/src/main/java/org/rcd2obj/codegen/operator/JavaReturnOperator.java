@@ -0,0 +1,72 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.rcd2obj.codegen.operator;
+
+import org.rcd2obj.codegen.JavaElementRenderingException;
+import org.rcd2obj.codegen.JavaElementType;
+import org.rcd2obj.codegen.render.JavaElementRender;
+
+/**
+ * The return operator of Java language.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   JavaReturnOperator ret = new JavaReturnOperator(new JavaNullArgument());
+ *   ret.render(...);
+ *   }
+ *   Result:
+ *   {@code
+ *   return null
+ *   }
+ * </pre>
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class JavaReturnOperator implements JavaOperator {
+  private final JavaArgument argument;
+
+  /**
+   * It constructs new instance of the return operator.
+   *
+   * @param argument returned value
+   */
+  public JavaReturnOperator(JavaArgument argument) {
+    this.argument = argument;
+  }
+
+  /**
+   * Returns the returned value.
+   *
+   * @return the returned value
+   */
+  public JavaArgument getArgument() {
+    return argument;
+  }
+
+  @Override
+  public void render(JavaElementRender target) throws JavaElementRenderingException {
+    if (argument == null) {
+      throw new JavaElementRenderingException("Returned value has incorrect value: [$]!", argument);
+    }
+
+    target
+      .append(JavaElementType.RETURN_BEGIN)
+      .append(JavaElementType.RETURN_KEYWORD)
+      .append(argument)
+      .append(JavaElementType.RETURN_END);
+  }
+}
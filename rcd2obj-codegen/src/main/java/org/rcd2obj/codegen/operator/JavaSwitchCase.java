@@ -0,0 +1,106 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.rcd2obj.codegen.operator;
+
+import org.rcd2obj.codegen.JavaElement;
+import org.rcd2obj.codegen.JavaElementType;
+import org.rcd2obj.codegen.render.JavaElementRender;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * The case of the switch operator, the case without label is the default case. The statements of
+ * the case are not finished by the break operator automatically.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   JavaSwitchCase c = new JavaSwitchCase(new JavaLiteralArgument(1), Arrays.asList(new JavaBreakOperator()));
+ *   c.render(...);
+ *   }
+ *   Result:
+ *   {@code
+ *   case 1:
+ *     break;
+ *   }
+ * </pre>
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class JavaSwitchCase implements JavaElement {
+  private final JavaArgument caseLabel;
+  private final Collection<JavaElement> caseStatements;
+
+  /**
+   * It constructs new instance of the switch's case.
+   *
+   * @param caseLabel      label of the case, null for the default case
+   * @param caseStatements statements of the case
+   */
+  public JavaSwitchCase(JavaArgument caseLabel, Collection<? extends JavaElement> caseStatements) {
+    this.caseLabel = caseLabel;
+    this.caseStatements = new ArrayList<>();
+    if (caseStatements != null) {
+      this.caseStatements.addAll(caseStatements);
+    }
+  }
+
+  /**
+   * Returns label of the case.
+   *
+   * @return label of the case, null for the default case
+   */
+  public JavaArgument getCaseLabel() {
+    return caseLabel;
+  }
+
+  /**
+   * Returns statements of the case.
+   *
+   * @return statements of the case
+   */
+  public Collection<JavaElement> getCaseStatements() {
+    return Collections.unmodifiableCollection(caseStatements);
+  }
+
+  @Override
+  public void render(JavaElementRender target) {
+    target.append(JavaElementType.SWITCH_CASE_BEGIN);
+    if (caseLabel == null) {
+      target.append(JavaElementType.SWITCH_CASE_DEFAULT_KEYWORD);
+    } else {
+      target
+        .append(JavaElementType.SWITCH_CASE_KEYWORD)
+        .append(caseLabel);
+    }
+
+    target
+      .append(JavaElementType.SWITCH_CASE_LABEL_END)
+      .append(JavaElementType.SWITCH_CASE_BODY_BEGIN);
+    for (JavaElement statement : caseStatements) {
+      if (statement instanceof JavaBlockOperator) {
+        target.append(statement);
+      } else {
+        target.append(new JavaCompleteOperator(statement));
+      }
+    }
+    target
+      .append(JavaElementType.SWITCH_CASE_BODY_END)
+      .append(JavaElementType.SWITCH_CASE_END);
+  }
+}
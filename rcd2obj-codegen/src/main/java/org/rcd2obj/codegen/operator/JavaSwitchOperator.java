@@ -0,0 +1,103 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.rcd2obj.codegen.operator;
+
+import org.rcd2obj.codegen.JavaElementRenderingException;
+import org.rcd2obj.codegen.JavaElementType;
+import org.rcd2obj.codegen.render.JavaElementRender;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * The switch operator of Java language.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   JavaVariableDefinition var = new JavaVariableDefinition(new JavaExplicitType(int.class), "column");
+ *   JavaSwitchOperator sw = new JavaSwitchOperator(
+ *     var.reference(),
+ *     Arrays.asList(new JavaSwitchCase(new JavaLiteralArgument(1), Arrays.asList(new JavaBreakOperator())))
+ *   );
+ *   sw.render(...);
+ *   }
+ *   Result:
+ *   {@code
+ *   switch (column) {
+ *     case 1:
+ *       break;
+ *   }
+ *   }
+ * </pre>
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class JavaSwitchOperator implements JavaBlockOperator {
+  private final JavaArgument switchArgument;
+  private final Collection<JavaSwitchCase> switchCases;
+
+  /**
+   * It constructs new instance of the switch operator.
+   *
+   * @param switchArgument the checked value
+   * @param switchCases    cases of the operator
+   */
+  public JavaSwitchOperator(JavaArgument switchArgument, Collection<JavaSwitchCase> switchCases) {
+    this.switchArgument = switchArgument;
+    this.switchCases = new ArrayList<>();
+    if (switchCases != null) {
+      this.switchCases.addAll(switchCases);
+    }
+  }
+
+  /**
+   * Returns the checked value.
+   *
+   * @return the checked value
+   */
+  public JavaArgument getSwitchArgument() {
+    return switchArgument;
+  }
+
+  /**
+   * Returns cases of the operator.
+   *
+   * @return cases of the operator
+   */
+  public Collection<JavaSwitchCase> getSwitchCases() {
+    return Collections.unmodifiableCollection(switchCases);
+  }
+
+  @Override
+  public void render(JavaElementRender target) throws JavaElementRenderingException {
+    if (switchArgument == null) {
+      throw new JavaElementRenderingException("Switch argument has incorrect value: [$]!", switchArgument);
+    }
+
+    target
+      .append(JavaElementType.SWITCH_BEGIN)
+      .append(JavaElementType.SWITCH_KEYWORD)
+      .append(JavaElementType.SWITCH_ARGUMENT_BLOCK_BEGIN)
+      .append(switchArgument)
+      .append(JavaElementType.SWITCH_ARGUMENT_BLOCK_END)
+      .append(JavaElementType.SWITCH_BODY_BEGIN)
+      .append(switchCases)
+      .append(JavaElementType.SWITCH_BODY_END)
+      .append(JavaElementType.SWITCH_END);
+  }
+}
@@ -34,6 +34,11 @@ public abstract class JavaElementTypeRender implements JavaElementRender {
    */
   protected static final String DOUBLE_QUOTE = "\"";
 
+  /**
+   * Suffix of long literals.
+   */
+  protected static final String LONG_SUFFIX = "L";
+
   /**
    * Java core package.
    */
@@ -45,6 +50,7 @@ public abstract class JavaElementTypeRender implements JavaElementRender {
   protected JavaElementTypeRender() {
     this.typeRenders = new HashMap<>();
     this.typeRenders.put(CharSequence.class, this::appendString);
+    this.typeRenders.put(Long.class, this::appendLong);
   }
 
   @Override
@@ -88,10 +94,42 @@ public abstract class JavaElementTypeRender implements JavaElementRender {
     if (value != null) {
       target
         .append(DOUBLE_QUOTE)
-        .append(String.valueOf(value))
+        .append(escape(String.valueOf(value)))
         .append(DOUBLE_QUOTE);
     } else {
       target.append(String.valueOf(value));
     }
   }
+
+  // Appends long
+  private void appendLong(Object value, JavaElementRender target) {
+    target.append(String.valueOf(value), LONG_SUFFIX);
+  }
+
+  // Escapes special symbols of the string
+  private static String escape(String value) {
+    StringBuilder buffer = new StringBuilder();
+    for (char symbol : value.toCharArray()) {
+      switch (symbol) {
+        case '"':
+          buffer.append("\\\"");
+          break;
+        case '\\':
+          buffer.append("\\\\");
+          break;
+        case '\n':
+          buffer.append("\\n");
+          break;
+        case '\r':
+          buffer.append("\\r");
+          break;
+        case '\t':
+          buffer.append("\\t");
+          break;
+        default:
+          buffer.append(symbol);
+      }
+    }
+    return buffer.toString();
+  }
 }
\ No newline at end of file
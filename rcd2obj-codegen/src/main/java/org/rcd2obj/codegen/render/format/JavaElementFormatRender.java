@@ -85,6 +85,11 @@ public class JavaElementFormatRender implements JavaElementRender {
   @Override
   public JavaElementRender append(String... elements) {
     for (String element : elements) {
+      // The indents are deferred until the first visible element of the line
+      if (element.isEmpty()) {
+        continue;
+      }
+
       if (isNewLine) {
         target.append(currentIndents);
       }
@@ -131,16 +136,26 @@ public class JavaElementFormatRender implements JavaElementRender {
 
   @Override
   public JavaElementRender append(Class<?> classType) {
+    appendIndents();
     target.append(classType);
     return this;
   }
 
   @Override
   public JavaElementRender append(Object value, Class<?> valueType) {
-    target.append(valueType, valueType);
+    appendIndents();
+    target.append(value, valueType);
     return this;
   }
 
+  // Appends indents when the current line is empty
+  private void appendIndents() {
+    if (isNewLine) {
+      target.append(currentIndents);
+      isNewLine = false;
+    }
+  }
+
   /**
    * Default formatting rules.
    *
@@ -161,6 +176,10 @@ public class JavaElementFormatRender implements JavaElementRender {
    */
   protected Collection<JavaElementIndentBlockFormatRule> getDefaultIndentBlocks() {
     return Arrays.asList(
+      new JavaElementIndentBlockFormatRule(
+        JavaElementType.CLASS_FIELDS_BLOCK_BEGIN,
+        JavaElementType.CLASS_FIELDS_BLOCK_END
+      ),
       new JavaElementIndentBlockFormatRule(
         JavaElementType.CLASS_METHODS_BLOCK_BEGIN,
         JavaElementType.CLASS_METHODS_BLOCK_END
@@ -168,6 +187,18 @@ public class JavaElementFormatRender implements JavaElementRender {
       new JavaElementIndentBlockFormatRule(
         JavaElementType.METHOD_IMPL_BLOCK_BEGIN,
         JavaElementType.METHOD_IMPL_BLOCK_END
+      ),
+      new JavaElementIndentBlockFormatRule(
+        JavaElementType.SWITCH_BODY_BEGIN,
+        JavaElementType.SWITCH_BODY_END
+      ),
+      new JavaElementIndentBlockFormatRule(
+        JavaElementType.SWITCH_CASE_BODY_BEGIN,
+        JavaElementType.SWITCH_CASE_BODY_END
+      ),
+      new JavaElementIndentBlockFormatRule(
+        JavaElementType.IF_BODY_BEGIN,
+        JavaElementType.IF_BODY_END
       )
     );
   }
@@ -180,7 +211,13 @@ public class JavaElementFormatRender implements JavaElementRender {
           new JavaElementFormatRuleIsCondition(
             JavaElementType.CLASS_BODY_BEGIN,
             JavaElementType.IMPLEMENTS_KEYWORD,
-            JavaElementType.METHOD_IMPL_BLOCK_BEGIN
+            JavaElementType.METHOD_IMPL_BLOCK_BEGIN,
+            JavaElementType.SWITCH_BODY_BEGIN,
+            JavaElementType.IF_BODY_BEGIN,
+            JavaElementType.METHOD_DEFINITION_THROWS_KEYWORD,
+            JavaElementType.ASSIGN_OPERATOR,
+            JavaElementType.PLUS_OPERATOR,
+            JavaElementType.NOT_EQUALS_OPERATOR
           ),
           anyRule
         )
@@ -191,7 +228,15 @@ public class JavaElementFormatRender implements JavaElementRender {
           new JavaElementFormatRuleIsCondition(
             JavaElementType.IMPLEMENTS_SEPARATOR,
             JavaElementType.METHOD_DEFINITION_PARAMS_SEPARATOR,
-            JavaElementType.METHOD_DEFINITION_RETURN_TYPE
+            JavaElementType.METHOD_DEFINITION_RETURN_TYPE,
+            JavaElementType.METHOD_DEFINITION_THROWS_SEPARATOR,
+            JavaElementType.METHOD_INVOKE_ARGS_SEPARATOR,
+            JavaElementType.CONSTRUCTOR_INVOKE_ARGS_SEPARATOR,
+            JavaElementType.CAST_TYPE_BLOCK_END,
+            JavaElementType.NEW_ARRAY_VALUES_SEPARATOR,
+            JavaElementType.ASSIGN_OPERATOR,
+            JavaElementType.PLUS_OPERATOR,
+            JavaElementType.NOT_EQUALS_OPERATOR
           ),
           anyRule
         )
@@ -207,6 +252,17 @@ public class JavaElementFormatRender implements JavaElementRender {
           )
         )
       ),
+      new JavaElementFormatSpaceAfterRule(
+        new JavaElementFormatRuleConditionAndGroup(
+          anyRule,
+          new JavaElementFormatRuleIsCondition(
+            JavaElementType.VARIABLE_DEFINITION_TYPE
+          ),
+          new JavaElementFormatRuleIsCondition(
+            JavaElementType.VARIABLE_DEFINITION_NAME
+          )
+        )
+      ),
       new JavaElementFormatSpaceAfterRule(
         new JavaElementFormatRuleConditionAndGroup(
           anyRule,
@@ -228,11 +284,21 @@ public class JavaElementFormatRender implements JavaElementRender {
           anyRule
         )
       ),
+      new JavaElementFormatLineBeforeRule(
+        new JavaElementFormatRuleConditionAndGroup(
+          anyRule,
+          new JavaElementFormatRuleIsCondition(
+            JavaElementType.CLASS_FIELDS_SEPARATOR
+          ),
+          anyRule
+        )
+      ),
       new JavaElementFormatLineBeforeRule(
         LINES_COUNT,
         new JavaElementFormatRuleConditionAndGroup(
           anyRule,
           new JavaElementFormatRuleIsCondition(
+            JavaElementType.CLASS_FIELDS_BLOCK_BEGIN,
             JavaElementType.CLASS_METHODS_BLOCK_BEGIN,
             JavaElementType.CLASS_METHODS_SEPARATOR,
             JavaElementType.CLASS_METHODS_BLOCK_END
@@ -246,7 +312,12 @@ public class JavaElementFormatRender implements JavaElementRender {
           new JavaElementFormatRuleIsCondition(
             JavaElementType.END_EXPRESSION_OPERATOR,
             JavaElementType.IMPORT_BLOCK_END,
-            JavaElementType.METHOD_IMPL_BLOCK_BEGIN
+            JavaElementType.METHOD_IMPL_BLOCK_BEGIN,
+            JavaElementType.SWITCH_BODY_BEGIN,
+            JavaElementType.SWITCH_BODY_END,
+            JavaElementType.SWITCH_CASE_LABEL_END,
+            JavaElementType.IF_BODY_BEGIN,
+            JavaElementType.IF_BODY_END
           ),
           anyRule
         )
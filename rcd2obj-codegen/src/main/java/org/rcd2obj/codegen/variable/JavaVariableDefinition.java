@@ -127,6 +127,15 @@ public class JavaVariableDefinition implements JavaElement {
     return new JavaVariableInvokeMethodOperator(this, methodInvoke);
   }
 
+  /**
+   * Returns operator for code generating usage of the variable as a value.
+   *
+   * @return operator for code generating usage of the variable as a value
+   */
+  public JavaVariableReferenceOperator reference() {
+    return new JavaVariableReferenceOperator(this);
+  }
+
   @Override
   public void render(JavaElementRender target) throws JavaElementRenderingException {
     if (variableType == null) {
@@ -0,0 +1,79 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.rcd2obj.codegen.variable;
+
+import org.rcd2obj.codegen.JavaElementRenderingException;
+import org.rcd2obj.codegen.JavaElementType;
+import org.rcd2obj.codegen.operator.JavaArgument;
+import org.rcd2obj.codegen.render.JavaElementRender;
+
+/**
+ * An operator of defined variable's usage as a value.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   JavaVariableDefinition def = new JavaVariableDefinition(new JavaExplicitType(String.class), "myVar");
+ *   JavaVariableReferenceOperator ref = def.reference();
+ *   ref.render(...);
+ *   }
+ *   Result:
+ *   {@code
+ *   myVar
+ *   }
+ * </pre>
+ *
+ * @author Andrey_Yurzanov
+ * @since 1.0
+ */
+public class JavaVariableReferenceOperator implements JavaArgument {
+  private final JavaVariableDefinition variableDefinition;
+
+  /**
+   * It constructs new instance of operator.
+   *
+   * @param variableDefinition defined variable
+   */
+  protected JavaVariableReferenceOperator(JavaVariableDefinition variableDefinition) {
+    this.variableDefinition = variableDefinition;
+  }
+
+  /**
+   * Returns defined variable.
+   *
+   * @return defined variable
+   */
+  public JavaVariableDefinition getVariableDefinition() {
+    return variableDefinition;
+  }
+
+  @Override
+  public void render(JavaElementRender target) throws JavaElementRenderingException {
+    if (variableDefinition == null) {
+      throw new JavaElementRenderingException("Variable definition has incorrect value: [$]!", variableDefinition);
+    }
+
+    String variableName = variableDefinition.getVariableName();
+    if (variableName == null || variableName.trim().isEmpty()) {
+      throw new JavaElementRenderingException("Variable name has incorrect value: [$]!", variableName);
+    }
+
+    target
+      .append(JavaElementType.VARIABLE_REFERENCE_BEGIN)
+      .append(JavaElementType.VARIABLE_REFERENCE_NAME)
+      .append(variableName)
+      .append(JavaElementType.VARIABLE_REFERENCE_END);
+  }
+}
@@ -17,12 +17,14 @@
 package org.rcd2obj.codegen;
 
 import org.rcd2obj.codegen.constructor.JavaConstructorDefinition;
+import org.rcd2obj.codegen.field.JavaFieldDefinition;
 import org.rcd2obj.codegen.inherited.JavaInheritableElement;
 import org.rcd2obj.codegen.modifier.JavaPublicModifier;
 import org.rcd2obj.codegen.parameter.JavaParameter;
 import org.rcd2obj.codegen.render.JavaElementWriteRender;
 import org.rcd2obj.codegen.type.JavaExplicitType;
 import org.rcd2obj.codegen.type.JavaNameType;
+import org.rcd2obj.codegen.variable.JavaVariableDefinition;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -44,6 +46,8 @@ class JavaClassTest {
   private static final String EMPTY_CLASS_EXPECTED = "publicclassMyClass{}";
   private static final String CLASS_PACKAGE_EXPECTED =
     "packageorg.rcd2obj.codegen;publicclassMyClass{}";
+  private static final String CLASS_FIELDS_EXPECTED =
+    "publicclassMyClass{Stringname;Integerage;}";
   private static final String CLASS_METHODS_EXPECTED = String.join(
     "",
     "packageorg.rcd2obj.codegen;",
@@ -76,6 +80,27 @@ class JavaClassTest {
     Assertions.assertEquals(EMPTY_CLASS_EXPECTED, writer.toString());
   }
 
+  @Test
+  void renderFieldsTest() {
+    StringWriter writer = new StringWriter();
+
+    JavaClass javaClass = new JavaClass(
+      CLASS_NAME,
+      null,
+      new JavaPublicModifier(),
+      null,
+      Arrays.asList(
+        new JavaFieldDefinition(new JavaVariableDefinition(new JavaExplicitType(String.class), PARAM_NAME_1)),
+        new JavaFieldDefinition(new JavaVariableDefinition(new JavaExplicitType(Integer.class), PARAM_NAME_2))
+      ),
+      null,
+      null
+    );
+    javaClass.render(new JavaElementWriteRender(writer));
+
+    Assertions.assertEquals(CLASS_FIELDS_EXPECTED, writer.toString());
+  }
+
   @Test
   void renderPackageTest() {
     StringWriter writer = new StringWriter();
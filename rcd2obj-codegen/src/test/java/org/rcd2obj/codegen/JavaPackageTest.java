@@ -38,6 +38,7 @@ class JavaPackageTest {
     classPackage.render(new JavaElementWriteRender(writer));
 
     Assertions.assertEquals(PACKAGE_EXPECTED, writer.toString());
+    Assertions.assertEquals("java.util", classPackage.getName());
   }
 
   @Test
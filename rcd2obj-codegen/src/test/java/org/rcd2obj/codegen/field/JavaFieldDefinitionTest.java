@@ -0,0 +1,74 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.codegen.field;
+
+import org.rcd2obj.codegen.JavaElementRenderingException;
+import org.rcd2obj.codegen.modifier.JavaFinalModifier;
+import org.rcd2obj.codegen.modifier.JavaPrivateModifier;
+import org.rcd2obj.codegen.modifier.JavaStaticModifier;
+import org.rcd2obj.codegen.operator.JavaAssignOperator;
+import org.rcd2obj.codegen.operator.JavaLiteralArgument;
+import org.rcd2obj.codegen.render.JavaElementWriteRender;
+import org.rcd2obj.codegen.type.JavaExplicitType;
+import org.rcd2obj.codegen.variable.JavaVariableDefinition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+
+/**
+ * Tests of {@link JavaFieldDefinition}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class JavaFieldDefinitionTest {
+  private static final String NAME = "VALUE";
+  private static final String RENDER_EXPECTED = "StringVALUE;";
+  private static final String RENDER_MODIFIERS_EXPECTED = "privatestaticfinalintVALUE=1;";
+
+  @Test
+  void renderTest() {
+    StringWriter writer = new StringWriter();
+    new JavaFieldDefinition(new JavaVariableDefinition(new JavaExplicitType(String.class), NAME))
+      .render(new JavaElementWriteRender(writer));
+    Assertions.assertEquals(RENDER_EXPECTED, writer.toString());
+  }
+
+  @Test
+  void renderModifiersTest() {
+    StringWriter writer = new StringWriter();
+    new JavaFieldDefinition(
+      Arrays.asList(new JavaPrivateModifier(), new JavaStaticModifier(), new JavaFinalModifier()),
+      new JavaVariableDefinition(
+        new JavaExplicitType(int.class),
+        NAME,
+        new JavaAssignOperator(new JavaLiteralArgument(1))
+      )
+    ).render(new JavaElementWriteRender(writer));
+    Assertions.assertEquals(RENDER_MODIFIERS_EXPECTED, writer.toString());
+  }
+
+  @Test
+  void renderExceptionTest() {
+    JavaElementWriteRender render = new JavaElementWriteRender(new StringWriter());
+    Assertions.assertThrows(
+      JavaElementRenderingException.class,
+      () -> new JavaFieldDefinition(null).render(render)
+    );
+  }
+}
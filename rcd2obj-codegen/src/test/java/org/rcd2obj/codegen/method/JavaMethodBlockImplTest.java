@@ -0,0 +1,49 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.codegen.method;
+
+import org.rcd2obj.codegen.operator.JavaNullArgument;
+import org.rcd2obj.codegen.operator.JavaReturnOperator;
+import org.rcd2obj.codegen.render.JavaElementWriteRender;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+
+/**
+ * Tests of {@link JavaMethodBlockImpl}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class JavaMethodBlockImplTest {
+  private static final String RENDER_EXPECTED = "{returnnull;}";
+  private static final String RENDER_EMPTY_EXPECTED = "{}";
+
+  @Test
+  void renderTest() {
+    StringWriter writer = new StringWriter();
+    new JavaMethodBlockImpl(new JavaReturnOperator(new JavaNullArgument())).render(new JavaElementWriteRender(writer));
+    Assertions.assertEquals(RENDER_EXPECTED, writer.toString());
+  }
+
+  @Test
+  void renderEmptyTest() {
+    StringWriter writer = new StringWriter();
+    new JavaMethodBlockImpl().render(new JavaElementWriteRender(writer));
+    Assertions.assertEquals(RENDER_EMPTY_EXPECTED, writer.toString());
+  }
+}
@@ -22,10 +22,14 @@ import org.rcd2obj.codegen.operator.JavaNullArgument;
 import org.rcd2obj.codegen.parameter.JavaParameter;
 import org.rcd2obj.codegen.render.JavaElementWriteRender;
 import org.rcd2obj.codegen.type.JavaExplicitType;
+import org.rcd2obj.codegen.type.JavaType;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.io.StringWriter;
+import java.sql.SQLException;
+import java.util.Arrays;
 
 /**
  * Tests of the method code generator.
@@ -43,6 +47,8 @@ class JavaMethodDefinitionTest {
     "StringrenderTest(){thrownewUnsupportedOperationException();}";
   private static final String EXPECTED_VALUE_WITH_ACCESS_MODIFIER =
     "publicStringrenderTest(){thrownewUnsupportedOperationException();}";
+  private static final String EXPECTED_VALUE_WITH_EXCEPTIONS =
+    "voidrenderTest()throwsjava.io.IOException,java.sql.SQLException{thrownewUnsupportedOperationException();}";
   private static final String EXPECTED_VALUE_BY_METHOD =
     "publicintcompareTo(Objectarg0){thrownewUnsupportedOperationException();}";
   private static final String EXPECTED_GENERIC =
@@ -90,6 +96,23 @@ class JavaMethodDefinitionTest {
     Assertions.assertEquals(EXPECTED_VALUE_WITH_ACCESS_MODIFIER, writer.toString());
   }
 
+  @Test
+  void renderWithExceptionsTest() {
+    StringWriter writer = new StringWriter();
+
+    JavaMethodDefinition definition = new JavaMethodDefinition(
+      METHOD_NAME,
+      null,
+      null,
+      null,
+      Arrays.<JavaType>asList(new JavaExplicitType(SQLException.class), new JavaExplicitType(IOException.class)),
+      null
+    );
+    definition.render(new JavaElementWriteRender(writer));
+
+    Assertions.assertEquals(EXPECTED_VALUE_WITH_EXCEPTIONS, writer.toString());
+  }
+
   @Test
   void renderExceptionTest() {
     JavaMethodDefinition definition = new JavaMethodDefinition(
@@ -0,0 +1,74 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.codegen.method;
+
+import org.rcd2obj.codegen.JavaElementRenderingException;
+import org.rcd2obj.codegen.operator.JavaLiteralArgument;
+import org.rcd2obj.codegen.parameter.JavaParameter;
+import org.rcd2obj.codegen.render.JavaElementWriteRender;
+import org.rcd2obj.codegen.type.JavaExplicitType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+
+/**
+ * Tests of {@link JavaStaticMethodInvokeOperator}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class JavaStaticMethodInvokeOperatorTest {
+  private static final String METHOD_NAME = "valueOf";
+  private static final String PARAM_NAME = "value";
+  private static final String RENDER_EXPECTED = "String.valueOf(1)";
+
+  @Test
+  void renderTest() {
+    JavaStaticMethodInvokeOperator operator = new JavaStaticMethodInvokeOperator(
+      new JavaExplicitType(String.class),
+      buildMethod().invoke(new JavaLiteralArgument(1))
+    );
+
+    StringWriter writer = new StringWriter();
+    operator.render(new JavaElementWriteRender(writer));
+
+    Assertions.assertEquals(RENDER_EXPECTED, writer.toString());
+  }
+
+  @Test
+  void renderExceptionTest() {
+    JavaElementWriteRender render = new JavaElementWriteRender(new StringWriter());
+
+    Assertions.assertThrows(
+      JavaElementRenderingException.class,
+      () -> new JavaStaticMethodInvokeOperator(null, buildMethod().invoke(new JavaLiteralArgument(1))).render(render)
+    );
+
+    Assertions.assertThrows(
+      JavaElementRenderingException.class,
+      () -> new JavaStaticMethodInvokeOperator(new JavaExplicitType(String.class), null).render(render)
+    );
+  }
+
+  // Creates definition of the method with one parameter
+  private static JavaMethodDefinition buildMethod() {
+    return new JavaMethodDefinition(
+      METHOD_NAME,
+      new JavaParameter(1, PARAM_NAME, new JavaExplicitType(int.class))
+    );
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.codegen.operator;
+
+import org.rcd2obj.codegen.JavaElementRenderingException;
+import org.rcd2obj.codegen.render.JavaElementWriteRender;
+import org.rcd2obj.codegen.type.JavaExplicitType;
+import org.rcd2obj.codegen.variable.JavaVariableDefinition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+
+/**
+ * Tests for {@link JavaArrayElementOperator}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class JavaArrayElementOperatorTest {
+  private static final String RESULT = "buffer[position+1]";
+  private static final String ASSIGN_RESULT = "buffer[position+1]=null";
+
+  @Test
+  void renderTest() {
+    StringWriter writer = new StringWriter();
+    buildElement().render(new JavaElementWriteRender(writer));
+    Assertions.assertEquals(RESULT, writer.toString());
+  }
+
+  @Test
+  void renderAssignTest() {
+    StringWriter writer = new StringWriter();
+    buildElement()
+      .assign(new JavaAssignOperator(new JavaNullArgument()))
+      .render(new JavaElementWriteRender(writer));
+    Assertions.assertEquals(ASSIGN_RESULT, writer.toString());
+  }
+
+  @Test
+  void renderExceptionTest() {
+    JavaElementWriteRender render = new JavaElementWriteRender(new StringWriter());
+    Assertions.assertThrows(
+      JavaElementRenderingException.class,
+      () -> new JavaArrayElementOperator(null, new JavaLiteralArgument(1)).render(render)
+    );
+    Assertions.assertThrows(
+      JavaElementRenderingException.class,
+      () -> new JavaArrayElementOperator(new JavaNullArgument(), null).render(render)
+    );
+  }
+
+  // Creates the element of the buffer by the position
+  private static JavaArrayElementOperator buildElement() {
+    JavaVariableDefinition buffer = new JavaVariableDefinition(new JavaExplicitType(Object[].class), "buffer");
+    JavaVariableDefinition position = new JavaVariableDefinition(new JavaExplicitType(int.class), "position");
+    return new JavaArrayElementOperator(
+      buffer.reference(),
+      new JavaPlusOperator(position.reference(), new JavaLiteralArgument(1))
+    );
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.codegen.operator;
+
+import org.rcd2obj.codegen.render.JavaElementWriteRender;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+
+/**
+ * Tests for {@link JavaBreakOperator}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class JavaBreakOperatorTest {
+  private static final String RESULT = "break";
+
+  @Test
+  void renderTest() {
+    StringWriter writer = new StringWriter();
+    new JavaBreakOperator().render(new JavaElementWriteRender(writer));
+    Assertions.assertEquals(RESULT, writer.toString());
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.codegen.operator;
+
+import org.rcd2obj.codegen.JavaElementRenderingException;
+import org.rcd2obj.codegen.render.JavaElementWriteRender;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+
+/**
+ * Tests for {@link JavaLiteralArgument}.
+ *
+ * @author Andrey_Yurzanov
+ */
+class JavaLiteralArgumentTest {
+  @Test
+  void renderStringTest() {
+    Assertions.assertEquals("\"a\\\"b\\n\"", render("a\"b\n"));
+  }
+
+  @Test
+  void renderNumberTest() {
+    Assertions.assertEquals("1", render(1));
+    Assertions.assertEquals("1L", render(1L));
+  }
+
+  @Test
+  void renderExceptionTest() {
+    JavaElementWriteRender render = new JavaElementWriteRender(new StringWriter());
+    Assertions.assertThrows(
+      JavaElementRenderingException.class,
+      () -> new JavaLiteralArgument(null).render(render)
+    );
+  }
+
+  // Renders the literal
+  private static String render(Object value) {
+    StringWriter writer = new StringWriter();
+    new JavaLiteralArgument(value).render(new JavaElementWriteRender(writer));
+    return writer.toString();
+  }
+}
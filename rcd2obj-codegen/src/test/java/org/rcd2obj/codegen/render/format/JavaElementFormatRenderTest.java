@@ -18,15 +18,31 @@ package org.rcd2obj.codegen.render.format;
 
 import org.rcd2obj.codegen.JavaClass;
 import org.rcd2obj.codegen.JavaPackage;
+import org.rcd2obj.codegen.constructor.JavaConstructorDefinition;
 import org.rcd2obj.codegen.inherited.JavaInheritableElement;
+import org.rcd2obj.codegen.method.JavaMethodBlockImpl;
+import org.rcd2obj.codegen.method.JavaMethodDefinition;
 import org.rcd2obj.codegen.modifier.JavaPublicModifier;
+import org.rcd2obj.codegen.operator.JavaBreakOperator;
+import org.rcd2obj.codegen.operator.JavaNotEqualsOperator;
+import org.rcd2obj.codegen.operator.JavaIfOperator;
+import org.rcd2obj.codegen.operator.JavaLiteralArgument;
+import org.rcd2obj.codegen.operator.JavaNewOperator;
+import org.rcd2obj.codegen.operator.JavaNullArgument;
+import org.rcd2obj.codegen.operator.JavaSwitchCase;
+import org.rcd2obj.codegen.operator.JavaSwitchOperator;
+import org.rcd2obj.codegen.operator.JavaThrowOperator;
+import org.rcd2obj.codegen.parameter.JavaParameter;
 import org.rcd2obj.codegen.render.JavaElementWriteRender;
+import org.rcd2obj.codegen.type.JavaExplicitType;
+import org.rcd2obj.codegen.variable.JavaVariableDefinition;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.io.Serializable;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.function.BiConsumer;
 
 /**
@@ -83,6 +99,36 @@ class JavaElementFormatRenderTest {
     NEW_LINE,
     "}"
   );
+  private static final String SWITCH_EXPECTED = String.join(
+    "",
+    "void apply(int column) {",
+    NEW_LINE,
+    "  switch (column) {",
+    NEW_LINE,
+    "    case 0:",
+    NEW_LINE,
+    "      break;",
+    NEW_LINE,
+    "    default:",
+    NEW_LINE,
+    "      throw new UnsupportedOperationException();",
+    NEW_LINE,
+    "  }",
+    NEW_LINE,
+    "}"
+  );
+  private static final String IF_EXPECTED = String.join(
+    "",
+    "void apply(String type) {",
+    NEW_LINE,
+    "  if (type != null) {",
+    NEW_LINE,
+    "    throw new UnsupportedOperationException();",
+    NEW_LINE,
+    "  }",
+    NEW_LINE,
+    "}"
+  );
 
   @Test
   void renderTest() {
@@ -108,4 +154,66 @@ class JavaElementFormatRenderTest {
     javaClass.render(renderer);
     Assertions.assertEquals(EXPECTED, writer.toString());
   }
-}
\ No newline at end of file
+
+  @Test
+  void renderSwitchTest() {
+    StringWriter writer = new StringWriter();
+
+    JavaVariableDefinition column = new JavaVariableDefinition(new JavaExplicitType(int.class), "column");
+    JavaMethodDefinition method = new JavaMethodDefinition(
+      "apply",
+      null,
+      null,
+      Collections.singletonList(new JavaParameter(1, "column", column.getVariableType())),
+      new JavaMethodBlockImpl(
+        new JavaSwitchOperator(
+          column.reference(),
+          Arrays.asList(
+            new JavaSwitchCase(new JavaLiteralArgument(0), Collections.singletonList(new JavaBreakOperator())),
+            new JavaSwitchCase(
+              null,
+              Collections.singletonList(
+                new JavaThrowOperator(
+                  new JavaNewOperator(
+                    new JavaConstructorDefinition(new JavaExplicitType(UnsupportedOperationException.class)).invoke()
+                  )
+                )
+              )
+            )
+          )
+        )
+      )
+    );
+
+    method.render(new JavaElementFormatRender(new JavaElementWriteRender(writer)));
+    Assertions.assertEquals(SWITCH_EXPECTED, writer.toString());
+  }
+
+  @Test
+  void renderIfTest() {
+    StringWriter writer = new StringWriter();
+
+    JavaVariableDefinition type = new JavaVariableDefinition(new JavaExplicitType(String.class), "type");
+    JavaMethodDefinition method = new JavaMethodDefinition(
+      "apply",
+      null,
+      null,
+      Collections.singletonList(new JavaParameter(1, "type", type.getVariableType())),
+      new JavaMethodBlockImpl(
+        new JavaIfOperator(
+          new JavaNotEqualsOperator(type.reference(), new JavaNullArgument()),
+          Collections.singletonList(
+            new JavaThrowOperator(
+              new JavaNewOperator(
+                new JavaConstructorDefinition(new JavaExplicitType(UnsupportedOperationException.class)).invoke()
+              )
+            )
+          )
+        )
+      )
+    );
+
+    method.render(new JavaElementFormatRender(new JavaElementWriteRender(writer)));
+    Assertions.assertEquals(IF_EXPECTED, writer.toString());
+  }
+}
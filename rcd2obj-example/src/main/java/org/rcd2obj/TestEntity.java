@@ -17,7 +17,9 @@
 package org.rcd2obj;
 
 import org.rcd2obj.annotation.Column;
+import org.rcd2obj.annotation.Id;
 import org.rcd2obj.annotation.Table;
+import org.rcd2obj.annotation.Tracked;
 import lombok.Data;
 
 /**
@@ -27,7 +29,10 @@ import lombok.Data;
  */
 @Data
 @Table
+@Tracked
 public class TestEntity {
+  @Id
+  private long id;
   @Column
   private String name;
   private short age;
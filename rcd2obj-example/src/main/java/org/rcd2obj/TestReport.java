@@ -0,0 +1,73 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj;
+
+import org.rcd2obj.annotation.Id;
+import org.rcd2obj.annotation.Table;
+import lombok.Data;
+
+/**
+ * A wide entity for testing the splitting of the generated methods.
+ *
+ * @author Andrey_Yurzanov
+ */
+@Data
+@Table
+public class TestReport {
+  @Id
+  private long id;
+  private int value1;
+  private int value2;
+  private int value3;
+  private int value4;
+  private int value5;
+  private int value6;
+  private int value7;
+  private int value8;
+  private int value9;
+  private int value10;
+  private int value11;
+  private int value12;
+  private int value13;
+  private int value14;
+  private int value15;
+  private int value16;
+  private int value17;
+  private int value18;
+  private int value19;
+  private int value20;
+  private int value21;
+  private int value22;
+  private int value23;
+  private int value24;
+  private int value25;
+  private int value26;
+  private int value27;
+  private int value28;
+  private int value29;
+  private int value30;
+  private int value31;
+  private int value32;
+  private int value33;
+  private int value34;
+  private int value35;
+  private int value36;
+  private int value37;
+  private int value38;
+  private int value39;
+  private int value40;
+}
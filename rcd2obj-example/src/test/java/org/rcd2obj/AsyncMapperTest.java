@@ -0,0 +1,162 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj;
+
+import org.rcd2obj.annotation.mapping.AsyncMapper;
+import org.rcd2obj.annotation.mapping.RowMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests of {@link AsyncMapper} with the generated mappers on the embedded database.
+ *
+ * @author Andrey_Yurzanov
+ */
+class AsyncMapperTest {
+  private Connection connection;
+
+  @BeforeEach
+  void init() throws SQLException {
+    connection = DriverManager.getConnection("jdbc:h2:mem:");
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE test_entity (id BIGINT PRIMARY KEY, name VARCHAR(32), age SMALLINT)");
+      statement.execute("INSERT INTO test_entity VALUES (1, 'first', 18), (2, 'second', 20)");
+    }
+  }
+
+  @AfterEach
+  void close() throws SQLException {
+    connection.close();
+  }
+
+  @Test
+  void mapAllTest() throws Exception {
+    CompletableFuture<List<TestEntity>> future = new AsyncMapper().mapAll(connection, new TestEntityStubMapper());
+    List<TestEntity> entities = future.get(10, TimeUnit.SECONDS);
+    Assertions.assertEquals(2, entities.size());
+  }
+
+  @Test
+  void mapAllQueryTest() throws Exception {
+    RowMapper mapper = new TestEntityStubMapper();
+    AsyncMapper async = new AsyncMapper(Runnable::run);
+    CompletableFuture<List<TestEntity>> future = async.mapAll(
+      () -> connection.createStatement().executeQuery(mapper.getSelectQuery() + " WHERE age > 18"),
+      mapper
+    );
+    Assertions.assertTrue(future.isDone());
+    Assertions.assertEquals("second", future.get().get(0).getName());
+  }
+
+  @Test
+  void mapAllExceptionTest() {
+    AsyncMapper async = new AsyncMapper(Runnable::run);
+    CompletableFuture<List<TestEntity>> future = async.mapAll(
+      () -> connection.createStatement().executeQuery("SELECT * FROM unknown_table"),
+      new TestEntityStubMapper()
+    );
+    ExecutionException exception = Assertions.assertThrows(ExecutionException.class, future::get);
+    Assertions.assertInstanceOf(SQLException.class, exception.getCause());
+  }
+
+  @Test
+  void mapAllCloseTest() throws Exception {
+    CountDownLatch closed = new CountDownLatch(1);
+    Statement statement = createStatement(new CountDownLatch(0), new CountDownLatch(0), closed);
+    CompletableFuture<List<TestEntity>> future = new AsyncMapper(Runnable::run).mapAll(
+      createConnection(statement),
+      new TestEntityStubMapper()
+    );
+    ExecutionException exception = Assertions.assertThrows(ExecutionException.class, future::get);
+    Assertions.assertInstanceOf(SQLException.class, exception.getCause());
+    Assertions.assertEquals(0, closed.getCount());
+  }
+
+  @Test
+  void mapAllCancelTest() throws Exception {
+    CountDownLatch executed = new CountDownLatch(1);
+    CountDownLatch cancelled = new CountDownLatch(1);
+    CountDownLatch closed = new CountDownLatch(1);
+    Statement statement = createStatement(executed, cancelled, closed);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      CompletableFuture<List<TestEntity>> future = new AsyncMapper(executor).mapAll(
+        createConnection(statement),
+        new TestEntityStubMapper()
+      );
+      Assertions.assertTrue(executed.await(10, TimeUnit.SECONDS));
+      Assertions.assertTrue(future.cancel(true));
+      Assertions.assertTrue(cancelled.await(10, TimeUnit.SECONDS));
+      Assertions.assertTrue(closed.await(10, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  // Creates the connection which returns the statement
+  private static Connection createConnection(Statement statement) {
+    return (Connection) Proxy.newProxyInstance(
+      AsyncMapperTest.class.getClassLoader(),
+      new Class<?>[]{Connection.class},
+      (proxy, method, args) -> {
+        if ("createStatement".equals(method.getName())) {
+          return statement;
+        }
+        throw new UnsupportedOperationException(method.getName());
+      }
+    );
+  }
+
+  // Creates the statement whose query waits for the cancellation and fails
+  private static Statement createStatement(CountDownLatch executed, CountDownLatch cancelled, CountDownLatch closed) {
+    return (Statement) Proxy.newProxyInstance(
+      AsyncMapperTest.class.getClassLoader(),
+      new Class<?>[]{Statement.class},
+      (proxy, method, args) -> {
+        switch (method.getName()) {
+          case "executeQuery":
+            executed.countDown();
+            cancelled.await(10, TimeUnit.SECONDS);
+            throw new SQLException("Query is cancelled");
+          case "cancel":
+            cancelled.countDown();
+            return null;
+          case "close":
+            closed.countDown();
+            return null;
+          default:
+            throw new UnsupportedOperationException(method.getName());
+        }
+      }
+    );
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj;
+
+import org.rcd2obj.annotation.mapping.BatchWriter;
+import org.rcd2obj.annotation.meta.MetaInfoContext;
+import org.rcd2obj.annotation.meta.TableMetaInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Tests of {@link BatchWriter} with the generated binder on the embedded database.
+ *
+ * @author Andrey_Yurzanov
+ */
+class BatchWriterTest {
+  private static final int COUNT = 2_503;
+  private static final int BATCH_SIZE = 1_000;
+  private static final int PARAMETER_LIMIT = 100;
+
+  private Connection connection;
+
+  @BeforeEach
+  void init() throws SQLException {
+    connection = DriverManager.getConnection("jdbc:h2:mem:");
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE test_entity (id BIGINT PRIMARY KEY, name VARCHAR(32), age SMALLINT)");
+      statement.execute("CREATE TABLE test_event (message VARCHAR(32), level INT)");
+    }
+  }
+
+  @AfterEach
+  void close() throws SQLException {
+    connection.close();
+  }
+
+  @Test
+  void insertTest() throws SQLException {
+    BatchWriter writer = new BatchWriter(new TestEntityStubBinder(), BATCH_SIZE);
+    Assertions.assertEquals(1, writer.getRowsPerStatement());
+    Assertions.assertEquals(COUNT, writer.insert(connection, createEntities()));
+    checkInserted();
+  }
+
+  @Test
+  void insertMultiRowTest() throws SQLException {
+    TableMetaInfo table = new TableMetaInfo.Factory(new MetaInfoContext()).build(TestEntity.class).get();
+    BatchWriter writer = new BatchWriter(new TestEntityStubBinder(), BATCH_SIZE, table, PARAMETER_LIMIT);
+    Assertions.assertEquals(33, writer.getRowsPerStatement());
+    Assertions.assertEquals(COUNT, writer.insert(connection, createEntities()));
+    checkInserted();
+  }
+
+  @Test
+  void insertCloseTest() throws SQLException {
+    AtomicBoolean closed = new AtomicBoolean();
+    BatchWriter writer = new BatchWriter(new TestEntityStubBinder(), BATCH_SIZE);
+    Assertions.assertEquals(COUNT, writer.insert(connection, createEntities().onClose(() -> closed.set(true))));
+    Assertions.assertTrue(closed.get());
+  }
+
+  @Test
+  void insertWithoutIdTest() throws SQLException {
+    TestEventStubBinder binder = new TestEventStubBinder();
+    Assertions.assertEquals("INSERT INTO test_event (message, level) VALUES (?, ?)", binder.getInsertQuery());
+    Assertions.assertThrows(UnsupportedOperationException.class, binder::getUpdateQuery);
+    Assertions.assertThrows(UnsupportedOperationException.class, () -> binder.bindUpdate(null, new TestEvent()));
+
+    Stream<TestEvent> events = IntStream.range(0, COUNT).mapToObj(index -> {
+      TestEvent event = new TestEvent();
+      event.setMessage("message" + index);
+      event.setLevel(index % 3);
+      return event;
+    });
+    Assertions.assertEquals(COUNT, new BatchWriter(binder, BATCH_SIZE).insert(connection, events));
+    try (
+      Statement statement = connection.createStatement();
+      ResultSet result = statement.executeQuery("SELECT COUNT(*), SUM(level) FROM test_event")
+    ) {
+      Assertions.assertTrue(result.next());
+      Assertions.assertEquals(COUNT, result.getInt(1));
+      Assertions.assertEquals(2_502, result.getInt(2));
+    }
+  }
+
+  // Creates the inserted entities
+  private static Stream<TestEntity> createEntities() {
+    return IntStream.range(0, COUNT).mapToObj(index -> {
+      TestEntity entity = new TestEntity();
+      entity.setId(index);
+      entity.setName("name" + index);
+      entity.setAge((short) (index % 100));
+      return entity;
+    });
+  }
+
+  // Checks the inserted rows
+  private void checkInserted() throws SQLException {
+    try (
+      Statement statement = connection.createStatement();
+      ResultSet result = statement.executeQuery("SELECT COUNT(*), SUM(id), MAX(name) FROM test_entity")
+    ) {
+      Assertions.assertTrue(result.next());
+      Assertions.assertEquals(COUNT, result.getInt(1));
+      Assertions.assertEquals((long) COUNT * (COUNT - 1) / 2, result.getLong(2));
+      Assertions.assertEquals("name999", result.getString(3));
+    }
+  }
+}
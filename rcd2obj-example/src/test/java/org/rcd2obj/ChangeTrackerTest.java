@@ -0,0 +1,169 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj;
+
+import org.rcd2obj.annotation.mapping.ChangeTracker;
+import org.rcd2obj.annotation.mapping.Snapshot;
+import org.rcd2obj.annotation.mapping.TrackingMapper;
+import org.rcd2obj.annotation.meta.MetaInfoContext;
+import org.rcd2obj.annotation.meta.TableMetaInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.BitSet;
+
+/**
+ * Tests of {@link ChangeTracker} with the generated tracker on the embedded database.
+ *
+ * @author Andrey_Yurzanov
+ */
+class ChangeTrackerTest {
+  private Connection connection;
+  private ChangeTracker tracker;
+
+  @BeforeEach
+  void init() throws SQLException {
+    connection = DriverManager.getConnection("jdbc:h2:mem:");
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE test_entity (id BIGINT PRIMARY KEY, name VARCHAR(32), age SMALLINT)");
+      statement.execute("INSERT INTO test_entity VALUES (1, 'name', 18)");
+    }
+
+    TableMetaInfo table = new TableMetaInfo.Factory(new MetaInfoContext()).build(TestEntity.class).get();
+    tracker = new ChangeTracker(new TestEntityStubTracker(), table);
+  }
+
+  @AfterEach
+  void close() throws SQLException {
+    connection.close();
+  }
+
+  @Test
+  void getDirtyTest() {
+    TestEntity entity = createEntity();
+    Snapshot snapshot = tracker.snapshot(entity);
+    Assertions.assertTrue(tracker.getDirty(snapshot, entity).isEmpty());
+
+    entity.setId(2L);
+    entity.setAge((short) 20);
+    BitSet expected = new BitSet();
+    expected.set(2);
+    Assertions.assertEquals(expected, tracker.getDirty(snapshot, entity));
+    Assertions.assertEquals(
+      "UPDATE test_entity SET age = ? WHERE id = ?",
+      tracker.getUpdateQuery(expected).orElse(null)
+    );
+  }
+
+  @Test
+  void updateTest() throws SQLException {
+    TestEntity entity = createEntity();
+    Snapshot snapshot = tracker.snapshot(entity);
+    Assertions.assertEquals(0, tracker.update(connection, snapshot, entity));
+
+    entity.setName("changed");
+    Assertions.assertEquals(1, tracker.update(connection, snapshot, entity));
+    try (
+      Statement statement = connection.createStatement();
+      ResultSet result = statement.executeQuery("SELECT name, age FROM test_entity WHERE id = 1")
+    ) {
+      Assertions.assertTrue(result.next());
+      Assertions.assertEquals("changed", result.getString(1));
+      Assertions.assertEquals(18, result.getShort(2));
+    }
+  }
+
+  @Test
+  void updateMappedTest() throws SQLException {
+    TrackingMapper mapper = new TrackingMapper(new TestEntityStubMapper(), tracker);
+    TestEntity entity = mapEntity(mapper);
+    Assertions.assertTrue(mapper.isTracked(entity));
+    Assertions.assertTrue(mapper.getDirty(entity).isEmpty());
+    Assertions.assertEquals(0, mapper.update(connection, entity));
+
+    entity.setAge((short) 30);
+    BitSet expected = new BitSet();
+    expected.set(2);
+    Assertions.assertEquals(expected, mapper.getDirty(entity));
+    Assertions.assertEquals(1, mapper.update(connection, entity));
+    Assertions.assertEquals(30, readAge());
+
+    Assertions.assertTrue(mapper.getDirty(entity).isEmpty());
+    Assertions.assertEquals(0, mapper.update(connection, entity));
+  }
+
+  @Test
+  void updateUntrackedTest() throws SQLException {
+    TrackingMapper mapper = new TrackingMapper(new TestEntityStubMapper(), tracker);
+    TestEntity entity = createEntity();
+    Assertions.assertFalse(mapper.isTracked(entity));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> mapper.update(connection, entity));
+
+    TestEntity mapped = mapEntity(mapper);
+    mapper.release(mapped);
+    Assertions.assertFalse(mapper.isTracked(mapped));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> mapper.getDirty(mapped));
+  }
+
+  @Test
+  void updateBeforeSnapshotTest() throws SQLException {
+    TestEntity entity = createEntity();
+    entity.setAge((short) 30);
+
+    Snapshot snapshot = tracker.snapshot(entity);
+    Assertions.assertEquals(0, tracker.update(connection, snapshot, entity));
+    Assertions.assertEquals(18, readAge());
+  }
+
+  // Maps the inserted row
+  private TestEntity mapEntity(TrackingMapper mapper) throws SQLException {
+    try (
+      Statement statement = connection.createStatement();
+      ResultSet result = statement.executeQuery(mapper.getSelectQuery())
+    ) {
+      Assertions.assertTrue(result.next());
+      return mapper.map(result);
+    }
+  }
+
+  // Reads age of the inserted row
+  private short readAge() throws SQLException {
+    try (
+      Statement statement = connection.createStatement();
+      ResultSet result = statement.executeQuery("SELECT age FROM test_entity WHERE id = 1")
+    ) {
+      Assertions.assertTrue(result.next());
+      return result.getShort(1);
+    }
+  }
+
+  // Creates entity of the inserted row
+  private static TestEntity createEntity() {
+    TestEntity entity = new TestEntity();
+    entity.setId(1L);
+    entity.setName("name");
+    entity.setAge((short) 18);
+    return entity;
+  }
+}
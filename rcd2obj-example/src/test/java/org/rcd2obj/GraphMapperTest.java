@@ -0,0 +1,117 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj;
+
+import org.rcd2obj.annotation.mapping.GraphMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests of {@link GraphMapper} with the generated mappers on the embedded database.
+ *
+ * @author Andrey_Yurzanov
+ */
+class GraphMapperTest {
+  private static final String JOIN = " FROM test_group LEFT JOIN test_entity ON test_entity.age = test_group.id";
+
+  private Connection connection;
+  private GraphMapper<TestGroup, TestEntity> mapper;
+
+  @BeforeEach
+  void init() throws SQLException {
+    connection = DriverManager.getConnection("jdbc:h2:mem:");
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE test_group (id BIGINT PRIMARY KEY, name VARCHAR(32))");
+      statement.execute("CREATE TABLE test_entity (id BIGINT PRIMARY KEY, name VARCHAR(32), age SMALLINT)");
+      statement.execute("INSERT INTO test_group VALUES (1, 'first'), (2, 'second'), (3, 'empty')");
+      statement.execute("INSERT INTO test_entity VALUES (1, 'a', 1), (2, 'b', 2), (3, 'c', 1), (4, 'd', 2)");
+    }
+
+    Assertions.assertEquals(1, new TestGroupStubMapper().getIdColumn());
+    mapper = new GraphMapper<>(
+      new TestGroupStubMapper(),
+      new TestEntityStubMapper(),
+      (group, entity) -> group.getMembers().add(entity)
+    );
+  }
+
+  @AfterEach
+  void close() throws SQLException {
+    connection.close();
+  }
+
+  @Test
+  void mapAllTest() throws SQLException {
+    String query = "SELECT " + mapper.getProjection() + JOIN + " ORDER BY test_entity.id";
+    try (Statement statement = connection.createStatement(); ResultSet result = statement.executeQuery(query)) {
+      check(mapper.mapAll(result));
+    }
+  }
+
+  @Test
+  void streamTest() throws SQLException {
+    String query = "SELECT " + mapper.getProjection() + JOIN + " ORDER BY test_group.id, test_entity.id";
+    try (Statement statement = connection.createStatement(); ResultSet result = statement.executeQuery(query)) {
+      List<TestGroup> groups = new ArrayList<>();
+      mapper.stream(result, groups::add);
+      check(groups);
+    }
+  }
+
+  @Test
+  void rightJoinTest() throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("INSERT INTO test_entity VALUES (5, 'e', 9)");
+    }
+
+    String query = "SELECT " + mapper.getProjection()
+      + " FROM test_group RIGHT JOIN test_entity ON test_entity.age = test_group.id";
+    try (Statement statement = connection.createStatement(); ResultSet result = statement.executeQuery(query)) {
+      List<TestGroup> groups = mapper.mapAll(result);
+      Assertions.assertEquals(2, groups.size());
+      Assertions.assertEquals(4, groups.get(0).getMembers().size() + groups.get(1).getMembers().size());
+    }
+
+    query += " ORDER BY test_group.id, test_entity.id";
+    try (Statement statement = connection.createStatement(); ResultSet result = statement.executeQuery(query)) {
+      List<TestGroup> groups = new ArrayList<>();
+      mapper.stream(result, groups::add);
+      Assertions.assertEquals(2, groups.size());
+      Assertions.assertEquals(4, groups.get(0).getMembers().size() + groups.get(1).getMembers().size());
+    }
+  }
+
+  private void check(List<TestGroup> groups) {
+    groups.sort((first, second) -> Long.compare(first.getId(), second.getId()));
+    Assertions.assertEquals(3, groups.size());
+    Assertions.assertEquals("first", groups.get(0).getName());
+    Assertions.assertEquals(2, groups.get(0).getMembers().size());
+    Assertions.assertEquals("c", groups.get(0).getMembers().get(1).getName());
+    Assertions.assertEquals(2, groups.get(1).getMembers().size());
+    Assertions.assertTrue(groups.get(2).getMembers().isEmpty());
+  }
+}
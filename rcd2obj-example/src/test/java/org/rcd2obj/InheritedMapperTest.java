@@ -0,0 +1,80 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj;
+
+import org.rcd2obj.annotation.mapping.RowMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Tests of the generated classes of the entity with the inherited columns on the embedded database.
+ *
+ * @author Andrey_Yurzanov
+ */
+class InheritedMapperTest {
+  private Connection connection;
+
+  @BeforeEach
+  void init() throws SQLException {
+    connection = DriverManager.getConnection("jdbc:h2:mem:");
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE test_note (id BIGINT PRIMARY KEY, author VARCHAR(32), text VARCHAR(32))");
+    }
+  }
+
+  @AfterEach
+  void close() throws SQLException {
+    connection.close();
+  }
+
+  @Test
+  void insertAndMapTest() throws SQLException {
+    TestNote note = new TestNote();
+    note.setId(1L);
+    note.setAuthor("author");
+    note.setText("text");
+
+    TestNoteStubBinder binder = new TestNoteStubBinder();
+    Assertions.assertEquals("INSERT INTO test_note (id, author, text) VALUES (?, ?, ?)", binder.getInsertQuery());
+    try (PreparedStatement statement = connection.prepareStatement(binder.getInsertQuery())) {
+      binder.bindInsert(statement, note);
+      Assertions.assertEquals(1, statement.executeUpdate());
+    }
+
+    RowMapper mapper = new TestNoteStubMapper();
+    try (
+      Statement statement = connection.createStatement();
+      ResultSet result = statement.executeQuery(mapper.getSelectQuery())
+    ) {
+      Assertions.assertTrue(result.next());
+
+      TestNote mapped = mapper.map(result);
+      Assertions.assertEquals(1L, mapped.getId());
+      Assertions.assertEquals("author", mapped.getAuthor());
+      Assertions.assertEquals("text", mapped.getText());
+    }
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj;
+
+import org.rcd2obj.annotation.mapping.MappingException;
+import org.rcd2obj.annotation.mapping.RowMapper;
+import org.rcd2obj.annotation.meta.MetaInfoContext;
+import org.rcd2obj.annotation.meta.TableMetaInfo;
+import org.rcd2obj.runtime.MapperBytecodeFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Modifier;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * Tests of the mappers emitted by {@link MapperBytecodeFactory}, the emitted mappers are compared
+ * with the mappers generated by the plugin on the embedded database.
+ *
+ * @author Andrey_Yurzanov
+ */
+class MapperBytecodeFactoryTest {
+  private final MapperBytecodeFactory factory = new MapperBytecodeFactory();
+  private final TableMetaInfo.Factory metaFactory = new TableMetaInfo.Factory(new MetaInfoContext());
+  private Connection connection;
+
+  @BeforeEach
+  void init() throws SQLException {
+    StringBuilder report = new StringBuilder("CREATE TABLE test_report (id BIGINT PRIMARY KEY");
+    for (int i = 1; i <= 40; i++) {
+      report.append(", value").append(i).append(" INT");
+    }
+
+    connection = DriverManager.getConnection("jdbc:h2:mem:");
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE test_entity (id BIGINT PRIMARY KEY, name VARCHAR(32), age SMALLINT)");
+      statement.execute("INSERT INTO test_entity VALUES (1, 'first', 18), (2, NULL, 20)");
+      statement.execute(
+        "CREATE TABLE test_shape (id BIGINT PRIMARY KEY, kind VARCHAR(8), name VARCHAR(32), radius DOUBLE, side DOUBLE)"
+      );
+      statement.execute(
+        "INSERT INTO test_shape VALUES (1, 'circle', 'c', 2.5, NULL), (2, 'square', 's', NULL, 4), "
+          + "(3, 'line', 'l', NULL, NULL), (4, NULL, 'n', NULL, NULL)"
+      );
+      statement.execute(report.append(")").toString());
+      statement.execute("INSERT INTO test_report (id, value1, value20, value40) VALUES (1, 1, 20, 40)");
+    }
+  }
+
+  @AfterEach
+  void close() throws SQLException {
+    connection.close();
+  }
+
+  @Test
+  void getClassNameTest() {
+    Assertions.assertEquals(TestEntityStubMapper.class.getName(), factory.getClassName(getInfo(TestEntity.class)));
+  }
+
+  @Test
+  void buildTest() throws Exception {
+    RowMapper mapper = emit(TestEntity.class);
+    RowMapper generated = new TestEntityStubMapper();
+    Assertions.assertEquals(generated.getSelectQuery(), mapper.getSelectQuery());
+    Assertions.assertEquals(generated.getProjection(), mapper.getProjection());
+    Assertions.assertEquals(generated.getColumnCount(), mapper.getColumnCount());
+    Assertions.assertEquals(generated.getIdColumn(), mapper.getIdColumn());
+    Assertions.assertEquals(
+      generated.getSelectQuery(),
+      mapper.getClass().getField("SELECT_TEST_ENTITY").get(null)
+    );
+
+    try (
+      Statement statement = connection.createStatement();
+      ResultSet result = statement.executeQuery(mapper.getSelectQuery() + " ORDER BY test_entity.id")
+    ) {
+      while (result.next()) {
+        TestEntity expected = generated.map(result);
+        TestEntity actual = mapper.map(result);
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertEquals(expected, mapSplit(mapper, result));
+      }
+    }
+  }
+
+  @Test
+  void buildSubtypesTest() throws Exception {
+    RowMapper mapper = emit(TestShape.class);
+    Assertions.assertEquals(new TestShapeStubMapper().getSelectQuery(), mapper.getSelectQuery());
+
+    try (
+      Statement statement = connection.createStatement();
+      ResultSet result = statement.executeQuery(mapper.getSelectQuery() + " ORDER BY test_shape.id")
+    ) {
+      Assertions.assertTrue(result.next());
+      TestCircle circle = mapper.map(result);
+      Assertions.assertEquals(1L, circle.getId());
+      Assertions.assertEquals("c", circle.getName());
+      Assertions.assertEquals(2.5, circle.getRadius());
+      Assertions.assertEquals(2.5, ((TestCircle) mapSplit(mapper, result)).getRadius());
+
+      Assertions.assertTrue(result.next());
+      TestSquare square = mapper.map(result);
+      Assertions.assertEquals(2L, square.getId());
+      Assertions.assertEquals(4, square.getSide());
+
+      Assertions.assertTrue(result.next());
+      MappingException exception = Assertions.assertThrows(MappingException.class, () -> mapper.map(result));
+      Assertions.assertEquals("Unknown type: line", exception.getMessage());
+      exception = Assertions.assertThrows(MappingException.class, () -> mapSplit(mapper, result));
+      Assertions.assertEquals("Unknown type: line", exception.getMessage());
+
+      Assertions.assertTrue(result.next());
+      exception = Assertions.assertThrows(MappingException.class, () -> mapper.map(result));
+      Assertions.assertEquals("Unknown type: null", exception.getMessage());
+    }
+  }
+
+  @Test
+  void buildHelpersTest() throws Exception {
+    RowMapper mapper = emit(TestReport.class);
+    for (String helper : Arrays.asList("mapColumns", "extractColumns", "convertColumns")) {
+      Assertions.assertTrue(
+        Arrays
+          .stream(mapper.getClass().getDeclaredMethods())
+          .anyMatch(method -> Modifier.isPrivate(method.getModifiers()) && method.getName().startsWith(helper))
+      );
+    }
+
+    try (
+      Statement statement = connection.createStatement();
+      ResultSet result = statement.executeQuery(mapper.getSelectQuery())
+    ) {
+      Assertions.assertTrue(result.next());
+      TestReport report = mapper.map(result);
+      Assertions.assertEquals(1L, report.getId());
+      Assertions.assertEquals(1, report.getValue1());
+      Assertions.assertEquals(20, report.getValue20());
+      Assertions.assertEquals(40, report.getValue40());
+      Assertions.assertEquals(report, mapSplit(mapper, result));
+    }
+  }
+
+  // Maps the current row by the extraction into the buffer and the conversion of the buffer
+  private static Object mapSplit(RowMapper mapper, ResultSet result) throws SQLException {
+    Object[] buffer = new Object[mapper.getColumnCount() + 1];
+    mapper.extract(result, 0, buffer, 1);
+    return mapper.convert(buffer, 1);
+  }
+
+  // Returns meta information of the entity
+  private TableMetaInfo getInfo(Class<?> type) {
+    return metaFactory.build(type).orElseThrow(IllegalArgumentException::new);
+  }
+
+  // Emits the mapper and defines it by the separate class loader
+  private RowMapper emit(Class<?> type) throws ReflectiveOperationException {
+    TableMetaInfo info = getInfo(type);
+    byte[] bytecode = factory.build(info).orElseThrow(IllegalArgumentException::new);
+    String className = factory.getClassName(info);
+    ClassLoader loader = new ClassLoader(type.getClassLoader()) {
+      @Override
+      protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (className.equals(name)) {
+          return defineClass(name, bytecode, 0, bytecode.length);
+        }
+        return super.loadClass(name, resolve);
+      }
+    };
+    Class<?> mapper = loader.loadClass(className);
+    Assertions.assertNotSame(type.getClassLoader(), mapper.getClassLoader());
+    return (RowMapper) mapper.getConstructor().newInstance();
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj;
+
+import org.rcd2obj.annotation.mapping.MappingException;
+import org.rcd2obj.annotation.mapping.ParallelMapper;
+import org.rcd2obj.annotation.mapping.RowMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Tests of {@link ParallelMapper} with the generated mappers on the embedded database.
+ *
+ * @author Andrey_Yurzanov
+ */
+class ParallelMapperTest {
+  private static final int ROWS = 1001;
+
+  private Connection connection;
+
+  @BeforeEach
+  void init() throws SQLException {
+    connection = DriverManager.getConnection("jdbc:h2:mem:");
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE test_entity (id BIGINT PRIMARY KEY, name VARCHAR(32), age SMALLINT)");
+    }
+    try (PreparedStatement statement = connection.prepareStatement("INSERT INTO test_entity VALUES (?, ?, ?)")) {
+      for (int i = 1; i <= ROWS; i++) {
+        statement.setLong(1, i);
+        statement.setString(2, "name" + i);
+        statement.setShort(3, (short) (i % 100));
+        statement.addBatch();
+      }
+      statement.executeBatch();
+    }
+  }
+
+  @AfterEach
+  void close() throws SQLException {
+    connection.close();
+  }
+
+  @Test
+  void mapAllTest() throws SQLException {
+    RowMapper mapper = new TestEntityStubMapper();
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try (
+      Statement statement = connection.createStatement();
+      ResultSet result = statement.executeQuery(mapper.getSelectQuery() + " ORDER BY id")
+    ) {
+      List<TestEntity> entities = new ParallelMapper(mapper, pool, 100).mapAll(result);
+      Assertions.assertEquals(ROWS, entities.size());
+      for (int i = 0; i < ROWS; i++) {
+        TestEntity entity = entities.get(i);
+        Assertions.assertEquals(i + 1, entity.getId());
+        Assertions.assertEquals("name" + (i + 1), entity.getName());
+        Assertions.assertEquals((i + 1) % 100, entity.getAge());
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void mapAllEmptyTest() throws SQLException {
+    RowMapper mapper = new TestEntityStubMapper();
+    try (
+      Statement statement = connection.createStatement();
+      ResultSet result = statement.executeQuery(mapper.getSelectQuery() + " WHERE id < 0")
+    ) {
+      Assertions.assertTrue(new ParallelMapper(mapper).mapAll(result).isEmpty());
+    }
+  }
+
+  @Test
+  void mapAllExtractExceptionTest() throws SQLException {
+    RowMapper mapper = new TestEntityStubMapper();
+    try (
+      Statement statement = connection.createStatement();
+      ResultSet result = statement.executeQuery("SELECT id, name FROM test_entity")
+    ) {
+      ParallelMapper parallel = new ParallelMapper(mapper);
+      Assertions.assertThrows(SQLException.class, () -> parallel.mapAll(result));
+    }
+  }
+
+  @Test
+  void mapAllConvertExceptionTest() throws SQLException {
+    RowMapper mapper = new TestEntityStubMapper();
+    try (
+      Statement statement = connection.createStatement();
+      ResultSet result = statement.executeQuery("SELECT name, id, age FROM test_entity")
+    ) {
+      ParallelMapper parallel = new ParallelMapper(mapper);
+      Assertions.assertThrows(MappingException.class, () -> parallel.mapAll(result));
+    }
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj;
+
+import org.rcd2obj.annotation.mapping.MappingException;
+import org.rcd2obj.annotation.mapping.RowMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Tests of the generated mapper of the subclasses on the embedded database.
+ *
+ * @author Andrey_Yurzanov
+ */
+class PolymorphicMapperTest {
+  private Connection connection;
+
+  @BeforeEach
+  void init() throws SQLException {
+    connection = DriverManager.getConnection("jdbc:h2:mem:");
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(
+        "CREATE TABLE test_shape (id BIGINT PRIMARY KEY, kind VARCHAR(8), name VARCHAR(32), radius DOUBLE, side DOUBLE)"
+      );
+      statement.execute(
+        "INSERT INTO test_shape VALUES (1, 'circle', 'c', 2.5, NULL), (2, 'square', 's', NULL, 4), "
+          + "(3, 'line', 'l', NULL, NULL), (4, NULL, 'n', NULL, NULL)"
+      );
+    }
+  }
+
+  @AfterEach
+  void close() throws SQLException {
+    connection.close();
+  }
+
+  @Test
+  void mapTest() throws SQLException {
+    RowMapper mapper = new TestShapeStubMapper();
+    Assertions.assertEquals(
+      "SELECT test_shape.kind, test_shape.id, test_shape.name, test_shape.radius, test_shape.side FROM test_shape",
+      mapper.getSelectQuery()
+    );
+    Assertions.assertEquals(5, mapper.getColumnCount());
+    Assertions.assertEquals(2, mapper.getIdColumn());
+
+    try (
+      Statement statement = connection.createStatement();
+      ResultSet result = statement.executeQuery(mapper.getSelectQuery() + " ORDER BY test_shape.id")
+    ) {
+      Assertions.assertTrue(result.next());
+      TestCircle circle = mapper.map(result);
+      Assertions.assertEquals(1L, circle.getId());
+      Assertions.assertEquals("c", circle.getName());
+      Assertions.assertEquals(2.5, circle.getRadius());
+
+      Assertions.assertTrue(result.next());
+      TestSquare square = mapper.map(result);
+      Assertions.assertEquals(2L, square.getId());
+      Assertions.assertEquals(4, square.getSide());
+
+      Assertions.assertTrue(result.next());
+      MappingException exception = Assertions.assertThrows(MappingException.class, () -> mapper.map(result));
+      Assertions.assertEquals("Unknown type: line", exception.getMessage());
+
+      Assertions.assertTrue(result.next());
+      exception = Assertions.assertThrows(MappingException.class, () -> mapper.map(result));
+      Assertions.assertEquals("Unknown type: null", exception.getMessage());
+    }
+  }
+
+  @Test
+  void binderTest() {
+    Assertions.assertThrows(
+      ClassNotFoundException.class,
+      () -> Class.forName(TestShape.class.getName() + "StubBinder")
+    );
+  }
+}
@@ -0,0 +1,230 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj;
+
+import org.rcd2obj.annotation.mapping.MappingException;
+import org.rcd2obj.annotation.mapping.PrefetchIterator;
+import org.rcd2obj.annotation.mapping.RowMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests of {@link PrefetchIterator} with the generated mappers on the embedded database.
+ *
+ * @author Andrey_Yurzanov
+ */
+class PrefetchIteratorTest {
+  private static final int ROWS = 1000;
+
+  private Connection connection;
+
+  @BeforeEach
+  void init() throws SQLException {
+    connection = DriverManager.getConnection("jdbc:h2:mem:");
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE test_entity (id BIGINT PRIMARY KEY, name VARCHAR(32), age SMALLINT)");
+    }
+    try (PreparedStatement statement = connection.prepareStatement("INSERT INTO test_entity VALUES (?, ?, ?)")) {
+      for (int i = 1; i <= ROWS; i++) {
+        statement.setLong(1, i);
+        statement.setString(2, i % 2 == 0 ? null : "name" + i);
+        statement.setShort(3, (short) (i % 100));
+        statement.addBatch();
+      }
+      statement.executeBatch();
+    }
+  }
+
+  @AfterEach
+  void close() throws SQLException {
+    connection.close();
+  }
+
+  @Test
+  void iterateTest() throws SQLException {
+    RowMapper mapper = new TestEntityStubMapper();
+    String query = mapper.getSelectQuery() + " ORDER BY id";
+    try (
+      Statement statement = connection.createStatement();
+      ResultSet result = statement.executeQuery(query);
+      PrefetchIterator<TestEntity> entities = new PrefetchIterator<>(mapper, result, 2, 64)
+    ) {
+      int count = 0;
+      while (entities.hasNext()) {
+        TestEntity entity = entities.next();
+        count++;
+        Assertions.assertEquals(count, entity.getId());
+        Assertions.assertEquals(count % 2 == 0 ? null : "name" + count, entity.getName());
+        Assertions.assertEquals(count % 100, entity.getAge());
+      }
+      Assertions.assertEquals(ROWS, count);
+      Assertions.assertFalse(entities.hasNext());
+      Assertions.assertThrows(NoSuchElementException.class, entities::next);
+      Assertions.assertTrue(entities.getConsumerStallTime() >= 0);
+      Assertions.assertTrue(entities.getProducerStallTime() >= 0);
+    }
+  }
+
+  @Test
+  void iterateTypesTest() throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(
+        String.join(
+          "",
+          "CREATE TABLE test_document (",
+          "id BIGINT PRIMARY KEY, content CLOB, data BLOB, created DATE, updated TIMESTAMP, reminder TIME)"
+        )
+      );
+    }
+    String insert = "INSERT INTO test_document VALUES (?, ?, ?, ?, ?, ?)";
+    try (PreparedStatement statement = connection.prepareStatement(insert)) {
+      for (int i = 1; i <= ROWS; i++) {
+        statement.setLong(1, i);
+        statement.setString(2, i % 2 == 0 ? null : "content" + i);
+        statement.setBytes(3, new byte[] {(byte) i, 1, 2});
+        statement.setObject(4, LocalDate.of(2024, 1, 1).plusDays(i));
+        statement.setObject(5, LocalDateTime.of(2024, 1, 1, 10, 30).plusMinutes(i));
+        statement.setObject(6, LocalTime.of(8, 0).plusSeconds(i));
+        statement.addBatch();
+      }
+      statement.executeBatch();
+    }
+
+    RowMapper mapper = new TestDocumentStubMapper();
+    try (
+      Statement statement = connection.createStatement();
+      ResultSet result = statement.executeQuery(mapper.getSelectQuery() + " ORDER BY id");
+      PrefetchIterator<TestDocument> documents = new PrefetchIterator<>(mapper, result, 2, 64)
+    ) {
+      int count = 0;
+      while (documents.hasNext()) {
+        TestDocument document = documents.next();
+        count++;
+        Assertions.assertEquals(count, document.getId());
+        Assertions.assertEquals(count % 2 == 0 ? null : "content" + count, document.getContent());
+        Assertions.assertArrayEquals(new byte[] {(byte) count, 1, 2}, document.getData());
+        Assertions.assertEquals(LocalDate.of(2024, 1, 1).plusDays(count), document.getCreated());
+        Assertions.assertEquals(LocalDateTime.of(2024, 1, 1, 10, 30).plusMinutes(count), document.getUpdated());
+        Assertions.assertEquals(LocalTime.of(8, 0).plusSeconds(count), document.getReminder());
+      }
+      Assertions.assertEquals(ROWS, count);
+    }
+  }
+
+  @Test
+  void closeTest() throws SQLException {
+    RowMapper mapper = new TestEntityStubMapper();
+    try (
+      Statement statement = connection.createStatement();
+      ResultSet result = statement.executeQuery(mapper.getSelectQuery())
+    ) {
+      PrefetchIterator<TestEntity> entities = new PrefetchIterator<>(mapper, result, 1, 16);
+      Assertions.assertTrue(entities.hasNext());
+      entities.next();
+      entities.close();
+      Assertions.assertTrue(result.getRow() < ROWS);
+    }
+  }
+
+  @Test
+  void executorTest() throws Exception {
+    RowMapper mapper = new TestEntityStubMapper();
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try (
+      Statement statement = connection.createStatement();
+      ResultSet result = statement.executeQuery(mapper.getSelectQuery())
+    ) {
+      try (PrefetchIterator<TestEntity> entities = new PrefetchIterator<>(mapper, result, 2, 64, executor)) {
+        int count = 0;
+        while (entities.hasNext()) {
+          entities.next();
+          count++;
+        }
+        Assertions.assertEquals(ROWS, count);
+      }
+      Assertions.assertEquals(Boolean.TRUE, executor.submit(() -> true).get(10, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void abandonTest() throws Exception {
+    RowMapper mapper = new TestEntityStubMapper();
+    List<Thread> threads = new ArrayList<>();
+    try (
+      Statement statement = connection.createStatement();
+      ResultSet result = statement.executeQuery(mapper.getSelectQuery())
+    ) {
+      abandon(mapper, result, threads);
+      Thread producer = threads.get(0);
+      for (int i = 0; i < 50 && producer.isAlive(); i++) {
+        System.gc();
+        producer.join(200);
+      }
+      Assertions.assertFalse(producer.isAlive());
+      Assertions.assertTrue(result.getRow() < ROWS);
+    }
+  }
+
+  @Test
+  void failureTest() throws SQLException {
+    RowMapper mapper = new TestEntityStubMapper();
+    try (
+      Statement statement = connection.createStatement();
+      ResultSet result = statement.executeQuery("SELECT 'name', id FROM test_entity")
+    ) {
+      try (PrefetchIterator<TestEntity> entities = new PrefetchIterator<>(mapper, result)) {
+        Assertions.assertThrows(MappingException.class, () -> {
+          while (entities.hasNext()) {
+            entities.next();
+          }
+        });
+      }
+    }
+  }
+
+  // Starts reading of the rows and abandons the iterator without closing
+  private static void abandon(RowMapper mapper, ResultSet result, List<Thread> threads) throws SQLException {
+    PrefetchIterator<TestEntity> entities = new PrefetchIterator<>(mapper, result, 1, 16, command -> {
+      Thread thread = new Thread(command);
+      thread.setDaemon(true);
+      threads.add(thread);
+      thread.start();
+    });
+    Assertions.assertTrue(entities.hasNext());
+    entities.next();
+  }
+}
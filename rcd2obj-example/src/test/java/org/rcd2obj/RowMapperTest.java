@@ -0,0 +1,103 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj;
+
+import org.rcd2obj.annotation.mapping.RowMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Tests of the generated {@link RowMapper} on the embedded database.
+ *
+ * @author Andrey_Yurzanov
+ */
+class RowMapperTest {
+  private Connection connection;
+
+  @BeforeEach
+  void init() throws SQLException {
+    connection = DriverManager.getConnection("jdbc:h2:mem:");
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE test_entity (id BIGINT PRIMARY KEY, name VARCHAR(32), age SMALLINT)");
+      statement.execute("INSERT INTO test_entity VALUES (1, 'name', 18)");
+    }
+  }
+
+  @AfterEach
+  void close() throws SQLException {
+    connection.close();
+  }
+
+  @Test
+  void mapTest() throws SQLException {
+    RowMapper mapper = new TestEntityStubMapper();
+    Assertions.assertEquals(3, mapper.getColumnCount());
+
+    try (
+      Statement statement = connection.createStatement();
+      ResultSet result = statement.executeQuery(mapper.getSelectQuery())
+    ) {
+      Assertions.assertTrue(result.next());
+
+      TestEntity entity = mapper.map(result);
+      Assertions.assertEquals(1L, entity.getId());
+      Assertions.assertEquals("name", entity.getName());
+      Assertions.assertEquals(18, entity.getAge());
+    }
+  }
+
+  @Test
+  void mapRowTest() throws SQLException {
+    String query = "SELECT 0, " + TestEntityStubMapper.COLUMNS_TEST_ENTITY + " FROM test_entity";
+    try (Statement statement = connection.createStatement(); ResultSet result = statement.executeQuery(query)) {
+      Assertions.assertTrue(result.next());
+
+      RowMapper mapper = new TestEntityStubMapper();
+      TestEntity entity = (TestEntity) mapper.mapRow(result, 1);
+      Assertions.assertEquals(1L, entity.getId());
+      Assertions.assertEquals("name", entity.getName());
+      Assertions.assertEquals(18, entity.getAge());
+    }
+  }
+
+  @Test
+  void extractConvertTest() throws SQLException {
+    String query = "SELECT 0, " + TestEntityStubMapper.COLUMNS_TEST_ENTITY + " FROM test_entity";
+    try (Statement statement = connection.createStatement(); ResultSet result = statement.executeQuery(query)) {
+      Assertions.assertTrue(result.next());
+
+      RowMapper mapper = new TestEntityStubMapper();
+      Object[] buffer = new Object[5];
+      mapper.extract(result, 1, buffer, 2);
+      Assertions.assertNull(buffer[0]);
+      Assertions.assertNull(buffer[1]);
+
+      TestEntity entity = (TestEntity) mapper.convert(buffer, 2);
+      Assertions.assertEquals(1L, entity.getId());
+      Assertions.assertEquals("name", entity.getName());
+      Assertions.assertEquals(18, entity.getAge());
+    }
+  }
+}
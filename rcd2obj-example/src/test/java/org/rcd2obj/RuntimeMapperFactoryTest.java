@@ -0,0 +1,85 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj;
+
+import org.rcd2obj.annotation.mapping.RowMapper;
+import org.rcd2obj.annotation.mapping.RuntimeMapperFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Tests of {@link RuntimeMapperFactory} on the embedded database, the runtime mapper must behave as
+ * the generated one.
+ *
+ * @author Andrey_Yurzanov
+ */
+class RuntimeMapperFactoryTest {
+  private Connection connection;
+
+  @BeforeEach
+  void init() throws SQLException {
+    connection = DriverManager.getConnection("jdbc:h2:mem:");
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE test_entity (id BIGINT PRIMARY KEY, name VARCHAR(32), age SMALLINT)");
+      statement.execute("INSERT INTO test_entity VALUES (1, 'name', 18)");
+    }
+  }
+
+  @AfterEach
+  void close() throws SQLException {
+    connection.close();
+  }
+
+  @Test
+  void getTest() throws SQLException {
+    RuntimeMapperFactory factory = new RuntimeMapperFactory();
+    RowMapper mapper = factory.get(TestEntity.class);
+    Assertions.assertSame(mapper, factory.get(TestEntity.class));
+
+    RowMapper generated = new TestEntityStubMapper();
+    Assertions.assertEquals(generated.getSelectQuery(), mapper.getSelectQuery());
+    Assertions.assertEquals(generated.getProjection(), mapper.getProjection());
+    Assertions.assertEquals(generated.getColumnCount(), mapper.getColumnCount());
+    Assertions.assertEquals(generated.getIdColumn(), mapper.getIdColumn());
+
+    try (
+      Statement statement = connection.createStatement();
+      ResultSet result = statement.executeQuery(mapper.getSelectQuery())
+    ) {
+      Assertions.assertTrue(result.next());
+      TestEntity expected = generated.map(result);
+      TestEntity actual = mapper.map(result);
+      Assertions.assertEquals(expected, actual);
+      Assertions.assertEquals(18, actual.getAge());
+    }
+  }
+
+  @Test
+  void getExceptionTest() {
+    RuntimeMapperFactory factory = new RuntimeMapperFactory();
+    Assertions.assertThrows(IllegalArgumentException.class, () -> factory.get(String.class));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> factory.get(TestShape.class));
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj;
+
+import org.rcd2obj.annotation.mapping.RowMapper;
+import org.rcd2obj.runtime.RuntimeMapperGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Tests of {@link RuntimeMapperGenerator} on the embedded database.
+ *
+ * @author Andrey_Yurzanov
+ */
+class RuntimeMapperGeneratorTest {
+  private Connection connection;
+
+  @BeforeEach
+  void init() throws SQLException {
+    connection = DriverManager.getConnection("jdbc:h2:mem:");
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE test_runtime_entity (id BIGINT PRIMARY KEY, name VARCHAR(32), weight DOUBLE)");
+      statement.execute("INSERT INTO test_runtime_entity VALUES (1, 'name', 2.5)");
+    }
+  }
+
+  @AfterEach
+  void close() throws SQLException {
+    connection.close();
+  }
+
+  @Test
+  void getGeneratedTest() {
+    RuntimeMapperGenerator generator = new RuntimeMapperGenerator();
+    RowMapper mapper = generator.get(TestEntity.class);
+    Assertions.assertSame(TestEntityStubMapper.class, mapper.getClass());
+    Assertions.assertSame(mapper, generator.get(TestEntity.class));
+  }
+
+  @Test
+  void getEmittedTest() throws SQLException {
+    RuntimeMapperGenerator generator = new RuntimeMapperGenerator();
+    RowMapper mapper = generator.get(TestRuntimeEntity.class);
+    Assertions.assertSame(mapper, generator.get(TestRuntimeEntity.class));
+    Assertions.assertEquals("org.rcd2obj.TestRuntimeEntityStubMapper", mapper.getClass().getName());
+    Assertions.assertNotSame(TestRuntimeEntity.class.getClassLoader(), mapper.getClass().getClassLoader());
+
+    try (
+      Statement statement = connection.createStatement();
+      ResultSet result = statement.executeQuery(mapper.getSelectQuery())
+    ) {
+      Assertions.assertTrue(result.next());
+      TestRuntimeEntity entity = mapper.map(result);
+      Assertions.assertEquals(1, entity.getId());
+      Assertions.assertEquals("name", entity.getName());
+      Assertions.assertEquals(2.5, entity.getWeight());
+    }
+  }
+
+  @Test
+  void getExceptionTest() {
+    RuntimeMapperGenerator generator = new RuntimeMapperGenerator();
+    Assertions.assertThrows(IllegalArgumentException.class, () -> generator.get(String.class));
+  }
+}
@@ -19,9 +19,14 @@ package org.rcd2obj;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Proxy;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Tests of TestEntity class.
@@ -64,4 +69,58 @@ class TestEntityTest {
       )
     );
   }
-}
\ No newline at end of file
+
+  /**
+   * Checks generated binder.
+   */
+  @Test
+  void checkGeneratedBinderTest() throws Exception {
+    TestEntity entity = new TestEntity();
+    entity.setId(7L);
+    entity.setName("Test");
+    entity.setAge((short) 18);
+
+    TestEntityStubBinder binder = new TestEntityStubBinder();
+    Assertions.assertEquals("INSERT INTO test_entity (id, name, age) VALUES (?, ?, ?)", binder.getInsertQuery());
+    Assertions.assertEquals("UPDATE test_entity SET name = ?, age = ? WHERE id = ?", binder.getUpdateQuery());
+
+    List<String> calls = new ArrayList<>();
+    binder.bindInsert(createStatement(calls), entity);
+    Assertions.assertEquals(Arrays.asList("setLong[1, 7]", "setString[2, Test]", "setShort[3, 18]"), calls);
+
+    calls.clear();
+    binder.bindUpdate(createStatement(calls), entity);
+    Assertions.assertEquals(Arrays.asList("setString[1, Test]", "setShort[2, 18]", "setLong[3, 7]"), calls);
+  }
+
+  /**
+   * Checks generated binder of the entity without identifiers.
+   */
+  @Test
+  void checkGeneratedBinderWithoutIdTest() throws Exception {
+    TestEvent event = new TestEvent();
+    event.setMessage("Test");
+    event.setLevel(2);
+
+    TestEventStubBinder binder = new TestEventStubBinder();
+    Assertions.assertEquals("INSERT INTO test_event (message, level) VALUES (?, ?)", binder.getInsertQuery());
+    Assertions.assertThrows(UnsupportedOperationException.class, binder::getUpdateQuery);
+    Assertions.assertThrows(UnsupportedOperationException.class, () -> binder.bindUpdate(null, event));
+
+    List<String> calls = new ArrayList<>();
+    binder.bindInsert(createStatement(calls), event);
+    Assertions.assertEquals(Arrays.asList("setString[1, Test]", "setInt[2, 2]"), calls);
+  }
+
+  // Creates statement which records invocations of the methods
+  private static PreparedStatement createStatement(List<String> calls) {
+    return (PreparedStatement) Proxy.newProxyInstance(
+      TestEntityTest.class.getClassLoader(),
+      new Class<?>[]{PreparedStatement.class},
+      (proxy, method, args) -> {
+        calls.add(method.getName().concat(Arrays.toString(args)));
+        return null;
+      }
+    );
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj;
+
+import org.rcd2obj.annotation.mapping.MappingException;
+import org.rcd2obj.annotation.mapping.TupleMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Tests of {@link TupleMapper} with the generated mappers on the embedded database.
+ *
+ * @author Andrey_Yurzanov
+ */
+class TupleMapperTest {
+  private Connection connection;
+
+  @BeforeEach
+  void init() throws SQLException {
+    connection = DriverManager.getConnection("jdbc:h2:mem:");
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE test_entity (id BIGINT PRIMARY KEY, name VARCHAR(32), age SMALLINT)");
+      statement.execute("INSERT INTO test_entity VALUES (1, 'first', 18), (2, 'second', 20)");
+    }
+  }
+
+  @AfterEach
+  void close() throws SQLException {
+    connection.close();
+  }
+
+  @Test
+  void mapAllTest() throws SQLException {
+    TupleMapper mapper = new TupleMapper(new TestEntityStubMapper(), new TestEntityStubMapper());
+    Assertions.assertEquals(6, mapper.getColumnCount());
+    Assertions.assertEquals(
+      TestEntityStubMapper.COLUMNS_TEST_ENTITY + ", " + TestEntityStubMapper.COLUMNS_TEST_ENTITY,
+      mapper.getProjection()
+    );
+
+    String query = "SELECT 'tag', " + mapper.getProjection() + " FROM test_entity ORDER BY id";
+    try (Statement statement = connection.createStatement(); ResultSet result = statement.executeQuery(query)) {
+      Assertions.assertArrayEquals(new int[] {1, 4}, mapper.resolve(result));
+
+      List<Object[]> rows = mapper.mapAll(result);
+      Assertions.assertEquals(2, rows.size());
+      for (Object[] row : rows) {
+        Assertions.assertEquals(2, row.length);
+        Assertions.assertEquals(row[0], row[1]);
+      }
+      Assertions.assertEquals("first", ((TestEntity) rows.get(0)[0]).getName());
+      Assertions.assertEquals(20, ((TestEntity) rows.get(1)[1]).getAge());
+    }
+  }
+
+  @Test
+  void resolveChangedLayoutTest() throws SQLException {
+    TupleMapper mapper = new TupleMapper(new TestEntityStubMapper(), new TestEntityStubMapper());
+    String[] queries = {
+      "SELECT " + mapper.getProjection() + " FROM test_entity",
+      "SELECT " + mapper.getProjection() + " FROM test_entity",
+      "SELECT 'tag', 'tag', " + mapper.getProjection() + " FROM test_entity"
+    };
+    int[][] expected = {{0, 3}, {0, 3}, {2, 5}};
+
+    for (int i = 0; i < queries.length; i++) {
+      try (Statement statement = connection.createStatement(); ResultSet result = statement.executeQuery(queries[i])) {
+        Assertions.assertArrayEquals(expected[i], mapper.resolve(result));
+        Assertions.assertTrue(result.next());
+        Object[] row = mapper.map(result);
+        Assertions.assertEquals(row[0], row[1]);
+      }
+    }
+  }
+
+  @Test
+  void resolveMissingColumnTest() throws SQLException {
+    TupleMapper mapper = new TupleMapper(new TestEntityStubMapper(), new TestEntityStubMapper());
+    String query = "SELECT " + TestEntityStubMapper.COLUMNS_TEST_ENTITY + " FROM test_entity";
+    try (Statement statement = connection.createStatement(); ResultSet result = statement.executeQuery(query)) {
+      MappingException exception = Assertions.assertThrows(MappingException.class, () -> mapper.resolve(result));
+      Assertions.assertTrue(exception.getMessage().contains("test_entity.id"));
+    }
+  }
+}
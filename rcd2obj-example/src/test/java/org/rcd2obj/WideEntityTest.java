@@ -0,0 +1,103 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj;
+
+import org.rcd2obj.annotation.mapping.RowMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * Tests of the generated classes of the wide entity, the generated methods are split to the helpers.
+ *
+ * @author Andrey_Yurzanov
+ */
+class WideEntityTest {
+  private static final int COLUMNS = 41;
+
+  private Connection connection;
+
+  @BeforeEach
+  void init() throws SQLException {
+    StringBuilder table = new StringBuilder("CREATE TABLE test_report (id BIGINT PRIMARY KEY");
+    for (int i = 1; i < COLUMNS; i++) {
+      table.append(", value").append(i).append(" INT");
+    }
+
+    connection = DriverManager.getConnection("jdbc:h2:mem:");
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(table.append(")").toString());
+    }
+  }
+
+  @AfterEach
+  void close() throws SQLException {
+    connection.close();
+  }
+
+  @Test
+  void helpersTest() {
+    Assertions.assertTrue(hasHelper(TestReportStubMapper.class, "mapColumns"));
+    Assertions.assertTrue(hasHelper(TestReportStubBinder.class, "bindInsert"));
+    Assertions.assertFalse(hasHelper(TestEntityStubMapper.class, "mapColumns"));
+  }
+
+  @Test
+  void insertAndMapTest() throws SQLException {
+    TestReport report = new TestReport();
+    report.setId(1L);
+    report.setValue1(1);
+    report.setValue20(20);
+    report.setValue40(40);
+
+    TestReportStubBinder binder = new TestReportStubBinder();
+    try (PreparedStatement statement = connection.prepareStatement(binder.getInsertQuery())) {
+      binder.bindInsert(statement, report);
+      Assertions.assertEquals(1, statement.executeUpdate());
+    }
+
+    RowMapper mapper = new TestReportStubMapper();
+    Assertions.assertEquals(COLUMNS, mapper.getColumnCount());
+    try (
+      Statement statement = connection.createStatement();
+      ResultSet result = statement.executeQuery(mapper.getSelectQuery())
+    ) {
+      Assertions.assertTrue(result.next());
+      Assertions.assertEquals(report, mapper.map(result));
+    }
+  }
+
+  // Checks that the class has the private helpers with the prefix
+  private static boolean hasHelper(Class<?> type, String prefix) {
+    return Arrays
+      .stream(type.getDeclaredMethods())
+      .filter(method -> Modifier.isPrivate(method.getModifiers()))
+      .map(Method::getName)
+      .anyMatch(name -> name.startsWith(prefix));
+  }
+}
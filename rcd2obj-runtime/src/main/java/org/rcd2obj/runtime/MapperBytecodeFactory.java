@@ -0,0 +1,749 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.runtime;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.rcd2obj.annotation.mapping.MappingException;
+import org.rcd2obj.annotation.mapping.RawValues;
+import org.rcd2obj.annotation.mapping.RowMapper;
+import org.rcd2obj.annotation.meta.ColumnMetaInfo;
+import org.rcd2obj.annotation.meta.ColumnType;
+import org.rcd2obj.annotation.meta.QueryBuilder;
+import org.rcd2obj.annotation.meta.TableMetaInfo;
+import org.rcd2obj.annotation.meta.alias.TableNameAlias;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Factory of the bytecode of {@link RowMapper}'s implementations. The class files are emitted
+ * directly, without rendering of the source code and its compilation, so the Java compiler isn't
+ * required. The generated class is the same as the class generated by the code generator's plugin:
+ * the constants of the queries, the getters, the reading of the columns by positions, the extraction
+ * and the conversion of the raw values, the switch by the type's column for the subclasses and the
+ * helpers of the wide tables.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   MapperBytecodeFactory factory = new MapperBytecodeFactory();
+ *   Optional<byte[]> bytecode = factory.build(info);
+ *   String className = factory.getClassName(info);
+ *   }
+ * </pre>
+ *
+ * @author Andrey_Yurzanov
+ */
+public class MapperBytecodeFactory {
+  private static final String CLASS_NAME_SUFFIX = "StubMapper";
+  private static final String COLUMNS_PREFIX = "COLUMNS_";
+  private static final String SELECT_PREFIX = "SELECT_";
+  private static final String MAP_COLUMNS = "mapColumns";
+  private static final String EXTRACT_COLUMNS = "extractColumns";
+  private static final String CONVERT_COLUMNS = "convertColumns";
+  private static final String UNKNOWN_TYPE = "unknownType";
+  private static final String CONSTRUCTOR = "<init>";
+  private static final String OBJECT = Type.getInternalName(Object.class);
+  private static final String STRING = Type.getInternalName(String.class);
+  private static final String RESULT_SET = Type.getInternalName(ResultSet.class);
+  private static final String RAW_VALUES = Type.getInternalName(RawValues.class);
+  private static final String MAPPING_EXCEPTION = Type.getInternalName(MappingException.class);
+  private static final String[] EXCEPTIONS = {Type.getInternalName(SQLException.class)};
+  private static final String EXTRACT_DESCRIPTOR = Type.getMethodDescriptor(
+    Type.VOID_TYPE,
+    Type.getType(ResultSet.class),
+    Type.INT_TYPE,
+    Type.getType(Object[].class),
+    Type.INT_TYPE
+  );
+  private static final String READ_DESCRIPTOR = Type.getMethodDescriptor(
+    Type.getType(Object.class),
+    Type.getType(ResultSet.class),
+    Type.INT_TYPE
+  );
+  private static final String APPEND_DESCRIPTOR = Type.getMethodDescriptor(
+    Type.getType(StringBuilder.class),
+    Type.getType(String.class)
+  );
+  private static final String UNKNOWN_TYPE_DESCRIPTOR = Type.getMethodDescriptor(
+    Type.getType(MappingException.class),
+    Type.getType(String.class)
+  );
+
+  /**
+   * Maximal estimated size of the generated method's bytecode. The methods of this size are still
+   * inlined by JIT as the frequently called methods, see {@code -XX:FreqInlineSize}.
+   */
+  public static final int METHOD_SIZE_LIMIT = 325;
+
+  /**
+   * Estimated size of the bytecode of one column's reading or writing: loading of the receiver,
+   * the index and the value, the arithmetic of the index and two invocations.
+   */
+  public static final int COLUMN_SIZE = 16;
+
+  /**
+   * Estimated size of the additional bytecode of {@link ColumnType#OBJECT}'s column, the class
+   * literal and the cast.
+   */
+  public static final int OBJECT_COLUMN_SIZE = 6;
+
+  // The local variables of mapRow and convert, the type and the entity follow the parameters
+  private static final int SOURCE_SLOT = 1;
+  private static final int OFFSET_SLOT = 2;
+  private static final int TYPE_SLOT = 3;
+
+  // The parameters of extract, the result set and the offset are the same as the parameters of mapRow
+  private static final int BUFFER_SLOT = 3;
+  private static final int POSITION_SLOT = 4;
+
+  /**
+   * Returns qualified name of the generated mapper, the mapper is placed to the package of the
+   * entity as the mapper generated by the code generator's plugin.
+   *
+   * @param info information about annotated entity
+   * @return qualified name of the mapper
+   */
+  public String getClassName(TableMetaInfo info) {
+    Class<?> type = info.getType();
+    return String.join(
+      ".",
+      type.getName().replace("." + type.getSimpleName(), ""),
+      type.getSimpleName().concat(CLASS_NAME_SUFFIX)
+    );
+  }
+
+  /**
+   * Creates bytecode of the mapper by information about annotated entity.
+   *
+   * @param info information about annotated entity
+   * @return bytecode of the mapper or empty when the entity or its subclasses can't be created
+   */
+  public Optional<byte[]> build(TableMetaInfo info) {
+    if (!canMap(info)) {
+      return Optional.empty();
+    }
+
+    String className = getClassName(info).replace('.', '/');
+    ClassWriter writer = new EntityClassWriter(info.getType().getClassLoader());
+    writer.visit(
+      Opcodes.V1_8,
+      Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER,
+      className,
+      null,
+      OBJECT,
+      new String[]{Type.getInternalName(RowMapper.class)}
+    );
+
+    QueryBuilder builder = new QueryBuilder(info);
+    Map<String, String> selects = new LinkedHashMap<>();
+    Map<String, String> projections = new LinkedHashMap<>();
+    for (TableNameAlias alias : info.getAliases()) {
+      selects.putIfAbsent(getConstantName(SELECT_PREFIX, alias), builder.buildSelect(alias));
+      projections.putIfAbsent(
+        getConstantName(COLUMNS_PREFIX, alias),
+        builder.buildProjection(alias)
+      );
+    }
+
+    String select = addConstants(writer, selects);
+    String projection = addConstants(writer, projections);
+    addConstructor(writer);
+    addGetter(writer, "getSelectQuery", Type.getType(String.class), select);
+    addGetter(writer, "getProjection", Type.getType(String.class), projection);
+    addGetter(writer, "getColumnCount", Type.INT_TYPE, builder.getSelectColumnCount());
+    addGetter(writer, "getIdColumn", Type.INT_TYPE, builder.getIdColumn());
+
+    List<Helper> helpers = new ArrayList<>();
+    addRow(writer, className, info, builder, Source.RESULT_SET, helpers);
+    addRow(writer, className, info, builder, Source.BUFFER, helpers);
+    for (Helper helper : helpers) {
+      addHelper(writer, helper);
+    }
+    addExtract(writer, className, builder.getSelectColumnCount());
+    if (!info.getSubtypes().isEmpty() && Modifier.isAbstract(info.getType().getModifiers())) {
+      addUnknownType(writer);
+    }
+
+    writer.visitEnd();
+    return Optional.of(writer.toByteArray());
+  }
+
+  /**
+   * Checks that the entity and its subclasses can be created and filled by the generated mapper:
+   * the classes are public, have the public default constructor and the public setters of the
+   * columns.
+   *
+   * @param info information about annotated entity
+   * @return true when the mapper can be generated
+   */
+  public static boolean canMap(TableMetaInfo info) {
+    Map<String, TableMetaInfo> subtypes = info.getSubtypes();
+    if (subtypes.isEmpty()) {
+      return !info.getColumns().isEmpty() && canCreate(info);
+    }
+
+    for (TableMetaInfo subtype : subtypes.values()) {
+      if (!canCreate(subtype)) {
+        return false;
+      }
+    }
+    return Modifier.isAbstract(info.getType().getModifiers()) || canCreate(info);
+  }
+
+  /**
+   * Returns estimated size of the bytecode of the column's reading or writing.
+   *
+   * @param column the column
+   * @return estimated size of the bytecode
+   */
+  public static int estimateSize(ColumnMetaInfo column) {
+    if (column.getType() == ColumnType.OBJECT) {
+      return COLUMN_SIZE + OBJECT_COLUMN_SIZE;
+    }
+    return COLUMN_SIZE;
+  }
+
+  /**
+   * Returns name of the constant related to the table.
+   *
+   * @param prefix prefix of the name
+   * @param alias  the name of the table
+   * @return name of the constant
+   */
+  public static String getConstantName(String prefix, TableNameAlias alias) {
+    return prefix.concat(alias.getName().toUpperCase(Locale.ROOT).replaceAll("[^A-Z0-9_]", "_"));
+  }
+
+  // Checks that the entity can be created and filled
+  private static boolean canCreate(TableMetaInfo info) {
+    Class<?> type = info.getType();
+    int modifiers = type.getModifiers();
+    if (
+      !Modifier.isPublic(modifiers)
+        || Modifier.isAbstract(modifiers)
+        || (type.isMemberClass() && !Modifier.isStatic(modifiers))
+    ) {
+      return false;
+    }
+
+    try {
+      type.getConstructor();
+    } catch (NoSuchMethodException exception) {
+      return false;
+    }
+
+    for (ColumnMetaInfo column : info.getColumns()) {
+      if (!column.getSetter().isPresent()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // Adds the constants of the queries and returns value of the first constant
+  private static String addConstants(ClassWriter writer, Map<String, String> queries) {
+    String first = null;
+    for (Map.Entry<String, String> query : queries.entrySet()) {
+      writer
+        .visitField(
+          Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL,
+          query.getKey(),
+          Type.getDescriptor(String.class),
+          null,
+          query.getValue()
+        )
+        .visitEnd();
+      if (first == null) {
+        first = query.getValue();
+      }
+    }
+    return first;
+  }
+
+  // Adds the public default constructor
+  private static void addConstructor(ClassWriter writer) {
+    MethodVisitor method = writer.visitMethod(Opcodes.ACC_PUBLIC, CONSTRUCTOR, "()V", null, null);
+    method.visitCode();
+    method.visitVarInsn(Opcodes.ALOAD, 0);
+    method.visitMethodInsn(Opcodes.INVOKESPECIAL, OBJECT, CONSTRUCTOR, "()V", false);
+    method.visitInsn(Opcodes.RETURN);
+    method.visitMaxs(0, 0);
+    method.visitEnd();
+  }
+
+  // Adds getter of the constant value
+  private static void addGetter(ClassWriter writer, String name, Type type, Object value) {
+    MethodVisitor method = writer.visitMethod(
+      Opcodes.ACC_PUBLIC,
+      name,
+      Type.getMethodDescriptor(type),
+      null,
+      null
+    );
+    method.visitCode();
+    method.visitLdcInsn(value);
+    method.visitInsn(type.getOpcode(Opcodes.IRETURN));
+    method.visitMaxs(0, 0);
+    method.visitEnd();
+  }
+
+  // Adds method which reads the columns by positions, mapRow reads the result set and convert reads the buffer
+  private static void addRow(
+    ClassWriter writer,
+    String className,
+    TableMetaInfo info,
+    QueryBuilder builder,
+    Source source,
+    List<Helper> helpers
+  ) {
+    Map<Field, Integer> positions = new HashMap<>();
+    for (ColumnMetaInfo column : builder.getSelectColumns()) {
+      positions.put(column.getField(), builder.getSelectOffset() + positions.size() + 1);
+    }
+
+    MethodVisitor method = writer.visitMethod(
+      Opcodes.ACC_PUBLIC,
+      source.methodName,
+      source.getDescriptor(),
+      null,
+      EXCEPTIONS
+    );
+    method.visitCode();
+
+    Map<String, TableMetaInfo> subtypes = info.getSubtypes();
+    if (subtypes.isEmpty()) {
+      addEntity(method, className, info, TYPE_SLOT, positions, source, helpers);
+    } else {
+      addValue(method, source, ColumnType.STRING, String.class, 1, SOURCE_SLOT);
+      method.visitVarInsn(Opcodes.ASTORE, TYPE_SLOT);
+
+      // the switch by the strings is compiled to the chain of the comparisons, the null-value of
+      // the type goes to the same path as the unknown type
+      Label fallback = new Label();
+      method.visitVarInsn(Opcodes.ALOAD, TYPE_SLOT);
+      method.visitJumpInsn(Opcodes.IFNULL, fallback);
+      for (Map.Entry<String, TableMetaInfo> subtype : subtypes.entrySet()) {
+        Label next = new Label();
+        method.visitVarInsn(Opcodes.ALOAD, TYPE_SLOT);
+        method.visitLdcInsn(subtype.getKey());
+        method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, STRING, "equals", "(Ljava/lang/Object;)Z", false);
+        method.visitJumpInsn(Opcodes.IFEQ, next);
+        addEntity(method, className, subtype.getValue(), TYPE_SLOT + 1, positions, source, helpers);
+        method.visitLabel(next);
+      }
+
+      method.visitLabel(fallback);
+      if (Modifier.isAbstract(info.getType().getModifiers())) {
+        method.visitVarInsn(Opcodes.ALOAD, 0);
+        method.visitVarInsn(Opcodes.ALOAD, TYPE_SLOT);
+        method.visitMethodInsn(Opcodes.INVOKESPECIAL, className, UNKNOWN_TYPE, UNKNOWN_TYPE_DESCRIPTOR, false);
+        method.visitInsn(Opcodes.ATHROW);
+      } else {
+        addEntity(method, className, info, TYPE_SLOT + 1, positions, source, helpers);
+      }
+    }
+    method.visitMaxs(0, 0);
+    method.visitEnd();
+  }
+
+  // Creates the entity, fills its columns and returns it
+  private static void addEntity(
+    MethodVisitor method,
+    String className,
+    TableMetaInfo info,
+    int entitySlot,
+    Map<Field, Integer> positions,
+    Source source,
+    List<Helper> helpers
+  ) {
+    String entity = Type.getInternalName(info.getType());
+    method.visitTypeInsn(Opcodes.NEW, entity);
+    method.visitInsn(Opcodes.DUP);
+    method.visitMethodInsn(Opcodes.INVOKESPECIAL, entity, CONSTRUCTOR, "()V", false);
+    method.visitVarInsn(Opcodes.ASTORE, entitySlot);
+
+    List<ColumnMetaInfo> columns = new ArrayList<>(info.getColumns());
+    int total = 0;
+    for (ColumnMetaInfo column : columns) {
+      total += estimateSize(column);
+    }
+
+    if (total <= METHOD_SIZE_LIMIT) {
+      for (ColumnMetaInfo column : columns) {
+        addColumn(method, info.getType(), column, positions.get(column.getField()), entitySlot, source, SOURCE_SLOT);
+      }
+    } else {
+      // the columns are read by the helpers of the limited size as the source code's columns are
+      List<ColumnMetaInfo> chunk = new ArrayList<>();
+      int size = 0;
+      for (ColumnMetaInfo column : columns) {
+        int columnSize = estimateSize(column);
+        if (!chunk.isEmpty() && size + columnSize > METHOD_SIZE_LIMIT) {
+          invokeHelper(method, className, info.getType(), chunk, positions, entitySlot, source, helpers);
+          chunk = new ArrayList<>();
+          size = 0;
+        }
+        chunk.add(column);
+        size += columnSize;
+      }
+      invokeHelper(method, className, info.getType(), chunk, positions, entitySlot, source, helpers);
+    }
+
+    method.visitVarInsn(Opcodes.ALOAD, entitySlot);
+    method.visitInsn(Opcodes.ARETURN);
+  }
+
+  // Registers the helper of the columns and invokes it
+  private static void invokeHelper(
+    MethodVisitor method,
+    String className,
+    Class<?> type,
+    List<ColumnMetaInfo> columns,
+    Map<Field, Integer> positions,
+    int entitySlot,
+    Source source,
+    List<Helper> helpers
+  ) {
+    int number = 1;
+    for (Helper helper : helpers) {
+      if (helper.source == source) {
+        number++;
+      }
+    }
+
+    Helper helper = new Helper(source.helperName + number, type, columns, positions, source);
+    helpers.add(helper);
+
+    method.visitVarInsn(Opcodes.ALOAD, 0);
+    method.visitVarInsn(Opcodes.ALOAD, entitySlot);
+    method.visitVarInsn(Opcodes.ALOAD, SOURCE_SLOT);
+    method.visitVarInsn(Opcodes.ILOAD, OFFSET_SLOT);
+    method.visitMethodInsn(Opcodes.INVOKESPECIAL, className, helper.name, helper.getDescriptor(), false);
+  }
+
+  // Adds the private helper which reads the part of the columns
+  private static void addHelper(ClassWriter writer, Helper helper) {
+    MethodVisitor method = writer.visitMethod(
+      Opcodes.ACC_PRIVATE,
+      helper.name,
+      helper.getDescriptor(),
+      null,
+      EXCEPTIONS
+    );
+    method.visitCode();
+    for (ColumnMetaInfo column : helper.columns) {
+      // the parameters are the entity, the source and the offset
+      addColumn(method, helper.type, column, helper.positions.get(column.getField()), 1, helper.source, 2);
+    }
+    method.visitInsn(Opcodes.RETURN);
+    method.visitMaxs(0, 0);
+    method.visitEnd();
+  }
+
+  // Adds the method which creates the error of the unknown type
+  private static void addUnknownType(ClassWriter writer) {
+    String builder = Type.getInternalName(StringBuilder.class);
+    MethodVisitor method = writer.visitMethod(Opcodes.ACC_PRIVATE, UNKNOWN_TYPE, UNKNOWN_TYPE_DESCRIPTOR, null, null);
+    method.visitCode();
+    method.visitTypeInsn(Opcodes.NEW, MAPPING_EXCEPTION);
+    method.visitInsn(Opcodes.DUP);
+    method.visitTypeInsn(Opcodes.NEW, builder);
+    method.visitInsn(Opcodes.DUP);
+    method.visitMethodInsn(Opcodes.INVOKESPECIAL, builder, CONSTRUCTOR, "()V", false);
+    method.visitLdcInsn("Unknown type: ");
+    method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, builder, "append", APPEND_DESCRIPTOR, false);
+    method.visitVarInsn(Opcodes.ALOAD, 1);
+    method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, builder, "append", APPEND_DESCRIPTOR, false);
+    method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, builder, "toString", "()Ljava/lang/String;", false);
+    method.visitMethodInsn(Opcodes.INVOKESPECIAL, MAPPING_EXCEPTION, CONSTRUCTOR, "(Ljava/lang/String;)V", false);
+    method.visitInsn(Opcodes.ARETURN);
+    method.visitMaxs(0, 0);
+    method.visitEnd();
+  }
+
+  // Reads the column by the typed getter and passes it to the setter
+  private static void addColumn(
+    MethodVisitor method,
+    Class<?> type,
+    ColumnMetaInfo column,
+    int position,
+    int entitySlot,
+    Source source,
+    int sourceSlot
+  ) {
+    Method setter = column
+      .getSetter()
+      .orElseThrow(() -> new IllegalArgumentException("Column doesn't have setter: " + column.getField()));
+
+    method.visitVarInsn(Opcodes.ALOAD, entitySlot);
+    addValue(method, source, column.getType(), column.getField().getType(), position, sourceSlot);
+    method.visitMethodInsn(
+      Opcodes.INVOKEVIRTUAL,
+      Type.getInternalName(type),
+      setter.getName(),
+      Type.getMethodDescriptor(setter),
+      false
+    );
+    int returned = Type.getReturnType(setter).getSize();
+    if (returned == 1) {
+      method.visitInsn(Opcodes.POP);
+    } else if (returned == 2) {
+      method.visitInsn(Opcodes.POP2);
+    }
+  }
+
+  // Reads the column by the typed getter of the result set or the raw values, the getters have the same names
+  private static void addValue(
+    MethodVisitor method,
+    Source source,
+    ColumnType columnType,
+    Class<?> fieldType,
+    int position,
+    int sourceSlot
+  ) {
+    method.visitVarInsn(Opcodes.ALOAD, sourceSlot);
+    method.visitVarInsn(Opcodes.ILOAD, sourceSlot + 1);
+    if (source == Source.RESULT_SET) {
+      method.visitLdcInsn(position);
+      method.visitInsn(Opcodes.IADD);
+    } else {
+      // the first column of the row is placed at the position of the buffer
+      if (position > 1) {
+        method.visitLdcInsn(position - 1);
+        method.visitInsn(Opcodes.IADD);
+      }
+      method.visitInsn(Opcodes.AALOAD);
+    }
+
+    Type valueType = source == Source.RESULT_SET ? Type.INT_TYPE : Type.getType(Object.class);
+    if (columnType == ColumnType.OBJECT) {
+      Class<?> wrapper = MethodType.methodType(fieldType).wrap().returnType();
+      if (fieldType.isPrimitive()) {
+        String descriptor = Type.getDescriptor(Class.class);
+        method.visitFieldInsn(Opcodes.GETSTATIC, Type.getInternalName(wrapper), "TYPE", descriptor);
+      } else {
+        method.visitLdcInsn(Type.getType(fieldType));
+      }
+      invokeGetter(
+        method,
+        source,
+        columnType.getGetterName(),
+        Type.getMethodDescriptor(Type.getType(Object.class), valueType, Type.getType(Class.class))
+      );
+      method.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(wrapper));
+      if (fieldType.isPrimitive()) {
+        method.visitMethodInsn(
+          Opcodes.INVOKEVIRTUAL,
+          Type.getInternalName(wrapper),
+          fieldType.getName().concat("Value"),
+          Type.getMethodDescriptor(Type.getType(fieldType)),
+          false
+        );
+      }
+    } else {
+      invokeGetter(
+        method,
+        source,
+        columnType.getGetterName(),
+        Type.getMethodDescriptor(Type.getType(columnType.getType()), valueType)
+      );
+    }
+  }
+
+  // Invokes the getter of the result set or the static getter of the raw values
+  private static void invokeGetter(MethodVisitor method, Source source, String name, String descriptor) {
+    if (source == Source.RESULT_SET) {
+      method.visitMethodInsn(Opcodes.INVOKEINTERFACE, RESULT_SET, name, descriptor, true);
+    } else {
+      method.visitMethodInsn(Opcodes.INVOKESTATIC, RAW_VALUES, name, descriptor, false);
+    }
+  }
+
+  // Adds method which copies the columns into the buffer, the wide rows are copied by the helpers
+  private static void addExtract(ClassWriter writer, String className, int columnCount) {
+    // the bounds of the helpers' columns, the first column is inclusive and the last one is exclusive
+    List<Integer> bounds = new ArrayList<>();
+    bounds.add(1);
+    int size = 0;
+    for (int column = 1; column <= columnCount; column++) {
+      if (size > 0 && size + COLUMN_SIZE > METHOD_SIZE_LIMIT) {
+        bounds.add(column);
+        size = 0;
+      }
+      size += COLUMN_SIZE;
+    }
+    bounds.add(columnCount + 1);
+
+    MethodVisitor method = writer.visitMethod(Opcodes.ACC_PUBLIC, "extract", EXTRACT_DESCRIPTOR, null, EXCEPTIONS);
+    method.visitCode();
+    if (bounds.size() == 2) {
+      addExtractColumns(method, 1, columnCount + 1);
+    } else {
+      for (int i = 1; i < bounds.size(); i++) {
+        method.visitVarInsn(Opcodes.ALOAD, 0);
+        method.visitVarInsn(Opcodes.ALOAD, SOURCE_SLOT);
+        method.visitVarInsn(Opcodes.ILOAD, OFFSET_SLOT);
+        method.visitVarInsn(Opcodes.ALOAD, BUFFER_SLOT);
+        method.visitVarInsn(Opcodes.ILOAD, POSITION_SLOT);
+        method.visitMethodInsn(Opcodes.INVOKESPECIAL, className, EXTRACT_COLUMNS + i, EXTRACT_DESCRIPTOR, false);
+      }
+    }
+    method.visitInsn(Opcodes.RETURN);
+    method.visitMaxs(0, 0);
+    method.visitEnd();
+
+    if (bounds.size() > 2) {
+      for (int i = 1; i < bounds.size(); i++) {
+        MethodVisitor helper = writer.visitMethod(
+          Opcodes.ACC_PRIVATE,
+          EXTRACT_COLUMNS + i,
+          EXTRACT_DESCRIPTOR,
+          null,
+          EXCEPTIONS
+        );
+        helper.visitCode();
+        addExtractColumns(helper, bounds.get(i - 1), bounds.get(i));
+        helper.visitInsn(Opcodes.RETURN);
+        helper.visitMaxs(0, 0);
+        helper.visitEnd();
+      }
+    }
+  }
+
+  // Copies the raw values of the columns from the first inclusive to the last exclusive
+  private static void addExtractColumns(MethodVisitor method, int first, int last) {
+    for (int column = first; column < last; column++) {
+      method.visitVarInsn(Opcodes.ALOAD, BUFFER_SLOT);
+      method.visitVarInsn(Opcodes.ILOAD, POSITION_SLOT);
+      if (column > 1) {
+        method.visitLdcInsn(column - 1);
+        method.visitInsn(Opcodes.IADD);
+      }
+      method.visitVarInsn(Opcodes.ALOAD, SOURCE_SLOT);
+      method.visitVarInsn(Opcodes.ILOAD, OFFSET_SLOT);
+      method.visitLdcInsn(column);
+      method.visitInsn(Opcodes.IADD);
+      method.visitMethodInsn(Opcodes.INVOKESTATIC, RAW_VALUES, "read", READ_DESCRIPTOR, false);
+      method.visitInsn(Opcodes.AASTORE);
+    }
+  }
+
+  /**
+   * Helper which reads the part of the columns of the wide entity.
+   *
+   * @author Andrey_Yurzanov
+   */
+  private static class Helper {
+    private final String name;
+    private final Class<?> type;
+    private final List<ColumnMetaInfo> columns;
+    private final Map<Field, Integer> positions;
+    private final Source source;
+
+    /**
+     * Constructs new instance of the helper.
+     *
+     * @param name      name of the helper's method
+     * @param type      the entity
+     * @param columns   the read columns
+     * @param positions positions of the columns in the select statement
+     * @param source    source of the columns
+     */
+    Helper(String name, Class<?> type, List<ColumnMetaInfo> columns, Map<Field, Integer> positions, Source source) {
+      this.name = name;
+      this.type = type;
+      this.columns = columns;
+      this.positions = positions;
+      this.source = source;
+    }
+
+    // Returns descriptor of the helper's method
+    private String getDescriptor() {
+      return Type.getMethodDescriptor(
+        Type.VOID_TYPE,
+        Type.getType(type),
+        Type.getType(source.type),
+        Type.INT_TYPE
+      );
+    }
+  }
+
+  /**
+   * Source of the read columns, mapRow reads the result set and convert reads the raw values
+   * extracted into the buffer.
+   *
+   * @author Andrey_Yurzanov
+   */
+  private enum Source {
+    RESULT_SET("mapRow", MAP_COLUMNS, ResultSet.class),
+    BUFFER("convert", CONVERT_COLUMNS, Object[].class);
+
+    private final String methodName;
+    private final String helperName;
+    private final Class<?> type;
+
+    Source(String methodName, String helperName, Class<?> type) {
+      this.methodName = methodName;
+      this.helperName = helperName;
+      this.type = type;
+    }
+
+    // Returns descriptor of the method, the parameters are the source and the offset
+    private String getDescriptor() {
+      return Type.getMethodDescriptor(Type.getType(Object.class), Type.getType(type), Type.INT_TYPE);
+    }
+  }
+
+  /**
+   * Writer of the class which resolves the types of the frames by the entity's class loader.
+   *
+   * @author Andrey_Yurzanov
+   */
+  private static class EntityClassWriter extends ClassWriter {
+    private final ClassLoader loader;
+
+    /**
+     * Constructs new instance of the writer.
+     *
+     * @param loader class loader of the entity
+     */
+    EntityClassWriter(ClassLoader loader) {
+      super(ClassWriter.COMPUTE_FRAMES);
+      this.loader = loader;
+    }
+
+    @Override
+    protected ClassLoader getClassLoader() {
+      return loader == null ? super.getClassLoader() : loader;
+    }
+  }
+}
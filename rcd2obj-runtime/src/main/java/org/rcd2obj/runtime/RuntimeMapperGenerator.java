@@ -0,0 +1,135 @@
+/*
+ *    Copyright 2024 Andrey Yurzanov
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package org.rcd2obj.runtime;
+
+import org.rcd2obj.annotation.mapping.RowMapper;
+import org.rcd2obj.annotation.mapping.RuntimeMapperFactory;
+import org.rcd2obj.annotation.meta.MetaInfoContext;
+import org.rcd2obj.annotation.meta.TableMetaInfo;
+
+import java.util.Optional;
+
+/**
+ * Generator of the mappers at runtime, for the deployments where the code generator's plugin isn't
+ * executed. On the first use of the entity the mapper's bytecode is emitted by
+ * {@link MapperBytecodeFactory} and defined by the dedicated class loader, so the mapper is unloaded
+ * together with the entity's class loader, the Java compiler isn't required. The mappers are cached
+ * per class. The mapper generated by the plugin is looked up by the entity's class loader first and
+ * is used when it is present, the bytecode is emitted only on a miss. {@link RuntimeMapperFactory}
+ * is used when the entity can't be mapped by the generated class.
+ * <pre>
+ *   Example:
+ *   {@code
+ *   RuntimeMapperGenerator generator = new RuntimeMapperGenerator();
+ *   RowMapper mapper = generator.get(TestEntity.class);
+ *   TestEntity entity = mapper.map(resultSet);
+ *   }
+ * </pre>
+ *
+ * @author Andrey_Yurzanov
+ */
+public class RuntimeMapperGenerator {
+  private final MapperBytecodeFactory factory = new MapperBytecodeFactory();
+  private final RuntimeMapperFactory fallback = new RuntimeMapperFactory();
+  private final TableMetaInfo.Factory metaFactory = new TableMetaInfo.Factory(new MetaInfoContext());
+  private final ClassValue<RowMapper> mappers = new ClassValue<RowMapper>() {
+    @Override
+    protected RowMapper computeValue(Class<?> type) {
+      return create(type);
+    }
+  };
+
+  /**
+   * Returns the mapper of the annotated entity, the mapper is created once per class.
+   *
+   * @param type the annotated entity
+   * @return the mapper of the entity
+   * @throws IllegalArgumentException when the entity is not annotated or can't be mapped
+   */
+  public RowMapper get(Class<?> type) {
+    return mappers.get(type);
+  }
+
+  // Returns the mapper generated by the plugin or generates it
+  private RowMapper create(Class<?> type) {
+    TableMetaInfo info = metaFactory
+      .build(type)
+      .orElseThrow(() -> new IllegalArgumentException("Type is not a table: " + type.getName()));
+
+    String className = factory.getClassName(info);
+    ClassLoader parent = type.getClassLoader();
+    try {
+      Class<?> mapper = Class.forName(className, false, parent);
+      if (RowMapper.class.isAssignableFrom(mapper)) {
+        return instantiate(mapper);
+      }
+    } catch (ClassNotFoundException exception) {
+      // the mapper is not generated by the plugin
+    }
+
+    Optional<byte[]> bytecode = factory.build(info);
+    if (!bytecode.isPresent()) {
+      return fallback.create(info);
+    }
+
+    try {
+      return instantiate(new MapperClassLoader(parent, className, bytecode.get()).loadClass(className));
+    } catch (ClassNotFoundException exception) {
+      throw new IllegalStateException("Generated mapper can't be loaded: " + className, exception);
+    }
+  }
+
+  // Creates instance of the mapper
+  private static RowMapper instantiate(Class<?> mapper) {
+    try {
+      return (RowMapper) mapper.getConstructor().newInstance();
+    } catch (ReflectiveOperationException exception) {
+      throw new IllegalStateException("Mapper can't be created: " + mapper.getName(), exception);
+    }
+  }
+
+  /**
+   * Class loader of the generated mappers, one loader is created for every mapper.
+   *
+   * @author Andrey_Yurzanov
+   */
+  private static class MapperClassLoader extends ClassLoader {
+    private final String className;
+    private final byte[] bytecode;
+
+    /**
+     * Constructs new instance of the class loader.
+     *
+     * @param parent    class loader of the entity
+     * @param className qualified name of the generated mapper
+     * @param bytecode  bytecode of the generated mapper
+     */
+    MapperClassLoader(ClassLoader parent, String className, byte[] bytecode) {
+      super(parent);
+      this.className = className;
+      this.bytecode = bytecode;
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+      if (!className.equals(name)) {
+        throw new ClassNotFoundException(name);
+      }
+      return defineClass(name, bytecode, 0, bytecode.length);
+    }
+  }
+}